@@ -0,0 +1,49 @@
+package io.github.olajed.jgb.functions;
+
+import io.github.olajed.jgb.enums.MonomialType;
+import io.github.olajed.jgb.functions.algorithms.F5Algorithm;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.providers.ReimerGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class F5AlgorithmBenchmarks {
+    private List<Polynomial<GaloisFieldElement>> polynomials;
+
+    @Param({"dense", "sparse", "packed"})
+    private String monomialType;
+
+    @Param({"reimer3", "reimer4", "reimer5", "reimer6", "katsura3", "katsura4", "katsura5", "katsura6"})
+    private String system;
+
+    @Setup
+    public void setup() {
+        var type = MonomialType.valueOf(monomialType.toUpperCase());
+        polynomials = switch (system) {
+            case "reimer3" -> ReimerGenerator.get(3, type);
+            case "reimer4" -> ReimerGenerator.get(4, type);
+            case "reimer5" -> ReimerGenerator.get(5, type);
+            case "reimer6" -> ReimerGenerator.get(6, type);
+            case "katsura3" -> KatsuraGenerator.get(3, type);
+            case "katsura4" -> KatsuraGenerator.get(4, type);
+            case "katsura5" -> KatsuraGenerator.get(5, type);
+            case "katsura6" -> KatsuraGenerator.get(6, type);
+            default -> throw new IllegalStateException("Unexpected value: " + system);
+        };
+    }
+
+    @Benchmark
+    public List<Polynomial<GaloisFieldElement>> compute() {
+        return F5Algorithm.compute(polynomials);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.olajed.jgb.functions;
+
+import io.github.olajed.jgb.functions.algorithms.F4Algorithm;
+import io.github.olajed.jgb.functions.algorithms.FGLMAlgorithm;
+import io.github.olajed.jgb.functions.algorithms.GrobnerWalkAlgorithm;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class GrobnerWalkAlgorithmBenchmarks {
+    private List<Polynomial<GaloisFieldElement>> basis;
+
+    @Param({"3", "4", "5"})
+    private int n;
+
+    @Setup
+    public void setup() {
+        var polynomials = KatsuraGenerator.get(n, new GrevlexOrdering<>());
+        basis = GrobnerBasisAlgorithms.reduceGrobnerBasis(F4Algorithm.compute(polynomials));
+    }
+
+    @Benchmark
+    public List<Polynomial<GaloisFieldElement>> walk() {
+        return GrobnerWalkAlgorithm.compute(basis);
+    }
+
+    @Benchmark
+    public List<Polynomial<GaloisFieldElement>> fglm() {
+        return FGLMAlgorithm.compute(basis);
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.olajed.jgb.functions;
 
+import io.github.olajed.jgb.enums.MonomialType;
 import io.github.olajed.jgb.functions.algorithms.ImprovedF4Algorithm;
 import io.github.olajed.jgb.number.GaloisFieldElement;
 import io.github.olajed.jgb.providers.KatsuraGenerator;
@@ -19,7 +20,7 @@ import java.util.concurrent.TimeUnit;
 public class ImprovedF4AlgorithmBenchmarks {
     private List<Polynomial<GaloisFieldElement>> polynomials;
 
-    @Param({"dense", "sparse"})
+    @Param({"dense", "sparse", "packed"})
     private String monomialType;
 
     @Param({"reimer3", "reimer4", "reimer5", "reimer6", "katsura3", "katsura4", "katsura5", "katsura6"})
@@ -27,16 +28,16 @@ public class ImprovedF4AlgorithmBenchmarks {
 
     @Setup
     public void setup() {
-        var dense = monomialType.equals("dense");
+        var type = MonomialType.valueOf(monomialType.toUpperCase());
         polynomials = switch (system) {
-            case "reimer3" -> ReimerGenerator.get(3, dense);
-            case "reimer4" -> ReimerGenerator.get(4, dense);
-            case "reimer5" -> ReimerGenerator.get(5, dense);
-            case "reimer6" -> ReimerGenerator.get(6, dense);
-            case "katsura3" -> KatsuraGenerator.get(3, dense);
-            case "katsura4" -> KatsuraGenerator.get(4, dense);
-            case "katsura5" -> KatsuraGenerator.get(5, dense);
-            case "katsura6" -> KatsuraGenerator.get(6, dense);
+            case "reimer3" -> ReimerGenerator.get(3, type);
+            case "reimer4" -> ReimerGenerator.get(4, type);
+            case "reimer5" -> ReimerGenerator.get(5, type);
+            case "reimer6" -> ReimerGenerator.get(6, type);
+            case "katsura3" -> KatsuraGenerator.get(3, type);
+            case "katsura4" -> KatsuraGenerator.get(4, type);
+            case "katsura5" -> KatsuraGenerator.get(5, type);
+            case "katsura6" -> KatsuraGenerator.get(6, type);
             default -> throw new IllegalStateException("Unexpected value: " + system);
         };
     }
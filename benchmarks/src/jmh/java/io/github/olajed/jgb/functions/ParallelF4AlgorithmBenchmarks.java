@@ -0,0 +1,55 @@
+package io.github.olajed.jgb.functions;
+
+import io.github.olajed.jgb.enums.MonomialType;
+import io.github.olajed.jgb.functions.algorithms.F4Algorithm;
+import io.github.olajed.jgb.functions.algorithms.ImprovedF4Algorithm;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class ParallelF4AlgorithmBenchmarks {
+    private List<Polynomial<GaloisFieldElement>> polynomials;
+    private ForkJoinPool pool;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    @Param({"katsura7", "katsura8"})
+    private String system;
+
+    @Setup
+    public void setup() {
+        pool = new ForkJoinPool(threads);
+        polynomials = switch (system) {
+            case "katsura7" -> KatsuraGenerator.get(7, MonomialType.PACKED);
+            case "katsura8" -> KatsuraGenerator.get(8, MonomialType.PACKED);
+            default -> throw new IllegalStateException("Unexpected value: " + system);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Polynomial<GaloisFieldElement>> benchmarkF4() {
+        return F4Algorithm.compute(polynomials, pool);
+    }
+
+    @Benchmark
+    public List<Polynomial<GaloisFieldElement>> benchmarkImprovedF4() {
+        return ImprovedF4Algorithm.compute(polynomials, pool);
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.olajed.jgb.computation;
+
+/**
+ * A flag requesting a computation to stop, shared between the computation and the threads that may cancel it.
+ * <p>
+ * Cancelling is cooperative: the algorithms check the token of their {@link ComputationContext} at their
+ * checkpoints, and stop with a {@link ComputationLimitExceededException}.
+ * </p>
+ */
+public final class CancellationToken {
+    private volatile boolean cancelled;
+
+    /**
+     * Requests the computations using this token to stop.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks whether the token has been cancelled.
+     *
+     * @return {@code true} if {@link #cancel()} has been called
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,596 @@
+package io.github.olajed.jgb.computation;
+
+import io.github.olajed.jgb.enums.ComputationLimit;
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.enums.PairCriterion;
+import io.github.olajed.jgb.structures.Polynomial;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Limits of a Gröbner basis computation: a deadline, a cancellation token, bounds on the sizes of the
+ * matrices, of the basis and of the estimated memory, and on the number of primes of a multi-modular
+ * computation.
+ * <p>
+ * The algorithms accepting a context check it at cheap points, such as between pair batches, after building a
+ * matrix or after adding polynomials to the basis, and stop with a {@link ComputationLimitExceededException}
+ * when a limit is exceeded. The context records the progress of the computation at these checkpoints, so it
+ * is meant to be used by one computation at a time, the cancellation token being shareable.
+ * </p>
+ * <p>
+ * All the public algorithms accept a context: {@code BuchbergerAlgorithm}, {@code F4Algorithm},
+ * {@code ImprovedF4Algorithm}, {@code F5Algorithm}, {@code M4GBAlgorithm}, {@code MultiModularAlgorithm}, the
+ * conversions {@code FGLMAlgorithm}, {@code SparseFGLMAlgorithm} and {@code GrobnerWalkAlgorithm}, and
+ * {@code GrobnerBasisAlgorithms.reduceGrobnerBasis} and {@code isGrobnerBasis}. {@code MultiModularAlgorithm}
+ * only checks the number of primes and the checkpoints between its batches of primes.
+ * </p>
+ * <p>
+ * The memory is estimated from the number of terms of the basis and of non-zero entries of the current matrix,
+ * at {@value #ESTIMATED_BYTES_PER_TERM} bytes each, and not measured on the heap which is shared with the
+ * other computations of the JVM.
+ * </p>
+ * <p>
+ * The context also collects the {@link ComputationStatistics} of the computation, and reports them to its
+ * {@link ComputationListener} if any. The allocations of the phases are only measured when a listener is set,
+ * as reading them at each phase change costs a call to the {@code ThreadMXBean}.
+ * </p>
+ *
+ * <pre>{@code
+ * var token = new CancellationToken();
+ * var context = ComputationContext.unbounded()
+ *         .withTimeout(Duration.ofSeconds(30))
+ *         .withCancellationToken(token)
+ *         .withMaxBasisSize(10_000);
+ * var basis = F4Algorithm.compute(polynomials, null, ArithmeticMode.FIELD, context);
+ * }</pre>
+ */
+public final class ComputationContext {
+    /**
+     * Estimated memory of a term of a polynomial or of a matrix entry, with its coefficient, in bytes.
+     */
+    public static final long ESTIMATED_BYTES_PER_TERM = 64;
+
+    // Measures the allocations of the current thread, null if the JVM does not support it
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    // Start of the computation, and deadline, from System.nanoTime
+    private final long start;
+    private final long deadline;
+    private final boolean hasDeadline;
+    private final CancellationToken cancellationToken;
+    private final int maxMatrixRows;
+    private final int maxMatrixColumns;
+    private final int maxBasisSize;
+    private final long maxHeapBytes;
+    private final int maxPrimes;
+    private final ComputationListener listener;
+    private final ComputationStatistics statistics = new ComputationStatistics();
+
+    private long checkpoints;
+    private int basisSize;
+    private int peakBasisSize;
+    private long basisTerms;
+    private int matrixRows;
+    private int matrixColumns;
+    private long matrixEntries;
+    private long estimatedHeapBytes;
+
+    // Stack of the ordinals of the started phases, and start of the current phase segment
+    private int[] phases = new int[8];
+    private int phaseDepth;
+    private long phaseStart;
+    private long phaseAllocationStart;
+
+    private ComputationContext(
+            long start,
+            long deadline,
+            boolean hasDeadline,
+            CancellationToken cancellationToken,
+            int maxMatrixRows,
+            int maxMatrixColumns,
+            int maxBasisSize,
+            long maxHeapBytes,
+            int maxPrimes,
+            ComputationListener listener
+    ) {
+        this.start = start;
+        this.deadline = deadline;
+        this.hasDeadline = hasDeadline;
+        this.cancellationToken = cancellationToken;
+        this.maxMatrixRows = maxMatrixRows;
+        this.maxMatrixColumns = maxMatrixColumns;
+        this.maxBasisSize = maxBasisSize;
+        this.maxHeapBytes = maxHeapBytes;
+        this.maxPrimes = maxPrimes;
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a context without limits, whose elapsed time starts now.
+     *
+     * @return a new context that never stops the computation
+     */
+    public static ComputationContext unbounded() {
+        return new ComputationContext(
+                System.nanoTime(),
+                0,
+                false,
+                null,
+                Integer.MAX_VALUE,
+                Integer.MAX_VALUE,
+                Integer.MAX_VALUE,
+                Long.MAX_VALUE,
+                Integer.MAX_VALUE,
+                null
+        );
+    }
+
+    /**
+     * Returns a context with the same limits, stopping the computation after the given instant.
+     *
+     * @param deadline the instant after which the computation is stopped
+     * @return a new context
+     */
+    public ComputationContext withDeadline(Instant deadline) {
+        var remaining = Duration.between(Instant.now(), deadline);
+        return withTimeout(remaining.isNegative() ? Duration.ZERO : remaining);
+    }
+
+    /**
+     * Returns a context with the same limits, stopping the computation after the given duration from now.
+     *
+     * @param timeout the time allowed to the computation
+     * @return a new context
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public ComputationContext withTimeout(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should not be negative.");
+        }
+
+        var nanos = timeout.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : timeout.toNanos();
+        return new ComputationContext(
+                start,
+                System.nanoTime() + nanos,
+                true,
+                cancellationToken,
+                maxMatrixRows,
+                maxMatrixColumns,
+                maxBasisSize,
+                maxHeapBytes,
+                maxPrimes,
+                listener
+        );
+    }
+
+    /**
+     * Returns a context with the same limits, stopping the computation once the token is cancelled.
+     *
+     * @param cancellationToken the token checked at each checkpoint
+     * @return a new context
+     */
+    public ComputationContext withCancellationToken(CancellationToken cancellationToken) {
+        return new ComputationContext(
+                start,
+                deadline,
+                hasDeadline,
+                cancellationToken,
+                maxMatrixRows,
+                maxMatrixColumns,
+                maxBasisSize,
+                maxHeapBytes,
+                maxPrimes,
+                listener
+        );
+    }
+
+    /**
+     * Returns a context with the same limits, and a maximum number of rows for the matrices.
+     *
+     * @param maxMatrixRows the maximum number of rows
+     * @return a new context
+     * @throws IllegalArgumentException if the maximum is not positive
+     */
+    public ComputationContext withMaxMatrixRows(int maxMatrixRows) {
+        checkPositive(maxMatrixRows);
+        return new ComputationContext(
+                start,
+                deadline,
+                hasDeadline,
+                cancellationToken,
+                maxMatrixRows,
+                maxMatrixColumns,
+                maxBasisSize,
+                maxHeapBytes,
+                maxPrimes,
+                listener
+        );
+    }
+
+    /**
+     * Returns a context with the same limits, and a maximum number of columns for the matrices.
+     *
+     * @param maxMatrixColumns the maximum number of columns
+     * @return a new context
+     * @throws IllegalArgumentException if the maximum is not positive
+     */
+    public ComputationContext withMaxMatrixColumns(int maxMatrixColumns) {
+        checkPositive(maxMatrixColumns);
+        return new ComputationContext(
+                start,
+                deadline,
+                hasDeadline,
+                cancellationToken,
+                maxMatrixRows,
+                maxMatrixColumns,
+                maxBasisSize,
+                maxHeapBytes,
+                maxPrimes,
+                listener
+        );
+    }
+
+    /**
+     * Returns a context with the same limits, and a maximum number of polynomials for the basis.
+     *
+     * @param maxBasisSize the maximum number of polynomials
+     * @return a new context
+     * @throws IllegalArgumentException if the maximum is not positive
+     */
+    public ComputationContext withMaxBasisSize(int maxBasisSize) {
+        checkPositive(maxBasisSize);
+        return new ComputationContext(
+                start,
+                deadline,
+                hasDeadline,
+                cancellationToken,
+                maxMatrixRows,
+                maxMatrixColumns,
+                maxBasisSize,
+                maxHeapBytes,
+                maxPrimes,
+                listener
+        );
+    }
+
+    /**
+     * Returns a context with the same limits, and a budget for the estimated memory of the computation.
+     *
+     * @param maxHeapBytes the maximum estimated memory, in bytes
+     * @return a new context
+     * @throws IllegalArgumentException if the maximum is not positive
+     */
+    public ComputationContext withMaxHeapBytes(long maxHeapBytes) {
+        checkPositive(maxHeapBytes);
+        return new ComputationContext(
+                start,
+                deadline,
+                hasDeadline,
+                cancellationToken,
+                maxMatrixRows,
+                maxMatrixColumns,
+                maxBasisSize,
+                maxHeapBytes,
+                maxPrimes,
+                listener
+        );
+    }
+
+    /**
+     * Returns a context with the same limits, and a maximum number of primes for the multi-modular computations.
+     *
+     * @param maxPrimes the maximum number of primes
+     * @return a new context
+     * @throws IllegalArgumentException if the maximum is not positive
+     */
+    public ComputationContext withMaxPrimes(int maxPrimes) {
+        checkPositive(maxPrimes);
+        return new ComputationContext(
+                start,
+                deadline,
+                hasDeadline,
+                cancellationToken,
+                maxMatrixRows,
+                maxMatrixColumns,
+                maxBasisSize,
+                maxHeapBytes,
+                maxPrimes,
+                listener
+        );
+    }
+
+    /**
+     * Returns a context with the same limits, reporting its statistics to the given listener.
+     *
+     * @param listener the listener of the computation
+     * @return a new context
+     */
+    public ComputationContext withListener(ComputationListener listener) {
+        return new ComputationContext(
+                start,
+                deadline,
+                hasDeadline,
+                cancellationToken,
+                maxMatrixRows,
+                maxMatrixColumns,
+                maxBasisSize,
+                maxHeapBytes,
+                maxPrimes,
+                listener
+        );
+    }
+
+    private static void checkPositive(long maximum) {
+        if (maximum <= 0) {
+            throw new IllegalArgumentException("The maximum should be positive.");
+        }
+    }
+
+    /**
+     * Checks the deadline and the cancellation token.
+     *
+     * @throws ComputationLimitExceededException if the deadline has passed or the token has been cancelled
+     */
+    public void checkpoint() {
+        checkpoints++;
+        if (cancellationToken != null && cancellationToken.isCancelled()) {
+            throw new ComputationLimitExceededException(ComputationLimit.CANCELLED, progress());
+        }
+
+        if (hasDeadline && System.nanoTime() - deadline > 0) {
+            throw new ComputationLimitExceededException(ComputationLimit.DEADLINE, progress());
+        }
+    }
+
+    /**
+     * Records the current basis, and checks its size and the estimated memory before checking the deadline and
+     * the cancellation token.
+     *
+     * @param basis the polynomials of the basis
+     * @throws ComputationLimitExceededException if a limit is exceeded
+     */
+    public void checkBasis(Collection<? extends Polynomial<?>> basis) {
+        var terms = 0L;
+        for (var polynomial : basis) {
+            terms += polynomial.length();
+        }
+
+        checkBasis(basis.size(), terms);
+    }
+
+    /**
+     * Records the size of the current basis, and checks it and the estimated memory before checking the deadline
+     * and the cancellation token.
+     *
+     * @param size  the number of polynomials of the basis
+     * @param terms the number of terms of the polynomials of the basis, and of the other polynomials kept by the
+     *              algorithm
+     * @throws ComputationLimitExceededException if a limit is exceeded
+     */
+    public void checkBasis(int size, long terms) {
+        basisSize = size;
+        peakBasisSize = Math.max(peakBasisSize, size);
+        statistics.updatePeakBasisSize(size);
+        basisTerms = terms;
+        if (size > maxBasisSize) {
+            throw new ComputationLimitExceededException(ComputationLimit.BASIS_SIZE, progress());
+        }
+
+        checkHeap(0);
+        checkpoint();
+    }
+
+    /**
+     * Records the dimensions of a Macaulay matrix before it is built, and checks them and the estimated memory
+     * before checking the deadline and the cancellation token.
+     *
+     * @param rows    the polynomials of the rows
+     * @param columns the number of columns
+     * @throws ComputationLimitExceededException if a limit is exceeded
+     */
+    public void checkMatrix(List<? extends Polynomial<?>> rows, int columns) {
+        var entries = 0L;
+        for (var row : rows) {
+            entries += row.length();
+        }
+
+        checkMatrix(rows.size(), columns, entries);
+    }
+
+    /**
+     * Records the dimensions of a matrix before it is built, and checks them and the estimated memory before
+     * checking the deadline and the cancellation token.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     * @param entries the number of non-zero entries
+     * @throws ComputationLimitExceededException if a limit is exceeded
+     */
+    public void checkMatrix(int rows, int columns, long entries) {
+        matrixRows = Math.max(matrixRows, rows);
+        matrixColumns = Math.max(matrixColumns, columns);
+        matrixEntries = Math.max(matrixEntries, entries);
+        if (rows > maxMatrixRows) {
+            throw new ComputationLimitExceededException(ComputationLimit.MATRIX_ROWS, progress());
+        }
+
+        if (columns > maxMatrixColumns) {
+            throw new ComputationLimitExceededException(ComputationLimit.MATRIX_COLUMNS, progress());
+        }
+
+        checkHeap(entries);
+        checkpoint();
+    }
+
+    /**
+     * Checks the number of primes used by a multi-modular computation before checking the deadline and the
+     * cancellation token.
+     *
+     * @param primes the number of primes used so far
+     * @throws ComputationLimitExceededException if a limit is exceeded
+     */
+    public void checkPrimes(int primes) {
+        if (primes > maxPrimes) {
+            throw new ComputationLimitExceededException(ComputationLimit.PRIMES, progress());
+        }
+
+        checkpoint();
+    }
+
+    private void checkHeap(long entries) {
+        var terms = basisTerms + entries;
+        var bytes = terms > Long.MAX_VALUE / ESTIMATED_BYTES_PER_TERM
+                ? Long.MAX_VALUE
+                : terms * ESTIMATED_BYTES_PER_TERM;
+        estimatedHeapBytes = Math.max(estimatedHeapBytes, bytes);
+        if (bytes > maxHeapBytes) {
+            throw new ComputationLimitExceededException(ComputationLimit.HEAP, progress());
+        }
+    }
+
+    /**
+     * Returns the progress recorded so far.
+     *
+     * @return a snapshot of the progress of the computation
+     */
+    public ComputationProgress progress() {
+        return new ComputationProgress(
+                Duration.ofNanos(System.nanoTime() - start),
+                checkpoints,
+                basisSize,
+                peakBasisSize,
+                basisTerms,
+                matrixRows,
+                matrixColumns,
+                matrixEntries,
+                estimatedHeapBytes
+        );
+    }
+
+    /**
+     * Records critical pairs created, before the criteria are applied.
+     *
+     * @param count the number of pairs
+     */
+    public void recordPairsCreated(long count) {
+        statistics.addPairsCreated(count);
+    }
+
+    /**
+     * Records critical pairs discarded by a criterion.
+     *
+     * @param criterion the criterion
+     * @param count     the number of pairs
+     */
+    public void recordPairsPruned(PairCriterion criterion, long count) {
+        statistics.addPairsPruned(criterion, count);
+    }
+
+    /**
+     * Records reductions of critical pairs.
+     *
+     * @param reductions the number of pairs whose S-polynomial was reduced
+     * @param toZero     the number of reductions to zero
+     */
+    public void recordReductions(long reductions, long toZero) {
+        statistics.addReductions(reductions, toZero);
+    }
+
+    /**
+     * Records the statistics of a Macaulay matrix and reports them to the listener.
+     *
+     * @param matrix the statistics of the matrix
+     */
+    public void recordMatrix(MatrixStatistics matrix) {
+        statistics.addMatrix(matrix);
+        if (listener != null) {
+            listener.onMatrix(matrix);
+        }
+    }
+
+    /**
+     * Starts a phase, suspending the current one until the new phase ends.
+     *
+     * @param phase the phase
+     * @return the start of the phase, from {@link System#nanoTime()}
+     */
+    public long startPhase(ComputationPhase phase) {
+        var now = closePhaseSegment();
+        if (phaseDepth == phases.length) {
+            phases = Arrays.copyOf(phases, 2 * phaseDepth);
+        }
+
+        phases[phaseDepth++] = phase.ordinal();
+        return now;
+    }
+
+    /**
+     * Ends the current phase, resuming the one it suspended.
+     *
+     * @param phase the current phase
+     * @return the end of the phase, from {@link System#nanoTime()}
+     * @throws IllegalStateException if the phase is not the current one
+     */
+    public long endPhase(ComputationPhase phase) {
+        if (phaseDepth == 0 || phases[phaseDepth - 1] != phase.ordinal()) {
+            throw new IllegalStateException("The phase " + phase + " is not the current one.");
+        }
+
+        var now = closePhaseSegment();
+        phaseDepth--;
+        return now;
+    }
+
+    // Adds the time and allocations since the last phase change to the current phase
+    private long closePhaseSegment() {
+        var now = System.nanoTime();
+        var allocated = listener == null ? 0 : allocatedBytes();
+        if (phaseDepth > 0) {
+            statistics.addPhase(phases[phaseDepth - 1], now - phaseStart, allocated - phaseAllocationStart);
+        }
+
+        phaseStart = now;
+        phaseAllocationStart = allocated;
+        return now;
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : Math.max(0, THREAD_MX_BEAN.getCurrentThreadAllocatedBytes());
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                return bean;
+            }
+        } catch (LinkageError e) {
+            // The jdk.management module is not available
+        }
+
+        return null;
+    }
+
+    /**
+     * Reports the statistics to the listener once the algorithm has computed the basis.
+     */
+    public void complete() {
+        if (listener != null) {
+            listener.onCompleted(statistics);
+        }
+    }
+
+    /**
+     * Returns the statistics collected so far.
+     *
+     * @return the statistics of the computation
+     */
+    public ComputationStatistics statistics() {
+        return statistics;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.olajed.jgb.computation;
+
+import io.github.olajed.jgb.enums.ComputationLimit;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a computation is stopped by a limit of its {@link ComputationContext}.
+ * <p>
+ * The exception carries the exceeded limit and the progress of the computation when it was stopped.
+ * </p>
+ */
+public class ComputationLimitExceededException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final ComputationLimit limit;
+    private final transient ComputationProgress progress;
+
+    /**
+     * Constructs an exception for the given limit.
+     *
+     * @param limit    the limit that stopped the computation
+     * @param progress the progress of the computation when it was stopped
+     */
+    public ComputationLimitExceededException(ComputationLimit limit, ComputationProgress progress) {
+        super("Computation stopped, limit %s exceeded after %d ms with a basis of %d polynomials.".formatted(
+                limit,
+                progress.elapsed().toMillis(),
+                progress.basisSize()
+        ));
+        this.limit = limit;
+        this.progress = progress;
+    }
+
+    /**
+     * Returns the limit that stopped the computation.
+     *
+     * @return the exceeded limit
+     */
+    public ComputationLimit limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the progress of the computation when it was stopped.
+     *
+     * @return the partial statistics of the computation
+     */
+    public ComputationProgress progress() {
+        return progress;
+    }
+}
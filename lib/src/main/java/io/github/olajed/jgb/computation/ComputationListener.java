@@ -0,0 +1,24 @@
+package io.github.olajed.jgb.computation;
+
+/**
+ * Receives the statistics of a computation while it runs, on the thread calling the algorithm.
+ *
+ * @see ComputationContext#withListener(ComputationListener)
+ */
+public interface ComputationListener {
+    /**
+     * Called after each Macaulay matrix of an F4 step is reduced.
+     *
+     * @param matrix the statistics of the matrix
+     */
+    default void onMatrix(MatrixStatistics matrix) {
+    }
+
+    /**
+     * Called once the algorithm has computed the basis.
+     *
+     * @param statistics the statistics of the whole computation
+     */
+    default void onCompleted(ComputationStatistics statistics) {
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.olajed.jgb.computation;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the progress of a computation, as recorded by its {@link ComputationContext}.
+ *
+ * @param elapsed            the time elapsed since the creation of the context
+ * @param checkpoints        the number of checkpoints reached
+ * @param basisSize          the number of polynomials of the basis at the last checkpoint
+ * @param peakBasisSize      the largest number of polynomials of the basis
+ * @param basisTerms         the number of terms of the basis at the last checkpoint
+ * @param matrixRows         the largest number of rows of a matrix
+ * @param matrixColumns      the largest number of columns of a matrix
+ * @param matrixEntries      the largest number of non-zero entries of a matrix
+ * @param estimatedHeapBytes the largest estimated memory used by the basis and the current matrix, in bytes
+ */
+public record ComputationProgress(
+        Duration elapsed,
+        long checkpoints,
+        int basisSize,
+        int peakBasisSize,
+        long basisTerms,
+        int matrixRows,
+        int matrixColumns,
+        long matrixEntries,
+        long estimatedHeapBytes
+) {
+}
@@ -0,0 +1,141 @@
+package io.github.olajed.jgb.computation;
+
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.enums.PairCriterion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Statistics of a Gröbner basis computation, collected by its {@link ComputationContext}.
+ * <p>
+ * The phases are timed exclusively: the time of a phase started inside another one is not counted in the outer
+ * phase. The allocations are the bytes allocated by the thread calling the algorithm, the threads of a pool are
+ * not measured, and they are zero when the context has no {@link ComputationListener} or when the JVM does not
+ * support allocation measurement.
+ * </p>
+ * <p>
+ * The critical pairs and the reductions are recorded by Buchberger's algorithm, F4, the improved F4, F5, M4GB and
+ * {@code GrobnerBasisAlgorithms.isGrobnerBasis}, the Macaulay matrices by the two F4 algorithms. FGLM and sparse
+ * FGLM time their normal forms and eliminations, and the Gröbner walk records the Buchberger computations of its
+ * initial forms. {@code MultiModularAlgorithm} does not pass its context to the algorithm it runs modulo each
+ * prime, its statistics only holding the size of the reconstructed basis.
+ * </p>
+ */
+public final class ComputationStatistics {
+    private long pairsCreated;
+    private final long[] pairsPruned = new long[PairCriterion.values().length];
+    private long pairsReduced;
+    private long reductionsToZero;
+    private int peakBasisSize;
+    private final long[] phaseNanos = new long[ComputationPhase.values().length];
+    private final long[] phaseAllocatedBytes = new long[ComputationPhase.values().length];
+    private final List<MatrixStatistics> matrices = new ArrayList<>();
+
+    ComputationStatistics() {
+    }
+
+    void addPairsCreated(long count) {
+        pairsCreated += count;
+    }
+
+    void addPairsPruned(PairCriterion criterion, long count) {
+        pairsPruned[criterion.ordinal()] += count;
+    }
+
+    void addReductions(long reductions, long toZero) {
+        pairsReduced += reductions;
+        reductionsToZero += toZero;
+    }
+
+    void updatePeakBasisSize(int basisSize) {
+        peakBasisSize = Math.max(peakBasisSize, basisSize);
+    }
+
+    void addPhase(int phase, long nanos, long allocatedBytes) {
+        phaseNanos[phase] += nanos;
+        phaseAllocatedBytes[phase] += allocatedBytes;
+    }
+
+    void addMatrix(MatrixStatistics matrix) {
+        matrices.add(matrix);
+    }
+
+    /**
+     * Returns the number of critical pairs created, before the criteria are applied.
+     *
+     * @return the number of pairs created
+     */
+    public long pairsCreated() {
+        return pairsCreated;
+    }
+
+    /**
+     * Returns the number of critical pairs discarded by a criterion.
+     *
+     * @param criterion the criterion
+     * @return the number of pairs discarded by the criterion
+     */
+    public long pairsPruned(PairCriterion criterion) {
+        return pairsPruned[criterion.ordinal()];
+    }
+
+    /**
+     * Returns the number of critical pairs whose S-polynomial was reduced.
+     *
+     * @return the number of pairs reduced
+     */
+    public long pairsReduced() {
+        return pairsReduced;
+    }
+
+    /**
+     * Returns the number of useless reductions: the S-polynomials reduced to zero, or the rows of the Macaulay
+     * matrices reduced to zero with F4.
+     *
+     * @return the number of reductions to zero
+     */
+    public long reductionsToZero() {
+        return reductionsToZero;
+    }
+
+    /**
+     * Returns the largest number of polynomials of the basis during the computation.
+     *
+     * @return the peak basis size
+     */
+    public int peakBasisSize() {
+        return peakBasisSize;
+    }
+
+    /**
+     * Returns the wall time spent in a phase.
+     *
+     * @param phase the phase
+     * @return the time spent in the phase
+     */
+    public Duration phaseTime(ComputationPhase phase) {
+        return Duration.ofNanos(phaseNanos[phase.ordinal()]);
+    }
+
+    /**
+     * Returns the bytes allocated by the calling thread in a phase, zero if the context has no listener.
+     *
+     * @param phase the phase
+     * @return the bytes allocated in the phase
+     */
+    public long phaseAllocatedBytes(ComputationPhase phase) {
+        return phaseAllocatedBytes[phase.ordinal()];
+    }
+
+    /**
+     * Returns the statistics of the Macaulay matrices, in the order of the F4 steps.
+     *
+     * @return the matrices, as an unmodifiable view
+     */
+    public List<MatrixStatistics> matrices() {
+        return Collections.unmodifiableList(matrices);
+    }
+}
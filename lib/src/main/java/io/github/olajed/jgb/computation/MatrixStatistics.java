@@ -0,0 +1,37 @@
+package io.github.olajed.jgb.computation;
+
+import java.time.Duration;
+
+/**
+ * Statistics of a Macaulay matrix of an F4 step.
+ *
+ * @param degree                the degree of the lcm of the selected pairs
+ * @param pairs                 the number of selected pairs
+ * @param rows                  the number of rows
+ * @param columns               the number of columns
+ * @param nonZeroEntries        the number of non-zero entries before the reduction
+ * @param pivots                the rank of the matrix
+ * @param newPolynomials        the number of rows whose leading monomial is new, added to the basis
+ * @param symbolicPreprocessing the time spent collecting the rows
+ * @param elimination           the time spent building and reducing the matrix
+ */
+public record MatrixStatistics(
+        int degree,
+        int pairs,
+        int rows,
+        int columns,
+        long nonZeroEntries,
+        int pivots,
+        int newPolynomials,
+        Duration symbolicPreprocessing,
+        Duration elimination
+) {
+    /**
+     * Returns the proportion of non-zero entries of the matrix.
+     *
+     * @return the density, between 0 and 1
+     */
+    public double density() {
+        return rows == 0 || columns == 0 ? 0 : (double) nonZeroEntries / ((double) rows * columns);
+    }
+}
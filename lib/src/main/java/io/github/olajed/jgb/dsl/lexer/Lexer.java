@@ -3,6 +3,7 @@ package io.github.olajed.jgb.dsl.lexer;
 import io.github.olajed.jgb.dsl.tokens.Token;
 import io.github.olajed.jgb.dsl.tokens.TokenType;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -103,9 +104,10 @@ public class Lexer {
             var numberStr = new String(sourceChars, start, current - start);
             tokens.add(new Token(TokenType.NUMBER, Double.parseDouble(numberStr), currentLine));
         } else {
-            // Parse as integer
+            // Parse as integer, integers that do not fit in an int are kept exact for rational coefficients
             var numberStr = new String(sourceChars, start, current - start);
-            tokens.add(new Token(TokenType.NUMBER, Integer.parseInt(numberStr), currentLine));
+            var number = new BigInteger(numberStr);
+            tokens.add(new Token(TokenType.NUMBER, number.bitLength() < Integer.SIZE ? number.intValue() : number, currentLine));
         }
     }
 
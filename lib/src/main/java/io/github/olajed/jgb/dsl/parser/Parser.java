@@ -13,6 +13,7 @@ import io.github.olajed.jgb.number.Rational;
 import io.github.olajed.jgb.number.Real;
 import io.github.olajed.jgb.utils.Pair;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -69,7 +70,7 @@ public class Parser {
             return fieldDefinition();
         } else if (match(TokenType.ORDERING_DEFINITION)) {
             return orderingDefinition();
-        } else if (match(TokenType.DENSE) || match(TokenType.SPARSE)) {
+        } else if (match(TokenType.DENSE) || match(TokenType.SPARSE) || match(TokenType.PACKED)) {
             return structureDefinition();
         }
 
@@ -140,8 +141,7 @@ public class Parser {
     }
 
     private AstNode structureDefinition() {
-        var type = previous().type() == TokenType.DENSE ? TokenType.DENSE : TokenType.SPARSE;
-        return new MonomialConfigurationNode(MonomialType.fromTokenType(type));
+        return new MonomialConfigurationNode(MonomialType.fromTokenType(previous().type()));
     }
 
     private AstNode polynomial() {
@@ -206,9 +206,8 @@ public class Parser {
         var first = ((Number) number).doubleValue();
         if (match(TokenType.DIVIDE)) {
             // A rational number, we try to get the denominator
-            var numerator = (int) first;
-            var denominator = (Number) consume(TokenType.NUMBER, "Expected number after '/'.").value();
-            return new Rational(numerator, denominator.intValue());
+            var denominator = consume(TokenType.NUMBER, "Expected number after '/'.").value();
+            return Rational.of(integerValue(number), integerValue(denominator));
         } else if (match(TokenType.I)) {
             return new Complex(0, first);
         } else if (inGroup && peekType(TokenType.PLUS)) {
@@ -237,11 +236,22 @@ public class Parser {
             var imaginaryPart = (Number) consume(TokenType.NUMBER, "Expected number after '-'.").value();
             consume(TokenType.I, "Expected 'I' after imaginary part.");
             return new Complex(first, -imaginaryPart.doubleValue());
+        } else if (number instanceof BigInteger value) {
+            // Too large to be represented exactly as a real, the rational keeps every digit
+            return Rational.of(value, BigInteger.ONE);
         } else {
             return new Real(first);
         }
     }
 
+    private static BigInteger integerValue(Object number) {
+        return switch (number) {
+            case BigInteger value -> value;
+            case Integer value -> BigInteger.valueOf(value);
+            default -> BigInteger.valueOf((long) ((Number) number).doubleValue());
+        };
+    }
+
     private Map<String, Integer> factors() {
         var content = new HashMap<String, Integer>();
         while (peekType(TokenType.INDETERMINATE)) {
@@ -132,6 +132,11 @@ public enum TokenType {
      */
     SPARSE,
 
+    /**
+     * Packed monomial type specifier.
+     */
+    PACKED,
+
     /**
      * Lexicographic monomial ordering specifier.
      */
@@ -185,6 +190,7 @@ public enum TokenType {
     public static final Map<String, TokenType> keywords = Map.of(
             "dense", TokenType.DENSE,
             "sparse", TokenType.SPARSE,
+            "packed", TokenType.PACKED,
             "GF", TokenType.GF,
             "lex", TokenType.LEX,
             "grlex", TokenType.GRLEX,
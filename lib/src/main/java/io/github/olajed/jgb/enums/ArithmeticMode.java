@@ -0,0 +1,21 @@
+package io.github.olajed.jgb.enums;
+
+/**
+ * Enumeration of the ways coefficients are handled while computing Gröbner bases.
+ *
+ * <p>The fraction-free mode only applies to rational coefficients, where normalizing
+ * a fraction after every operation dominates the cost of the computation.</p>
+ */
+public enum ArithmeticMode {
+    /** Coefficients are field elements, the polynomials are divided by their leading coefficients. */
+    FIELD,
+
+    /**
+     * Polynomials over the rationals are kept with coprime integer coefficients.
+     * <p>
+     * Reductions are pseudo-reductions, multiplying the reduced polynomial by the leading coefficient
+     * of the reducer instead of dividing by it, and the content of the polynomials is removed periodically.
+     * The results are converted back to monic polynomials.
+     */
+    FRACTION_FREE
+}
@@ -0,0 +1,29 @@
+package io.github.olajed.jgb.enums;
+
+/**
+ * Enumeration of the limits of a computation context that can stop a Gröbner basis computation.
+ *
+ * @see io.github.olajed.jgb.computation.ComputationContext
+ */
+public enum ComputationLimit {
+    /** The deadline of the computation has passed. */
+    DEADLINE,
+
+    /** The cancellation token of the computation has been cancelled. */
+    CANCELLED,
+
+    /** A Macaulay matrix, or the echelon form of FGLM, has more rows than allowed. */
+    MATRIX_ROWS,
+
+    /** A Macaulay matrix, or the echelon form of FGLM, has more columns than allowed. */
+    MATRIX_COLUMNS,
+
+    /** The basis being computed has more polynomials than allowed. */
+    BASIS_SIZE,
+
+    /** The estimated memory used by the basis and the current matrix exceeds the budget. */
+    HEAP,
+
+    /** A multi-modular computation has used more primes than allowed. */
+    PRIMES
+}
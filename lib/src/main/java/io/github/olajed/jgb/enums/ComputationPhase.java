@@ -0,0 +1,35 @@
+package io.github.olajed.jgb.enums;
+
+/**
+ * Enumeration of the phases of the Gröbner basis algorithms whose time and allocations are measured.
+ *
+ * @see io.github.olajed.jgb.computation.ComputationStatistics
+ */
+public enum ComputationPhase {
+    /** Creating the critical pairs of new polynomials and pruning them with the criteria. */
+    PAIR_UPDATE,
+
+    /** Selecting the pairs of the next F4 step. */
+    SELECTION,
+
+    /** Collecting the rows of a Macaulay matrix and their reducers. */
+    SYMBOLIC_PREPROCESSING,
+
+    /**
+     * Building and reducing a Macaulay matrix, the echelon form of the normal forms in FGLM, or the projected
+     * sequences and their minimal polynomial in sparse FGLM.
+     */
+    ELIMINATION,
+
+    /** Reducing S-polynomials by the basis, in Buchberger's algorithm, F5, M4GB and the Gröbner basis check. */
+    REDUCTION,
+
+    /**
+     * Reducing the tails of the reductors by a new polynomial in M4GB, the remainders of a batch by each other in
+     * Buchberger's algorithm, or the tails of a Gröbner basis.
+     */
+    INTER_REDUCTION,
+
+    /** Computing the normal forms of monomials, in FGLM and sparse FGLM. */
+    NORMAL_FORM
+}
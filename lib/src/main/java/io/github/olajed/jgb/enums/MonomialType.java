@@ -6,14 +6,18 @@ import io.github.olajed.jgb.dsl.tokens.TokenType;
  * Enumeration representing monomial storage types used in polynomial representations.
  *
  * <p>DENSE indicates monomials with explicit coefficients for all variables,
- * while SPARSE indicates monomials storing only nonzero exponents.</p>
+ * SPARSE indicates monomials storing only nonzero exponents,
+ * while PACKED indicates monomials storing all exponents in fixed-width bit fields of machine words.</p>
  */
 public enum MonomialType {
     /** Represents monomials with all exponents stored explicitly, including zeros. */
     DENSE,
 
     /** Represents monomials storing only non-zero exponents for efficiency. */
-    SPARSE;
+    SPARSE,
+
+    /** Represents monomials storing all exponents in fixed-width bit fields of two machine words. */
+    PACKED;
 
     /**
      * Converts a {@link TokenType} to the corresponding {@code MonomialType}.
@@ -25,6 +29,7 @@ public enum MonomialType {
         return switch (tokenType) {
             case TokenType.DENSE -> DENSE;
             case TokenType.SPARSE -> SPARSE;
+            case TokenType.PACKED -> PACKED;
             default -> null;
         };
     }
@@ -0,0 +1,27 @@
+package io.github.olajed.jgb.enums;
+
+/**
+ * Enumeration of the criteria discarding critical pairs whose S-polynomial is known to reduce to zero, the
+ * Gebauer–Möller criteria and the signature criteria of F5.
+ *
+ * @see <a href="https://doi.org/10.1016/S0747-7171(88)80040-3">
+ * Gebauer, R., Möller, H. M., "On an installation of Buchberger's algorithm", Journal of Symbolic Computation, 1988.</a>
+ * @see <a href="https://doi.org/10.1145/780506.780516">
+ * Faugère, J.-C., "A new efficient algorithm for computing Gröbner bases without reduction to zero (F5)", ISSAC 2002.</a>
+ */
+public enum PairCriterion {
+    /** The leading monomials of the pair are coprime. */
+    PRODUCT,
+
+    /** A new pair whose lcm is divisible by the lcm of another new pair. */
+    CHAIN,
+
+    /** A pending pair whose lcm is a strict multiple of both lcms with the leading monomial of a new polynomial. */
+    OBSOLETE,
+
+    /** A pair whose signature is divisible by the leading monomial of a syzygy, in F5. */
+    SYZYGY,
+
+    /** A pair whose signature is already handled by another polynomial of the basis, in F5. */
+    REWRITTEN
+}
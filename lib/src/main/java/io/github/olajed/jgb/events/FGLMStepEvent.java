@@ -0,0 +1,55 @@
+package io.github.olajed.jgb.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a step of FGLM: the normal form of a candidate monomial and its reduction by the
+ * normal forms of the standard monomials.
+ * <p>
+ * Disabled by default, like the other events of the library.
+ * </p>
+ */
+@Name("io.github.olajed.jgb.FGLMStep")
+@Label("FGLM Step")
+@Description("Normal form of a candidate monomial and its reduction by the previous normal forms")
+@Category({"jgb", "FGLM"})
+@Enabled(false)
+@StackTrace(false)
+public final class FGLMStepEvent extends Event {
+    @Label("Monomial Degree")
+    private int monomialDegree;
+
+    @Label("Standard")
+    @Description("Whether the monomial is standard, otherwise it is the leading monomial of a new polynomial")
+    private boolean standard;
+
+    @Label("Standard Monomials")
+    private int standardMonomials;
+
+    @Label("Basis Size")
+    private int basisSize;
+
+    /**
+     * Commits the event with the outcome of the step, if it is enabled and exceeds its duration threshold.
+     *
+     * @param monomialDegree    the degree of the candidate monomial
+     * @param standard          whether the candidate is a standard monomial
+     * @param standardMonomials the number of standard monomials found before the step
+     * @param basisSize         the number of polynomials of the new basis before the step
+     */
+    public void commit(int monomialDegree, boolean standard, int standardMonomials, int basisSize) {
+        if (shouldCommit()) {
+            this.monomialDegree = monomialDegree;
+            this.standard = standard;
+            this.standardMonomials = standardMonomials;
+            this.basisSize = basisSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.olajed.jgb.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the construction and reduction of the Macaulay matrix of an F4 step.
+ * <p>
+ * Disabled by default, like the other events of the library.
+ * </p>
+ */
+@Name("io.github.olajed.jgb.MacaulayMatrix")
+@Label("Macaulay Matrix")
+@Description("Construction and row echelon reduction of the Macaulay matrix of an F4 step")
+@Category({"jgb", "F4"})
+@Enabled(false)
+@StackTrace(false)
+public final class MacaulayMatrixEvent extends Event {
+    @Label("Algorithm")
+    private String algorithm;
+
+    @Label("Degree")
+    @Description("Degree of the lcm of the selected pairs")
+    private int degree;
+
+    @Label("Rows")
+    private int rows;
+
+    @Label("Columns")
+    private int columns;
+
+    @Label("Non-zero Entries")
+    @Description("Non-zero entries of the matrix before the reduction")
+    private long nonZeroEntries;
+
+    @Label("Pivots")
+    private int pivots;
+
+    @Label("New Polynomials")
+    @Description("Rows whose leading monomial is new, added to the basis")
+    private int newPolynomials;
+
+    /**
+     * Commits the event with the dimensions of the matrix, if it is enabled and exceeds its duration threshold.
+     *
+     * @param algorithm      the name of the algorithm
+     * @param degree         the degree of the lcm of the selected pairs
+     * @param rows           the number of rows
+     * @param columns        the number of columns
+     * @param nonZeroEntries the number of non-zero entries before the reduction
+     * @param pivots         the rank of the matrix
+     * @param newPolynomials the number of rows added to the basis
+     */
+    public void commit(
+            String algorithm,
+            int degree,
+            int rows,
+            int columns,
+            long nonZeroEntries,
+            int pivots,
+            int newPolynomials
+    ) {
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.degree = degree;
+            this.rows = rows;
+            this.columns = columns;
+            this.nonZeroEntries = nonZeroEntries;
+            this.pivots = pivots;
+            this.newPolynomials = newPolynomials;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.olajed.jgb.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the full reduction of a product of a term and a polynomial in M4GB.
+ * <p>
+ * Disabled by default, like the other events of the library. The reductors built during the reduction emit
+ * their own nested events.
+ * </p>
+ */
+@Name("io.github.olajed.jgb.MultiplyFullReduce")
+@Label("Multiply Full Reduce")
+@Description("Full reduction of the product of a term and a polynomial by the M4GB reductors")
+@Category({"jgb", "M4GB"})
+@Enabled(false)
+@StackTrace(false)
+public final class MultiplyFullReduceEvent extends Event {
+    @Label("Term Degree")
+    private int termDegree;
+
+    @Label("Polynomial Length")
+    private int polynomialLength;
+
+    @Label("Result Length")
+    private int resultLength;
+
+    /**
+     * Commits the event with the sizes of the product and of the result, if it is enabled and exceeds its
+     * duration threshold.
+     *
+     * @param termDegree       the degree of the term
+     * @param polynomialLength the number of terms of the polynomial
+     * @param resultLength     the number of terms of the reduced product
+     */
+    public void commit(int termDegree, int polynomialLength, int resultLength) {
+        if (shouldCommit()) {
+            this.termDegree = termDegree;
+            this.polynomialLength = polynomialLength;
+            this.resultLength = resultLength;
+            commit();
+        }
+    }
+}
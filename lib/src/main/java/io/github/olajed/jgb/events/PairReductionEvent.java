@@ -0,0 +1,62 @@
+package io.github.olajed.jgb.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the reduction of the S-polynomial of a critical pair in Buchberger's algorithm.
+ * <p>
+ * Disabled by default, like the other events of the library. With a pool, the events are emitted by the threads
+ * of the pool.
+ * </p>
+ */
+@Name("io.github.olajed.jgb.PairReduction")
+@Label("Pair Reduction")
+@Description("Reduction of the S-polynomial of a critical pair by the basis")
+@Category({"jgb", "Buchberger"})
+@Enabled(false)
+@StackTrace(false)
+public final class PairReductionEvent extends Event {
+    @Label("First")
+    @Description("Index of the first polynomial of the pair in the basis")
+    private int first;
+
+    @Label("Second")
+    @Description("Index of the second polynomial of the pair in the basis")
+    private int second;
+
+    @Label("Sugar")
+    private int sugar;
+
+    @Label("Basis Size")
+    private int basisSize;
+
+    @Label("Remainder Length")
+    @Description("Number of terms of the remainder, zero for a useless pair")
+    private int remainderLength;
+
+    /**
+     * Commits the event with the pair and its remainder, if it is enabled and exceeds its duration threshold.
+     *
+     * @param first           the index of the first polynomial of the pair
+     * @param second          the index of the second polynomial of the pair
+     * @param sugar           the sugar degree of the pair
+     * @param basisSize       the number of polynomials of the basis reducing the S-polynomial
+     * @param remainderLength the number of terms of the remainder
+     */
+    public void commit(int first, int second, int sugar, int basisSize, int remainderLength) {
+        if (shouldCommit()) {
+            this.first = first;
+            this.second = second;
+            this.sugar = sugar;
+            this.basisSize = basisSize;
+            this.remainderLength = remainderLength;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.olajed.jgb.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the reduction of a polynomial by a set of polynomials.
+ * <p>
+ * Disabled by default, like the other events of the library. Only the reductions of polynomials with at least
+ * {@value #MIN_LENGTH} terms are recorded, the smaller ones being too frequent to be worth an event.
+ * </p>
+ */
+@Name("io.github.olajed.jgb.PolynomialReduction")
+@Label("Polynomial Reduction")
+@Description("Reduction of a polynomial by a set of polynomials")
+@Category({"jgb", "Polynomial"})
+@Enabled(false)
+@StackTrace(false)
+public final class PolynomialReductionEvent extends Event {
+    /**
+     * Minimum number of terms of a reduced polynomial for its reduction to be recorded.
+     */
+    public static final int MIN_LENGTH = 32;
+
+    @Label("Length")
+    private int length;
+
+    @Label("Reduction Steps")
+    @Description("Terms cancelled by a reducer")
+    private long reductionSteps;
+
+    @Label("Remainder Length")
+    private int remainderLength;
+
+    /**
+     * Commits the event with the sizes of the reduction, if the polynomial has at least {@value #MIN_LENGTH}
+     * terms and the event is enabled and exceeds its duration threshold.
+     *
+     * @param length          the number of terms of the reduced polynomial
+     * @param reductionSteps  the number of terms cancelled by a reducer
+     * @param remainderLength the number of terms of the remainder
+     */
+    public void commit(int length, long reductionSteps, int remainderLength) {
+        if (length >= MIN_LENGTH && shouldCommit()) {
+            this.length = length;
+            this.reductionSteps = reductionSteps;
+            this.remainderLength = remainderLength;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.olajed.jgb.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the symbolic preprocessing of an F4 step, collecting the rows of its Macaulay matrix.
+ * <p>
+ * Disabled by default, like the other events of the library.
+ * </p>
+ */
+@Name("io.github.olajed.jgb.SymbolicPreprocessing")
+@Label("Symbolic Preprocessing")
+@Description("Collection of the rows of the Macaulay matrix of an F4 step")
+@Category({"jgb", "F4"})
+@Enabled(false)
+@StackTrace(false)
+public final class SymbolicPreprocessingEvent extends Event {
+    @Label("Algorithm")
+    private String algorithm;
+
+    @Label("Degree")
+    @Description("Degree of the lcm of the selected pairs")
+    private int degree;
+
+    @Label("Pairs")
+    private int pairs;
+
+    @Label("Rows")
+    private int rows;
+
+    @Label("Columns")
+    private int columns;
+
+    /**
+     * Commits the event with the dimensions of the matrix, if it is enabled and exceeds its duration threshold.
+     *
+     * @param algorithm the name of the algorithm
+     * @param degree    the degree of the lcm of the selected pairs
+     * @param pairs     the number of selected pairs
+     * @param rows      the number of rows
+     * @param columns   the number of columns
+     */
+    public void commit(String algorithm, int degree, int pairs, int rows, int columns) {
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.degree = degree;
+            this.pairs = pairs;
+            this.rows = rows;
+            this.columns = columns;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.olajed.jgb.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the addition of a polynomial to the basis in M4GB, reducing the tails of the
+ * reductors and updating the pairs.
+ * <p>
+ * Disabled by default, like the other events of the library.
+ * </p>
+ */
+@Name("io.github.olajed.jgb.UpdateReduce")
+@Label("Update Reduce")
+@Description("Addition of a polynomial to the M4GB basis, with the inter-reduction of the reductors")
+@Category({"jgb", "M4GB"})
+@Enabled(false)
+@StackTrace(false)
+public final class UpdateReduceEvent extends Event {
+    @Label("Polynomial Length")
+    private int polynomialLength;
+
+    @Label("Updated Reductors")
+    @Description("Reductors created, or whose tail was reduced by the new polynomial")
+    private int updatedReductors;
+
+    @Label("Reductors")
+    private int reductors;
+
+    @Label("Basis Size")
+    private int basisSize;
+
+    @Label("Pairs")
+    @Description("Pending pairs after the update")
+    private int pairs;
+
+    /**
+     * Commits the event with the state after the update, if it is enabled and exceeds its duration threshold.
+     *
+     * @param polynomialLength the number of terms of the new polynomial
+     * @param updatedReductors the number of reductors created or whose tail was reduced
+     * @param reductors        the number of reductors
+     * @param basisSize        the number of leading monomials of the basis
+     * @param pairs            the number of pending pairs
+     */
+    public void commit(int polynomialLength, int updatedReductors, int reductors, int basisSize, int pairs) {
+        if (shouldCommit()) {
+            this.polynomialLength = polynomialLength;
+            this.updatedReductors = updatedReductors;
+            this.reductors = reductors;
+            this.basisSize = basisSize;
+            this.pairs = pairs;
+            commit();
+        }
+    }
+}
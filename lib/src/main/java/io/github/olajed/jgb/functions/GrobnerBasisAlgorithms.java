@@ -1,11 +1,25 @@
 package io.github.olajed.jgb.functions;
 
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.enums.PairSelectionStrategy;
 import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.structures.CriticalPairQueue;
+import io.github.olajed.jgb.structures.DivisorIndex;
 import io.github.olajed.jgb.structures.Polynomial;
 
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Utility class providing algorithms related to Grobner bases.
@@ -14,6 +28,7 @@ import java.util.List;
  * a Grobner basis of polynomials
  * </p>
  */
+@SuppressWarnings("unchecked")
 public final class GrobnerBasisAlgorithms {
     private GrobnerBasisAlgorithms() {
     }
@@ -29,21 +44,123 @@ public final class GrobnerBasisAlgorithms {
      * @return a reduced Grobner basis
      */
     public static <T extends Numeric> List<Polynomial<T>> reduceGrobnerBasis(List<Polynomial<T>> polynomials) {
+        return reduceGrobnerBasis(polynomials, null);
+    }
+
+    /**
+     * Reduces a Grobner basis, reducing the polynomials in parallel on the given pool.
+     *
+     * <p>The leading monomials of a minimized basis do not divide each other, so only the tails are reduced,
+     * all against the same index of the leading terms. The result does not depend on the parallelism of
+     * the pool.</p>
+     *
+     * @param polynomials the Grobner basis to reduce
+     * @param pool        the pool used for the reductions, {@code null} to reduce on the calling thread
+     * @param <T>         the numeric type of the polynomial coefficients
+     * @return a reduced Grobner basis
+     */
+    public static <T extends Numeric> List<Polynomial<T>> reduceGrobnerBasis(
+            List<Polynomial<T>> polynomials,
+            ForkJoinPool pool
+    ) {
+        return reduceGrobnerBasis(polynomials, pool, ArithmeticMode.FIELD);
+    }
+
+    /**
+     * Reduces a Grobner basis using the given coefficient arithmetic, reducing the polynomials in parallel on
+     * the given pool.
+     *
+     * <p>In {@link ArithmeticMode#FRACTION_FREE} mode, each polynomial is pseudo-reduced by the others
+     * with integer coefficients, and made monic at the end. All the polynomials are reduced against the same
+     * index, each one skipping itself, so the result does not depend on the parallelism of the pool.</p>
+     *
+     * @param polynomials    the Grobner basis to reduce
+     * @param pool           the pool used for the reductions, {@code null} to reduce on the calling thread
+     * @param arithmeticMode the arithmetic used on the coefficients
+     * @param <T>            the numeric type of the polynomial coefficients
+     * @return a reduced Grobner basis
+     * @throws IllegalArgumentException if the fraction-free mode is used on non-rational coefficients
+     */
+    public static <T extends Numeric> List<Polynomial<T>> reduceGrobnerBasis(
+            List<Polynomial<T>> polynomials,
+            ForkJoinPool pool,
+            ArithmeticMode arithmeticMode
+    ) {
+        return reduceGrobnerBasis(polynomials, pool, arithmeticMode, ComputationContext.unbounded());
+    }
+
+    /**
+     * Reduces a Grobner basis using the given coefficient arithmetic, reducing the polynomials in parallel on
+     * the given pool, within the limits of the given context.
+     *
+     * <p>The context is checked before each polynomial is reduced, or once before the reductions with a pool, and
+     * with the reduced basis. The reduction is timed as the {@link ComputationPhase#INTER_REDUCTION} phase.</p>
+     *
+     * @param polynomials    the Grobner basis to reduce
+     * @param pool           the pool used for the reductions, {@code null} to reduce on the calling thread
+     * @param arithmeticMode the arithmetic used on the coefficients
+     * @param context        the limits of the computation, collecting its statistics
+     * @param <T>            the numeric type of the polynomial coefficients
+     * @return a reduced Grobner basis
+     * @throws IllegalArgumentException          if the fraction-free mode is used on non-rational coefficients
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static <T extends Numeric> List<Polynomial<T>> reduceGrobnerBasis(
+            List<Polynomial<T>> polynomials,
+            ForkJoinPool pool,
+            ArithmeticMode arithmeticMode,
+            ComputationContext context
+    ) {
+        var fractionFree = arithmeticMode == ArithmeticMode.FRACTION_FREE;
+        if (fractionFree && !PolynomialFunctions.hasRationalCoefficients(polynomials)) {
+            throw new IllegalArgumentException("Expected polynomials with Rational coefficients.");
+        }
+
+        context.startPhase(ComputationPhase.INTER_REDUCTION);
         var minimized = minimizeGrobnerBasis(polynomials);
         var size = minimized.size();
-        var result = new ArrayList<Polynomial<T>>(size);
-
+        IntFunction<Polynomial<T>> reduce;
         if (size <= 1) {
-            return new ArrayList<>(minimized);
+            reduce = minimized::get;
+        } else if (fractionFree) {
+            var primitiveBasis = new ArrayList<Polynomial<Rational>>(size);
+            for (var polynomial : (List<Polynomial<Rational>>) (List<?>) minimized) {
+                primitiveBasis.add(PolynomialFunctions.primitivePart(polynomial));
+            }
+
+            var reducers = leadingTermIndex(primitiveBasis);
+            reduce = i -> {
+                var polynomial = primitiveBasis.get(i);
+                var reduced = PolynomialFunctions.pseudoReduce(polynomial, reducers, reducer -> reducer != polynomial);
+                return (Polynomial<T>) (Polynomial<?>) reduced.divide(reduced.leadingCoefficient());
+            };
+        } else {
+            var reducers = leadingTermIndex(minimized);
+            // A tail term is smaller than the leading monomial, so it is never reduced by its own polynomial
+            reduce = i -> {
+                var polynomial = minimized.get(i);
+                var leadingTerm = new Polynomial<>(polynomial.leadingTerm(), polynomial.ordering());
+                return polynomial.tail().reduce(reducers).add(leadingTerm);
+            };
         }
 
-        for (var i = 0; i < size; i++) {
-            var current = minimized.get(i);
-            var reducers = new ArrayList<>(minimized);
-            reducers.remove(i);
-            result.add(current.reduce(reducers));
+        List<Polynomial<T>> result;
+        if (pool == null || size <= 1) {
+            result = new ArrayList<>(size);
+            for (var i = 0; i < size; i++) {
+                context.checkpoint();
+                result.add(reduce.apply(i));
+            }
+        } else {
+            context.checkpoint();
+            result = pool.submit(() -> IntStream.range(0, size).parallel().mapToObj(reduce)
+                    .collect(Collectors.toCollection(ArrayList::new))
+            ).join();
         }
 
+        context.endPhase(ComputationPhase.INTER_REDUCTION);
+        context.checkBasis(result);
+        context.complete();
         return result;
     }
 
@@ -61,25 +178,19 @@ public final class GrobnerBasisAlgorithms {
             monicBasis.add(polynomial.divide(polynomial.leadingCoefficient()));
         }
 
+        var leadingMonomials = new DivisorIndex<T, Integer>(size == 0 ? 0 : polynomials.getFirst().fieldSize());
+        for (var i = 0; i < size; i++) {
+            leadingMonomials.add(monicBasis.get(i).leadingMonomial(), i);
+        }
+
         var toKeep = new BitSet(size);
         toKeep.set(0, size);
         for (var i = 0; i < size; i++) {
-            if (!toKeep.get(i)) {
-                continue;
-            }
-
-            for (var j = 0; j < size; j++) {
-                if (i != j && toKeep.get(j)) {
-                    var divisionResult = monicBasis.get(i)
-                            .leadingMonomial()
-                            .divide(monicBasis.get(j).leadingMonomial())
-                            .coefficient();
-
-                    if (!divisionResult.equals(divisionResult.zero())) {
-                        toKeep.clear(i);
-                        break;
-                    }
-                }
+            var index = i;
+            var leadingMonomial = monicBasis.get(i).leadingMonomial();
+            if (leadingMonomials.find(leadingMonomial, j -> j != index) != null) {
+                toKeep.clear(i);
+                leadingMonomials.remove(leadingMonomial, i);
             }
         }
 
@@ -98,9 +209,11 @@ public final class GrobnerBasisAlgorithms {
      *
      * <p>
      * This method verifies if the provided set of polynomials constitutes a Gröbner basis
-     * for the ideal they generate. It applies Buchberger's criterion by computing all
-     * S-polynomials for each distinct pair of polynomials and reducing them modulo the set.
+     * for the ideal they generate. It applies Buchberger's criterion by computing the
+     * S-polynomials of the pairs of polynomials and reducing them modulo the set.
      * If any S-polynomial does not reduce to zero, the given set is not a Gröbner basis.
+     * The pairs discarded by the product and chain criteria are not reduced, and the check stops
+     * at the first non-zero remainder.
      * </p>
      *
      * @param polynomials the list of polynomials to check
@@ -111,18 +224,116 @@ public final class GrobnerBasisAlgorithms {
      * @see Polynomial
      */
     public static <T extends Numeric> boolean isGrobnerBasis(List<Polynomial<T>> polynomials) {
-        for (var i = 0; i < polynomials.size(); i++) {
-            for (var j = i + 1; j < polynomials.size(); j++) {
-                var sPolynomial = PolynomialFunctions.sPolynomial(polynomials.get(i), polynomials.get(j));
-                var reductionResult = sPolynomial.reduce(polynomials);
+        return isGrobnerBasis(polynomials, null);
+    }
 
-                if (!reductionResult.isZero()) {
-                    return false;
+    /**
+     * Checks whether a given list of polynomials forms a Gröbner basis, reducing the S-polynomials
+     * in parallel on the given pool.
+     *
+     * <p>The remaining pairs are not started once an S-polynomial with a non-zero remainder is found.</p>
+     *
+     * @param polynomials the list of polynomials to check
+     * @param pool        the pool used for the reductions, {@code null} to reduce on the calling thread
+     * @param <T>         the numeric type of the polynomial coefficients
+     * @return {@code true} if the polynomials form a Gröbner basis;
+     * {@code false} otherwise
+     */
+    public static <T extends Numeric> boolean isGrobnerBasis(List<Polynomial<T>> polynomials, ForkJoinPool pool) {
+        return isGrobnerBasis(polynomials, pool, ComputationContext.unbounded());
+    }
+
+    /**
+     * Checks whether a given list of polynomials forms a Gröbner basis, reducing the S-polynomials
+     * in parallel on the given pool, within the limits of the given context.
+     *
+     * <p>The context is checked before each S-polynomial is reduced, or once before the reductions with a
+     * pool. The pairs discarded by the criteria and the reductions are recorded in the statistics of the
+     * context.</p>
+     *
+     * @param polynomials the list of polynomials to check
+     * @param pool        the pool used for the reductions, {@code null} to reduce on the calling thread
+     * @param context     the limits of the computation, collecting its statistics
+     * @param <T>         the numeric type of the polynomial coefficients
+     * @return {@code true} if the polynomials form a Gröbner basis;
+     * {@code false} otherwise
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static <T extends Numeric> boolean isGrobnerBasis(
+            List<Polynomial<T>> polynomials,
+            ForkJoinPool pool,
+            ComputationContext context
+    ) {
+        var nonZero = new ArrayList<Polynomial<T>>(polynomials.size());
+        for (var polynomial : polynomials) {
+            if (!polynomial.isZero()) {
+                nonZero.add(polynomial);
+            }
+        }
+
+        if (nonZero.size() <= 1) {
+            context.complete();
+            return true;
+        }
+
+        // The queue applies the Gebauer–Möller criteria, the pairs are checked with the smallest lcm first
+        context.startPhase(ComputationPhase.PAIR_UPDATE);
+        var criticalPairs = new CriticalPairQueue<T>(PairSelectionStrategy.NORMAL, nonZero.getFirst().ordering(), context);
+        for (var polynomial : nonZero) {
+            criticalPairs.add(polynomial);
+        }
+
+        context.endPhase(ComputationPhase.PAIR_UPDATE);
+
+        var pairs = new ArrayList<CriticalPairQueue.CriticalPair<T>>(criticalPairs.size());
+        while (!criticalPairs.isEmpty()) {
+            pairs.add(criticalPairs.poll());
+        }
+
+        var reducers = leadingTermIndex(nonZero);
+        // Counted from the threads of the pool, the check stops at the first pair not reducing to zero
+        var reductions = new LongAdder();
+        var reductionsToZero = new LongAdder();
+        Predicate<CriticalPairQueue.CriticalPair<T>> reducesToZero = pair -> {
+            reductions.increment();
+            var isZero = PolynomialFunctions
+                    .sPolynomial(criticalPairs.get(pair.first()), criticalPairs.get(pair.second()))
+                    .reduce(reducers)
+                    .isZero();
+            if (isZero) {
+                reductionsToZero.increment();
+            }
+
+            return isZero;
+        };
+
+        context.startPhase(ComputationPhase.REDUCTION);
+        var result = true;
+        if (pool == null) {
+            for (var pair : pairs) {
+                context.checkpoint();
+                if (!reducesToZero.test(pair)) {
+                    result = false;
+                    break;
                 }
             }
+        } else {
+            context.checkpoint();
+            result = pool.submit(() -> pairs.parallelStream().allMatch(reducesToZero)).join();
         }
 
-        return true;
+        context.endPhase(ComputationPhase.REDUCTION);
+        context.recordReductions(reductions.sum(), reductionsToZero.sum());
+        context.complete();
+        return result;
     }
-}
 
+    private static <T extends Numeric> DivisorIndex<T, Polynomial<T>> leadingTermIndex(List<Polynomial<T>> polynomials) {
+        var index = new DivisorIndex<T, Polynomial<T>>(polynomials.getFirst().fieldSize());
+        for (var polynomial : polynomials) {
+            index.add(polynomial.leadingTerm(), polynomial);
+        }
+
+        return index;
+    }
+}
@@ -3,6 +3,7 @@ package io.github.olajed.jgb.functions;
 import io.github.olajed.jgb.number.Numeric;
 import io.github.olajed.jgb.structures.DenseMonomial;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.PackedMonomial;
 import io.github.olajed.jgb.structures.SparseMonomial;
 
 /**
@@ -29,11 +30,33 @@ public final class MonomialFunctions {
     public static <T extends Numeric> Monomial<T> one(Monomial<T> model) {
         if (model instanceof SparseMonomial<T>) {
             return new SparseMonomial<>(new int[model.fieldSize()], (T) model.coefficient().one());
+        } else if (model instanceof PackedMonomial<T>) {
+            return new PackedMonomial<>(new int[model.fieldSize()], (T) model.coefficient().one());
         } else {
             return new DenseMonomial<>(new int[model.fieldSize()], (T) model.coefficient().one());
         }
     }
 
+    /**
+     * Creates the monomial of an indeterminate, with coefficient one and the same type and field size as the model.
+     *
+     * @param model the monomial whose type and field size to match
+     * @param index the index of the indeterminate
+     * @param <T>   the numeric type of the monomial coefficients
+     * @return the monomial {@code x_index}
+     */
+    public static <T extends Numeric> Monomial<T> variable(Monomial<T> model, int index) {
+        var exponents = new int[model.fieldSize()];
+        exponents[index] = 1;
+        if (model instanceof SparseMonomial<T>) {
+            return new SparseMonomial<>(exponents, (T) model.coefficient().one());
+        } else if (model instanceof PackedMonomial<T>) {
+            return new PackedMonomial<>(exponents, (T) model.coefficient().one());
+        } else {
+            return new DenseMonomial<>(exponents, (T) model.coefficient().one());
+        }
+    }
+
     /**
      * Computes the least common multiple (LCM) of two monomials.
      * <p>
@@ -46,6 +69,11 @@ public final class MonomialFunctions {
      * @return the LCM of the two monomials
      */
     public static <T extends Numeric> Monomial<T> lcm(Monomial<T> x, Monomial<T> y) {
+        // Both packed, the maximum is computed on whole words
+        if (x instanceof PackedMonomial<T> xAsPacked && y instanceof PackedMonomial<T> yAsPacked) {
+            return xAsPacked.lcm(yAsPacked);
+        }
+
         // Both sparse, we can optimize
         if (x instanceof SparseMonomial<T> xAsSparse && y instanceof SparseMonomial<T> yAsSparse) {
             var ptr1 = 0;
@@ -77,4 +105,27 @@ public final class MonomialFunctions {
 
         return new DenseMonomial<>(exponents, (T) x.coefficient().one());
     }
+
+    /**
+     * Creates a monomial with the same exponents and representation as the given one,
+     * and a coefficient of another numeric type.
+     *
+     * @param monomial    the monomial whose exponents and representation to keep
+     * @param coefficient the coefficient of the new monomial
+     * @param <T>         the numeric type of the coefficient of the given monomial
+     * @param <U>         the numeric type of the new coefficient
+     * @return a monomial with the exponents of {@code monomial} and the coefficient {@code coefficient}
+     */
+    public static <T extends Numeric, U extends Numeric> Monomial<U> convert(Monomial<T> monomial, U coefficient) {
+        var exponents = new int[monomial.fieldSize()];
+        for (var i = 0; i < exponents.length; i++) {
+            exponents[i] = monomial.getExponent(i);
+        }
+
+        return switch (monomial) {
+            case SparseMonomial<T> ignored -> new SparseMonomial<>(exponents, coefficient);
+            case PackedMonomial<T> ignored -> new PackedMonomial<>(exponents, coefficient);
+            case DenseMonomial<T> ignored -> new DenseMonomial<>(exponents, coefficient);
+        };
+    }
 }
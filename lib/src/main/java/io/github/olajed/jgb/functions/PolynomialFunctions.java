@@ -1,8 +1,14 @@
 package io.github.olajed.jgb.functions;
 
 import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.structures.DivisorIndex;
+import io.github.olajed.jgb.structures.Monomial;
 import io.github.olajed.jgb.structures.Polynomial;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 /**
  * Utility class providing common functions for polynomials.
  * <p>
@@ -11,6 +17,9 @@ import io.github.olajed.jgb.structures.Polynomial;
  * </p>
  */
 public final class PolynomialFunctions {
+    // Number of pseudo-reduction steps between two content removals
+    private static final int CONTENT_REMOVAL_PERIOD = 8;
+
     private PolynomialFunctions() {
     }
 
@@ -42,4 +51,157 @@ public final class PolynomialFunctions {
         var secondTerm = g.multiply(lcm.divide(g.leadingTerm()));
         return firstTerm.subtract(secondTerm);
     }
+
+    /**
+     * Computes the S-polynomial of two polynomials without dividing by their leading coefficients.
+     * <p>
+     * Defined as:
+     * S(f,g) = LC(g) * (lcm(LM(f),LM(g))/LM(f)) * f - LC(f) * (lcm(LM(f),LM(g))/LM(g)) * g
+     * <p>
+     * where LM is the leading monomial and LC the leading coefficient.
+     * It is a multiple of the S-polynomial, with integer coefficients when f and g have integer coefficients.
+     *
+     * @param f The first polynomial
+     * @param g The second polynomial
+     * @return The fraction-free S-polynomial of f and g
+     * @throws IllegalArgumentException if the polynomials use different monomial orderings
+     * @param <T> the numeric type of the monomial coefficients
+     */
+    public static <T extends Numeric> Polynomial<T> fractionFreeSPolynomial(Polynomial<T> f, Polynomial<T> g) {
+        if (f.fieldSize() != g.fieldSize()) {
+            throw new IllegalArgumentException("Both polynomials should be defined in the same ring.");
+        }
+
+        if (f.ordering().orderId() != g.ordering().orderId()) {
+            throw new IllegalArgumentException("Both polynomials should be defined using the same ordering.");
+        }
+
+        var lcm = MonomialFunctions.lcm(f.leadingMonomial(), g.leadingMonomial());
+        var firstTerm = f.multiply(lcm.divide(f.leadingMonomial()).withCoefficient(g.leadingCoefficient()));
+        var secondTerm = g.multiply(lcm.divide(g.leadingMonomial()).withCoefficient(f.leadingCoefficient()));
+        return firstTerm.subtract(secondTerm);
+    }
+
+    /**
+     * Computes the primitive part of a polynomial over the rationals.
+     * <p>
+     * The polynomial is divided by its content, the gcd of its coefficients, so that its coefficients
+     * become coprime integers. The sign is chosen to make the leading coefficient positive.
+     *
+     * @param polynomial The polynomial
+     * @return The primitive part, or the polynomial itself if it is zero
+     */
+    public static Polynomial<Rational> primitivePart(Polynomial<Rational> polynomial) {
+        if (polynomial.isZero()) {
+            return polynomial;
+        }
+
+        var content = Rational.ZERO;
+        for (var monomial : polynomial.monomials()) {
+            content = content.gcd(monomial.coefficient());
+        }
+
+        if (polynomial.leadingCoefficient().signum() < 0) {
+            content = content.negate();
+        }
+
+        return polynomial.divide(content);
+    }
+
+    /**
+     * Pseudo-reduces a polynomial over the rationals by a list of divisors, without introducing fractions.
+     * <p>
+     * Each step cancels a term c * m of the polynomial f using a divisor g with LM(g) dividing m, replacing f with
+     * LC(g) * f - c * (m / LM(g)) * g. The content is removed every few steps to keep the coefficients small.
+     * The result is the remainder of the division of f by the divisors, up to a non-zero constant factor.
+     *
+     * @param polynomial The polynomial to reduce
+     * @param divisors   The divisors
+     * @return The primitive part of the remainder
+     */
+    public static Polynomial<Rational> pseudoReduce(Polynomial<Rational> polynomial, List<Polynomial<Rational>> divisors) {
+        var reducers = new DivisorIndex<Rational, Polynomial<Rational>>(polynomial.fieldSize());
+        for (var divisor : divisors) {
+            if (!divisor.isZero()) {
+                reducers.add(divisor.leadingMonomial(), divisor);
+            }
+        }
+
+        return pseudoReduce(polynomial, reducers);
+    }
+
+    /**
+     * Pseudo-reduces a polynomial over the rationals by divisors indexed by their leading monomials, without
+     * introducing fractions. The index is only read, so it can be built once to reduce many polynomials.
+     *
+     * @param polynomial The polynomial to reduce
+     * @param reducers   The non-zero divisors, indexed by their leading monomials
+     * @return The primitive part of the remainder
+     * @see #pseudoReduce(Polynomial, List)
+     */
+    public static Polynomial<Rational> pseudoReduce(
+            Polynomial<Rational> polynomial,
+            DivisorIndex<Rational, Polynomial<Rational>> reducers
+    ) {
+        return pseudoReduce(polynomial, reducers, reducer -> true);
+    }
+
+    /**
+     * Pseudo-reduces a polynomial over the rationals by the indexed divisors accepted by the filter.
+     *
+     * @param polynomial The polynomial to reduce
+     * @param reducers   The non-zero divisors, indexed by their leading monomials
+     * @param filter     The divisors that may be used
+     * @return The primitive part of the remainder
+     */
+    static Polynomial<Rational> pseudoReduce(
+            Polynomial<Rational> polynomial,
+            DivisorIndex<Rational, Polynomial<Rational>> reducers,
+            Predicate<? super Polynomial<Rational>> filter
+    ) {
+        var ordering = polynomial.ordering();
+        var result = primitivePart(polynomial);
+        // The terms of the result greater than or equal to the last reduced monomial are irreducible
+        Monomial<Rational> lastReduced = null;
+        var steps = 0;
+        while (true) {
+            Monomial<Rational> term = null;
+            Polynomial<Rational> reducer = null;
+            var monomials = result.monomials();
+            for (var i = monomials.size() - 1; i >= 0 && reducer == null; i--) {
+                term = monomials.get(i);
+                if (lastReduced == null || ordering.compare(term, lastReduced) < 0) {
+                    reducer = reducers.find(term, filter);
+                }
+            }
+
+            if (reducer == null) {
+                return primitivePart(result);
+            }
+
+            var quotient = term.divide(reducer.leadingMonomial());
+            result = result.multiply(reducer.leadingCoefficient()).subtract(reducer.multiply(quotient));
+            lastReduced = term;
+            if (++steps % CONTENT_REMOVAL_PERIOD == 0) {
+                result = primitivePart(result);
+            }
+        }
+    }
+
+    /**
+     * Checks if the coefficients of the polynomials are rational numbers.
+     *
+     * @param polynomials The polynomials to check
+     * @return {@code true} if the first non-zero polynomial has rational coefficients, or if they are all zero
+     * @param <T> the numeric type of the monomial coefficients
+     */
+    public static <T extends Numeric> boolean hasRationalCoefficients(List<Polynomial<T>> polynomials) {
+        for (var polynomial : polynomials) {
+            if (!polynomial.isZero()) {
+                return polynomial.leadingCoefficient() instanceof Rational;
+            }
+        }
+
+        return true;
+    }
 }
@@ -1,15 +1,23 @@
 package io.github.olajed.jgb.functions.algorithms;
 
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.enums.ComputationPhase;
 import io.github.olajed.jgb.enums.PairSelectionStrategy;
-import io.github.olajed.jgb.functions.MonomialFunctions;
+import io.github.olajed.jgb.events.PairReductionEvent;
 import io.github.olajed.jgb.functions.PolynomialFunctions;
 import io.github.olajed.jgb.number.Numeric;
-import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.structures.CriticalPairQueue;
+import io.github.olajed.jgb.structures.DivisorIndex;
 import io.github.olajed.jgb.structures.Polynomial;
-import io.github.olajed.jgb.utils.Pair;
-import io.github.olajed.jgb.utils.Triple;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 
 /**
  * Implements Buchberger's algorithm for computing a Gröbner basis of a polynomial ideal.
@@ -20,6 +28,7 @@ import java.util.*;
  * <p>Reference: Buchberger, B. (1965). An Algorithm for Finding a Basis for the Residue Class Ring
  * of a Zero-Dimensional Polynomial Ideal. PhD thesis, University of Innsbruck.</p>
  */
+@SuppressWarnings("unchecked")
 public final class BuchbergerAlgorithm {
     private BuchbergerAlgorithm() {
     }
@@ -34,14 +43,15 @@ public final class BuchbergerAlgorithm {
     public static <T extends Numeric> List<Polynomial<T>> compute(
             List<Polynomial<T>> polynomials
     ) {
-        return computeNormalSelectionStrategy(polynomials);
+        return compute(polynomials, PairSelectionStrategy.NORMAL);
     }
 
     /**
      * Computes a Gröbner basis from a list of polynomials using the specified pair selection strategy.
      *
-     * <p>This method delegates to a specific strategy implementation based on the given
-     * {@link PairSelectionStrategy}, such as FIRST, DEGREE, NORMAL, or SUGAR.</p>
+     * <p>The critical pairs are kept in a {@link CriticalPairQueue}, which discards the pairs detected as useless
+     * by Buchberger's criteria and polls the others in the order given by the strategy,
+     * such as FIRST, DEGREE, NORMAL, or SUGAR.</p>
      *
      * @param <T>               the numeric type used for coefficients
      * @param polynomials       the initial list of polynomials
@@ -52,146 +62,297 @@ public final class BuchbergerAlgorithm {
             List<Polynomial<T>> polynomials,
             PairSelectionStrategy selectionStrategy
     ) {
-        if (selectionStrategy == PairSelectionStrategy.FIRST) {
-            return computeFirstSelectionStrategy(polynomials);
-        } else if (selectionStrategy == PairSelectionStrategy.DEGREE) {
-            return computeDegreeSelectionStrategy(polynomials);
-        } else if (selectionStrategy == PairSelectionStrategy.NORMAL) {
-            return computeNormalSelectionStrategy(polynomials);
-        } else {
-            return computeSugarSelectionStrategy(polynomials);
-        }
+        return compute(polynomials, selectionStrategy, null);
     }
 
-    private static <T extends Numeric> List<Polynomial<T>> computeFirstSelectionStrategy(List<Polynomial<T>> polynomials) {
-        var basis = new ArrayList<>(polynomials);
-        var criticalPairs = new ArrayDeque<>(Pair.generatePairs(polynomials));
+    /**
+     * Computes a Gröbner basis from a list of polynomials using the specified pair selection strategy,
+     * reducing the S-polynomials on the given pool.
+     *
+     * <p>The pairs are polled in batches of pairs with the same sugar, or the same degree with the
+     * {@link PairSelectionStrategy#DEGREE} strategy. The S-polynomials of a batch are reduced in parallel against
+     * the basis as it was before the batch, whose index is only read by the workers. The remainders are then reduced
+     * against the basis and each other, until none of their terms is divisible by the leading term of a polynomial
+     * of the basis or of another remainder, and added in the order of the selection strategy. The resulting basis
+     * is the same whatever the parallelism of the pool.</p>
+     *
+     * <p>The batches are only as large as the runs of consecutive pairs with the same sugar. Under a graded
+     * ordering, or with the {@link PairSelectionStrategy#SUGAR} strategy, these are all the pairs of a degree.
+     * Under lex with the {@link PairSelectionStrategy#NORMAL} strategy, the pairs are sorted by their lcm for lex
+     * and consecutive pairs often have different sugars, so the batches stay small and the SUGAR strategy
+     * parallelizes better.</p>
+     *
+     * @param <T>               the numeric type used for coefficients
+     * @param polynomials       the initial list of polynomials
+     * @param selectionStrategy the strategy used for selecting critical pairs
+     * @param pool              the pool used for the reductions, {@code null} to reduce on the calling thread
+     * @return the computed Gröbner basis as a list of polynomials
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> polynomials,
+            PairSelectionStrategy selectionStrategy,
+            ForkJoinPool pool
+    ) {
+        return compute(polynomials, selectionStrategy, pool, ArithmeticMode.FIELD);
+    }
 
-        while (!criticalPairs.isEmpty()) {
-            var selectedPair = criticalPairs.removeFirst();
-            var sPolynomial = PolynomialFunctions.sPolynomial(selectedPair.first(), selectedPair.second());
-            var reduction = sPolynomial.reduce(basis);
+    /**
+     * Computes a Gröbner basis from a list of polynomials using the specified pair selection strategy
+     * and coefficient arithmetic, reducing the S-polynomials on the given pool.
+     *
+     * <p>In {@link ArithmeticMode#FRACTION_FREE} mode, the polynomials are kept with coprime integer coefficients:
+     * the S-polynomials are computed without dividing by the leading coefficients and reduced by pseudo-reduction.
+     * The polynomials of the resulting basis are made monic.</p>
+     *
+     * @param <T>               the numeric type used for coefficients
+     * @param polynomials       the initial list of polynomials
+     * @param selectionStrategy the strategy used for selecting critical pairs
+     * @param pool              the pool used for the reductions, {@code null} to reduce on the calling thread
+     * @param arithmeticMode    the arithmetic used on the coefficients
+     * @return the computed Gröbner basis as a list of polynomials
+     * @throws IllegalArgumentException if the fraction-free mode is used on non-rational coefficients
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> polynomials,
+            PairSelectionStrategy selectionStrategy,
+            ForkJoinPool pool,
+            ArithmeticMode arithmeticMode
+    ) {
+        return compute(polynomials, selectionStrategy, pool, arithmeticMode, ComputationContext.unbounded());
+    }
 
-            if (!reduction.monomials().isEmpty()) {
-                criticalPairs.addAll(Pair.cartesianProduct(basis, reduction));
-                basis.add(reduction);
-            }
+    /**
+     * Computes a Gröbner basis from a list of polynomials using the specified pair selection strategy
+     * and coefficient arithmetic, reducing the S-polynomials on the given pool, within the limits of the given
+     * context.
+     *
+     * <p>The context is checked before each pair is reduced, or each batch with a pool, and after each polynomial
+     * is added to the basis. With a pool, the allocations of the reduction phase only cover the calling thread,
+     * not the reductions done by the workers.</p>
+     *
+     * @param <T>               the numeric type used for coefficients
+     * @param polynomials       the initial list of polynomials
+     * @param selectionStrategy the strategy used for selecting critical pairs
+     * @param pool              the pool used for the reductions, {@code null} to reduce on the calling thread
+     * @param arithmeticMode    the arithmetic used on the coefficients
+     * @param context           the limits of the computation, collecting its statistics
+     * @return the computed Gröbner basis as a list of polynomials
+     * @throws IllegalArgumentException          if the fraction-free mode is used on non-rational coefficients
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> polynomials,
+            PairSelectionStrategy selectionStrategy,
+            ForkJoinPool pool,
+            ArithmeticMode arithmeticMode,
+            ComputationContext context
+    ) {
+        if (arithmeticMode == ArithmeticMode.FIELD) {
+            var basis = computeWithin(polynomials, selectionStrategy, pool, context);
+            context.complete();
+            return basis;
         }
 
-        return basis;
-    }
-
-    private static <T extends Numeric> List<Polynomial<T>> computeDegreeSelectionStrategy(List<Polynomial<T>> polynomials) {
-        var basis = new ArrayList<>(polynomials);
-        var pq = new PriorityQueue<>(
-                Comparator.comparingInt((Triple<Polynomial<T>, Polynomial<T>, Integer> x) -> x.third())
-        );
+        if (!PolynomialFunctions.hasRationalCoefficients(polynomials)) {
+            throw new IllegalArgumentException("Expected polynomials with Rational coefficients.");
+        }
 
-        for (var i = 0; i < basis.size(); i++) {
-            for (var j = i + 1; j < basis.size(); j++) {
-                var p1 = basis.get(i);
-                var p2 = basis.get(j);
-                pq.add(new Triple<>(p1, p2, MonomialFunctions.lcm(p1.leadingMonomial(), p2.leadingMonomial()).degree()));
-            }
+        var primitivePolynomials = new ArrayList<Polynomial<Rational>>(polynomials.size());
+        for (var polynomial : (List<Polynomial<Rational>>) (List<?>) polynomials) {
+            primitivePolynomials.add(polynomial.isZero() ? polynomial : PolynomialFunctions.primitivePart(polynomial));
         }
 
-        while (!pq.isEmpty()) {
-            var min = pq.poll();
-            var selectedPair = new Pair<>(min.first(), min.second());
-            var sPolynomial = PolynomialFunctions.sPolynomial(selectedPair.first(), selectedPair.second());
-            var reduction = sPolynomial.reduce(basis);
+        var arithmetic = new Arithmetic<Rational>(
+                PolynomialFunctions::fractionFreeSPolynomial,
+                PolynomialFunctions::pseudoReduce
+        );
+        var basis = computeBasis(primitivePolynomials, selectionStrategy, pool, arithmetic, context);
+        var result = new ArrayList<Polynomial<T>>(basis.size());
+        for (var polynomial : basis) {
+            result.add((Polynomial<T>) (Polynomial<?>) polynomial.divide(polynomial.leadingCoefficient()));
+        }
 
-            if (!reduction.monomials().isEmpty()) {
-                basis.add(reduction);
+        context.complete();
+        return result;
+    }
 
-                var lastIndex = basis.size() - 1;
-                for (int i = 0; i < lastIndex; i++) {
-                    var existingPoly = basis.get(i);
-                    var degree = MonomialFunctions.lcm(existingPoly.leadingMonomial(), reduction.leadingMonomial()).degree();
-                    pq.add(new Triple<>(existingPoly, reduction, degree));
-                }
-            }
-        }
+    // The basis in the field mode, for the algorithms running Buchberger's algorithm as a step of their own
+    // computation, which report its completion themselves
+    static <T extends Numeric> List<Polynomial<T>> computeWithin(
+            List<Polynomial<T>> polynomials,
+            PairSelectionStrategy selectionStrategy,
+            ForkJoinPool pool,
+            ComputationContext context
+    ) {
+        var arithmetic = new Arithmetic<T>(PolynomialFunctions::sPolynomial, Polynomial::reduce);
+        return computeBasis(polynomials, selectionStrategy, pool, arithmetic, context);
+    }
 
-        return basis;
+    // The S-polynomial and the reduction of an arithmetic mode
+    private record Arithmetic<T extends Numeric>(
+            BinaryOperator<Polynomial<T>> sPolynomial,
+            BiFunction<Polynomial<T>, DivisorIndex<T, Polynomial<T>>, Polynomial<T>> reduce
+    ) {
     }
 
-    private static <T extends Numeric> List<Polynomial<T>> computeNormalSelectionStrategy(List<Polynomial<T>> polynomials) {
-        var ordering = polynomials.getFirst().ordering();
-        var basis = new ArrayList<>(polynomials);
-        var pq = new PriorityQueue<>(
-                (Comparator<Triple<Polynomial<T>, Polynomial<T>, Monomial<T>>>) (x, y) -> ordering.compare(x.third(), y.third())
-        );
+    private static <T extends Numeric> List<Polynomial<T>> computeBasis(
+            List<Polynomial<T>> polynomials,
+            PairSelectionStrategy selectionStrategy,
+            ForkJoinPool pool,
+            Arithmetic<T> arithmetic,
+            ComputationContext context
+    ) {
+        if (polynomials.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        for (var i = 0; i < basis.size(); i++) {
-            for (var j = i + 1; j < basis.size(); j++) {
-                var p1 = basis.get(i);
-                var p2 = basis.get(j);
-                pq.add(new Triple<>(p1, p2, MonomialFunctions.lcm(p1.leadingMonomial(), p2.leadingMonomial())));
+        var criticalPairs = new CriticalPairQueue<T>(selectionStrategy, polynomials.getFirst().ordering(), context);
+        context.startPhase(ComputationPhase.PAIR_UPDATE);
+        for (var polynomial : polynomials) {
+            if (!polynomial.isZero()) {
+                criticalPairs.add(polynomial);
             }
         }
 
-        while (!pq.isEmpty()) {
-            var min = pq.poll();
-            var selectedPair = new Pair<>(min.first(), min.second());
-            var sPolynomial = PolynomialFunctions.sPolynomial(selectedPair.first(), selectedPair.second());
-            var reduction = sPolynomial.reduce(basis);
+        context.endPhase(ComputationPhase.PAIR_UPDATE);
+        context.checkBasis(criticalPairs.basis());
+        // The basis indexed by leading term, updated as polynomials are added
+        var reducers = leadingTermIndex(criticalPairs.basis(), polynomials.getFirst().fieldSize());
+        if (pool == null) {
+            while (!criticalPairs.isEmpty()) {
+                context.checkpoint();
+                context.startPhase(ComputationPhase.REDUCTION);
+                var selectedPair = criticalPairs.poll();
+                var event = new PairReductionEvent();
+                event.begin();
+                var sPolynomial = arithmetic.sPolynomial().apply(
+                        criticalPairs.get(selectedPair.first()),
+                        criticalPairs.get(selectedPair.second())
+                );
+                var reduction = arithmetic.reduce().apply(sPolynomial, reducers);
+                event.commit(
+                        selectedPair.first(),
+                        selectedPair.second(),
+                        selectedPair.sugar(),
+                        criticalPairs.basis().size(),
+                        reduction.length()
+                );
+                context.endPhase(ComputationPhase.REDUCTION);
+                context.recordReductions(1, reduction.isZero() ? 1 : 0);
 
-            if (!reduction.monomials().isEmpty()) {
-                basis.add(reduction);
-
-                var lastIndex = basis.size() - 1;
-                for (int i = 0; i < lastIndex; i++) {
-                    var existingPoly = basis.get(i);
-                    var lcm = MonomialFunctions.lcm(existingPoly.leadingMonomial(), reduction.leadingMonomial());
-                    pq.add(new Triple<>(existingPoly, reduction, lcm));
+                if (!reduction.isZero()) {
+                    reducers.add(reduction.leadingTerm(), reduction);
+                    addToBasis(criticalPairs, reduction, Math.max(selectedPair.sugar(), reduction.degree()), context);
                 }
             }
+
+            return new ArrayList<>(criticalPairs.basis());
         }
 
-        return basis;
-    }
+        while (!criticalPairs.isEmpty()) {
+            context.checkpoint();
+            context.startPhase(ComputationPhase.REDUCTION);
+            var batch = criticalPairs.pollBatch();
+            var basis = List.copyOf(criticalPairs.basis());
+            // The index is only read by the workers, the polynomials of the batch are added once it is reduced
+            var reductions = pool.submit(() -> batch.parallelStream()
+                    .map(pair -> {
+                        var event = new PairReductionEvent();
+                        event.begin();
+                        var sPolynomial = arithmetic.sPolynomial().apply(
+                                basis.get(pair.first()),
+                                basis.get(pair.second())
+                        );
+                        var reduction = arithmetic.reduce().apply(sPolynomial, reducers);
+                        event.commit(pair.first(), pair.second(), pair.sugar(), basis.size(), reduction.length());
+                        return reduction;
+                    })
+                    .toList()
+            ).join();
+            context.endPhase(ComputationPhase.REDUCTION);
 
-    private static <T extends Numeric> List<Polynomial<T>> computeSugarSelectionStrategy(List<Polynomial<T>> polynomials) {
-        var basis = new ArrayList<>(polynomials);
-        var pq = new PriorityQueue<>(
-                Comparator.comparingInt((Triple<Polynomial<T>, Polynomial<T>, Integer> x) -> x.third())
-        );
+            var remainders = new ArrayList<Polynomial<T>>(batch.size());
+            var sugars = new ArrayList<Integer>(batch.size());
+            for (var i = 0; i < batch.size(); i++) {
+                var reduction = reductions.get(i);
+                if (!reduction.isZero()) {
+                    remainders.add(reduction);
+                    sugars.add(Math.max(batch.get(i).sugar(), reduction.degree()));
+                }
+            }
 
-        for (var i = 0; i < basis.size(); i++) {
-            for (var j = i + 1; j < basis.size(); j++) {
-                var p1 = basis.get(i);
-                var p2 = basis.get(j);
-                var s1 = p1.degree();
-                var s2 = p2.degree();
-                var firstPart = Math.max(s1 - p1.leadingMonomial().degree(), s2 - p2.leadingMonomial().degree());
-                var secondPart = MonomialFunctions.lcm(p1.leadingMonomial(), p2.leadingMonomial()).degree();
-                pq.add(new Triple<>(p1, p2, firstPart + secondPart));
+            context.startPhase(ComputationPhase.INTER_REDUCTION);
+            interReduce(remainders, sugars, reducers, arithmetic);
+            context.endPhase(ComputationPhase.INTER_REDUCTION);
+            context.recordReductions(batch.size(), batch.size() - remainders.size());
+            for (var i = 0; i < remainders.size(); i++) {
+                addToBasis(criticalPairs, remainders.get(i), sugars.get(i), context);
             }
         }
 
-        while (!pq.isEmpty()) {
-            var min = pq.poll();
-            var selectedPair = new Pair<>(min.first(), min.second());
-            var sPolynomial = PolynomialFunctions.sPolynomial(selectedPair.first(), selectedPair.second());
-            var reduction = sPolynomial.reduce(basis);
-
-            if (!reduction.monomials().isEmpty()) {
-                basis.add(reduction);
-
-                var lastIndex = basis.size() - 1;
-                for (int i = 0; i < lastIndex; i++) {
-                    var existingPoly = basis.get(i);
-                    var lcm = MonomialFunctions.lcm(existingPoly.leadingMonomial(), reduction.leadingMonomial());
-                    var s1 = existingPoly.degree();
-                    var s2 = reduction.degree();
-                    var firstPart = Math.max(s1 - existingPoly.leadingMonomial().degree(), s2 - reduction.leadingMonomial().degree());
-                    var secondPart = lcm.degree();
-                    pq.add(new Triple<>(existingPoly, reduction, firstPart + secondPart));
+        return new ArrayList<>(criticalPairs.basis());
+    }
+
+    // Reduces the remainders of a batch against the basis and each other, removing the ones reduced to zero, and
+    // adds the others to the index of the basis. Reducing by another remainder can bring back terms divisible by
+    // the basis, so a remainder is taken out of the index while it is reduced against everything else in it.
+    private static <T extends Numeric> void interReduce(
+            List<Polynomial<T>> remainders,
+            List<Integer> sugars,
+            DivisorIndex<T, Polynomial<T>> reducers,
+            Arithmetic<T> arithmetic
+    ) {
+        for (var remainder : remainders) {
+            reducers.add(remainder.leadingTerm(), remainder);
+        }
+
+        var changed = true;
+        while (changed) {
+            changed = false;
+            for (var i = 0; i < remainders.size(); i++) {
+                var remainder = remainders.get(i);
+                reducers.remove(remainder.leadingTerm(), remainder);
+                if (remainder.monomials().stream().noneMatch(reducers::hasDivisor)) {
+                    reducers.add(remainder.leadingTerm(), remainder);
+                    continue;
+                }
+
+                changed = true;
+                var reduced = arithmetic.reduce().apply(remainder, reducers);
+                if (reduced.isZero()) {
+                    remainders.remove(i);
+                    sugars.remove(i);
+                    i--;
+                } else {
+                    reducers.add(reduced.leadingTerm(), reduced);
+                    remainders.set(i, reduced);
+                    sugars.set(i, Math.max(sugars.get(i), reduced.degree()));
                 }
             }
         }
+    }
+
+    private static <T extends Numeric> DivisorIndex<T, Polynomial<T>> leadingTermIndex(
+            List<Polynomial<T>> polynomials,
+            int fieldSize
+    ) {
+        var index = new DivisorIndex<T, Polynomial<T>>(fieldSize);
+        for (var polynomial : polynomials) {
+            index.add(polynomial.leadingTerm(), polynomial);
+        }
 
-        return basis;
+        return index;
+    }
+
+    private static <T extends Numeric> void addToBasis(
+            CriticalPairQueue<T> criticalPairs,
+            Polynomial<T> polynomial,
+            int sugar,
+            ComputationContext context
+    ) {
+        context.startPhase(ComputationPhase.PAIR_UPDATE);
+        criticalPairs.add(polynomial, sugar);
+        context.endPhase(ComputationPhase.PAIR_UPDATE);
+        context.checkBasis(criticalPairs.basis());
     }
 }
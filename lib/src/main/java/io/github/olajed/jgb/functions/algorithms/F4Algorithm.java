@@ -1,15 +1,28 @@
 package io.github.olajed.jgb.functions.algorithms;
 
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.computation.MatrixStatistics;
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.events.MacaulayMatrixEvent;
+import io.github.olajed.jgb.events.SymbolicPreprocessingEvent;
 import io.github.olajed.jgb.functions.MonomialFunctions;
+import io.github.olajed.jgb.functions.PolynomialFunctions;
 import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.Rational;
 import io.github.olajed.jgb.structures.MacaulayMatrix;
-import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.MonomialTable;
 import io.github.olajed.jgb.structures.Polynomial;
+import io.github.olajed.jgb.structures.SparseMacaulayMatrix;
+import io.github.olajed.jgb.structures.SymbolicPreprocessing;
 import io.github.olajed.jgb.utils.Pair;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Implements the F4 algorithm for computing Gröbner bases.
@@ -23,6 +36,9 @@ import java.util.List;
  */
 @SuppressWarnings("unchecked")
 public final class F4Algorithm {
+    // Name of the algorithm in the flight recorder events
+    private static final String ALGORITHM = "F4";
+
     private F4Algorithm() {
     }
 
@@ -38,21 +54,123 @@ public final class F4Algorithm {
      * @return a list of polynomials representing the Gröbner basis
      */
     public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> polynomials) {
-        var basis = new ArrayList<>(polynomials);
-        var criticalPairs = Pair.generatePairs(polynomials);
+        return compute(polynomials, null);
+    }
+
+    /**
+     * Computes the Gröbner basis of the given set of polynomials using the F4 algorithm,
+     * reducing the Macaulay matrices on the given pool.
+     *
+     * <p>The rows of each matrix are reduced in parallel, the resulting basis is the same
+     * whatever the parallelism of the pool.</p>
+     *
+     * @param polynomials the list of input polynomials for which to compute the Gröbner basis
+     * @param pool        the pool used for the matrix reductions, {@code null} to reduce on the calling thread
+     * @param <T>         the numeric type of polynomial coefficients
+     * @return a list of polynomials representing the Gröbner basis
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> polynomials, ForkJoinPool pool) {
+        return compute(polynomials, pool, ArithmeticMode.FIELD);
+    }
+
+    /**
+     * Computes the Gröbner basis of the given set of polynomials using the F4 algorithm,
+     * with the given coefficient arithmetic.
+     *
+     * <p>In {@link ArithmeticMode#FRACTION_FREE} mode, the polynomials are kept with coprime integer coefficients
+     * and the Macaulay matrices are reduced without divisions.
+     * The polynomials of the resulting basis are made monic.</p>
+     *
+     * @param polynomials    the list of input polynomials for which to compute the Gröbner basis
+     * @param pool           the pool used for the matrix reductions, {@code null} to reduce on the calling thread
+     * @param arithmeticMode the arithmetic used on the coefficients
+     * @param <T>            the numeric type of polynomial coefficients
+     * @return a list of polynomials representing the Gröbner basis
+     * @throws IllegalArgumentException if the fraction-free mode is used on non-rational coefficients
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> polynomials,
+            ForkJoinPool pool,
+            ArithmeticMode arithmeticMode
+    ) {
+        return compute(polynomials, pool, arithmeticMode, ComputationContext.unbounded());
+    }
+
+    /**
+     * Computes the Gröbner basis of the given set of polynomials using the F4 algorithm,
+     * within the limits of the given context.
+     *
+     * <p>The context is checked before each step, with the dimensions of the Macaulay matrix once the symbolic
+     * preprocessing is done and before the matrix is built, and with the basis after each step. With a pool, the
+     * allocations of the elimination phase only cover the calling thread, not the rows reduced by the workers.</p>
+     *
+     * @param polynomials    the list of input polynomials for which to compute the Gröbner basis
+     * @param pool           the pool used for the matrix reductions, {@code null} to reduce on the calling thread
+     * @param arithmeticMode the arithmetic used on the coefficients
+     * @param context        the limits of the computation, collecting its statistics
+     * @param <T>            the numeric type of polynomial coefficients
+     * @return a list of polynomials representing the Gröbner basis
+     * @throws IllegalArgumentException          if the fraction-free mode is used on non-rational coefficients
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> polynomials,
+            ForkJoinPool pool,
+            ArithmeticMode arithmeticMode,
+            ComputationContext context
+    ) {
+        var fractionFree = arithmeticMode == ArithmeticMode.FRACTION_FREE;
+        if (fractionFree && !PolynomialFunctions.hasRationalCoefficients(polynomials)) {
+            throw new IllegalArgumentException("Expected polynomials with Rational coefficients.");
+        }
+
+        var basis = new ArrayList<Polynomial<T>>(polynomials.size());
+        for (var polynomial : polynomials) {
+            basis.add(fractionFree ? primitivePart(polynomial) : polynomial);
+        }
+
+        if (basis.isEmpty()) {
+            return basis;
+        }
+
+        // Shared by all the steps, a monomial is hashed once for the whole computation
+        var monomialTable = new MonomialTable<>(basis.getFirst().fieldSize(), basis.getFirst().ordering());
+        context.startPhase(ComputationPhase.PAIR_UPDATE);
+        var criticalPairs = Pair.generatePairs(basis);
+        context.recordPairsCreated(criticalPairs.size());
+        context.endPhase(ComputationPhase.PAIR_UPDATE);
+        context.checkBasis(basis);
         while (!criticalPairs.isEmpty()) {
+            context.checkpoint();
+            context.startPhase(ComputationPhase.SELECTION);
             var selectedPairs = selection(criticalPairs);
             criticalPairs.removeAll(selectedPairs);
-            var newBasis = reduction(selectedPairs, basis);
+            context.endPhase(ComputationPhase.SELECTION);
+            var newBasis = reduction(selectedPairs, basis, pool, arithmeticMode, monomialTable, context);
+            context.startPhase(ComputationPhase.PAIR_UPDATE);
             for (var polynomial : newBasis) {
-                criticalPairs.addAll(Pair.cartesianProduct(basis, polynomial));
+                var newPairs = Pair.cartesianProduct(basis, polynomial);
+                context.recordPairsCreated(newPairs.size());
+                criticalPairs.addAll(newPairs);
                 basis.add(polynomial);
             }
+
+            context.endPhase(ComputationPhase.PAIR_UPDATE);
+            context.checkBasis(basis);
         }
 
+        if (fractionFree) {
+            basis.replaceAll(polynomial -> polynomial.divide(polynomial.leadingCoefficient()));
+        }
+
+        context.complete();
         return basis;
     }
 
+    private static <T extends Numeric> Polynomial<T> primitivePart(Polynomial<T> polynomial) {
+        return (Polynomial<T>) (Polynomial<?>) PolynomialFunctions.primitivePart((Polynomial<Rational>) polynomial);
+    }
+
     private static <T extends Numeric> List<Pair<Polynomial<T>, Polynomial<T>>> selection(
             List<Pair<Polynomial<T>, Polynomial<T>>> pairs
     ) {
@@ -61,7 +179,7 @@ public final class F4Algorithm {
         var minDegree = Integer.MAX_VALUE;
         for (var i = 0; i < size; i++) {
             var pair = pairs.get(i);
-            var degree = MonomialFunctions.lcm(pair.first().leadingMonomial(), pair.second().leadingMonomial()).degree();
+            var degree = pair.first().leadingMonomial().lcmDegree(pair.second().leadingMonomial());
             minDegree = Math.min(minDegree, degree);
             lcmDegrees[i] = degree;
         }
@@ -78,84 +196,91 @@ public final class F4Algorithm {
 
     private static <T extends Numeric> List<Polynomial<T>> reduction(
             List<Pair<Polynomial<T>, Polynomial<T>>> pairs,
-            List<Polynomial<T>> currentBasis
+            List<Polynomial<T>> currentBasis,
+            ForkJoinPool pool,
+            ArithmeticMode arithmeticMode,
+            MonomialTable<T> monomialTable,
+            ComputationContext context
     ) {
-        var preprocessed = symbolicPreprocessing(pairs, currentBasis);
-        var leadingMonomials = new HashSet<Monomial<T>>(preprocessed.size());
-        for (var polynomial : preprocessed) {
-            leadingMonomials.add(polynomial.leadingMonomial());
+        var firstPair = pairs.getFirst();
+        var degree = firstPair.first().leadingMonomial().lcmDegree(firstPair.second().leadingMonomial());
+        var preprocessingEvent = new SymbolicPreprocessingEvent();
+        preprocessingEvent.begin();
+        var preprocessingStart = context.startPhase(ComputationPhase.SYMBOLIC_PREPROCESSING);
+        var preprocessing = SymbolicPreprocessing.compute(
+                sPolynomialsHalves(pairs, arithmeticMode),
+                currentBasis,
+                monomialTable
+        );
+        var preprocessingEnd = context.endPhase(ComputationPhase.SYMBOLIC_PREPROCESSING);
+        var rows = preprocessing.rows().size();
+        var entries = preprocessing.entries();
+        var columns = preprocessing.columns().length;
+        preprocessingEvent.commit(ALGORITHM, degree, pairs.size(), rows, columns);
+        context.checkMatrix(rows, columns, entries);
+        var matrixEvent = new MacaulayMatrixEvent();
+        matrixEvent.begin();
+        var eliminationStart = context.startPhase(ComputationPhase.ELIMINATION);
+        // The last id of a row is its leading monomial
+        var leadingMonomials = new BitSet(monomialTable.size());
+        for (var i = 0; i < rows; i++) {
+            var ids = preprocessing.monomials(i);
+            leadingMonomials.set(ids[ids.length - 1]);
+        }
+
+        List<Polynomial<T>> reducedPolynomials;
+        var sparse = SparseMacaulayMatrix.isSupported(preprocessing);
+        if (sparse) {
+            // Prime field, only the rows with new leading monomials need to be computed
+            reducedPolynomials = new SparseMacaulayMatrix<>(preprocessing, monomialTable).newPolynomials(pool);
+        } else {
+            var macaulayMatrix = new MacaulayMatrix<>(preprocessing, arithmeticMode, monomialTable);
+            macaulayMatrix.rowEchelonReduction(pool);
+            reducedPolynomials = macaulayMatrix.polynomials();
         }
 
-        var macaulayMatrix = new MacaulayMatrix<>(preprocessed);
-        macaulayMatrix.rowEchelonReduction();
-        var reducedPolynomials = macaulayMatrix.polynomials();
         var polynomials = new ArrayList<Polynomial<T>>(reducedPolynomials.size());
         for (var reducedPolynomial : reducedPolynomials) {
-            if (!leadingMonomials.contains(reducedPolynomial.leadingMonomial())) {
+            if (!leadingMonomials.get(monomialTable.intern(reducedPolynomial.leadingMonomial()))) {
                 polynomials.add(reducedPolynomial);
             }
         }
 
+        var eliminationEnd = context.endPhase(ComputationPhase.ELIMINATION);
+        // The sparse matrix only computes the new rows, the known leading monomials being the other pivots
+        var pivots = sparse ? leadingMonomials.cardinality() + polynomials.size() : reducedPolynomials.size();
+        matrixEvent.commit(ALGORITHM, degree, rows, columns, entries, pivots, polynomials.size());
+        context.recordReductions(pairs.size(), rows - pivots);
+        context.recordMatrix(new MatrixStatistics(
+                degree,
+                pairs.size(),
+                rows,
+                columns,
+                entries,
+                pivots,
+                polynomials.size(),
+                Duration.ofNanos(preprocessingEnd - preprocessingStart),
+                Duration.ofNanos(eliminationEnd - eliminationStart)
+        ));
         return polynomials;
     }
 
-    private static <T extends Numeric> List<Polynomial<T>> symbolicPreprocessing(
+    private static <T extends Numeric> List<SymbolicPreprocessing.Row<T>> sPolynomialsHalves(
             List<Pair<Polynomial<T>, Polynomial<T>>> pairs,
-            List<Polynomial<T>> currentBasis
-    ) {
-        var one = (T) currentBasis.getFirst().leadingCoefficient().one();
-        var list = sPolynomialsHalves(pairs);
-        var done = new HashSet<Monomial<T>>();
-        var allMonomials = new HashSet<Monomial<T>>();
-        for (var polynomial : list) {
-            done.add(polynomial.leadingMonomial());
-
-            for (var monomial : polynomial.monomials()) {
-                allMonomials.add(monomial.withCoefficient(one));
-            }
-        }
-
-        var ordering = currentBasis.getFirst().ordering();
-        while (!done.equals(allMonomials)) {
-            Monomial<T> largestMonomial = null;
-            for (var monomial : allMonomials) {
-                if (!done.contains(monomial)) {
-                    if (largestMonomial == null || ordering.compare(monomial, largestMonomial) > 0) {
-                        largestMonomial = monomial;
-                    }
-                }
-            }
-
-            assert largestMonomial != null;
-            done.add(largestMonomial);
-            for (var polynomial : currentBasis) {
-                var divisionResult = largestMonomial.divide(polynomial.leadingMonomial());
-                if (!divisionResult.isZero()) {
-                    var polynomialToAdd = polynomial.multiply(divisionResult);
-                    list.add(polynomialToAdd);
-
-                    for (var monomial : polynomialToAdd.monomials()) {
-                        allMonomials.add(monomial.withCoefficient(one));
-                    }
-
-                    break;
-                }
-            }
-        }
-
-        return list;
-    }
-
-    private static <T extends Numeric> List<Polynomial<T>> sPolynomialsHalves(
-            List<Pair<Polynomial<T>, Polynomial<T>>> pairs
+            ArithmeticMode arithmeticMode
     ) {
-        var result = new ArrayList<Polynomial<T>>(pairs.size() * 2);
+        var result = new ArrayList<SymbolicPreprocessing.Row<T>>(pairs.size() * 2);
         for (var pair : pairs) {
             var lcm = MonomialFunctions.lcm(pair.first().leadingMonomial(), pair.second().leadingMonomial());
-            var leftQuotient = lcm.divide(pair.first().leadingTerm());
-            var rightQuotient = lcm.divide(pair.second().leadingTerm());
-            result.add(pair.first().multiply(leftQuotient));
-            result.add(pair.second().multiply(rightQuotient));
+            // Without divisions, the leading coefficients are cancelled by the matrix reduction
+            var leftQuotient = arithmeticMode == ArithmeticMode.FRACTION_FREE
+                    ? lcm.divide(pair.first().leadingMonomial())
+                    : lcm.divide(pair.first().leadingTerm());
+            var rightQuotient = arithmeticMode == ArithmeticMode.FRACTION_FREE
+                    ? lcm.divide(pair.second().leadingMonomial())
+                    : lcm.divide(pair.second().leadingTerm());
+            result.add(new SymbolicPreprocessing.Row<>(leftQuotient, pair.first()));
+            result.add(new SymbolicPreprocessing.Row<>(rightQuotient, pair.second()));
         }
 
         return result;
@@ -0,0 +1,311 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.enums.PairCriterion;
+import io.github.olajed.jgb.functions.MonomialFunctions;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+import io.github.olajed.jgb.structures.DivisorIndex;
+import io.github.olajed.jgb.structures.Geobucket;
+import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.Polynomial;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Implements the signature-based F5 algorithm for computing Gröbner bases.
+ *
+ * <p>Each polynomial of the basis carries a signature (i, m): it is a combination of the input polynomials
+ * whose part in the i-th generator has leading monomial m, the other parts only involving earlier generators.
+ * The generators are added one at a time, and the critical pairs of each generator are processed by increasing
+ * signature. Only the reductions that do not increase the signature are allowed, which lets the algorithm
+ * discard most of the pairs reducing to zero before reducing them:</p>
+ * <ul>
+ *     <li>the F5 criterion drops signatures divisible by the leading monomial of a polynomial
+ *     of the ideal of the earlier generators, as well as signatures divisible by a signature that
+ *     already reduced to zero;</li>
+ *     <li>the rewritten criterion drops a pair when a polynomial added later has a signature dividing its own,
+ *     so that a single polynomial is reduced per signature.</li>
+ * </ul>
+ *
+ * <p>The critical pairs are handled one at a time as in Buchberger's algorithm, with the signatures compared
+ * position over term.</p>
+ *
+ * @see <a href="https://doi.org/10.1145/780506.780516">
+ * Faugère, J.-C., "A new efficient algorithm for computing Gröbner bases without reduction to zero (F5)", ISSAC 2002.</a>
+ * @see <a href="https://doi.org/10.1016/j.jsc.2015.06.003">
+ * Eder, C., Faugère, J.-C., "A survey on signature-based algorithms for computing Gröbner bases", Journal of Symbolic Computation, 2017.</a>
+ */
+@SuppressWarnings("unchecked")
+public final class F5Algorithm {
+    private F5Algorithm() {
+    }
+
+    // A monic polynomial of the basis with its signature (index, signature)
+    private record LabeledPolynomial<T extends Numeric>(
+            Polynomial<T> polynomial,
+            Monomial<T> leadingMonomial,
+            int index,
+            Monomial<T> signature
+    ) {
+    }
+
+    // The S-polynomial mainMultiplier * main - otherMultiplier * other, whose signature is mainMultiplier * sig(main)
+    private record SignaturePair<T extends Numeric>(
+            Monomial<T> signature,
+            int main,
+            Monomial<T> mainMultiplier,
+            int other,
+            Monomial<T> otherMultiplier
+    ) {
+    }
+
+    /**
+     * Computes the Gröbner basis of the given set of polynomials using the F5 algorithm.
+     *
+     * @param polynomials the list of input polynomials for which to compute the Gröbner basis
+     * @param <T>         the numeric type of polynomial coefficients
+     * @return a list of polynomials representing the Gröbner basis
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> polynomials) {
+        return compute(polynomials, ComputationContext.unbounded());
+    }
+
+    /**
+     * Computes the Gröbner basis of the given set of polynomials using the F5 algorithm,
+     * within the limits of the given context.
+     *
+     * <p>The context is checked before each pair is reduced, and after each polynomial is added to the basis.
+     * Only the regular pairs, whose multiples have different signatures, are counted as created, each of them
+     * being reduced or discarded by {@link PairCriterion#SYZYGY} or {@link PairCriterion#REWRITTEN}.</p>
+     *
+     * @param polynomials the list of input polynomials for which to compute the Gröbner basis
+     * @param context     the limits of the computation, collecting its statistics
+     * @param <T>         the numeric type of polynomial coefficients
+     * @return a list of polynomials representing the Gröbner basis
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> polynomials,
+            ComputationContext context
+    ) {
+        var generators = new ArrayList<Polynomial<T>>(polynomials.size());
+        for (var polynomial : polynomials) {
+            if (!polynomial.isZero()) {
+                generators.add(polynomial);
+            }
+        }
+
+        if (generators.isEmpty()) {
+            context.complete();
+            return new ArrayList<>();
+        }
+
+        var ordering = generators.getFirst().ordering();
+        var fieldSize = generators.getFirst().fieldSize();
+        var basis = new ArrayList<LabeledPolynomial<T>>();
+        // Positions in the basis, indexed by leading monomial
+        var leadingMonomials = new DivisorIndex<T, Integer>(fieldSize);
+        var terms = 0L;
+
+        for (var index = 0; index < generators.size(); index++) {
+            // The basis is a Gröbner basis of the earlier generators, their leading monomials give their syzygies
+            var previousLeadingMonomials = new DivisorIndex<T, Integer>(fieldSize);
+            for (var position = 0; position < basis.size(); position++) {
+                previousLeadingMonomials.add(basis.get(position).leadingMonomial(), position);
+            }
+
+            // Signatures of this index that reduced to zero
+            var syzygies = new DivisorIndex<T, Boolean>(fieldSize);
+            // Positions in the basis of the polynomials of this index, indexed by signature
+            var signatures = new DivisorIndex<T, Integer>(fieldSize);
+            var pairs = new PriorityQueue<SignaturePair<T>>((x, y) -> ordering.compare(x.signature(), y.signature()));
+
+            var generator = generators.get(index);
+            var signature = MonomialFunctions.one(generator.leadingMonomial());
+            context.checkpoint();
+            context.startPhase(ComputationPhase.REDUCTION);
+            var reduced = regularReduce(generator, index, signature, basis, leadingMonomials);
+            context.endPhase(ComputationPhase.REDUCTION);
+            if (reduced.isZero()) {
+                // The generator already belongs to the ideal of the earlier ones
+                continue;
+            }
+
+            addToBasis(
+                    reduced, index, signature, basis, leadingMonomials, signatures, previousLeadingMonomials, pairs, context
+            );
+            terms += reduced.length();
+            context.checkBasis(basis.size(), terms);
+
+            Monomial<T> lastSignature = null;
+            while (!pairs.isEmpty()) {
+                var pair = pairs.poll();
+                signature = pair.signature();
+                if (lastSignature != null && lastSignature.exponentsEqual(signature)) {
+                    context.recordPairsPruned(PairCriterion.REWRITTEN, 1);
+                    continue;
+                }
+
+                if (syzygies.hasDivisor(signature)) {
+                    context.recordPairsPruned(PairCriterion.SYZYGY, 1);
+                    continue;
+                }
+
+                var main = pair.main();
+                if (signatures.find(signature, position -> position > main) != null) {
+                    context.recordPairsPruned(PairCriterion.REWRITTEN, 1);
+                    continue;
+                }
+
+                lastSignature = signature;
+                context.checkpoint();
+                context.startPhase(ComputationPhase.REDUCTION);
+                var sPolynomial = basis.get(main).polynomial().multiply(pair.mainMultiplier())
+                        .subtract(basis.get(pair.other()).polynomial().multiply(pair.otherMultiplier()));
+                reduced = regularReduce(sPolynomial, index, signature, basis, leadingMonomials);
+                context.endPhase(ComputationPhase.REDUCTION);
+                context.recordReductions(1, reduced.isZero() ? 1 : 0);
+                if (reduced.isZero()) {
+                    syzygies.add(signature, true);
+                    continue;
+                }
+
+                // The leading term can be cancelled by a multiple with the same signature, the result is redundant
+                var reducedLeadingMonomial = reduced.leadingMonomial();
+                var currentIndex = index;
+                var currentSignature = signature;
+                var singular = leadingMonomials.find(reducedLeadingMonomial, position -> {
+                    var candidate = basis.get(position);
+                    return candidate.index() == currentIndex
+                            && compareMultipleSignature(candidate, reducedLeadingMonomial, currentSignature) == 0;
+                });
+
+                if (singular == null) {
+                    addToBasis(
+                            reduced, index, signature, basis, leadingMonomials, signatures, previousLeadingMonomials, pairs, context
+                    );
+                    terms += reduced.length();
+                    context.checkBasis(basis.size(), terms);
+                }
+            }
+        }
+
+        var result = new ArrayList<Polynomial<T>>(basis.size());
+        for (var labeledPolynomial : basis) {
+            result.add(labeledPolynomial.polynomial());
+        }
+
+        context.complete();
+        return result;
+    }
+
+    private static <T extends Numeric> void addToBasis(
+            Polynomial<T> polynomial,
+            int index,
+            Monomial<T> signature,
+            List<LabeledPolynomial<T>> basis,
+            DivisorIndex<T, Integer> leadingMonomials,
+            DivisorIndex<T, Integer> signatures,
+            DivisorIndex<T, Integer> previousLeadingMonomials,
+            PriorityQueue<SignaturePair<T>> pairs,
+            ComputationContext context
+    ) {
+        context.startPhase(ComputationPhase.PAIR_UPDATE);
+        var monic = polynomial.divide(polynomial.leadingCoefficient());
+        var added = new LabeledPolynomial<>(monic, monic.leadingMonomial(), index, signature);
+        var addedPosition = basis.size();
+        var ordering = monic.ordering();
+        var created = 0;
+        var pruned = 0;
+        for (var position = 0; position < basis.size(); position++) {
+            var other = basis.get(position);
+            var lcm = MonomialFunctions.lcm(added.leadingMonomial(), other.leadingMonomial());
+            var addedMultiplier = lcm.divide(added.leadingMonomial());
+            var otherMultiplier = lcm.divide(other.leadingMonomial());
+            var addedSignature = addedMultiplier.multiply(signature);
+
+            SignaturePair<T> pair;
+            if (other.index() < index) {
+                pair = new SignaturePair<>(addedSignature, addedPosition, addedMultiplier, position, otherMultiplier);
+            } else {
+                var otherSignature = otherMultiplier.multiply(other.signature());
+                var comparison = ordering.compare(addedSignature, otherSignature);
+                if (comparison == 0) {
+                    // Both multiples have the same signature, the pair is not regular
+                    continue;
+                }
+
+                pair = comparison > 0
+                        ? new SignaturePair<>(addedSignature, addedPosition, addedMultiplier, position, otherMultiplier)
+                        : new SignaturePair<>(otherSignature, position, otherMultiplier, addedPosition, addedMultiplier);
+            }
+
+            created++;
+            if (previousLeadingMonomials.hasDivisor(pair.signature())) {
+                pruned++;
+            } else {
+                pairs.add(pair);
+            }
+        }
+
+        basis.add(added);
+        leadingMonomials.add(added.leadingMonomial(), addedPosition);
+        signatures.add(signature, addedPosition);
+        context.endPhase(ComputationPhase.PAIR_UPDATE);
+        context.recordPairsCreated(created);
+        context.recordPairsPruned(PairCriterion.SYZYGY, pruned);
+    }
+
+    // Fully reduces the polynomial of signature (index, signature), only using multiples of smaller signature
+    private static <T extends Numeric> Polynomial<T> regularReduce(
+            Polynomial<T> polynomial,
+            int index,
+            Monomial<T> signature,
+            List<LabeledPolynomial<T>> basis,
+            DivisorIndex<T, Integer> leadingMonomials
+    ) {
+        var ordering = polynomial.ordering();
+        var bucket = new Geobucket<>(ordering);
+        bucket.add(polynomial);
+
+        // Terms of the remainder come out in decreasing order
+        var remainder = new ArrayList<Monomial<T>>();
+        Monomial<T> term;
+        while ((term = bucket.popLeadingTerm()) != null) {
+            var currentTerm = term;
+            var reducerPosition = leadingMonomials.find(term, position -> {
+                var candidate = basis.get(position);
+                return candidate.index() < index || compareMultipleSignature(candidate, currentTerm, signature) < 0;
+            });
+
+            if (reducerPosition == null) {
+                remainder.add(term);
+                continue;
+            }
+
+            var reducer = basis.get(reducerPosition).polynomial();
+            var quotient = term.divide(reducer.leadingTerm());
+            bucket.add(reducer.tail().multiply(quotient.withCoefficient((T) quotient.coefficient().negate())));
+        }
+
+        Collections.reverse(remainder);
+        return new Polynomial<>(remainder, polynomial.fieldSize(), ordering);
+    }
+
+    // Compares the signature of (monomial / lm(candidate)) * candidate with the signature of the same index
+    private static <T extends Numeric> int compareMultipleSignature(
+            LabeledPolynomial<T> candidate,
+            Monomial<T> monomial,
+            Monomial<T> signature
+    ) {
+        // Both sides are multiplied by lm(candidate) to avoid the division
+        MonomialOrdering<T> ordering = candidate.polynomial().ordering();
+        return ordering.compare(monomial.multiply(candidate.signature()), signature.multiply(candidate.leadingMonomial()));
+    }
+}
@@ -1,18 +1,22 @@
 package io.github.olajed.jgb.functions.algorithms;
 
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ComputationPhase;
 import io.github.olajed.jgb.enums.MonomialType;
+import io.github.olajed.jgb.events.FGLMStepEvent;
 import io.github.olajed.jgb.number.Numeric;
-import io.github.olajed.jgb.ordering.GrevlexOrdering;
 import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
 import io.github.olajed.jgb.structures.DenseMonomial;
+import io.github.olajed.jgb.structures.DivisorIndex;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.MonomialTable;
+import io.github.olajed.jgb.structures.PackedMonomial;
 import io.github.olajed.jgb.structures.Polynomial;
 import io.github.olajed.jgb.structures.SparseMonomial;
-import io.github.olajed.jgb.utils.MatrixSolver;
-import io.github.olajed.jgb.utils.Pair;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Implements the FGLM algorithm for converting a Gröbner basis with respect to one
@@ -33,182 +37,328 @@ public final class FGLMAlgorithm {
      * Converts a reduced Gröbner basis from graded reverse lexicographic (grevlex) order
      * to lexicographic (lex) order using the FGLM algorithm.
      *
+     * @param <T>   the numeric type used in the polynomial coefficients, extending {@code Numeric}
+     * @param basis the reduced Gröbner basis under grevlex ordering
+     * @return the reduced Gröbner basis under lex ordering
+     * @throws IllegalArgumentException if the ideal is not zero-dimensional
+     * @see #compute(List, MonomialOrdering)
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> basis) {
+        return compute(basis, new LexOrdering<>());
+    }
+
+    /**
+     * Converts a reduced Gröbner basis to the reduced Gröbner basis of the same ideal for another ordering
+     * using the FGLM algorithm.
+     *
      * <p>
-     * Given a reduced Gröbner basis <code>G</code> computed with respect to the grevlex order,
-     * this method computes the reduced Gröbner basis <code>G'</code> with respect to the lex order.
+     * The source ordering is the ordering of the polynomials of <code>G</code>, and the target ordering can be
+     * any monomial ordering, such as an {@link io.github.olajed.jgb.ordering.EliminationOrdering} or a
+     * {@link io.github.olajed.jgb.ordering.WeightedOrdering}.
      * </p>
      *
      * <p>Algorithm overview:</p>
      * <ol>
-     *   <li>Initialize an empty set <code>B</code> to hold new basis elements (corresponding to standard monomials).</li>
-     *   <li>Initialize <code>G'</code> as a copy of the input basis <code>G</code>.</li>
-     *   <li>Start with the monomial <code>X = 1</code> (the multiplicative identity).</li>
+     *   <li>Initialize an empty set <code>B</code> of standard monomials for the target ordering,
+     *   an empty basis <code>G'</code> and a set of candidates containing the monomial <code>1</code>.</li>
+     *   <li>Take the smallest candidate <code>X</code> for the target ordering, skipping it if it is a multiple
+     *   of a leading monomial of <code>G'</code>.</li>
      *   <li>Compute the normal form <code>r(X)</code> of <code>X</code> modulo <code>G</code>.</li>
      *   <li>
-     *     If <code>r(X) = 0</code>:
-     *     <ul>
-     *       <li>Add <code>X</code> to <code>B</code> (it corresponds to a new standard monomial).</li>
-     *       <li>Increment <code>X</code> to the next monomial power in the current indeterminate.</li>
-     *     </ul>
+     *     If <code>r(X)</code> is a linear combination <code>A</code> of the normal forms of the elements of
+     *     <code>B</code>, add <code>g = X - A</code> to <code>G'</code>, its leading monomial being <code>X</code>.
      *   </li>
      *   <li>
-     *     Otherwise, if <code>r(X)</code> can be expressed as a linear combination of elements in <code>B</code>:
-     *     <ul>
-     *       <li>Let <code>A</code> be this linear combination, then define <code>g = X - A</code>.</li>
-     *       <li>Add <code>g</code> to <code>G'</code> as a new polynomial in the lex Gröbner basis.</li>
-     *       <li>If the leading term of <code>g</code> is a pure power of the maximal variable under the lex order, the algorithm terminates.</li>
-     *       <li>Otherwise, update <code>X</code> to the next monomial not divisible by any leading term in <code>G'</code>.</li>
-     *     </ul>
+     *     Otherwise, add <code>X</code> to <code>B</code> and its products by each indeterminate to the candidates.
      *   </li>
-     *   <li>Return the new Gröbner basis <code>G'</code> in lex order.</li>
+     *   <li>Once there are no candidates left, the border of the staircase of <code>B</code> has been traversed
+     *   and <code>G'</code> is the reduced Gröbner basis for the target ordering.</li>
      * </ol>
      *
-     * @param <T>   the numeric type used in the polynomial coefficients, extending {@code Numeric}
-     * @param basis the reduced Gröbner basis under grevlex ordering
-     * @return the reduced Gröbner basis under lex ordering
+     * @param <T>            the numeric type used in the polynomial coefficients, extending {@code Numeric}
+     * @param basis          the reduced Gröbner basis under the source ordering
+     * @param targetOrdering the ordering of the basis to compute
+     * @return the reduced Gröbner basis under the target ordering
+     * @throws IllegalArgumentException if the ideal is not zero-dimensional
      */
-    public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> basis) {
-        var initialOrdering = new GrevlexOrdering<T>();
-        var ordering = new LexOrdering<T>();
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> basis,
+            MonomialOrdering<T> targetOrdering
+    ) {
+        return compute(basis, targetOrdering, ComputationContext.unbounded());
+    }
+
+    /**
+     * Converts a reduced Gröbner basis to the reduced Gröbner basis of the same ideal for another ordering
+     * using the FGLM algorithm, within the limits of the given context.
+     *
+     * <p>The context is checked before each candidate monomial, with the echelon form of the normal forms as a
+     * matrix whose columns are the monomials met so far, and with the new basis as it grows.</p>
+     *
+     * @param <T>            the numeric type used in the polynomial coefficients, extending {@code Numeric}
+     * @param basis          the reduced Gröbner basis under the source ordering
+     * @param targetOrdering the ordering of the basis to compute
+     * @param context        the limits of the computation, collecting its statistics
+     * @return the reduced Gröbner basis under the target ordering
+     * @throws IllegalArgumentException          if the ideal is not zero-dimensional
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     * @see #compute(List, MonomialOrdering)
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> basis,
+            MonomialOrdering<T> targetOrdering,
+            ComputationContext context
+    ) {
         var firstPoly = basis.getFirst();
         var fieldSize = firstPoly.fieldSize();
         var one = (T) firstPoly.leadingCoefficient().one();
-        var type = firstPoly.leadingTerm() instanceof DenseMonomial<T> ? MonomialType.DENSE : MonomialType.SPARSE;
+        var type = switch (firstPoly.leadingTerm()) {
+            case DenseMonomial<T> ignored -> MonomialType.DENSE;
+            case SparseMonomial<T> ignored -> MonomialType.SPARSE;
+            case PackedMonomial<T> ignored -> MonomialType.PACKED;
+        };
+        if (!isZeroDimensional(basis)) {
+            throw new IllegalArgumentException("FGLM requires the basis of a zero-dimensional ideal.");
+        }
+
+        var monomialTable = new MonomialTable<>(fieldSize, firstPoly.ordering());
+        var normalForms = new NormalForms<>(basis, monomialTable, type, one);
+        var echelonForm = new EchelonForm<T>();
+        var standardMonomials = new ArrayList<Monomial<T>>();
         var newBasis = new ArrayList<Polynomial<T>>();
-        var monomialsAndRemainders = new ArrayList<Pair<Monomial<T>, Polynomial<T>>>();
-        var maxExponents = new int[fieldSize];
-        maxExponents[0] = 1;
-        var maxVariable = monomial(maxExponents, type, one);
-        var exponents = new int[fieldSize];
-        var monomial = monomial(new int[fieldSize], type, one);
-        var polynomial = new Polynomial<>(monomial, initialOrdering);
-        var remainder = polynomial.reduce(basis);
-        var currentVariableIndex = fieldSize - 1;
-        while (true) {
-            var dependenceData = checkLinearDependence(remainder, monomialsAndRemainders);
-            if (!dependenceData.first()) {
-                monomialsAndRemainders.add(new Pair<>(monomial, remainder));
-                exponents = incrementPowerForExponent(exponents, currentVariableIndex);
-                monomial = monomial(exponents, type, one);
-                polynomial = new Polynomial<>(monomial, initialOrdering);
-                remainder = polynomial.reduce(basis);
+        var leadingMonomials = new DivisorIndex<T, Polynomial<T>>(fieldSize);
+        // Smallest first for the target ordering, so the standard monomials are all smaller than a candidate
+        var candidates = new PriorityQueue<Integer>(
+                (x, y) -> targetOrdering.compare(monomialTable.monomial(x), monomialTable.monomial(y))
+        );
+        var queued = new BitSet();
+        var identity = monomialTable.intern(monomial(new int[fieldSize], type, one));
+        candidates.add(identity);
+        queued.set(identity);
+        while (!candidates.isEmpty()) {
+            context.checkpoint();
+            int id = candidates.poll();
+            var monomial = monomialTable.monomial(id);
+            // Multiples of a leading monomial of the new basis are outside the target staircase
+            if (leadingMonomials.hasDivisor(monomial)) {
+                continue;
+            }
+
+            var event = new FGLMStepEvent();
+            event.begin();
+            context.startPhase(ComputationPhase.NORMAL_FORM);
+            var normalForm = normalForms.of(monomial);
+            context.endPhase(ComputationPhase.NORMAL_FORM);
+            context.startPhase(ComputationPhase.ELIMINATION);
+            var combination = echelonForm.reduce(normalForm);
+            context.endPhase(ComputationPhase.ELIMINATION);
+            event.commit(monomial.degree(), combination == null, standardMonomials.size(), newBasis.size());
+            if (combination == null) {
+                context.checkMatrix(echelonForm.rows.size(), monomialTable.size(), echelonForm.entries);
+                standardMonomials.add(monomial);
+                for (var variable : normalForms.variables) {
+                    var product = monomialTable.multiply(id, variable);
+                    if (!queued.get(product)) {
+                        queued.set(product);
+                        candidates.add(product);
+                    }
+                }
             } else {
-                var result = polynomial.changeOrdering(ordering);
-                for (var pair : dependenceData.second()) {
-                    result = result.subtract(new Polynomial<>(pair.first().multiply(pair.second()), ordering));
+                var resultMonomials = new ArrayList<Monomial<T>>(combination.size() + 1);
+                resultMonomials.add(monomial);
+                for (var entry : combination.entrySet()) {
+                    var coefficient = (T) entry.getValue().negate();
+                    resultMonomials.add(standardMonomials.get(entry.getKey()).withCoefficient(coefficient));
                 }
 
+                var result = new Polynomial<>(resultMonomials, fieldSize, targetOrdering);
                 newBasis.add(result);
-                if (!result.isZero() && result.leadingTerm().isPowerOf(maxVariable)) {
-                    break;
-                } else {
-                    exponents = new int[fieldSize];
-                    currentVariableIndex--;
-                    exponents[currentVariableIndex] = 1;
-                    monomial = monomial(exponents, type, one);
-                    polynomial = new Polynomial<>(monomial, initialOrdering);
-                    remainder = polynomial.reduce(basis);
-                }
+                leadingMonomials.add(monomial, result);
+                context.checkBasis(newBasis);
             }
         }
 
+        context.complete();
         return newBasis;
     }
 
-    private static int[] incrementPowerForExponent(int[] current, int currentVariable) {
-        var result = Arrays.copyOf(current, current.length);
-        result[currentVariable]++;
-        return result;
+    // The staircase is finite when every indeterminate has a pure power among the leading monomials
+    static <T extends Numeric> boolean isZeroDimensional(List<Polynomial<T>> basis) {
+        var fieldSize = basis.getFirst().fieldSize();
+        var purePowers = new BitSet(fieldSize);
+        for (var polynomial : basis) {
+            var leadingMonomial = polynomial.leadingMonomial();
+            for (var i = 0; i < fieldSize; i++) {
+                var exponent = leadingMonomial.getExponent(i);
+                if (exponent > 0 && exponent == leadingMonomial.degree()) {
+                    purePowers.set(i);
+                }
+            }
+        }
+
+        return purePowers.cardinality() == fieldSize;
     }
 
-    private static <T extends Numeric> Pair<Boolean, List<Pair<Monomial<T>, T>>> checkLinearDependence(
-            Polynomial<T> polynomial, List<Pair<Monomial<T>, Polynomial<T>>> polynomials
-    ) {
-        var ordering = new LexOrdering<T>().reversed();
-        var zero = (T) polynomial.leadingCoefficient().zero();
-        var one = (T) polynomial.leadingCoefficient().one();
-
-        // Collect all unique monomials
-        Set<Monomial<T>> allMonomials = new LinkedHashSet<>();
-        for (var entry : polynomials) {
-            for (var monomial : entry.second().monomials()) {
-                allMonomials.add(monomial.withCoefficient(one));
+    /**
+     * The normal forms of monomials modulo the input basis, as sparse vectors indexed by monomial ids.
+     * <p>
+     * The normal form of {@code x_i * m} is obtained from the stored normal form of {@code m}: each standard
+     * monomial {@code s} in it is multiplied by {@code x_i}, and {@code x_i * s} is either standard or on the
+     * border of the staircase. The normal form of a border monomial is computed with a single reduction and kept,
+     * so the multiplication matrices are built lazily and only on the monomials the traversal reaches.
+     * </p>
+     */
+    private static final class NormalForms<T extends Numeric> {
+        private final MonomialTable<T> monomialTable;
+        // The basis indexed by leading monomial, built once for all the reductions
+        private final DivisorIndex<T, Polynomial<T>> leadingMonomials;
+        private final T one;
+        // Ids of the indeterminates
+        private final int[] variables;
+        private final Map<Integer, Map<Integer, T>> normalForms = new HashMap<>();
+        // Normal forms of the border monomials, by id
+        private final Map<Integer, Map<Integer, T>> borderNormalForms = new HashMap<>();
+
+        private NormalForms(List<Polynomial<T>> basis, MonomialTable<T> monomialTable, MonomialType type, T one) {
+            var fieldSize = monomialTable.fieldSize();
+            this.monomialTable = monomialTable;
+            this.leadingMonomials = new DivisorIndex<>(fieldSize);
+            this.one = one;
+            this.variables = new int[fieldSize];
+            for (var polynomial : basis) {
+                leadingMonomials.add(polynomial.leadingMonomial(), polynomial);
+            }
+
+            for (var i = 0; i < fieldSize; i++) {
+                var exponents = new int[fieldSize];
+                exponents[i] = 1;
+                variables[i] = monomialTable.intern(monomial(exponents, type, one));
             }
         }
 
-        // Sort the monomials
-        var sortedMonomials = new ArrayList<>(allMonomials);
-        sortedMonomials.sort(ordering);
+        private Map<Integer, T> of(Monomial<T> monomial) {
+            var id = monomialTable.intern(monomial);
+            var normalForm = normalForms.get(id);
+            if (normalForm != null) {
+                return normalForm;
+            }
+
+            for (var i = 0; i < variables.length && normalForm == null; i++) {
+                if (monomialTable.exponent(id, i) > 0) {
+                    var predecessor = normalForms.get(monomialTable.divide(id, variables[i]));
+                    if (predecessor != null) {
+                        normalForm = multiply(predecessor, i);
+                    }
+                }
+            }
+
+            if (normalForm == null) {
+                normalForm = reduce(id);
+            }
 
-        // Create a map for fast monomial lookups
-        Map<Monomial<T>, Integer> monomialIndices = new HashMap<>(sortedMonomials.size());
-        for (var i = 0; i < sortedMonomials.size(); i++) {
-            monomialIndices.put(sortedMonomials.get(i), i);
+            normalForms.put(id, normalForm);
+            return normalForm;
         }
 
-        // Initialize the transposed coefficient matrix
-        var rows = sortedMonomials.size();
-        var cols = polynomials.size();
-        List<List<T>> matrix = new ArrayList<>(rows);
-        for (var i = 0; i < rows; i++) {
-            List<T> row = new ArrayList<>(cols);
-            for (var j = 0; j < cols; j++) {
-                row.add(zero);
+        // The normal form of x_i * f, from the normal form of f
+        private Map<Integer, T> multiply(Map<Integer, T> normalForm, int variable) {
+            var result = new HashMap<Integer, T>();
+            for (var entry : normalForm.entrySet()) {
+                var product = monomialTable.multiply(entry.getKey(), variables[variable]);
+                if (leadingMonomials.hasDivisor(monomialTable.monomial(product))) {
+                    var productNormalForm = borderNormalForms.get(product);
+                    if (productNormalForm == null) {
+                        productNormalForm = reduce(product);
+                        borderNormalForms.put(product, productNormalForm);
+                    }
+
+                    addMultiple(result, productNormalForm, entry.getValue());
+                } else {
+                    addMultiple(result, Map.of(product, one), entry.getValue());
+                }
             }
 
-            matrix.add(row);
+            return result;
         }
 
-        // Fill the transposed matrix
-        var columnIndex = 0;
-        for (var entry : polynomials) {
-            var currentPolynomial = entry.second();
-            for (var monomial : currentPolynomial.monomials()) {
-                var lookupMonomial = monomial.withCoefficient(one);
-                var rowIndex = monomialIndices.get(lookupMonomial);
-                matrix.get(rowIndex).set(columnIndex, monomial.coefficient());
+        private Map<Integer, T> reduce(int id) {
+            var remainder = new Polynomial<>(monomialTable.monomial(id), monomialTable.ordering()).reduce(leadingMonomials);
+            var result = new HashMap<Integer, T>(remainder.length() * 2);
+            for (var term : remainder.monomials()) {
+                result.put(monomialTable.intern(term), term.coefficient());
             }
 
-            columnIndex++;
+            return result;
         }
+    }
 
-        List<T> polynomialCoefficients = new ArrayList<>();
-        var coefficientMap = polynomial
-                .monomials()
-                .stream()
-                .collect(Collectors.toMap(m -> m.withCoefficient(one), Monomial::coefficient));
+    /**
+     * The normal forms of the standard monomials found so far, kept in a semi-echelon form.
+     * <p>
+     * Each row has a pivot that no later row contains, and records its expression in terms of the normal forms
+     * of the standard monomials. A new normal form is reduced once against the rows in their insertion order, so
+     * testing it for linear dependence costs O(D²) for a quotient of dimension D, instead of a full elimination.
+     * </p>
+     */
+    private static final class EchelonForm<T extends Numeric> {
+        private final List<Integer> pivots = new ArrayList<>();
+        private final List<Map<Integer, T>> rows = new ArrayList<>();
+        // Expression of each row in terms of the normal forms of the standard monomials, by index
+        private final List<Map<Integer, T>> combinations = new ArrayList<>();
+        // Number of entries of the rows and their combinations
+        private long entries;
 
-        for (var monomial : coefficientMap.keySet()) {
-            if (!allMonomials.contains(monomial)) {
-                return new Pair<>(false, null);
+        // The coefficients of the normal form in terms of the previous ones by index, null if it is independent,
+        // in which case it is added as a new row
+        private Map<Integer, T> reduce(Map<Integer, T> normalForm) {
+            var remainder = new HashMap<>(normalForm);
+            var combination = new HashMap<Integer, T>();
+            for (var i = 0; i < rows.size(); i++) {
+                var pivot = pivots.get(i);
+                var coefficient = remainder.get(pivot);
+                if (coefficient != null) {
+                    addMultiple(remainder, rows.get(i), (T) coefficient.negate());
+                    // Removed explicitly, the cancellation may not be exact with floating-point coefficients
+                    remainder.remove(pivot);
+                    addMultiple(combination, combinations.get(i), coefficient);
+                }
             }
-        }
 
-        for (var monomial : sortedMonomials) {
-            var coefficient = coefficientMap.getOrDefault(monomial, zero);
-            polynomialCoefficients.add(coefficient);
-        }
+            if (remainder.isEmpty()) {
+                return combination;
+            }
 
-        var solver = new MatrixSolver<>(matrix, polynomialCoefficients);
-        var results = solver.solve();
-        if (results == null) {
-            return new Pair<>(false, null);
+            var pivot = remainder.keySet().iterator().next();
+            var inverse = (T) remainder.get(pivot).inverse();
+            var row = new HashMap<Integer, T>(remainder.size() * 2);
+            addMultiple(row, remainder, inverse);
+            var rowCombination = new HashMap<Integer, T>(combination.size() * 2 + 1);
+            addMultiple(rowCombination, combination, (T) inverse.negate());
+            rowCombination.put(rows.size(), inverse);
+            pivots.add(pivot);
+            rows.add(row);
+            combinations.add(rowCombination);
+            entries += row.size() + rowCombination.size();
+            return null;
         }
+    }
 
-        var coefficients = new ArrayList<Pair<Monomial<T>, T>>();
-        var i = 0;
-        for (var pair : polynomials) {
-            coefficients.add(new Pair<>(pair.first(), results.get(i)));
-            i++;
+    // target += factor * source
+    private static <T extends Numeric> void addMultiple(Map<Integer, T> target, Map<Integer, T> source, T factor) {
+        for (var entry : source.entrySet()) {
+            var product = (T) entry.getValue().multiply(factor);
+            var sum = target.merge(entry.getKey(), product, (x, y) -> (T) x.add(y));
+            if (sum.isZero()) {
+                target.remove(entry.getKey());
+            }
         }
-
-        return new Pair<>(true, coefficients);
     }
 
     private static <T extends Numeric> Monomial<T> monomial(int[] exponents, MonomialType type, T one) {
         return switch (type) {
             case DENSE -> new DenseMonomial<>(exponents, one);
             case SPARSE -> new SparseMonomial<>(exponents, one);
+            case PACKED -> new PackedMonomial<>(exponents, one);
             case null -> throw new IllegalArgumentException("MonomialType cannot be null");
         };
     }
@@ -0,0 +1,416 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.PairSelectionStrategy;
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+import io.github.olajed.jgb.ordering.WeightedOrdering;
+import io.github.olajed.jgb.structures.DivisorIndex;
+import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.Polynomial;
+import io.github.olajed.jgb.utils.ArithmeticUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implements the Gröbner walk for converting a Gröbner basis with respect to one monomial ordering into a
+ * Gröbner basis with respect to another ordering.
+ *
+ * <p>Unlike {@link FGLMAlgorithm}, the Gröbner walk does not require the ideal to be zero-dimensional.
+ * The walk follows the segment from the weight vector {@code (1, ..., 1)} of the source ordering to a weight
+ * vector {@code τ} of the target ordering. The intermediate orderings are {@link WeightedOrdering}s whose ties
+ * are broken by the target ordering. At each point {@code w} of the segment where a leading monomial of the
+ * current basis changes, a step is performed:</p>
+ * <ol>
+ *   <li>The initial forms {@code in_w(g)} of the polynomials of the basis are computed. They are
+ *   {@code w}-homogeneous and usually much smaller than the polynomials.</li>
+ *   <li>The reduced Gröbner basis of the ideal of the initial forms is computed for the next ordering
+ *   with {@link BuchbergerAlgorithm}.</li>
+ *   <li>Each of its polynomials {@code h = Σ q_g in_w(g)} is lifted to {@code Σ q_g g}, and the lifted
+ *   polynomials form a Gröbner basis for the next ordering.</li>
+ * </ol>
+ *
+ * <p>A target weight vector such as {@code (1, 0, ..., 0)} for lex is on the boundary of the cone of the target
+ * ordering, and the initial forms of the last step are then close to the whole polynomials. The walk first
+ * targets the perturbed vector {@code Σ d^(m - 1 - k) τ_k}, built from the rows {@code τ_k} of a weight matrix of
+ * the target ordering with {@code d} above the degrees of the current basis, which usually lies inside the
+ * cone. The walk ends there if the leading monomials agree with the target ordering, and continues to
+ * {@code τ_0} otherwise.</p>
+ *
+ * @see <a href="https://doi.org/10.1006/jsco.1996.0052">
+ * S. Collart, M. Kalkbrener, D. Mall - "Converting bases with the Gröbner walk"</a>
+ * @see <a href="https://doi.org/10.1016/S0304-3975(96)00079-7">
+ * B. Amrhein, O. Gloor, W. Küchlin - "On the walk"</a>
+ */
+public final class GrobnerWalkAlgorithm {
+    // Number of perturbed targets tried before walking to the first row of the weight matrix
+    private static final int PERTURBATIONS = 2;
+
+    private GrobnerWalkAlgorithm() {
+    }
+
+    /**
+     * Converts a reduced Gröbner basis for a degree-compatible ordering, such as grevlex,
+     * to the reduced Gröbner basis under lex ordering.
+     *
+     * @param basis the reduced Gröbner basis under the source ordering
+     * @param <T>   the numeric type of the polynomial coefficients
+     * @return the reduced Gröbner basis under lex ordering
+     * @throws IllegalArgumentException if the source ordering is not degree-compatible
+     * @throws ArithmeticException      if an intermediate weight vector overflows
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> basis) {
+        var fieldSize = basis.getFirst().fieldSize();
+        var identity = new int[fieldSize][fieldSize];
+        for (var i = 0; i < fieldSize; i++) {
+            identity[i][i] = 1;
+        }
+
+        return compute(basis, identity, new LexOrdering<>());
+    }
+
+    /**
+     * Converts a reduced Gröbner basis for a degree-compatible ordering, such as grevlex,
+     * to the reduced Gröbner basis under the target ordering.
+     *
+     * <p>The target ordering must be refined by the target weights: a monomial with a larger weighted degree must
+     * be larger for the target ordering. For instance, the indicator of the eliminated indeterminates for an
+     * {@link io.github.olajed.jgb.ordering.EliminationOrdering} with a graded internal ordering, or the weights of
+     * a {@link WeightedOrdering}.</p>
+     *
+     * @param basis          the reduced Gröbner basis under the source ordering
+     * @param targetWeights  non-negative weights refined by the target ordering
+     * @param targetOrdering the ordering of the basis to compute
+     * @param <T>            the numeric type of the polynomial coefficients
+     * @return the reduced Gröbner basis under the target ordering
+     * @throws IllegalArgumentException if the source ordering is not degree-compatible, if the target weights are
+     *                                  negative or all zero, or if the target ordering is not refined by them
+     * @throws ArithmeticException      if an intermediate weight vector overflows
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> basis,
+            int[] targetWeights,
+            MonomialOrdering<T> targetOrdering
+    ) {
+        return compute(basis, new int[][]{targetWeights}, targetOrdering);
+    }
+
+    /**
+     * Converts a reduced Gröbner basis for a degree-compatible ordering, such as grevlex,
+     * to the reduced Gröbner basis under the target ordering, given by the rows of a weight matrix.
+     *
+     * <p>The target ordering must be refined by the first row, and should be refined by the rows compared one
+     * after the other, as lex is by the identity matrix. The other rows are only used to perturb the target
+     * weight vector, and do not change the result.</p>
+     *
+     * @param basis          the reduced Gröbner basis under the source ordering
+     * @param targetWeights  the rows of a weight matrix of the target ordering, with non-negative entries
+     * @param targetOrdering the ordering of the basis to compute
+     * @param <T>            the numeric type of the polynomial coefficients
+     * @return the reduced Gröbner basis under the target ordering
+     * @throws IllegalArgumentException if the source ordering is not degree-compatible, if the weights are
+     *                                  negative or the first row is zero, or if the target ordering is not refined
+     *                                  by the first row
+     * @throws ArithmeticException      if an intermediate weight vector overflows
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> basis,
+            int[][] targetWeights,
+            MonomialOrdering<T> targetOrdering
+    ) {
+        return compute(basis, targetWeights, targetOrdering, ComputationContext.unbounded());
+    }
+
+    /**
+     * Converts a reduced Gröbner basis for a degree-compatible ordering, such as grevlex,
+     * to the reduced Gröbner basis under the target ordering, given by the rows of a weight matrix, within the
+     * limits of the given context.
+     *
+     * <p>The context is checked before each step of the walk, by the Buchberger algorithm computing the basis of
+     * the initial forms, and with the basis of each step.</p>
+     *
+     * @param basis          the reduced Gröbner basis under the source ordering
+     * @param targetWeights  the rows of a weight matrix of the target ordering, with non-negative entries
+     * @param targetOrdering the ordering of the basis to compute
+     * @param context        the limits of the computation, collecting its statistics
+     * @param <T>            the numeric type of the polynomial coefficients
+     * @return the reduced Gröbner basis under the target ordering
+     * @throws IllegalArgumentException          if the source ordering is not degree-compatible, if the weights
+     *                                           are negative or the first row is zero, or if the target ordering
+     *                                           is not refined by the first row
+     * @throws ArithmeticException               if an intermediate weight vector overflows
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> basis,
+            int[][] targetWeights,
+            MonomialOrdering<T> targetOrdering,
+            ComputationContext context
+    ) {
+        if (basis.isEmpty()) {
+            context.complete();
+            return new ArrayList<>();
+        }
+
+        var fieldSize = basis.getFirst().fieldSize();
+        for (var row : targetWeights) {
+            if (row.length != fieldSize) {
+                throw new IllegalArgumentException("Ordering weights are not suited for this ring.");
+            }
+
+            if (Arrays.stream(row).anyMatch(x -> x < 0)) {
+                throw new IllegalArgumentException("The target weights should be non-negative.");
+            }
+        }
+
+        if (Arrays.stream(targetWeights[0]).allMatch(x -> x == 0)) {
+            throw new IllegalArgumentException("The first row of the target weights should not be zero.");
+        }
+
+        for (var polynomial : basis) {
+            if (polynomial.leadingMonomial().degree() != polynomial.degree()) {
+                throw new IllegalArgumentException("The source ordering should be degree-compatible.");
+            }
+        }
+
+        var weights = new int[fieldSize];
+        Arrays.fill(weights, 1);
+        var current = basis;
+        for (var attempt = 0; attempt < PERTURBATIONS && targetWeights.length > 1; attempt++) {
+            var perturbed = perturbedWeights(current, targetWeights);
+            if (perturbed == null) {
+                break;
+            }
+
+            current = walk(current, weights, perturbed, new WeightedOrdering<>(perturbed, targetOrdering), context);
+            weights = perturbed;
+            if (leadingMonomialsAgree(current, targetOrdering)) {
+                return reduce(current, targetOrdering, context);
+            }
+        }
+
+        current = walk(current, weights, targetWeights[0], targetOrdering, context);
+        return reduce(current, targetOrdering, context);
+    }
+
+    // Walks from a Gröbner basis whose leading monomials are in the w-initial forms to a Gröbner basis for the
+    // target ordering, which is refined by the target weights
+    private static <T extends Numeric> List<Polynomial<T>> walk(
+            List<Polynomial<T>> basis,
+            int[] weights,
+            int[] targetWeights,
+            MonomialOrdering<T> targetOrdering,
+            ComputationContext context
+    ) {
+        // The first step keeps the weights and changes the ordering that breaks the ties
+        var current = step(basis, weights, new WeightedOrdering<>(weights, targetOrdering), context);
+        while (true) {
+            var nextWeights = nextWeights(current, weights, targetWeights);
+            if (nextWeights == null) {
+                return current;
+            }
+
+            current = step(current, nextWeights, new WeightedOrdering<>(nextWeights, targetOrdering), context);
+            weights = nextWeights;
+        }
+    }
+
+    private static <T extends Numeric> List<Polynomial<T>> reduce(
+            List<Polynomial<T>> basis,
+            MonomialOrdering<T> ordering,
+            ComputationContext context
+    ) {
+        var result = new ArrayList<Polynomial<T>>(basis.size());
+        for (var polynomial : basis) {
+            result.add(polynomial.changeOrdering(ordering));
+        }
+
+        var reduced = GrobnerBasisAlgorithms.reduceGrobnerBasis(result);
+        context.checkBasis(reduced);
+        context.complete();
+        return reduced;
+    }
+
+    // Σ d^(m - 1 - k) τ_k with d above the degrees of the basis, or null if it overflows
+    private static <T extends Numeric> int[] perturbedWeights(List<Polynomial<T>> basis, int[][] targetWeights) {
+        var degree = 0;
+        for (var polynomial : basis) {
+            degree = Math.max(degree, polynomial.degree());
+        }
+
+        try {
+            var result = new int[targetWeights[0].length];
+            for (var row : targetWeights) {
+                for (var i = 0; i < result.length; i++) {
+                    result[i] = Math.addExact(Math.multiplyExact(result[i], degree + 1), row[i]);
+                }
+            }
+
+            return result;
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    // A Gröbner basis is also a Gröbner basis for another ordering that selects the same leading monomials
+    private static <T extends Numeric> boolean leadingMonomialsAgree(
+            List<Polynomial<T>> basis,
+            MonomialOrdering<T> ordering
+    ) {
+        for (var polynomial : basis) {
+            var leadingMonomial = polynomial.leadingMonomial();
+            for (var monomial : polynomial.monomials()) {
+                if (ordering.compare(monomial, leadingMonomial) > 0) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    // Converts a Gröbner basis whose leading monomials are in the w-initial forms to the next ordering,
+    // which is refined by w
+    private static <T extends Numeric> List<Polynomial<T>> step(
+            List<Polynomial<T>> basis,
+            int[] weights,
+            MonomialOrdering<T> nextOrdering,
+            ComputationContext context
+    ) {
+        context.checkpoint();
+        var initialForms = new ArrayList<Polynomial<T>>(basis.size());
+        for (var polynomial : basis) {
+            initialForms.add(initialForm(polynomial, weights));
+        }
+
+        var nextInitialForms = new ArrayList<Polynomial<T>>(initialForms.size());
+        for (var initialForm : initialForms) {
+            nextInitialForms.add(initialForm.changeOrdering(nextOrdering));
+        }
+
+        var initialBasis = GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                BuchbergerAlgorithm.computeWithin(nextInitialForms, PairSelectionStrategy.NORMAL, null, context)
+        );
+        var divisors = new DivisorIndex<T, Integer>(basis.getFirst().fieldSize());
+        for (var i = 0; i < initialForms.size(); i++) {
+            divisors.add(initialForms.get(i).leadingMonomial(), i);
+        }
+
+        var lifted = new ArrayList<Polynomial<T>>(initialBasis.size());
+        for (var polynomial : initialBasis) {
+            lifted.add(lift(polynomial, basis, initialForms, divisors).changeOrdering(nextOrdering));
+        }
+
+        var result = GrobnerBasisAlgorithms.reduceGrobnerBasis(lifted);
+        context.checkBasis(result);
+        return result;
+    }
+
+    // The terms of maximal weighted degree
+    private static <T extends Numeric> Polynomial<T> initialForm(Polynomial<T> polynomial, int[] weights) {
+        var maxDegree = Long.MIN_VALUE;
+        for (var monomial : polynomial.monomials()) {
+            maxDegree = Math.max(maxDegree, monomial.weightedDegree(weights));
+        }
+
+        var terms = new ArrayList<Monomial<T>>();
+        for (var monomial : polynomial.monomials()) {
+            if (monomial.weightedDegree(weights) == maxDegree) {
+                terms.add(monomial);
+            }
+        }
+
+        return new Polynomial<>(terms, polynomial.fieldSize(), polynomial.ordering());
+    }
+
+    // Writes h = Σ q_g in_w(g) by division with the ordering of the current basis, and returns Σ q_g g
+    private static <T extends Numeric> Polynomial<T> lift(
+            Polynomial<T> polynomial,
+            List<Polynomial<T>> basis,
+            List<Polynomial<T>> initialForms,
+            DivisorIndex<T, Integer> divisors
+    ) {
+        var ordering = basis.getFirst().ordering();
+        var remaining = polynomial.changeOrdering(ordering);
+        var result = new Polynomial<T>(polynomial.fieldSize(), ordering);
+        while (!remaining.isZero()) {
+            var leadingTerm = remaining.leadingTerm();
+            var index = divisors.find(leadingTerm);
+            if (index == null) {
+                throw new IllegalStateException("The initial forms do not generate their own ideal.");
+            }
+
+            var quotient = leadingTerm.divide(initialForms.get(index).leadingTerm());
+            remaining = remaining.subtract(initialForms.get(index).multiply(quotient));
+            result = result.add(basis.get(index).multiply(quotient));
+        }
+
+        return result;
+    }
+
+    // The first point w + t (τ - w) with 0 < t <= 1 where a leading monomial stops being the only one of
+    // maximal weighted degree, or null if none does
+    private static <T extends Numeric> int[] nextWeights(
+            List<Polynomial<T>> basis,
+            int[] weights,
+            int[] targetWeights
+    ) {
+        // t = numerator / denominator
+        long numerator = -1, denominator = 1;
+        for (var polynomial : basis) {
+            var leadingMonomial = polynomial.leadingMonomial();
+            var currentLeading = leadingMonomial.weightedDegree(weights);
+            var targetLeading = leadingMonomial.weightedDegree(targetWeights);
+            for (var monomial : polynomial.monomials()) {
+                var current = currentLeading - monomial.weightedDegree(weights);
+                var target = targetLeading - monomial.weightedDegree(targetWeights);
+                if (target > 0 || monomial.exponentsEqual(leadingMonomial)) {
+                    continue;
+                }
+
+                if (current == 0) {
+                    if (target < 0) {
+                        throw new IllegalArgumentException("The target ordering should be refined by the target weights.");
+                    }
+
+                    continue;
+                }
+
+                // (1 - t) current + t target = 0
+                var candidateDenominator = current - target;
+                if (numerator < 0 || Math.multiplyExact(current, denominator)
+                        < Math.multiplyExact(numerator, candidateDenominator)) {
+                    numerator = current;
+                    denominator = candidateDenominator;
+                }
+            }
+        }
+
+        if (numerator < 0) {
+            return null;
+        }
+
+        // (denominator - numerator) w + numerator τ, divided by the gcd of its entries
+        var next = new long[weights.length];
+        var gcd = 0L;
+        for (var i = 0; i < weights.length; i++) {
+            next[i] = Math.addExact(
+                    Math.multiplyExact(denominator - numerator, weights[i]),
+                    Math.multiplyExact(numerator, targetWeights[i])
+            );
+            gcd = ArithmeticUtils.gcd(gcd, next[i]);
+        }
+
+        var result = new int[weights.length];
+        for (var i = 0; i < weights.length; i++) {
+            result[i] = Math.toIntExact(next[i] / gcd);
+        }
+
+        return result;
+    }
+}
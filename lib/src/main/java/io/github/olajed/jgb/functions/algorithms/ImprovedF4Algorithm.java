@@ -1,45 +1,81 @@
 package io.github.olajed.jgb.functions.algorithms;
 
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.MatrixStatistics;
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.enums.PairCriterion;
+import io.github.olajed.jgb.events.MacaulayMatrixEvent;
+import io.github.olajed.jgb.events.SymbolicPreprocessingEvent;
 import io.github.olajed.jgb.functions.MonomialFunctions;
 import io.github.olajed.jgb.number.Numeric;
 import io.github.olajed.jgb.structures.*;
 import io.github.olajed.jgb.utils.Pair;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
-// FIXME, issues with katsura 4
 @SuppressWarnings("unchecked")
 public final class ImprovedF4Algorithm {
+    // Name of the algorithm in the flight recorder events
+    private static final String ALGORITHM = "Improved F4";
+
     private ImprovedF4Algorithm() {
     }
 
     public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> polynomials) {
+        return compute(polynomials, null);
+    }
+
+    public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> polynomials, ForkJoinPool pool) {
+        return compute(polynomials, pool, ComputationContext.unbounded());
+    }
+
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> polynomials,
+            ForkJoinPool pool,
+            ComputationContext context
+    ) {
         List<Polynomial<T>> basis = new ArrayList<>();
         List<Pair<Polynomial<T>, Polynomial<T>>> criticalPairs = new ArrayList<>();
         var polynomialsCopy = new ArrayList<>(polynomials);
+        context.startPhase(ComputationPhase.PAIR_UPDATE);
         while (!polynomialsCopy.isEmpty()) {
             var selectedPolynomial = polynomialsCopy.removeFirst();
-            var updated = update(basis, criticalPairs, selectedPolynomial);
+            var updated = update(basis, criticalPairs, selectedPolynomial, context);
             basis = updated.first();
             criticalPairs = updated.second();
         }
 
-        List<List<Polynomial<T>>> polynomialsSets = new ArrayList<>();
+        context.endPhase(ComputationPhase.PAIR_UPDATE);
+
+        // Without polynomials there is no pair, the table is never used
+        var monomialTable = basis.isEmpty()
+                ? null
+                : new MonomialTable<>(basis.getFirst().fieldSize(), basis.getFirst().ordering());
+        var reducers = new ReducerStore<>(monomialTable);
+        context.checkBasis(basis);
         while (!criticalPairs.isEmpty()) {
+            context.checkpoint();
+            context.startPhase(ComputationPhase.SELECTION);
             var selectedPairs = selection(criticalPairs);
             criticalPairs.removeAll(selectedPairs);
-            var reductionResult = reduction(selectedPairs, basis, polynomialsSets);
-            var polys = reductionResult.first();
-            polynomialsSets.add(reductionResult.second());
+            context.endPhase(ComputationPhase.SELECTION);
+            var polys = reduction(selectedPairs, basis, reducers, pool, monomialTable, context);
+            context.startPhase(ComputationPhase.PAIR_UPDATE);
             for (var p : polys) {
-                var updateResult = update(basis, criticalPairs, p);
+                var updateResult = update(basis, criticalPairs, p, context);
                 basis = updateResult.first();
                 criticalPairs = updateResult.second();
             }
+
+            reducers.retain(basis);
+            context.endPhase(ComputationPhase.PAIR_UPDATE);
+            context.checkBasis(basis);
         }
 
+        context.complete();
         return basis;
     }
 
@@ -51,7 +87,7 @@ public final class ImprovedF4Algorithm {
         var minDegree = Integer.MAX_VALUE;
         for (var i = 0; i < size; i++) {
             var pair = pairs.get(i);
-            var degree = MonomialFunctions.lcm(pair.first().leadingMonomial(), pair.second().leadingMonomial()).degree();
+            var degree = pair.first().leadingMonomial().lcmDegree(pair.second().leadingMonomial());
             minDegree = Math.min(minDegree, degree);
             lcmDegrees[i] = degree;
         }
@@ -66,75 +102,91 @@ public final class ImprovedF4Algorithm {
         return selected;
     }
 
-    private static <T extends Numeric> Pair<List<Polynomial<T>>, List<Polynomial<T>>> reduction(
+    private static <T extends Numeric> List<Polynomial<T>> reduction(
             List<Pair<Polynomial<T>, Polynomial<T>>> pairs,
             List<Polynomial<T>> currentBasis,
-            List<List<Polynomial<T>>> polynomialSets
+            ReducerStore<T> reducers,
+            ForkJoinPool pool,
+            MonomialTable<T> monomialTable,
+            ComputationContext context
     ) {
-        var preprocessed = symbolicPreprocessing(pairs, currentBasis, polynomialSets);
-        var preprocessedLeadingTerms = new HashSet<Monomial<T>>(preprocessed.size());
-        for (var polynomial : preprocessed) {
-            preprocessedLeadingTerms.add(polynomial.leadingTerm());
+        var firstPair = pairs.getFirst();
+        var degree = firstPair.first().leadingMonomial().lcmDegree(firstPair.second().leadingMonomial());
+        var preprocessingEvent = new SymbolicPreprocessingEvent();
+        preprocessingEvent.begin();
+        var preprocessingStart = context.startPhase(ComputationPhase.SYMBOLIC_PREPROCESSING);
+        var preprocessing = symbolicPreprocessing(pairs, currentBasis, reducers, monomialTable);
+        var preprocessingEnd = context.endPhase(ComputationPhase.SYMBOLIC_PREPROCESSING);
+        var rows = preprocessing.rows().size();
+        var entries = preprocessing.entries();
+        var columns = preprocessing.columns().length;
+        preprocessingEvent.commit(ALGORITHM, degree, pairs.size(), rows, columns);
+        context.checkMatrix(rows, columns, entries);
+        var matrixEvent = new MacaulayMatrixEvent();
+        matrixEvent.begin();
+        var eliminationStart = context.startPhase(ComputationPhase.ELIMINATION);
+        // The last id of a row is its leading monomial
+        var leadingMonomials = new BitSet(monomialTable.size());
+        for (var i = 0; i < rows; i++) {
+            var ids = preprocessing.monomials(i);
+            leadingMonomials.set(ids[ids.length - 1]);
+        }
+
+        List<Polynomial<T>> reducedPolynomials;
+        if (SparseMacaulayMatrix.isSupported(preprocessing)) {
+            var sparseMacaulayMatrix = new SparseMacaulayMatrix<>(preprocessing, monomialTable);
+            sparseMacaulayMatrix.rowEchelonReduction(pool);
+            reducedPolynomials = sparseMacaulayMatrix.polynomials();
+        } else {
+            var macaulayMatrix = new MacaulayMatrix<>(preprocessing, ArithmeticMode.FIELD, monomialTable);
+            macaulayMatrix.rowEchelonReduction(pool);
+            reducedPolynomials = macaulayMatrix.polynomials();
         }
 
-        var macaulayMatrix = new MacaulayMatrix<>(preprocessed);
-        macaulayMatrix.rowEchelonReduction();
-        var reducedPolynomials = macaulayMatrix.polynomials();
+        reducers.add(preprocessing.rows(), reducedPolynomials);
         var polynomials = new ArrayList<Polynomial<T>>(reducedPolynomials.size());
         for (var reducedPolynomial : reducedPolynomials) {
-            if (!preprocessedLeadingTerms.contains(reducedPolynomial.leadingTerm())) {
+            if (!leadingMonomials.get(monomialTable.intern(reducedPolynomial.leadingMonomial()))) {
                 polynomials.add(reducedPolynomial);
             }
         }
 
-        return new Pair<>(polynomials, preprocessed);
+        var eliminationEnd = context.endPhase(ComputationPhase.ELIMINATION);
+        var pivots = reducedPolynomials.size();
+        matrixEvent.commit(ALGORITHM, degree, rows, columns, entries, pivots, polynomials.size());
+        context.recordReductions(pairs.size(), rows - pivots);
+        context.recordMatrix(new MatrixStatistics(
+                degree,
+                pairs.size(),
+                rows,
+                columns,
+                entries,
+                pivots,
+                polynomials.size(),
+                Duration.ofNanos(preprocessingEnd - preprocessingStart),
+                Duration.ofNanos(eliminationEnd - eliminationStart)
+        ));
+        return polynomials;
     }
 
-    private static <T extends Numeric> List<Polynomial<T>> symbolicPreprocessing(
+    private static <T extends Numeric> SymbolicPreprocessing<T> symbolicPreprocessing(
             List<Pair<Polynomial<T>, Polynomial<T>>> pairs,
             List<Polynomial<T>> currentBasis,
-            List<List<Polynomial<T>>> polynomialSets
+            ReducerStore<T> reducers,
+            MonomialTable<T> monomialTable
     ) {
         var list = sPolynomialsHalves(pairs);
-        var polynomials = new ArrayList<Polynomial<T>>(list.size());
+        var rows = new ArrayList<SymbolicPreprocessing.Row<T>>(list.size());
         for (var pair : list) {
-            var simplified = simplify(pair.first(), pair.second(), polynomialSets);
-            polynomials.add(simplified.second().multiply(simplified.first()));
+            rows.add(reducers.simplify(pair.first(), pair.second()));
         }
 
-        var done = new HashSet<Monomial<T>>();
-        var allMonomials = new HashSet<Monomial<T>>();
-        for (var polynomial : polynomials) {
-            done.add(polynomial.leadingTerm());
-            allMonomials.addAll(polynomial.monomials());
-        }
-
-        var ordering = currentBasis.getFirst().ordering();
-        while (!done.equals(allMonomials)) {
-            Monomial<T> largestMonomial = null;
-            for (var monomial : allMonomials) {
-                if (!done.contains(monomial)) {
-                    if (largestMonomial == null || ordering.compare(monomial, largestMonomial) > 0) {
-                        largestMonomial = monomial;
-                    }
-                }
-            }
-
-            assert largestMonomial != null;
-            done.add(largestMonomial);
-            for (var polynomial : currentBasis) {
-                var divisionResult = largestMonomial.divide(polynomial.leadingTerm());
-                if (!divisionResult.coefficient().equals(divisionResult.coefficient().zero())) {
-                    var simplificationResult = simplify(divisionResult, polynomial, polynomialSets);
-                    var polynomialToAdd = simplificationResult.second().multiply(simplificationResult.first());
-                    polynomials.add(polynomialToAdd);
-                    allMonomials.addAll(polynomialToAdd.monomials());
-                    break;
-                }
-            }
-        }
-
-        return polynomials;
+        return SymbolicPreprocessing.compute(rows, currentBasis, monomialTable, row -> {
+            // The quotient by the leading term, as in the S-polynomial halves
+            var reducer = row.polynomial();
+            var term = row.multiplier().multiply((T) reducer.leadingCoefficient().inverse());
+            return reducers.simplify(term, reducer);
+        });
     }
 
     private static <T extends Numeric> List<Pair<Monomial<T>, Polynomial<T>>> sPolynomialsHalves(
@@ -152,40 +204,11 @@ public final class ImprovedF4Algorithm {
         return result;
     }
 
-    private static <T extends Numeric> Pair<Monomial<T>, Polynomial<T>> simplify(
-            Monomial<T> term,
-            Polynomial<T> polynomial,
-            List<List<Polynomial<T>>> polynomialSets
-    ) {
-        Monomial<T> one;
-        if (term instanceof DenseMonomial<T>) {
-            one = new DenseMonomial<>(new int[term.fieldSize()], (T) term.coefficient().one());
-        } else {
-            one = new SparseMonomial<>(new int[term.fieldSize()], (T) term.coefficient().one());
-        }
-
-        for (var divisor : term.divisors()) {
-            var product = polynomial.multiply(divisor);
-            for (var polynomialSet : polynomialSets) {
-                for (var p : polynomialSet) {
-                    if (p.leadingTerm().equals(product.leadingTerm())) {
-                        if (divisor.equals(term)) {
-                            return new Pair<>(one, p);
-                        } else {
-                            return simplify(term.divide(divisor), polynomial, polynomialSets);
-                        }
-                    }
-                }
-            }
-        }
-
-        return new Pair<>(term, polynomial);
-    }
-
     private static <T extends Numeric> Pair<List<Polynomial<T>>, List<Pair<Polynomial<T>, Polynomial<T>>>> update(
             List<Polynomial<T>> oldBasis,
             List<Pair<Polynomial<T>, Polynomial<T>>> oldPairs,
-            Polynomial<T> polynomial
+            Polynomial<T> polynomial,
+            ComputationContext context
     ) {
         var pairs = new ArrayList<Pair<Polynomial<T>, Polynomial<T>>>();
         var polynomialLm = polynomial.leadingMonomial();
@@ -203,22 +226,18 @@ public final class ImprovedF4Algorithm {
                 continue;
             }
 
-            var predicateForPairs = pairs.stream().allMatch(x -> MonomialFunctions
-                    .lcm(polynomialLm, lm)
-                    .divide(MonomialFunctions.lcm(polynomialLm, x.second().leadingMonomial()))
-                    .isZero());
-
-            var predicateForSavedPairs = savedPairs.stream().allMatch(x -> MonomialFunctions
-                    .lcm(polynomialLm, lm)
-                    .divide(MonomialFunctions.lcm(polynomialLm, x.second().leadingMonomial()))
-                    .isZero());
+            var predicateForPairs = pairs.stream()
+                    .noneMatch(x -> polynomialLm.lcmDivides(x.second().leadingMonomial(), lm));
 
+            var predicateForSavedPairs = savedPairs.stream()
+                    .noneMatch(x -> polynomialLm.lcmDivides(x.second().leadingMonomial(), lm));
 
             if (predicateForPairs && predicateForSavedPairs) {
                 savedPairs.add(selectedPair);
             }
         }
 
+        var chainKept = savedPairs.size();
         var otherPairs = new ArrayList<Pair<Polynomial<T>, Polynomial<T>>>();
         while (!savedPairs.isEmpty()) {
             var selectedPair = savedPairs.removeFirst();
@@ -229,25 +248,30 @@ public final class ImprovedF4Algorithm {
             }
         }
 
+        var pending = oldPairs.size();
         var newPairs = new ArrayList<Pair<Polynomial<T>, Polynomial<T>>>();
         while (!oldPairs.isEmpty()) {
             var selectedPair = oldPairs.removeFirst();
             var lm1 = selectedPair.first().leadingMonomial();
             var lm2 = selectedPair.second().leadingMonomial();
-            var lcm = MonomialFunctions.lcm(lm1, lm2);
-
-            if (lcm.divide(polynomialLm).isZero() || MonomialFunctions.lcm(polynomialLm, lm1).equals(lcm)
-                    || MonomialFunctions.lcm(polynomialLm, lm2).equals(lcm)
+            // Once polynomialLm divides lcm(lm1, lm2), lcm(polynomialLm, lm1) equals lcm(lm1, lm2)
+            // exactly when lm2 divides lcm(polynomialLm, lm1)
+            if (!lm1.lcmDivides(polynomialLm, lm2) || lm1.lcmDivides(lm2, polynomialLm)
+                    || lm2.lcmDivides(lm1, polynomialLm)
             ) {
                 newPairs.add(selectedPair);
             }
         }
 
+        context.recordPairsCreated(oldBasis.size());
+        context.recordPairsPruned(PairCriterion.CHAIN, oldBasis.size() - chainKept);
+        context.recordPairsPruned(PairCriterion.PRODUCT, chainKept - otherPairs.size());
+        context.recordPairsPruned(PairCriterion.OBSOLETE, pending - newPairs.size());
         newPairs.addAll(otherPairs);
         var newBasis = new ArrayList<Polynomial<T>>();
         while (!oldBasis.isEmpty()) {
             var candidate = oldBasis.removeLast();
-            if (candidate.leadingMonomial().divide(polynomialLm).isZero()) {
+            if (!polynomialLm.divides(candidate.leadingMonomial())) {
                 newBasis.add(candidate);
             }
         }
@@ -255,4 +279,116 @@ public final class ImprovedF4Algorithm {
         newBasis.add(polynomial);
         return new Pair<>(newBasis, newPairs);
     }
+
+    /**
+     * The rows of the previous reductions, used to simplify the rows of the next matrices.
+     * <p>
+     * Each product of a polynomial by a multiplier that was a row of a matrix is indexed by the polynomial and
+     * the id of the multiplier, and the reduced rows of each matrix by the id of their leading monomial, so a
+     * simplification only costs hash lookups and divisibility checks on the recorded multipliers.
+     * A matrix is dropped once neither a polynomial of the basis nor a row of a kept matrix leads to it.
+     * </p>
+     */
+    private static final class ReducerStore<T extends Numeric> {
+        private final MonomialTable<T> monomialTable;
+        // Reduced rows of each matrix by leading monomial id, null once the matrix is dropped
+        private final List<Map<Integer, Polynomial<T>>> reducedRows = new ArrayList<>();
+        // For each polynomial, the pairs (multiplier id, matrix index) of its products that were rows
+        private final Map<Polynomial<T>, List<int[]>> products = new IdentityHashMap<>();
+
+        private ReducerStore(MonomialTable<T> monomialTable) {
+            this.monomialTable = monomialTable;
+        }
+
+        private void add(List<SymbolicPreprocessing.Row<T>> rows, List<Polynomial<T>> reduced) {
+            var matrix = reducedRows.size();
+            var byLeadingMonomial = new HashMap<Integer, Polynomial<T>>(reduced.size() * 2);
+            for (var polynomial : reduced) {
+                byLeadingMonomial.put(monomialTable.intern(polynomial.leadingMonomial()), polynomial);
+            }
+
+            reducedRows.add(byLeadingMonomial);
+            for (var row : rows) {
+                var multiplier = monomialTable.intern(row.multiplier());
+                products.computeIfAbsent(row.polynomial(), ignored -> new ArrayList<>())
+                        .add(new int[]{multiplier, matrix});
+            }
+        }
+
+        // Replaces term * polynomial by a multiple of a reduced row with the same leading term, following the
+        // largest recorded multiplier dividing the term at each step
+        private SymbolicPreprocessing.Row<T> simplify(Monomial<T> term, Polynomial<T> polynomial) {
+            var leadingTerm = (T) polynomial.leadingCoefficient().multiply(term.coefficient());
+            var current = polynomial;
+            var remaining = monomialTable.intern(term);
+            while (true) {
+                var entries = products.get(current);
+                if (entries == null) {
+                    break;
+                }
+
+                int[] best = null;
+                for (var entry : entries) {
+                    if (monomialTable.divides(entry[0], remaining)
+                            && (best == null || monomialTable.compare(entry[0], best[0]) > 0)) {
+                        best = entry;
+                    }
+                }
+
+                if (best == null) {
+                    break;
+                }
+
+                var leadingMonomial = monomialTable.intern(current.leadingMonomial());
+                var reduced = reducedRows.get(best[1]).get(monomialTable.multiply(leadingMonomial, best[0]));
+                if (reduced == null) {
+                    break;
+                }
+
+                current = reduced;
+                remaining = monomialTable.divide(remaining, best[0]);
+            }
+
+            if (current == polynomial) {
+                return new SymbolicPreprocessing.Row<>(term, polynomial);
+            }
+
+            // Same leading term as term * polynomial
+            var coefficient = (T) leadingTerm.divide(current.leadingCoefficient());
+            var multiplier = monomialTable.monomial(remaining).withCoefficient(coefficient);
+            return new SymbolicPreprocessing.Row<>(multiplier, current);
+        }
+
+        private void retain(List<Polynomial<T>> basis) {
+            var kept = new BitSet(reducedRows.size());
+            var reachable = Collections.newSetFromMap(new IdentityHashMap<Polynomial<T>, Boolean>());
+            var queue = new ArrayDeque<>(basis);
+            while (!queue.isEmpty()) {
+                var polynomial = queue.poll();
+                if (!reachable.add(polynomial)) {
+                    continue;
+                }
+
+                var entries = products.get(polynomial);
+                if (entries == null) {
+                    continue;
+                }
+
+                for (var entry : entries) {
+                    if (!kept.get(entry[1])) {
+                        kept.set(entry[1]);
+                        queue.addAll(reducedRows.get(entry[1]).values());
+                    }
+                }
+            }
+
+            for (var i = 0; i < reducedRows.size(); i++) {
+                if (!kept.get(i)) {
+                    reducedRows.set(i, null);
+                }
+            }
+
+            products.keySet().retainAll(reachable);
+        }
+    }
 }
@@ -1,11 +1,21 @@
 package io.github.olajed.jgb.functions.algorithms;
 
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.enums.PairCriterion;
+import io.github.olajed.jgb.events.MultiplyFullReduceEvent;
+import io.github.olajed.jgb.events.UpdateReduceEvent;
 import io.github.olajed.jgb.functions.MonomialFunctions;
 import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.ordering.GrlexOrdering;
+import io.github.olajed.jgb.structures.DivisorIndex;
+import io.github.olajed.jgb.structures.Geobucket;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.MonomialTable;
 import io.github.olajed.jgb.structures.Polynomial;
 import io.github.olajed.jgb.utils.Pair;
-import io.github.olajed.jgb.utils.Triple;
 
 import java.util.*;
 
@@ -17,6 +27,12 @@ import java.util.*;
  * "M4GB: An efficient Gröbner-basis algorithm"</a> by Rusydi H. Makarim and Marc Stevens</p>
  *
  * <p>This class provides a static method to compute Gröbner bases from a list of input polynomials.</p>
+ *
+ * <p>The reductors are kept fully reduced, their tails being reduced as soon as they are created. This is only
+ * bounded for a degree-compatible ordering, grevlex or grlex: the tail of a reductor then stays within the
+ * monomials of its degree. Under lex, the tails of the reductors grow without limit before the basis is complete.
+ * A basis for another ordering is computed for grevlex first, then converted with {@link GrobnerWalkAlgorithm}
+ * or {@link FGLMAlgorithm}.</p>
  */
 @SuppressWarnings("unchecked")
 public final class M4GBAlgorithm {
@@ -29,254 +45,401 @@ public final class M4GBAlgorithm {
      * @param polynomials the input list of polynomials to compute the Gröbner basis for
      * @param <T> the numeric type of the polynomial coefficients
      * @return a list of polynomials forming a Gröbner basis for the ideal generated by the input
+     * @throws IllegalArgumentException if the ordering of the polynomials is not grevlex or grlex
      */
     public static <T extends Numeric> List<Polynomial<T>> compute(List<Polynomial<T>> polynomials) {
-        var polynomialsToWorkWith = new ArrayList<>(polynomials);
-        List<Monomial<T>> monomials = new ArrayList<>();
-        List<Polynomial<T>> basis = new ArrayList<>();
-        List<Pair<Monomial<T>, Monomial<T>>> pairs = new ArrayList<>();
-        var identityMonomial = MonomialFunctions.one(polynomials.getFirst().leadingMonomial());
-
-        for (var i = 0; i < polynomialsToWorkWith.size(); i++) {
-            var polynomial = polynomialsToWorkWith.get(i);
-            var multiplyFullReduced = multiplyFullReduce(monomials, basis, identityMonomial, polynomial);
-            basis = multiplyFullReduced.first();
-            polynomialsToWorkWith.set(i, multiplyFullReduced.second());
-
-            var updatedReduced = updateReduce(monomials, basis, pairs, polynomial);
-            monomials = updatedReduced.first();
-            basis = updatedReduced.second();
-            pairs = updatedReduced.third();
+        return compute(polynomials, ComputationContext.unbounded());
+    }
+
+    /**
+     * Computes a Gröbner basis for the given list of polynomials using the M4GB algorithm,
+     * within the limits of the given context.
+     *
+     * <p>The context is checked before each pair is reduced, and after each polynomial is added to the basis,
+     * the terms of all the reductors being counted in the estimated memory.</p>
+     *
+     * @param polynomials the input list of polynomials to compute the Gröbner basis for
+     * @param context     the limits of the computation, collecting its statistics
+     * @param <T> the numeric type of the polynomial coefficients
+     * @return a list of polynomials forming a Gröbner basis for the ideal generated by the input
+     * @throws IllegalArgumentException          if the ordering of the polynomials is not grevlex or grlex
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static <T extends Numeric> List<Polynomial<T>> compute(
+            List<Polynomial<T>> polynomials,
+            ComputationContext context
+    ) {
+        var firstPolynomial = polynomials.getFirst();
+        var ordering = firstPolynomial.ordering();
+        if (!(ordering instanceof GrevlexOrdering<T>) && !(ordering instanceof GrlexOrdering<T>)) {
+            throw new IllegalArgumentException("M4GB requires a degree-compatible ordering, grevlex or grlex.");
         }
 
-        var ordering = polynomials.getFirst().ordering();
-        var pq = new PriorityQueue<>((Comparator<Pair<Monomial<T>, Monomial<T>>>) (x, y) -> ordering.compare(x.first(), y.first()));
-        pq.addAll(pairs);
-        while (!pq.isEmpty()) {
-            var selectedPair = pq.poll();
-            Polynomial<T> f = null;
-            Polynomial<T> g = null;
-            for (var polynomial : basis) {
-                if (polynomial.leadingMonomial().equals(selectedPair.first())) {
-                    f = polynomial;
-                }
+        var state = new State<>(new MonomialTable<>(firstPolynomial.fieldSize(), ordering));
+        var identityMonomial = MonomialFunctions.one(firstPolynomial.leadingMonomial());
+        // Updated in place, the pairs are never rebuilt
+        var pairs = new PriorityQueue<>((Comparator<Pair<Monomial<T>, Monomial<T>>>) (x, y) -> ordering.compare(x.first(), y.first()));
 
-                if (polynomial.leadingMonomial().equals(selectedPair.second())) {
-                    g = polynomial;
-                }
+        for (var polynomial : polynomials) {
+            context.startPhase(ComputationPhase.REDUCTION);
+            var reduced = multiplyFullReduce(state, identityMonomial, polynomial);
+            context.endPhase(ComputationPhase.REDUCTION);
+            if (!reduced.monomials().isEmpty()) {
+                updateReduce(state, pairs, reduced, context);
+                checkBasis(state, context);
             }
+        }
 
-            assert f != null && g != null;
+        while (!pairs.isEmpty()) {
+            context.checkpoint();
+            context.startPhase(ComputationPhase.REDUCTION);
+            var selectedPair = pairs.poll();
+            var f = state.reductor(selectedPair.first());
+            var g = state.reductor(selectedPair.second());
             var lcm = MonomialFunctions.lcm(selectedPair.first(), selectedPair.second());
-            var mulFullReduce1 = multiplyFullReduce(monomials, basis, lcm.divide(f.leadingTerm()), f.tail());
-            var mulFullReduce2 = multiplyFullReduce(monomials, basis, lcm.divide(g.leadingTerm()), g.tail());
-            var h = mulFullReduce1.second().subtract(mulFullReduce2.second());
+            var h = multiplyFullReduce(state, lcm.divide(f.leadingTerm()), f.tail())
+                    .subtract(multiplyFullReduce(state, lcm.divide(g.leadingTerm()), g.tail()));
+            context.endPhase(ComputationPhase.REDUCTION);
+            context.recordReductions(1, h.monomials().isEmpty() ? 1 : 0);
             if (!h.monomials().isEmpty()) {
-                var updatedReduced = updateReduce(monomials, basis, new ArrayList<>(pq.stream().toList()), h);
-                monomials = updatedReduced.first();
-                basis = updatedReduced.second();
-                pq.clear();
-                pq.addAll(updatedReduced.third());
+                updateReduce(state, pairs, h, context);
+                checkBasis(state, context);
             }
         }
 
-        var monomialsSet = new HashSet<>(monomials);
-        var basisToReturn = new ArrayList<Polynomial<T>>(basis.size());
-        for (var polynomial : basis) {
-            if (monomialsSet.contains(polynomial.leadingMonomial())) {
-                basisToReturn.add(polynomial);
+        var monomialsIds = new BitSet();
+        for (var monomial : state.monomials) {
+            monomialsIds.set(state.monomialTable.intern(monomial));
+        }
+
+        var basisToReturn = new ArrayList<Polynomial<T>>(state.monomials.size());
+        for (var entry : state.reductors.entrySet()) {
+            if (monomialsIds.get(entry.getKey())) {
+                basisToReturn.add(entry.getValue());
             }
         }
 
+        context.complete();
         return basisToReturn;
     }
 
-    private static <T extends Numeric> Triple<List<Monomial<T>>, List<Polynomial<T>>, List<Pair<Monomial<T>, Monomial<T>>>> updateReduce(
-            List<Monomial<T>> monomials,
-            List<Polynomial<T>> polynomials,
-            List<Pair<Monomial<T>, Monomial<T>>> pairs,
-            Polynomial<T> polynomial
+    /**
+     * The state of the computation: the set {@code M} of reductors indexed by the id of their leading monomial,
+     * and the set {@code L} of the leading monomials of the basis with a divisor index.
+     * The reductors are also indexed by the ids of their tail monomials, so that a new leading monomial only
+     * visits the reductors with a multiple of it in their tail. The index may keep a reductor for a monomial
+     * that cancelled out of its tail, the tails are checked when visited.
+     */
+    private static final class State<T extends Numeric> {
+        private final MonomialTable<T> monomialTable;
+        private final Map<Integer, Polynomial<T>> reductors = new LinkedHashMap<>();
+        // Ids of the reductors by the id of a monomial that is or was in their tail, with the indexed monomials
+        private int[][] tailReductors = new int[0][];
+        private int[] tailReductorCounts = new int[0];
+        private final BitSet tailMonomials = new BitSet();
+        private final List<Monomial<T>> monomials = new ArrayList<>();
+        private final DivisorIndex<T, Integer> monomialsIndex;
+        // Ids of the reductors created by getReductor, consumed by updateReduce
+        private final List<Integer> createdReductors = new ArrayList<>();
+
+        private State(MonomialTable<T> monomialTable) {
+            this.monomialTable = monomialTable;
+            this.monomialsIndex = new DivisorIndex<>(monomialTable.fieldSize());
+        }
+
+        private Polynomial<T> reductor(Monomial<T> leadingMonomial) {
+            return reductors.get(monomialTable.intern(leadingMonomial));
+        }
+
+        // The ids of the monomials of the tail, the leading term being the last one
+        private int[] tailIds(Polynomial<T> polynomial) {
+            var terms = polynomial.monomials();
+            var ids = new int[terms.size() - 1];
+            for (var i = 0; i < ids.length; i++) {
+                ids[i] = monomialTable.intern(terms.get(i));
+            }
+
+            return ids;
+        }
+
+        private void indexTail(int id, int[] monomialIds) {
+            for (var monomialId : monomialIds) {
+                if (monomialId >= tailReductors.length) {
+                    var length = Math.max(monomialId + 1, 2 * tailReductors.length);
+                    tailReductors = Arrays.copyOf(tailReductors, length);
+                    tailReductorCounts = Arrays.copyOf(tailReductorCounts, length);
+                }
+
+                var ids = tailReductors[monomialId];
+                var count = tailReductorCounts[monomialId];
+                if (ids == null) {
+                    ids = new int[4];
+                    tailReductors[monomialId] = ids;
+                    tailMonomials.set(monomialId);
+                } else if (ids[count - 1] == id) {
+                    continue;
+                } else if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, 2 * count);
+                    tailReductors[monomialId] = ids;
+                }
+
+                ids[count] = id;
+                tailReductorCounts[monomialId] = count + 1;
+            }
+        }
+
+        private void removeTailMonomial(int monomialId) {
+            tailReductors[monomialId] = null;
+            tailReductorCounts[monomialId] = 0;
+            tailMonomials.clear(monomialId);
+        }
+    }
+
+    private static <T extends Numeric> void checkBasis(State<T> state, ComputationContext context) {
+        var terms = 0L;
+        for (var reductor : state.reductors.values()) {
+            terms += reductor.length();
+        }
+
+        context.checkBasis(state.monomials.size(), terms);
+    }
+
+    private static <T extends Numeric> void updateReduce(
+            State<T> state,
+            PriorityQueue<Pair<Monomial<T>, Monomial<T>>> pairs,
+            Polynomial<T> polynomial,
+            ComputationContext context
     ) {
-        var leadingCoefficient = polynomial.leadingCoefficient();
-        var leadingMonomial = polynomial.leadingMonomial();
+        context.startPhase(ComputationPhase.INTER_REDUCTION);
+        var event = new UpdateReduceEvent();
+        event.begin();
+        var monomialTable = state.monomialTable;
         var ordering = polynomial.ordering();
+        var monicPolynomial = polynomial.multiply((T) polynomial.leadingCoefficient().inverse());
+        var leadingMonomial = monicPolynomial.leadingMonomial();
+        var leadingMonomialId = monomialTable.intern(leadingMonomial);
 
         var currentPolynomials = new ArrayList<Polynomial<T>>();
-        currentPolynomials.add(polynomial.multiply((T) leadingCoefficient.inverse()));
+        currentPolynomials.add(monicPolynomial);
+        var currentPolynomialsLeadingMonomials = new BitSet();
+        currentPolynomialsLeadingMonomials.set(leadingMonomialId);
+
+        // Multiples of the leading monomial in the tails, largest first
+        var candidates = new PriorityQueue<Integer>((x, y) -> monomialTable.compare(y, x));
+        var queued = new BitSet();
+        var indexedIds = new BitSet();
+        var tailMonomials = state.tailMonomials;
+        for (var id = tailMonomials.nextSetBit(0); id >= 0; id = tailMonomials.nextSetBit(id + 1)) {
+            if (monomialTable.divides(leadingMonomialId, id)) {
+                var reductorIds = state.tailReductors[id];
+                for (var i = 0; i < state.tailReductorCounts[id]; i++) {
+                    indexedIds.set(reductorIds[i]);
+                }
+            }
+        }
 
-        var currentPolynomialsLeadingMonomials = new HashSet<Monomial<T>>(currentPolynomials.size());
-        currentPolynomialsLeadingMonomials.add(currentPolynomials.getFirst().leadingMonomial());
+        // Ids of the reductors whose tail has a multiple of the leading monomial, the only ones to update
+        var affected = new ArrayList<Integer>(indexedIds.cardinality());
+        for (var id = indexedIds.nextSetBit(0); id >= 0; id = indexedIds.nextSetBit(id + 1)) {
+            if (queueMultiples(monomialTable, state.reductors.get(id), leadingMonomialId, candidates, queued)) {
+                affected.add(id);
+            }
+        }
 
+        queueMultiples(monomialTable, monicPolynomial, leadingMonomialId, candidates, queued);
+        state.createdReductors.clear();
+        var createdCursor = 0;
         while (true) {
-            var polynomialsToTest = new ArrayList<>(polynomials);
-            polynomialsToTest.addAll(currentPolynomials);
-
-            var allMonomials = monomialsInTails(polynomialsToTest);
-            allMonomials.removeAll(currentPolynomialsLeadingMonomials);
-
-            Monomial<T> selectedMonomial = null;
-            for (var monomial : allMonomials) {
-                var divisionResult = monomial.divide(leadingMonomial);
-                if (!divisionResult.isZero()) {
-                    if (selectedMonomial == null || ordering.compare(monomial, selectedMonomial) > 0) {
-                        selectedMonomial = monomial;
-                    }
+            for (; createdCursor < state.createdReductors.size(); createdCursor++) {
+                var id = state.createdReductors.get(createdCursor);
+                if (queueMultiples(monomialTable, state.reductors.get(id), leadingMonomialId, candidates, queued)) {
+                    affected.add(id);
                 }
             }
 
-            if (selectedMonomial == null) {
+            var selectedId = -1;
+            while (!candidates.isEmpty()) {
+                int candidate = candidates.poll();
+                if (!currentPolynomialsLeadingMonomials.get(candidate)) {
+                    selectedId = candidate;
+                    break;
+                }
+            }
+
+            if (selectedId == -1) {
                 break;
             }
 
+            var selectedMonomial = monomialTable.monomial(selectedId);
             var result = multiplyFullReduce(
-                    monomials,
-                    polynomials,
-                    selectedMonomial.divide(polynomial.leadingTerm()),
-                    polynomial.tail()
+                    state,
+                    selectedMonomial.divide(monicPolynomial.leadingTerm()),
+                    monicPolynomial.tail()
             );
 
-            polynomials = result.first();
-            var newPolynomial = result.second().add(new Polynomial<>(selectedMonomial, ordering));
+            var newPolynomial = result.add(new Polynomial<>(selectedMonomial, ordering));
             currentPolynomials.add(newPolynomial);
-            currentPolynomialsLeadingMonomials.add(newPolynomial.leadingMonomial());
+            currentPolynomialsLeadingMonomials.set(selectedId);
+            queueMultiples(monomialTable, newPolynomial, leadingMonomialId, candidates, queued);
         }
 
         while (!currentPolynomials.isEmpty()) {
             // Selecting the polynomial with the minimal leading monomial
-            Polynomial<T> minPolynomial = null;
-            for (var currentPolynomial : currentPolynomials) {
-                if (minPolynomial == null) {
-                    minPolynomial = currentPolynomial;
-                } else if (ordering.compare(currentPolynomial.leadingMonomial(), minPolynomial.leadingMonomial()) > 0) {
-                    minPolynomial = currentPolynomial;
+            var minIndex = 0;
+            for (var i = 1; i < currentPolynomials.size(); i++) {
+                var candidate = currentPolynomials.get(i).leadingMonomial();
+                if (ordering.compare(candidate, currentPolynomials.get(minIndex).leadingMonomial()) < 0) {
+                    minIndex = i;
                 }
             }
 
-            assert minPolynomial != null;
+            var minPolynomial = currentPolynomials.remove(minIndex);
+            var minLeadingMonomial = minPolynomial.leadingMonomial();
 
             // Update H
-            var zero = (T) leadingCoefficient.zero();
             for (var i = 0; i < currentPolynomials.size(); i++) {
                 var g = currentPolynomials.get(i);
-                var coefficient = zero;
-                for (var monomial : g.tail().monomials()) {
-                    if (monomial.exponentsEqual(minPolynomial.leadingMonomial())) {
-                        coefficient = monomial.coefficient();
-                        break;
-                    }
+                var coefficient = coefficientInTail(g, minLeadingMonomial);
+                if (coefficient != null) {
+                    currentPolynomials.set(i, g.subtract(minPolynomial.multiply(coefficient)));
                 }
-
-                currentPolynomials.set(i, g.subtract(minPolynomial.multiply(coefficient)));
             }
 
-            // Update M
-            for (var i = 0; i < polynomials.size(); i++) {
-                var g = polynomials.get(i);
-                var coefficient = zero;
-                for (var monomial : g.tail().monomials()) {
-                    if (monomial.exponentsEqual(minPolynomial.leadingMonomial())) {
-                        coefficient = monomial.coefficient();
-                        break;
-                    }
+            // Update M, in place, the new tail monomials come from the tail of the polynomial
+            var minTailIds = state.tailIds(minPolynomial);
+            for (var id : affected) {
+                var g = state.reductors.get(id);
+                var coefficient = coefficientInTail(g, minLeadingMonomial);
+                if (coefficient != null) {
+                    state.reductors.put(id, g.subtract(minPolynomial.multiply(coefficient)));
+                    state.indexTail(id, minTailIds);
                 }
+            }
+
+            var minLeadingMonomialId = monomialTable.intern(minLeadingMonomial);
+            state.reductors.put(minLeadingMonomialId, minPolynomial);
+            state.indexTail(minLeadingMonomialId, minTailIds);
+            affected.add(minLeadingMonomialId);
+        }
 
-                polynomials.set(i, g.subtract(minPolynomial.multiply(coefficient)));
+        // Every multiple of the leading monomial in a tail is now the leading monomial of a reductor
+        for (var id = tailMonomials.nextSetBit(0); id >= 0; id = tailMonomials.nextSetBit(id + 1)) {
+            if (monomialTable.divides(leadingMonomialId, id)) {
+                state.removeTailMonomial(id);
             }
+        }
+
+        context.startPhase(ComputationPhase.PAIR_UPDATE);
+        update(state, pairs, leadingMonomial, context);
+        context.endPhase(ComputationPhase.PAIR_UPDATE);
+        event.commit(
+                polynomial.length(),
+                affected.size(),
+                state.reductors.size(),
+                state.monomials.size(),
+                pairs.size()
+        );
+        context.endPhase(ComputationPhase.INTER_REDUCTION);
+    }
 
-            polynomials.add(minPolynomial);
-            currentPolynomials.remove(minPolynomial);
+    // Queues the monomials of the tail divisible by the given monomial, returns whether there was one
+    private static <T extends Numeric> boolean queueMultiples(
+            MonomialTable<T> monomialTable,
+            Polynomial<T> polynomial,
+            int divisorId,
+            PriorityQueue<Integer> candidates,
+            BitSet queued
+    ) {
+        var found = false;
+        var terms = polynomial.monomials();
+        // The leading term is the last one
+        for (var i = 0; i < terms.size() - 1; i++) {
+            var id = monomialTable.intern(terms.get(i));
+            if (monomialTable.divides(divisorId, id)) {
+                found = true;
+                if (!queued.get(id)) {
+                    queued.set(id);
+                    candidates.add(id);
+                }
+            }
         }
 
-        var updateResult = update(monomials, pairs, polynomial.leadingMonomial());
-        return new Triple<>(updateResult.first(), polynomials, updateResult.second());
+        return found;
     }
 
-    private static <T extends Numeric> Pair<List<Polynomial<T>>, Polynomial<T>> multiplyFullReduce(
-            List<Monomial<T>> monomials,
-            List<Polynomial<T>> polynomials,
+    // The coefficient of the monomial in the tail of the polynomial, null if it does not appear
+    private static <T extends Numeric> T coefficientInTail(Polynomial<T> polynomial, Monomial<T> monomial) {
+        var terms = polynomial.monomials();
+        var tail = terms.subList(0, terms.size() - 1);
+        var position = Collections.binarySearch(tail, monomial, polynomial.ordering());
+        return position < 0 ? null : tail.get(position).coefficient();
+    }
+
+    private static <T extends Numeric> Polynomial<T> multiplyFullReduce(
+            State<T> state,
             Monomial<T> term,
             Polynomial<T> polynomial
     ) {
+        var event = new MultiplyFullReduceEvent();
+        event.begin();
         var ordering = polynomial.ordering();
-        var resultingPolynomial = new Polynomial<>(term.fieldSize(), ordering);
+        var bucket = new Geobucket<>(ordering);
         for (var polynomialTerm : polynomial.monomials()) {
             var product = term.multiply(polynomialTerm);
-            if (monomialReducibleByMonomials(monomials, product)) {
-                var reductors = getReductor(monomials, polynomials, product);
-                polynomials = reductors.first();
-                var reductorPolynomial = reductors.second();
-                var rLt = reductorPolynomial.leadingTerm();
-                var rTail = reductorPolynomial.tail();
-                resultingPolynomial = resultingPolynomial.subtract(rTail.multiply(product.divide(rLt)));
+            if (state.monomialsIndex.hasDivisor(product)) {
+                var reductorPolynomial = getReductor(state, product);
+                var quotient = product.divide(reductorPolynomial.leadingTerm());
+                bucket.add(reductorPolynomial.tail().multiply(quotient.withCoefficient((T) quotient.coefficient().negate())));
             } else {
-                resultingPolynomial = resultingPolynomial.add(new Polynomial<>(product, ordering));
+                bucket.add(List.of(product));
             }
         }
 
-        return new Pair<>(polynomials, resultingPolynomial);
-    }
-
-    private static <T extends Numeric> Pair<List<Polynomial<T>>, Polynomial<T>> getReductor(
-            List<Monomial<T>> monomials,
-            List<Polynomial<T>> polynomials,
-            Monomial<T> term
-    ) {
-        for (var polynomial : polynomials) {
-            if (polynomial.leadingMonomial().exponentsEqual(term)) {
-                return new Pair<>(polynomials, polynomial);
-            }
+        var resultingMonomials = new ArrayList<Monomial<T>>();
+        Monomial<T> resultingTerm;
+        while ((resultingTerm = bucket.popLeadingTerm()) != null) {
+            resultingMonomials.add(resultingTerm);
         }
 
-        var f = reduceSel(polynomials, term).orElseThrow();
-        var fullReduced = multiplyFullReduce(monomials, polynomials, term.divide(f.leadingTerm()), f.tail());
-        var polynomialAdded = fullReduced.second().add(new Polynomial<>(term, f.ordering()));
-        var polynomialsToReturn = fullReduced.first();
-        polynomialsToReturn.add(polynomialAdded);
-        return new Pair<>(polynomialsToReturn, polynomialAdded);
+        event.commit(term.degree(), polynomial.length(), resultingMonomials.size());
+        return new Polynomial<>(resultingMonomials, term.fieldSize(), ordering);
     }
 
-    private static <T extends Numeric> boolean monomialReducibleByMonomials(List<Monomial<T>> monomials, Monomial<T> monomial) {
-        for (var maybeDivisor : monomials) {
-            if (!monomial.divide(maybeDivisor).isZero()) {
-                return true;
-            }
+    private static <T extends Numeric> Polynomial<T> getReductor(State<T> state, Monomial<T> term) {
+        var id = state.monomialTable.intern(term);
+        var reductor = state.reductors.get(id);
+        if (reductor != null) {
+            return reductor;
         }
 
-        return false;
+        // The reductor is monic, whatever the coefficient of the term to reduce
+        var monomial = state.monomialTable.monomial(id);
+        var f = reduceSel(state, monomial);
+        var fullReduced = multiplyFullReduce(state, monomial.divide(f.leadingTerm()), f.tail());
+        var polynomialAdded = fullReduced.add(new Polynomial<>(monomial, f.ordering()));
+        state.reductors.put(id, polynomialAdded);
+        state.indexTail(id, state.tailIds(polynomialAdded));
+        state.createdReductors.add(id);
+        return polynomialAdded;
     }
 
-    private static <T extends Numeric> Optional<Polynomial<T>> reduceSel(List<Polynomial<T>> basis, Monomial<T> monomial) {
-        for (var polynomial : basis) {
-            if (!monomial.divide(polynomial.leadingMonomial()).isZero()) {
-                return Optional.of(polynomial);
-            }
+    private static <T extends Numeric> Polynomial<T> reduceSel(State<T> state, Monomial<T> monomial) {
+        var divisorId = state.monomialsIndex.find(monomial);
+        if (divisorId == null) {
+            throw new NoSuchElementException();
         }
 
-        return Optional.empty();
-    }
-
-    private static <T extends Numeric> Set<Monomial<T>> monomialsInTails(List<Polynomial<T>> polynomials) {
-        T one = null;
-        if (!polynomials.isEmpty()) {
-            one = (T) polynomials.getFirst().leadingCoefficient().one();
-        }
-
-        var monomials = new HashSet<Monomial<T>>();
-        for (var polynomial : polynomials) {
-            for (var monomial : polynomial.tail().monomials()) {
-                monomials.add(monomial.withCoefficient(one));
-            }
-        }
-
-        return monomials;
+        return state.reductors.get(divisorId);
     }
 
     // Rework of the Buchberger update function to handle monomials
-    private static <T extends Numeric> Pair<List<Monomial<T>>, List<Pair<Monomial<T>, Monomial<T>>>> update(
-            List<Monomial<T>> monomials,
-            List<Pair<Monomial<T>, Monomial<T>>> oldPairs,
-            Monomial<T> monomial
+    private static <T extends Numeric> void update(
+            State<T> state,
+            PriorityQueue<Pair<Monomial<T>, Monomial<T>>> oldPairs,
+            Monomial<T> monomial,
+            ComputationContext context
     ) {
+        var monomials = state.monomials;
         var pairs = new ArrayList<Pair<Monomial<T>, Monomial<T>>>(monomials.size());
         for (var p : monomials) {
             pairs.add(new Pair<>(monomial, p));
@@ -290,21 +453,18 @@ public final class M4GBAlgorithm {
                 continue;
             }
 
-            var predicateForPairs = pairs.stream().allMatch(x -> MonomialFunctions
-                    .lcm(monomial, selectedPair.second())
-                    .divide(MonomialFunctions.lcm(monomial, x.second()))
-                    .isZero());
+            var predicateForPairs = pairs.stream()
+                    .noneMatch(x -> monomial.lcmDivides(x.second(), selectedPair.second()));
 
-            var predicateForSavedPairs = savedPairs.stream().allMatch(x -> MonomialFunctions
-                    .lcm(monomial, selectedPair.second())
-                    .divide(MonomialFunctions.lcm(monomial, x.second()))
-                    .isZero());
+            var predicateForSavedPairs = savedPairs.stream()
+                    .noneMatch(x -> monomial.lcmDivides(x.second(), selectedPair.second()));
 
             if (predicateForPairs && predicateForSavedPairs) {
                 savedPairs.add(selectedPair);
             }
         }
 
+        var chainKept = savedPairs.size();
         var otherPairs = new ArrayList<Pair<Monomial<T>, Monomial<T>>>();
         while (!savedPairs.isEmpty()) {
             var selectedPair = savedPairs.removeLast();
@@ -313,29 +473,29 @@ public final class M4GBAlgorithm {
             }
         }
 
-        var newPairs = new ArrayList<Pair<Monomial<T>, Monomial<T>>>();
-        while (!oldPairs.isEmpty()) {
-            var selectedPair = oldPairs.removeLast();
+        // Once monomial divides lcm(x, y), lcm(x, monomial) equals lcm(x, y) exactly when y divides lcm(x, monomial)
+        var pending = oldPairs.size();
+        oldPairs.removeIf(selectedPair -> {
             var x = selectedPair.first();
             var y = selectedPair.second();
-            var lcm = MonomialFunctions.lcm(x, y);
-            if (lcm.divide(monomial).isZero() || MonomialFunctions.lcm(x, monomial).equals(lcm)
-                    || MonomialFunctions.lcm(monomial, y).equals(lcm)
-            ) {
-                newPairs.add(selectedPair);
-            }
-        }
-
-        newPairs.addAll(otherPairs);
-        var newMonomials = new ArrayList<Monomial<T>>(monomials.size());
-        while (!monomials.isEmpty()) {
-            var candidate = monomials.removeLast();
-            if (candidate.divide(monomial).isZero()) {
-                newMonomials.add(candidate);
+            return x.lcmDivides(monomial, y) && !x.lcmDivides(y, monomial) && !y.lcmDivides(x, monomial);
+        });
+        context.recordPairsCreated(monomials.size());
+        context.recordPairsPruned(PairCriterion.CHAIN, monomials.size() - chainKept);
+        context.recordPairsPruned(PairCriterion.PRODUCT, chainKept - otherPairs.size());
+        context.recordPairsPruned(PairCriterion.OBSOLETE, pending - oldPairs.size());
+        oldPairs.addAll(otherPairs);
+
+        var monomialTable = state.monomialTable;
+        for (var iterator = monomials.iterator(); iterator.hasNext(); ) {
+            var candidate = iterator.next();
+            if (monomial.divides(candidate)) {
+                iterator.remove();
+                state.monomialsIndex.remove(candidate, monomialTable.intern(candidate));
             }
         }
 
-        newMonomials.add(monomial);
-        return new Pair<>(newMonomials, newPairs);
+        monomials.add(monomial);
+        state.monomialsIndex.add(monomial, monomialTable.intern(monomial));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,337 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.functions.MonomialFunctions;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.PrimeField;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+import io.github.olajed.jgb.structures.DivisorIndex;
+import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.Polynomial;
+import io.github.olajed.jgb.utils.ArithmeticUtils;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Computes reduced Gröbner bases over the rationals with modular methods.
+ *
+ * <p>The input ideal is mapped to several prime fields GF(p) with p close to 2^31, where the reduced Gröbner
+ * basis is computed with a modular algorithm such as F4 or M4GB. The images are independent and are computed in
+ * parallel. The coefficients of the images are combined with the Chinese remainder theorem, and the rational
+ * coefficients are recovered by rational reconstruction once the product of the primes is large enough.</p>
+ *
+ * <p>A prime is unlucky when the reduced basis modulo p does not have the same leading monomials as the
+ * reduced basis over the rationals. Primes dividing a denominator or a leading coefficient of the input are
+ * skipped, and among the remaining images only the ones whose leading monomials are shared by the largest
+ * number of primes are combined.</p>
+ *
+ * <p>The reconstruction is accepted once it is unchanged by a new batch of primes, and is then verified over
+ * the rationals: the result must be a Gröbner basis and every input polynomial must reduce to zero modulo it.
+ * If the verification fails, more primes are used.</p>
+ *
+ * <p>The verification proves that the result is the reduced Gröbner basis of an ideal containing the input
+ * ideal, but not that its polynomials belong to the input ideal, which would require expressing them in terms
+ * of the generators. The result is the reduced Gröbner basis of the input ideal when the primes used are lucky,
+ * which holds with high probability: only finitely many primes are unlucky, and the images whose leading
+ * monomials are shared by the largest number of primes are the ones combined.</p>
+ *
+ * <p>The number of primes is bounded, by {@value #DEFAULT_MAX_PRIMES} or by the limit of the given
+ * {@link ComputationContext}, and the computation stops with a {@link ComputationLimitExceededException} once
+ * it is reached.</p>
+ *
+ * @see <a href="https://doi.org/10.1016/S0747-7171(03)00087-7">
+ * Arnold, E. A., "Modular algorithms for computing Gröbner bases", Journal of Symbolic Computation, 2003.</a>
+ * @see <a href="https://doi.org/10.1016/j.jsc.2010.10.004">
+ * Idrees, N., Pfister, G., Steidel, S., "Parallelization of modular algorithms", Journal of Symbolic Computation, 2011.</a>
+ */
+@SuppressWarnings("unchecked")
+public final class MultiModularAlgorithm {
+    /**
+     * The maximum number of primes of a computation without a context, giving a modulus of about 31000 bits.
+     */
+    public static final int DEFAULT_MAX_PRIMES = 1024;
+
+    // The primes are taken downwards from the largest prime below 2^31
+    private static final int FIRST_PRIME = Integer.MAX_VALUE;
+
+    private MultiModularAlgorithm() {
+    }
+
+    // The reduced basis modulo a prime, sorted by increasing leading monomial
+    private record ModularImage(int prime, List<Polynomial<GaloisFieldElement>> basis) {
+    }
+
+    // The combination of the images sharing the same leading monomials, coefficients known modulo `modulus`
+    private static final class Combination {
+        private final List<Map<Monomial<Rational>, BigInteger>> coefficients;
+        private BigInteger modulus;
+        private int primes;
+
+        private Combination(int size) {
+            this.coefficients = new ArrayList<>(size);
+            for (var i = 0; i < size; i++) {
+                coefficients.add(new LinkedHashMap<>());
+            }
+
+            this.modulus = BigInteger.ONE;
+        }
+
+        private void add(ModularImage image) {
+            for (var i = 0; i < coefficients.size(); i++) {
+                var combined = coefficients.get(i);
+                var residues = new HashMap<Monomial<Rational>, Integer>();
+                for (var monomial : image.basis().get(i).monomials()) {
+                    residues.put(MonomialFunctions.convert(monomial, Rational.ONE), monomial.coefficient().get());
+                }
+
+                // A monomial missing from one side has a zero coefficient there
+                for (var monomial : residues.keySet()) {
+                    combined.putIfAbsent(monomial, BigInteger.ZERO);
+                }
+
+                for (var entry : combined.entrySet()) {
+                    var residue = residues.getOrDefault(entry.getKey(), 0);
+                    entry.setValue(ArithmeticUtils.chineseRemainder(entry.getValue(), modulus, residue, image.prime()));
+                }
+            }
+
+            modulus = modulus.multiply(BigInteger.valueOf(image.prime()));
+            primes++;
+        }
+
+        private List<Polynomial<Rational>> reconstruct(int fieldSize, MonomialOrdering<Rational> ordering) {
+            var result = new ArrayList<Polynomial<Rational>>(coefficients.size());
+            for (var combined : coefficients) {
+                var monomials = new ArrayList<Monomial<Rational>>(combined.size());
+                for (var entry : combined.entrySet()) {
+                    var fraction = ArithmeticUtils.rationalReconstruction(entry.getValue(), modulus);
+                    if (fraction == null) {
+                        return null;
+                    }
+
+                    if (fraction.first().signum() != 0) {
+                        monomials.add(entry.getKey().withCoefficient(Rational.of(fraction.first(), fraction.second())));
+                    }
+                }
+
+                result.add(new Polynomial<>(monomials, fieldSize, ordering));
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Computes the reduced Gröbner basis of the given polynomials over the rationals,
+     * using F4 modulo each prime and the common pool to process the primes in parallel.
+     *
+     * @param polynomials the list of input polynomials for which to compute the Gröbner basis
+     * @return the reduced Gröbner basis, sorted by increasing leading monomial
+     * @throws ComputationLimitExceededException if more than {@value #DEFAULT_MAX_PRIMES} primes are needed
+     */
+    public static List<Polynomial<Rational>> compute(List<Polynomial<Rational>> polynomials) {
+        return compute(polynomials, F4Algorithm::compute, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the reduced Gröbner basis of the given polynomials over the rationals,
+     * using the given algorithm modulo each prime.
+     *
+     * <p>As many primes as the parallelism of the pool are processed at a time.
+     * The result does not depend on the pool.</p>
+     *
+     * @param polynomials the list of input polynomials for which to compute the Gröbner basis
+     * @param algorithm   the algorithm computing a Gröbner basis over a prime field, such as {@code F4Algorithm::compute}
+     * @param pool        the pool on which the primes are processed, {@code null} to process them on the calling thread
+     * @return the reduced Gröbner basis, sorted by increasing leading monomial
+     * @throws ComputationLimitExceededException if more than {@value #DEFAULT_MAX_PRIMES} primes are needed
+     */
+    public static List<Polynomial<Rational>> compute(
+            List<Polynomial<Rational>> polynomials,
+            Function<List<Polynomial<GaloisFieldElement>>, List<Polynomial<GaloisFieldElement>>> algorithm,
+            ForkJoinPool pool
+    ) {
+        return compute(polynomials, algorithm, pool, ComputationContext.unbounded().withMaxPrimes(DEFAULT_MAX_PRIMES));
+    }
+
+    /**
+     * Computes the reduced Gröbner basis of the given polynomials over the rationals,
+     * using the given algorithm modulo each prime, within the limits of the given context.
+     *
+     * <p>As many primes as the parallelism of the pool are processed at a time. The context is checked before
+     * each batch of primes, with the number of primes the batch brings the computation to. It is not passed to
+     * the algorithm, whose computations modulo the primes of a batch run in parallel, so its statistics only hold
+     * the size of the reconstructed basis.</p>
+     *
+     * @param polynomials the list of input polynomials for which to compute the Gröbner basis
+     * @param algorithm   the algorithm computing a Gröbner basis over a prime field, such as {@code F4Algorithm::compute}
+     * @param pool        the pool on which the primes are processed, {@code null} to process them on the calling thread
+     * @param context     the limits of the computation, among which the maximum number of primes
+     * @return the reduced Gröbner basis, sorted by increasing leading monomial
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static List<Polynomial<Rational>> compute(
+            List<Polynomial<Rational>> polynomials,
+            Function<List<Polynomial<GaloisFieldElement>>, List<Polynomial<GaloisFieldElement>>> algorithm,
+            ForkJoinPool pool,
+            ComputationContext context
+    ) {
+        var generators = new ArrayList<Polynomial<Rational>>(polynomials.size());
+        for (var polynomial : polynomials) {
+            if (!polynomial.isZero()) {
+                generators.add(polynomial);
+            }
+        }
+
+        if (generators.isEmpty()) {
+            context.complete();
+            return new ArrayList<>();
+        }
+
+        var ordering = generators.getFirst().ordering();
+        var fieldSize = generators.getFirst().fieldSize();
+        var batchSize = pool == null ? 1 : Math.max(1, pool.getParallelism());
+        // Images grouped by leading monomials
+        var combinations = new HashMap<List<Monomial<Rational>>, Combination>();
+        var prime = FIRST_PRIME;
+        var used = 0;
+        List<Polynomial<Rational>> previous = null;
+
+        while (true) {
+            used += batchSize;
+            context.checkPrimes(used);
+            var primes = new ArrayList<Integer>(batchSize);
+            while (primes.size() < batchSize) {
+                primes.add(prime);
+                prime = previousPrime(prime);
+            }
+
+            var images = computeImages(generators, primes, algorithm, pool);
+            for (var image : images) {
+                if (image == null) {
+                    continue;
+                }
+
+                var leadingMonomials = new ArrayList<Monomial<Rational>>(image.basis().size());
+                for (var polynomial : image.basis()) {
+                    leadingMonomials.add(MonomialFunctions.convert(polynomial.leadingMonomial(), Rational.ONE));
+                }
+
+                combinations.computeIfAbsent(leadingMonomials, key -> new Combination(key.size())).add(image);
+            }
+
+            // Unlucky primes are assumed to be in minority
+            Combination best = null;
+            for (var combination : combinations.values()) {
+                if (best == null || combination.primes > best.primes) {
+                    best = combination;
+                }
+            }
+
+            if (best == null) {
+                continue;
+            }
+
+            var candidate = best.reconstruct(fieldSize, ordering);
+            if (candidate != null && candidate.equals(previous) && verify(generators, candidate)) {
+                context.checkBasis(candidate);
+                context.complete();
+                return candidate;
+            }
+
+            previous = candidate;
+        }
+    }
+
+    private static List<ModularImage> computeImages(
+            List<Polynomial<Rational>> generators,
+            List<Integer> primes,
+            Function<List<Polynomial<GaloisFieldElement>>, List<Polynomial<GaloisFieldElement>>> algorithm,
+            ForkJoinPool pool
+    ) {
+        if (pool == null || primes.size() == 1) {
+            var images = new ArrayList<ModularImage>(primes.size());
+            for (var prime : primes) {
+                images.add(computeImage(generators, prime, algorithm));
+            }
+
+            return images;
+        }
+
+        return pool.submit(() -> primes.parallelStream()
+                .map(prime -> computeImage(generators, prime, algorithm))
+                .toList()
+        ).join();
+    }
+
+    // Returns null when the prime divides a denominator or a leading coefficient of the input
+    private static ModularImage computeImage(
+            List<Polynomial<Rational>> generators,
+            int prime,
+            Function<List<Polynomial<GaloisFieldElement>>, List<Polynomial<GaloisFieldElement>>> algorithm
+    ) {
+        var field = PrimeField.of(prime);
+        var bigPrime = BigInteger.valueOf(prime);
+        var ordering = (MonomialOrdering<GaloisFieldElement>) (MonomialOrdering<? extends Numeric>) generators.getFirst().ordering();
+        var mapped = new ArrayList<Polynomial<GaloisFieldElement>>(generators.size());
+        for (var generator : generators) {
+            var monomials = new ArrayList<Monomial<GaloisFieldElement>>(generator.length());
+            for (var monomial : generator.monomials()) {
+                var coefficient = monomial.coefficient();
+                var denominator = coefficient.denominator().mod(bigPrime).intValue();
+                if (denominator == 0) {
+                    return null;
+                }
+
+                var numerator = coefficient.numerator().mod(bigPrime).intValue();
+                var residue = field.divide(numerator, denominator);
+                if (residue != 0) {
+                    monomials.add(MonomialFunctions.convert(monomial, field.element(residue)));
+                }
+            }
+
+            var polynomial = new Polynomial<>(monomials, generator.fieldSize(), ordering);
+            if (polynomial.isZero() || !polynomial.leadingMonomial().exponentsEqual(
+                    MonomialFunctions.convert(generator.leadingMonomial(), field.one()))) {
+                return null;
+            }
+
+            mapped.add(polynomial);
+        }
+
+        var basis = new ArrayList<>(GrobnerBasisAlgorithms.reduceGrobnerBasis(algorithm.apply(mapped)));
+        basis.sort((x, y) -> ordering.compare(x.leadingMonomial(), y.leadingMonomial()));
+        return new ModularImage(prime, basis);
+    }
+
+    private static boolean verify(List<Polynomial<Rational>> generators, List<Polynomial<Rational>> candidate) {
+        var reducers = new DivisorIndex<Rational, Polynomial<Rational>>(generators.getFirst().fieldSize());
+        for (var polynomial : candidate) {
+            reducers.add(polynomial.leadingTerm(), polynomial);
+        }
+
+        for (var generator : generators) {
+            if (!generator.reduce(reducers).isZero()) {
+                return false;
+            }
+        }
+
+        return GrobnerBasisAlgorithms.isGrobnerBasis(candidate);
+    }
+
+    private static int previousPrime(int value) {
+        var candidate = value - 1;
+        while (!ArithmeticUtils.isPrime(candidate)) {
+            candidate--;
+        }
+
+        return candidate;
+    }
+}
@@ -0,0 +1,509 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.functions.MonomialFunctions;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.number.PrimeField;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.structures.DivisorIndex;
+import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.MonomialTable;
+import io.github.olajed.jgb.structures.Polynomial;
+
+import java.util.*;
+
+/**
+ * Implements the sparse FGLM algorithm, converting a Gröbner basis over a prime field GF(p) into the
+ * lexicographic Gröbner basis of an ideal in shape position.
+ *
+ * <p>An ideal is in shape position when its lex basis is made of a univariate polynomial {@code f(x_n)} in the
+ * smallest indeterminate and of polynomials {@code x_i - g_i(x_n)}. Instead of the normal forms of the whole
+ * border of the staircase, the algorithm only builds the multiplication matrix {@code T} of {@code x_n}, which is
+ * sparse, and projects the sequence {@code T^j e} with a random linear form {@code r}, {@code e} being the normal
+ * form of {@code 1}.</p>
+ *
+ * <ol>
+ *   <li>The Berlekamp–Massey algorithm finds the minimal polynomial {@code f} of the sequence
+ *   {@code s_j = r T^j e}. The ideal is in shape position when its degree is the dimension D of the quotient.</li>
+ *   <li>For each other indeterminate, the sequence {@code r T^j v_i}, with {@code v_i} the normal form of
+ *   {@code x_i}, has the generating series {@code N_i / f}. Then {@code g_i = N_i / N_1 mod f}, which is the
+ *   solution of the Hankel system of the sequence {@code s} without solving it.</li>
+ * </ol>
+ *
+ * <p>The cost is dominated by sparse matrix-vector products, instead of dense linear algebra on the normal forms
+ * of the border. When the ideal is not in shape position or the random linear form is unlucky, the computation
+ * falls back to {@link FGLMAlgorithm}.</p>
+ *
+ * @see "J.C. Faugère, C. Mou - Sparse FGLM algorithms, Journal of Symbolic Computation, 2017"
+ */
+public final class SparseFGLMAlgorithm {
+    // A fixed seed keeps the results reproducible, an unlucky linear form only leads to the fallback
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private SparseFGLMAlgorithm() {
+    }
+
+    /**
+     * Converts a reduced Gröbner basis over a prime field to the reduced Gröbner basis under lex ordering.
+     *
+     * <p>The source ordering is the ordering of the polynomials of the basis, typically grevlex.
+     * The lex basis is computed with the sparse FGLM algorithm if the ideal is in shape position,
+     * and with {@link FGLMAlgorithm#compute(List)} otherwise.</p>
+     *
+     * @param basis the reduced Gröbner basis under the source ordering
+     * @return the reduced Gröbner basis under lex ordering, sorted by increasing leading monomial
+     * @throws IllegalArgumentException if the ideal is not zero-dimensional
+     */
+    public static List<Polynomial<GaloisFieldElement>> compute(List<Polynomial<GaloisFieldElement>> basis) {
+        return compute(basis, ComputationContext.unbounded());
+    }
+
+    /**
+     * Converts a reduced Gröbner basis over a prime field to the reduced Gröbner basis under lex ordering,
+     * within the limits of the given context.
+     *
+     * <p>The context is checked with the multiplication matrix, before each term of the projected sequences, and
+     * with the lex basis. The normal forms are timed as the {@link ComputationPhase#NORMAL_FORM} phase, and the
+     * projected sequences with the polynomials computed from them as the {@link ComputationPhase#ELIMINATION}
+     * phase. The fallback to {@link FGLMAlgorithm} goes on with the same context.</p>
+     *
+     * @param basis   the reduced Gröbner basis under the source ordering
+     * @param context the limits of the computation, collecting its statistics
+     * @return the reduced Gröbner basis under lex ordering, sorted by increasing leading monomial
+     * @throws IllegalArgumentException          if the ideal is not zero-dimensional
+     * @throws ComputationLimitExceededException if a limit of the context is exceeded
+     */
+    public static List<Polynomial<GaloisFieldElement>> compute(
+            List<Polynomial<GaloisFieldElement>> basis,
+            ComputationContext context
+    ) {
+        if (!FGLMAlgorithm.isZeroDimensional(basis)) {
+            throw new IllegalArgumentException("FGLM requires the basis of a zero-dimensional ideal.");
+        }
+
+        var result = computeInShapePosition(basis, context);
+        if (result == null) {
+            return FGLMAlgorithm.compute(basis, new LexOrdering<>(), context);
+        }
+
+        context.checkBasis(result);
+        context.complete();
+        return result;
+    }
+
+    // The lex basis, or null if the ideal is not in shape position
+    static List<Polynomial<GaloisFieldElement>> computeInShapePosition(
+            List<Polynomial<GaloisFieldElement>> basis
+    ) {
+        return computeInShapePosition(basis, ComputationContext.unbounded());
+    }
+
+    private static List<Polynomial<GaloisFieldElement>> computeInShapePosition(
+            List<Polynomial<GaloisFieldElement>> basis,
+            ComputationContext context
+    ) {
+        var firstPoly = basis.getFirst();
+        var fieldSize = firstPoly.fieldSize();
+        var field = firstPoly.leadingCoefficient().field();
+        context.startPhase(ComputationPhase.NORMAL_FORM);
+        var staircase = new Staircase(basis);
+        var dimension = staircase.size();
+        if (dimension == 0) {
+            context.endPhase(ComputationPhase.NORMAL_FORM);
+            return null;
+        }
+
+        var lastVariable = fieldSize - 1;
+        var matrix = staircase.multiplicationMatrix(lastVariable);
+        context.endPhase(ComputationPhase.NORMAL_FORM);
+        var entries = 0L;
+        for (var column : matrix) {
+            entries += column[0].length;
+        }
+
+        context.checkMatrix(dimension, dimension, entries);
+        var random = new SplittableRandom(SEED);
+        var linearForm = new int[dimension];
+        for (var i = 0; i < dimension; i++) {
+            linearForm[i] = random.nextInt(1, field.modulus());
+        }
+
+        // The identity is the first standard monomial
+        var one = new int[dimension];
+        one[0] = 1;
+        context.startPhase(ComputationPhase.ELIMINATION);
+        var sequence = projectedSequence(field, matrix, linearForm, one, 2 * dimension, context);
+        var minimalPolynomial = berlekampMassey(field, sequence);
+        var inverse = minimalPolynomial.length != dimension + 1
+                ? null
+                : inverse(field, numerator(field, minimalPolynomial, sequence), minimalPolynomial);
+        context.endPhase(ComputationPhase.ELIMINATION);
+        if (inverse == null) {
+            return null;
+        }
+
+        var ordering = new LexOrdering<GaloisFieldElement>();
+        var result = new ArrayList<Polynomial<GaloisFieldElement>>(fieldSize);
+        result.add(staircase.univariate(minimalPolynomial, null, ordering));
+        for (var i = lastVariable - 1; i >= 0; i--) {
+            context.startPhase(ComputationPhase.NORMAL_FORM);
+            var normalForm = staircase.normalForm(staircase.variable(i));
+            context.endPhase(ComputationPhase.NORMAL_FORM);
+            context.startPhase(ComputationPhase.ELIMINATION);
+            var variableSequence = projectedSequence(field, matrix, linearForm, normalForm, dimension, context);
+            var parametrization = remainder(
+                    field,
+                    multiply(field, numerator(field, minimalPolynomial, variableSequence), inverse),
+                    minimalPolynomial
+            );
+            for (var k = 0; k < parametrization.length; k++) {
+                parametrization[k] = field.negate(parametrization[k]);
+            }
+
+            context.endPhase(ComputationPhase.ELIMINATION);
+
+            result.add(staircase.univariate(parametrization, staircase.monomial(staircase.variable(i)), ordering));
+        }
+
+        return result;
+    }
+
+    /**
+     * The standard monomials of the source basis, numbered in the order of a breadth-first traversal
+     * starting from {@code 1}, so that {@code 1} is the first one.
+     */
+    private static final class Staircase {
+        // The basis indexed by leading monomial, built once for all the reductions
+        private final DivisorIndex<GaloisFieldElement, Polynomial<GaloisFieldElement>> leadingMonomials;
+        private final MonomialTable<GaloisFieldElement> monomialTable;
+        private final PrimeField field;
+        // Ids of the indeterminates
+        private final int[] variables;
+        private final List<Integer> monomials = new ArrayList<>();
+        // Position of each standard monomial, by id
+        private final Map<Integer, Integer> positions = new HashMap<>();
+
+        private Staircase(List<Polynomial<GaloisFieldElement>> basis) {
+            var firstPoly = basis.getFirst();
+            var fieldSize = firstPoly.fieldSize();
+            this.monomialTable = new MonomialTable<>(fieldSize, firstPoly.ordering());
+            this.field = firstPoly.leadingCoefficient().field();
+            this.variables = new int[fieldSize];
+            for (var i = 0; i < fieldSize; i++) {
+                variables[i] = monomialTable.intern(MonomialFunctions.variable(firstPoly.leadingMonomial(), i));
+            }
+
+            this.leadingMonomials = new DivisorIndex<>(fieldSize);
+            for (var polynomial : basis) {
+                leadingMonomials.add(polynomial.leadingMonomial(), polynomial);
+            }
+
+            var identity = MonomialFunctions.one(firstPoly.leadingMonomial());
+            if (leadingMonomials.hasDivisor(identity)) {
+                return;
+            }
+
+            var identityId = monomialTable.intern(identity);
+            monomials.add(identityId);
+            positions.put(identityId, 0);
+            for (var next = 0; next < monomials.size(); next++) {
+                for (var variable : variables) {
+                    var product = monomialTable.multiply(monomials.get(next), variable);
+                    if (!positions.containsKey(product)
+                            && !leadingMonomials.hasDivisor(monomialTable.monomial(product))) {
+                        positions.put(product, monomials.size());
+                        monomials.add(product);
+                    }
+                }
+            }
+        }
+
+        private int size() {
+            return monomials.size();
+        }
+
+        private int variable(int index) {
+            return variables[index];
+        }
+
+        private Monomial<GaloisFieldElement> monomial(int id) {
+            return monomialTable.monomial(id);
+        }
+
+        // The normal form of a monomial, as a dense vector over the standard monomials
+        private int[] normalForm(int id) {
+            var result = new int[monomials.size()];
+            var position = positions.get(id);
+            if (position != null) {
+                result[position] = 1;
+                return result;
+            }
+
+            var polynomial = new Polynomial<>(monomialTable.monomial(id), monomialTable.ordering());
+            for (var term : polynomial.reduce(leadingMonomials).monomials()) {
+                result[positions.get(monomialTable.intern(term))] = term.coefficient().get();
+            }
+
+            return result;
+        }
+
+        // The columns of the matrix of the multiplication by an indeterminate, each one as its rows and values
+        private int[][][] multiplicationMatrix(int variableIndex) {
+            var columns = new int[monomials.size()][][];
+            for (var j = 0; j < monomials.size(); j++) {
+                var product = monomialTable.multiply(monomials.get(j), variables[variableIndex]);
+                var position = positions.get(product);
+                if (position != null) {
+                    columns[j] = new int[][]{{position}, {1}};
+                    continue;
+                }
+
+                var normalForm = normalForm(product);
+                var nonZero = 0;
+                for (var value : normalForm) {
+                    if (value != 0) {
+                        nonZero++;
+                    }
+                }
+
+                var rows = new int[nonZero];
+                var values = new int[nonZero];
+                for (int i = 0, k = 0; i < normalForm.length; i++) {
+                    if (normalForm[i] != 0) {
+                        rows[k] = i;
+                        values[k] = normalForm[i];
+                        k++;
+                    }
+                }
+
+                columns[j] = new int[][]{rows, values};
+            }
+
+            return columns;
+        }
+
+        // leadingTerm + sum_k coefficients[k] * x_n^k, with x_n the last indeterminate, or a monic polynomial
+        // in x_n if the leading term is null
+        private Polynomial<GaloisFieldElement> univariate(
+                int[] coefficients,
+                Monomial<GaloisFieldElement> leadingTerm,
+                LexOrdering<GaloisFieldElement> ordering
+        ) {
+            var lastVariable = variables[variables.length - 1];
+            var terms = new ArrayList<Monomial<GaloisFieldElement>>(coefficients.length + 1);
+            if (leadingTerm != null) {
+                terms.add(leadingTerm);
+            }
+
+            var power = monomials.getFirst();
+            for (var coefficient : coefficients) {
+                if (coefficient != 0) {
+                    terms.add(monomialTable.monomial(power).withCoefficient(field.element(coefficient)));
+                }
+
+                power = monomialTable.multiply(power, lastVariable);
+            }
+
+            return new Polynomial<>(terms, variables.length, ordering);
+        }
+    }
+
+    // r T^j v for j < length
+    private static int[] projectedSequence(PrimeField field, int[][][] matrix, int[] linearForm, int[] vector,
+                                           int length, ComputationContext context) {
+        var sequence = new int[length];
+        var current = vector;
+        for (var j = 0; j < length; j++) {
+            context.checkpoint();
+            var value = 0;
+            for (var i = 0; i < current.length; i++) {
+                if (current[i] != 0) {
+                    value = field.add(value, field.multiply(linearForm[i], current[i]));
+                }
+            }
+
+            sequence[j] = value;
+            if (j + 1 < length) {
+                var next = new int[current.length];
+                for (var column = 0; column < current.length; column++) {
+                    if (current[column] == 0) {
+                        continue;
+                    }
+
+                    var rows = matrix[column][0];
+                    var values = matrix[column][1];
+                    for (var k = 0; k < rows.length; k++) {
+                        next[rows[k]] = field.add(next[rows[k]], field.multiply(values[k], current[column]));
+                    }
+                }
+
+                current = next;
+            }
+        }
+
+        return sequence;
+    }
+
+    // The monic minimal polynomial of a linearly recurrent sequence, coefficients by increasing degree
+    private static int[] berlekampMassey(PrimeField field, int[] sequence) {
+        // Connection polynomial 1 + c_1 z + ... + c_L z^L with s_j + c_1 s_(j-1) + ... + c_L s_(j-L) = 0
+        var connection = new int[sequence.length + 1];
+        connection[0] = 1;
+        var previous = new int[sequence.length + 1];
+        previous[0] = 1;
+        var length = 0;
+        var shift = 1;
+        var previousDiscrepancy = 1;
+        for (var j = 0; j < sequence.length; j++) {
+            var discrepancy = sequence[j];
+            for (var i = 1; i <= length; i++) {
+                discrepancy = field.add(discrepancy, field.multiply(connection[i], sequence[j - i]));
+            }
+
+            if (discrepancy == 0) {
+                shift++;
+                continue;
+            }
+
+            var factor = field.divide(discrepancy, previousDiscrepancy);
+            var saved = 2 * length <= j ? connection.clone() : null;
+            for (var i = 0; i + shift < connection.length; i++) {
+                connection[i + shift] = field.subtract(connection[i + shift], field.multiply(factor, previous[i]));
+            }
+
+            if (saved != null) {
+                length = j + 1 - length;
+                previous = saved;
+                previousDiscrepancy = discrepancy;
+                shift = 1;
+            } else {
+                shift++;
+            }
+        }
+
+        // f(T) = T^L C(1 / T)
+        var result = new int[length + 1];
+        for (var k = 0; k <= length; k++) {
+            result[k] = connection[length - k];
+        }
+
+        return result;
+    }
+
+    // The numerator N of the generating series sum_j s_j / T^(j + 1) = N / f, of degree lower than f
+    private static int[] numerator(PrimeField field, int[] minimalPolynomial, int[] sequence) {
+        var dimension = minimalPolynomial.length - 1;
+        var result = new int[dimension];
+        for (var k = 0; k < dimension; k++) {
+            var value = 0;
+            for (var m = k + 1; m <= dimension; m++) {
+                value = field.add(value, field.multiply(minimalPolynomial[m], sequence[m - k - 1]));
+            }
+
+            result[k] = value;
+        }
+
+        return result;
+    }
+
+    // The univariate polynomials below have their coefficients by increasing degree, an empty array being zero
+
+    private static int[] trim(int[] polynomial) {
+        var length = polynomial.length;
+        while (length > 0 && polynomial[length - 1] == 0) {
+            length--;
+        }
+
+        return length == polynomial.length ? polynomial : Arrays.copyOf(polynomial, length);
+    }
+
+    private static int[] multiply(PrimeField field, int[] first, int[] second) {
+        first = trim(first);
+        second = trim(second);
+        if (first.length == 0 || second.length == 0) {
+            return new int[0];
+        }
+
+        var result = new int[first.length + second.length - 1];
+        for (var i = 0; i < first.length; i++) {
+            if (first[i] == 0) {
+                continue;
+            }
+
+            for (var j = 0; j < second.length; j++) {
+                result[i + j] = field.add(result[i + j], field.multiply(first[i], second[j]));
+            }
+        }
+
+        return result;
+    }
+
+    private static int[] subtract(PrimeField field, int[] first, int[] second) {
+        var result = Arrays.copyOf(first, Math.max(first.length, second.length));
+        for (var i = 0; i < second.length; i++) {
+            result[i] = field.subtract(result[i], second[i]);
+        }
+
+        return trim(result);
+    }
+
+    // The quotient and the remainder of the division of the dividend by a non-zero divisor
+    private static int[][] divide(PrimeField field, int[] dividend, int[] divisor) {
+        divisor = trim(divisor);
+        var remainder = trim(dividend).clone();
+        var degree = divisor.length - 1;
+        if (remainder.length <= degree) {
+            return new int[][]{new int[0], remainder};
+        }
+
+        var quotient = new int[remainder.length - degree];
+        var leadingInverse = field.inverse(divisor[degree]);
+        for (var i = remainder.length - 1; i >= degree; i--) {
+            var factor = field.multiply(remainder[i], leadingInverse);
+            if (factor == 0) {
+                continue;
+            }
+
+            quotient[i - degree] = factor;
+            for (var j = 0; j <= degree; j++) {
+                remainder[i - degree + j] = field.subtract(remainder[i - degree + j], field.multiply(factor, divisor[j]));
+            }
+        }
+
+        return new int[][]{trim(quotient), trim(Arrays.copyOf(remainder, degree))};
+    }
+
+    private static int[] remainder(PrimeField field, int[] dividend, int[] divisor) {
+        return divide(field, dividend, divisor)[1];
+    }
+
+    // The inverse of a polynomial modulo another one, or null if they are not coprime
+    private static int[] inverse(PrimeField field, int[] polynomial, int[] modulus) {
+        var previousRemainder = trim(modulus);
+        var currentRemainder = remainder(field, polynomial, modulus);
+        var previousFactor = new int[0];
+        var currentFactor = new int[]{1};
+        while (currentRemainder.length != 0) {
+            var division = divide(field, previousRemainder, currentRemainder);
+            var nextFactor = subtract(field, previousFactor, multiply(field, division[0], currentFactor));
+            previousRemainder = currentRemainder;
+            currentRemainder = division[1];
+            previousFactor = currentFactor;
+            currentFactor = nextFactor;
+        }
+
+        if (previousRemainder.length != 1) {
+            return null;
+        }
+
+        var scale = field.inverse(previousRemainder[0]);
+        var result = new int[previousFactor.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = field.multiply(previousFactor[i], scale);
+        }
+
+        return remainder(field, result, modulus);
+    }
+}
@@ -39,6 +39,16 @@ public final class Complex implements Numeric {
         return zero;
     }
 
+    /**
+     * Checks whether both parts are zero. Unlike {@link #equals(Object)}, signed zeros are zero.
+     *
+     * @return {@code true} if this value is zero
+     */
+    @Override
+    public boolean isZero() {
+        return real == 0 && imaginary == 0;
+    }
+
     public double real() {
         return this.real;
     }
@@ -1,25 +1,26 @@
 package io.github.olajed.jgb.number;
 
-import io.github.olajed.jgb.utils.ArithmeticUtils;
-
 /**
  * Represents an element in a Galois Field (also known as a finite field).
  * <p>
  * This implementation supports prime fields GF(p), where p is a prime number.
  * Each element is represented by an integer modulo the prime value.
+ * The arithmetic is delegated to the {@link PrimeField} of the modulus, which is shared by all its elements.
  */
 public final class GaloisFieldElement implements Numeric {
-    private final int primeModulus;
+    private final PrimeField field;
 
     private final int element;
 
     public GaloisFieldElement(int element, int primeModulus) {
-        if (!ArithmeticUtils.isPrime(primeModulus)) {
-            throw new IllegalArgumentException("The modulus for the Galois field must be a prime number.");
-        }
+        this.field = PrimeField.of(primeModulus);
+        this.element = field.residue(element);
+    }
 
-        this.primeModulus = primeModulus;
-        this.element = (element % primeModulus + primeModulus) % primeModulus;
+    // Used by the field itself, the element is already reduced
+    GaloisFieldElement(int residue, PrimeField field) {
+        this.field = field;
+        this.element = residue;
     }
 
     public int get() {
@@ -27,7 +28,16 @@ public final class GaloisFieldElement implements Numeric {
     }
 
     public int modulo() {
-        return primeModulus;
+        return field.modulus();
+    }
+
+    /**
+     * Returns the prime field this element belongs to.
+     *
+     * @return the {@link PrimeField} of this element
+     */
+    public PrimeField field() {
+        return field;
     }
 
     @Override
@@ -37,8 +47,7 @@ public final class GaloisFieldElement implements Numeric {
         }
 
         checkSameModulus(otherElement);
-        var result = (element + otherElement.element) % primeModulus;
-        return new GaloisFieldElement(result, primeModulus);
+        return field.element(field.add(element, otherElement.element));
     }
 
     @Override
@@ -48,8 +57,7 @@ public final class GaloisFieldElement implements Numeric {
         }
 
         checkSameModulus(otherElement);
-        var result = (element - otherElement.element + primeModulus) % primeModulus;
-        return new GaloisFieldElement(result, primeModulus);
+        return field.element(field.subtract(element, otherElement.element));
     }
 
     @Override
@@ -59,8 +67,7 @@ public final class GaloisFieldElement implements Numeric {
         }
 
         checkSameModulus(otherElement);
-        var result = (element * otherElement.element) % primeModulus;
-        return new GaloisFieldElement(result, primeModulus);
+        return field.element(field.multiply(element, otherElement.element));
     }
 
     @Override
@@ -70,78 +77,52 @@ public final class GaloisFieldElement implements Numeric {
         }
 
         checkSameModulus(otherElement);
-        var inverse = modInverse(otherElement.element, primeModulus);
-        var result = (element * inverse) % primeModulus;
-        return new GaloisFieldElement(result, primeModulus);
+        return field.element(field.divide(element, otherElement.element));
     }
 
     @Override
     public Numeric negate() {
-        var result = (primeModulus - this.element) % primeModulus;
-        return new GaloisFieldElement(result, primeModulus);
+        return field.element(field.negate(element));
     }
 
     @Override
     public Numeric inverse() {
-        return new GaloisFieldElement(modInverse(element, primeModulus), primeModulus);
+        return field.element(field.inverse(element));
     }
 
     private void checkSameModulus(GaloisFieldElement other) {
-        if (this.primeModulus != other.primeModulus) {
+        // Fields are unique per modulus
+        if (field != other.field) {
             throw new IllegalArgumentException("Elements must be from the same Galois Field");
         }
     }
 
-    private int modInverse(int a, int m) {
-        int m0 = m, t, q;
-        int x0 = 0, x1 = 1;
-
-        if (m == 1) {
-            return 0;
-        }
-
-        while (a > 1) {
-            q = a / m;
-            t = m;
-
-            m = a % m;
-            a = t;
-
-            t = x0;
-            x0 = x1 - q * x0;
-            x1 = t;
-        }
-
-        if (x1 < 0) {
-            x1 += m0;
-        }
-
-        return x1;
-    }
-
-
     @Override
     public Numeric one() {
-        return new GaloisFieldElement(1, primeModulus);
+        return field.one();
     }
 
     @Override
     public Numeric zero() {
-        return new GaloisFieldElement(0, primeModulus);
+        return field.zero();
     }
 
     @Override
     public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
         if (!(o instanceof GaloisFieldElement that)) {
             return false;
         }
 
-        return primeModulus == that.primeModulus && element == that.element;
+        return field == that.field && element == that.element;
     }
 
     @Override
     public int hashCode() {
-        var result = primeModulus;
+        var result = field.modulus();
         result = 31 * result + element;
         return result;
     }
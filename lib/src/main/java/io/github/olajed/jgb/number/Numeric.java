@@ -68,5 +68,14 @@ public sealed interface Numeric permits GaloisFieldElement, Rational, Real, Comp
      * @return the numeric value representing zero
      */
     Numeric zero();
+
+    /**
+     * Checks whether this numeric value is the additive identity.
+     *
+     * @return {@code true} if this value is zero
+     */
+    default boolean isZero() {
+        return equals(zero());
+    }
 }
 
@@ -2,6 +2,9 @@ package io.github.olajed.jgb.number;
 
 import io.github.olajed.jgb.enums.NumericType;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
 /**
  * Utility class for performing type-safe operations between various {@link Numeric} types.
  *
@@ -55,14 +58,14 @@ public final class NumericUtils {
                 case Rational ignored -> from;
                 case Real x -> {
                     if (x.get() % 1 == 0) {
-                        yield new Rational((int) x.get());
+                        yield Rational.of(new BigDecimal(x.get()).toBigInteger(), BigInteger.ONE);
                     } else {
                         throw new NumericException("Cannot convert Real number with decimal part to rational");
                     }
                 }
                 case Complex x -> {
                     if (x.imaginary() == 0 && x.real() % 1 == 0) {
-                        yield new Rational((int) x.real());
+                        yield Rational.of(new BigDecimal(x.real()).toBigInteger(), BigInteger.ONE);
                     } else {
                         throw new NumericException("Cannot convert this Complex number to rational");
                     }
@@ -72,8 +75,8 @@ public final class NumericUtils {
             return switch (from) {
                 case GaloisFieldElement x -> x;
                 case Rational x -> {
-                    if (x.get() % 1 == 0) {
-                        yield new GaloisFieldElement((int) x.get(), modulo);
+                    if (x.denominator().equals(BigInteger.ONE)) {
+                        yield new GaloisFieldElement(x.numerator().mod(BigInteger.valueOf(modulo)).intValue(), modulo);
                     } else {
                         throw new NumericException("Cannot convert Rational number with non - 1 denominator to integer");
                     }
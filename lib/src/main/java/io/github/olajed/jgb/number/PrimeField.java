@@ -0,0 +1,227 @@
+package io.github.olajed.jgb.number;
+
+import io.github.olajed.jgb.utils.ArithmeticUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Arithmetic engine for a prime field GF(p), working on raw {@code int} residues.
+ * <p>
+ * Instances are cached per modulus, so the primality of the modulus is only checked once.
+ * The Barrett constant of the modulus is precomputed, which lets the products be reduced
+ * with a multiplication and a shift instead of a hardware division.
+ * </p>
+ * <p>
+ * The field also acts as a factory for its {@link GaloisFieldElement} instances.
+ * For moduli up to {@value #CACHED_ELEMENTS_LIMIT}, elements are flyweights created once,
+ * so the arithmetic on {@link GaloisFieldElement} does not allocate.
+ * </p>
+ */
+public final class PrimeField {
+    /**
+     * The largest modulus for which every element of the field is cached.
+     */
+    public static final int CACHED_ELEMENTS_LIMIT = 1 << 16;
+
+    private static final Map<Integer, PrimeField> FIELDS = new ConcurrentHashMap<>();
+
+    private final int modulus;
+    private final long barrettFactor;
+    private final GaloisFieldElement[] elements;
+    private final GaloisFieldElement zero;
+    private final GaloisFieldElement one;
+
+    private PrimeField(int modulus) {
+        this.modulus = modulus;
+        // floor((2^64 - 1) / p), used to approximate x / p as (x * factor) >> 64
+        this.barrettFactor = Long.divideUnsigned(-1L, modulus);
+        this.elements = modulus <= CACHED_ELEMENTS_LIMIT ? new GaloisFieldElement[modulus] : null;
+        this.zero = new GaloisFieldElement(0, this);
+        this.one = new GaloisFieldElement(1 % modulus, this);
+        if (elements != null) {
+            elements[zero.get()] = zero;
+            elements[one.get()] = one;
+        }
+    }
+
+    /**
+     * Returns the prime field with the given modulus.
+     *
+     * @param modulus the characteristic of the field
+     * @return the field GF({@code modulus})
+     * @throws IllegalArgumentException if {@code modulus} is not a prime number
+     */
+    public static PrimeField of(int modulus) {
+        var field = FIELDS.get(modulus);
+        if (field != null) {
+            return field;
+        }
+
+        if (!ArithmeticUtils.isPrime(modulus)) {
+            throw new IllegalArgumentException("The modulus for the Galois field must be a prime number.");
+        }
+
+        return FIELDS.computeIfAbsent(modulus, PrimeField::new);
+    }
+
+    /**
+     * Returns the modulus (characteristic) of the field.
+     *
+     * @return the modulus
+     */
+    public int modulus() {
+        return modulus;
+    }
+
+    /**
+     * Returns the additive identity of the field.
+     *
+     * @return the zero element
+     */
+    public GaloisFieldElement zero() {
+        return zero;
+    }
+
+    /**
+     * Returns the multiplicative identity of the field.
+     *
+     * @return the one element
+     */
+    public GaloisFieldElement one() {
+        return one;
+    }
+
+    /**
+     * Returns the field element represented by the given residue.
+     *
+     * @param residue a residue in {@code [0, p)}
+     * @return the matching {@link GaloisFieldElement}
+     */
+    public GaloisFieldElement element(int residue) {
+        if (elements == null) {
+            return new GaloisFieldElement(residue, this);
+        }
+
+        // Racy initialization is harmless: elements are immutable and compared by value
+        var element = elements[residue];
+        if (element == null) {
+            element = new GaloisFieldElement(residue, this);
+            elements[residue] = element;
+        }
+
+        return element;
+    }
+
+    /**
+     * Maps an arbitrary integer to its residue in {@code [0, p)}.
+     *
+     * @param value the value to map
+     * @return the residue of {@code value}
+     */
+    public int residue(long value) {
+        return (int) Math.floorMod(value, (long) modulus);
+    }
+
+    /**
+     * Reduces a non-negative value modulo p using Barrett reduction.
+     * The value must be lower than 2^62, which holds for any product or sum of products of two residues.
+     *
+     * @param value a value in {@code [0, 2^62)}
+     * @return {@code value mod p}
+     */
+    public int reduce(long value) {
+        var quotient = Math.unsignedMultiplyHigh(value, barrettFactor);
+        var remainder = value - quotient * modulus;
+        return (int) (remainder >= modulus ? remainder - modulus : remainder);
+    }
+
+    /**
+     * Adds two residues.
+     *
+     * @param a the first residue
+     * @param b the second residue
+     * @return {@code (a + b) mod p}
+     */
+    public int add(int a, int b) {
+        var sum = (long) a + b;
+        return (int) (sum >= modulus ? sum - modulus : sum);
+    }
+
+    /**
+     * Subtracts two residues.
+     *
+     * @param a the first residue
+     * @param b the second residue
+     * @return {@code (a - b) mod p}
+     */
+    public int subtract(int a, int b) {
+        var difference = a - b;
+        return difference < 0 ? difference + modulus : difference;
+    }
+
+    /**
+     * Negates a residue.
+     *
+     * @param a the residue to negate
+     * @return {@code -a mod p}
+     */
+    public int negate(int a) {
+        return a == 0 ? 0 : modulus - a;
+    }
+
+    /**
+     * Multiplies two residues.
+     *
+     * @param a the first residue
+     * @param b the second residue
+     * @return {@code (a * b) mod p}
+     */
+    public int multiply(int a, int b) {
+        return reduce((long) a * b);
+    }
+
+    /**
+     * Computes the multiplicative inverse of a residue with the extended Euclidean algorithm.
+     *
+     * @param a the residue to invert
+     * @return the inverse of {@code a} modulo p
+     * @throws ArithmeticException if {@code a} is zero
+     */
+    public int inverse(int a) {
+        if (a == 0) {
+            throw new ArithmeticException("Zero has no inverse in GF(%d)".formatted(modulus));
+        }
+
+        long t = 0, newT = 1;
+        long r = modulus, newR = a;
+        while (newR != 0) {
+            var quotient = r / newR;
+            var temp = t - quotient * newT;
+            t = newT;
+            newT = temp;
+            temp = r - quotient * newR;
+            r = newR;
+            newR = temp;
+        }
+
+        return (int) (t < 0 ? t + modulus : t);
+    }
+
+    /**
+     * Divides two residues.
+     *
+     * @param a the dividend
+     * @param b the divisor
+     * @return {@code a / b mod p}
+     * @throws ArithmeticException if {@code b} is zero
+     */
+    public int divide(int a, int b) {
+        return multiply(a, inverse(b));
+    }
+
+    @Override
+    public String toString() {
+        return "GF(" + modulus + ")";
+    }
+}
@@ -2,9 +2,17 @@ package io.github.olajed.jgb.number;
 
 import io.github.olajed.jgb.utils.ArithmeticUtils;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
 /**
  * Immutable representation of a rational number as a numerator and denominator.
  *
+ * <p>The fraction is always reduced, with a positive denominator. Both parts are stored as {@code long}
+ * while they fit, and the arithmetic stays on primitive values as long as no intermediate result overflows.
+ * Larger values fall back to {@link BigInteger}, and results that fit again go back to the primitive form.</p>
+ *
  * <p>Implements the {@link Numeric} interface for numeric operations.</p>
  *
  * <p>Provides constants for zero and one.</p>
@@ -12,53 +20,143 @@ import io.github.olajed.jgb.utils.ArithmeticUtils;
 public final class Rational implements Numeric {
     public static final Rational ZERO = new Rational(0);
     public static final Rational ONE = new Rational(1);
-    private final int numerator;
-    private final int denominator;
-
-    public Rational(int num, int den) {
+    // Marks an overflow of the primitive arithmetic, the value itself is never used by the primitive form
+    private static final long OVERFLOW = Long.MIN_VALUE;
+    // The primitive form, used when bigNumerator is null
+    private final long numerator;
+    private final long denominator;
+    // Only set when the numerator or the denominator does not fit in the primitive form
+    private final BigInteger bigNumerator;
+    private final BigInteger bigDenominator;
+
+    public Rational(long num, long den) {
         if (den == 0) {
             throw new ArithmeticException("Denominator must be different from 0");
+        } else if (num == OVERFLOW || den == OVERFLOW) {
+            var value = reduce(BigInteger.valueOf(num), BigInteger.valueOf(den));
+            this.numerator = value.numerator;
+            this.denominator = value.denominator;
+            this.bigNumerator = value.bigNumerator;
+            this.bigDenominator = value.bigDenominator;
         } else {
-            if (num == den) {
-                this.numerator = 1;
-                this.denominator = 1;
-            } else {
-                int p;
-                int q;
-                if (((num | den) & 1) == 0) {
-                    p = num >> 1;
-                    q = den >> 1;
-                } else {
-                    p = num;
-                    q = den;
-                }
-
-                int d = ArithmeticUtils.gcd(p, q);
-                this.numerator = p / d;
-                this.denominator = q / d;
+            var d = ArithmeticUtils.gcd(num, den);
+            if (den < 0) {
+                d = -d;
             }
+
+            this.numerator = num / d;
+            this.denominator = den / d;
+            this.bigNumerator = null;
+            this.bigDenominator = null;
         }
     }
 
-    public Rational(int num) {
+    public Rational(long num) {
+        this(num, 1);
+    }
+
+    private Rational(long num, long den, BigInteger bigNum, BigInteger bigDen) {
         this.numerator = num;
-        this.denominator = 1;
+        this.denominator = den;
+        this.bigNumerator = bigNum;
+        this.bigDenominator = bigDen;
     }
 
-    public static Rational of(int num) {
+    public static Rational of(long num) {
         return num == 0 ? ZERO : new Rational(num);
     }
 
-    public static Rational of(int num, int den) {
+    public static Rational of(long num, long den) {
         return num == 0 ? ZERO : new Rational(num, den);
     }
 
+    /**
+     * Creates a rational number from arbitrary-precision integers.
+     *
+     * @param num the numerator
+     * @param den the denominator
+     * @return the rational number num / den
+     * @throws ArithmeticException if the denominator is zero
+     */
+    public static Rational of(BigInteger num, BigInteger den) {
+        if (den.signum() == 0) {
+            throw new ArithmeticException("Denominator must be different from 0");
+        }
+
+        return reduce(num, den);
+    }
+
+    private static Rational reduce(BigInteger num, BigInteger den) {
+        if (num.signum() == 0) {
+            return ZERO;
+        }
+
+        var gcd = num.gcd(den);
+        if (den.signum() < 0) {
+            gcd = gcd.negate();
+        }
+
+        return create(num.divide(gcd), den.divide(gcd));
+    }
+
+    // Wraps an already reduced fraction with a positive denominator, in the primitive form when it fits
+    private static Rational create(BigInteger num, BigInteger den) {
+        if (num.signum() == 0) {
+            return ZERO;
+        } else if (fitsInPrimitive(num) && fitsInPrimitive(den)) {
+            return new Rational(num.longValue(), den.longValue(), null, null);
+        } else {
+            return new Rational(0, 0, num, den);
+        }
+    }
+
+    private static boolean fitsInPrimitive(BigInteger value) {
+        return value.bitLength() < Long.SIZE && value.longValue() != OVERFLOW;
+    }
+
+    private static long multiplyOrOverflow(long a, long b) {
+        var low = a * b;
+        return Math.multiplyHigh(a, b) == (low >> (Long.SIZE - 1)) ? low : OVERFLOW;
+    }
+
+    private static long addOrOverflow(long a, long b) {
+        var sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? OVERFLOW : sum;
+    }
+
+    private static long subtractOrOverflow(long a, long b) {
+        var difference = a - b;
+        return ((a ^ b) & (a ^ difference)) < 0 ? OVERFLOW : difference;
+    }
+
+    private boolean isPrimitive() {
+        return this.bigNumerator == null;
+    }
+
+    /**
+     * Returns the numerator of the reduced fraction, the sign of the number being carried by the numerator.
+     *
+     * @return the numerator
+     */
+    public BigInteger numerator() {
+        return isPrimitive() ? BigInteger.valueOf(this.numerator) : this.bigNumerator;
+    }
+
+    /**
+     * Returns the positive denominator of the reduced fraction.
+     *
+     * @return the denominator
+     */
+    public BigInteger denominator() {
+        return isPrimitive() ? BigInteger.valueOf(this.denominator) : this.bigDenominator;
+    }
+
     public Rational zero() {
         return ZERO;
     }
 
     public boolean isZero() {
-        return this.numerator == 0;
+        return isPrimitive() && this.numerator == 0;
     }
 
     public Rational one() {
@@ -66,28 +164,25 @@ public final class Rational implements Numeric {
     }
 
     public boolean isOne() {
-        return this.numerator == this.denominator;
+        return isPrimitive() && this.numerator == 1 && this.denominator == 1;
     }
 
     public int signum() {
-        return Integer.signum(this.numerator) * Integer.signum(this.denominator);
+        return isPrimitive() ? Long.signum(this.numerator) : this.bigNumerator.signum();
     }
 
     public Rational negate() {
-        return this.numerator == Integer.MIN_VALUE
-                ? new Rational(this.numerator, -this.denominator)
-                : new Rational(-this.numerator, this.denominator);
+        if (this.isZero()) {
+            return ZERO;
+        }
+
+        return isPrimitive()
+                ? new Rational(-this.numerator, this.denominator, null, null)
+                : create(this.bigNumerator.negate(), this.bigDenominator);
     }
 
-    public Rational add(int value) {
-        if (value == 0) {
-            return this;
-        } else if (this.isZero()) {
-            return new Rational(value);
-        } else {
-            var num = (long) value * (long) this.denominator;
-            return of(Math.toIntExact((long) this.numerator + num), this.denominator);
-        }
+    public Rational add(long value) {
+        return value == 0 ? this : this.addSub(new Rational(value), true);
     }
 
     @Override
@@ -99,15 +194,8 @@ public final class Rational implements Numeric {
         return this.addSub(value, true);
     }
 
-    public Rational subtract(int value) {
-        if (value == 0) {
-            return this;
-        } else if (this.isZero()) {
-            return value == Integer.MIN_VALUE ? new Rational(Integer.MIN_VALUE, -1) : new Rational(-value);
-        } else {
-            var num = (long) value * (long) this.denominator;
-            return of(Math.toIntExact((long) this.numerator - num), this.denominator);
-        }
+    public Rational subtract(long value) {
+        return value == 0 ? this : this.addSub(new Rational(value), false);
     }
 
     @Override
@@ -124,23 +212,45 @@ public final class Rational implements Numeric {
             return this;
         } else if (this.isZero()) {
             return isAdd ? value : value.negate();
-        } else {
-            int d1 = ArithmeticUtils.gcd(this.denominator, value.denominator);
-            long uvp = (long) this.numerator * (long) (value.denominator / d1);
-            long upv = (long) value.numerator * (long) (this.denominator / d1);
-            long t = isAdd ? uvp + upv : uvp - upv;
-            long d2 = ArithmeticUtils.gcd(t, (long) d1);
-            return of(Math.toIntExact(t / d2), Math.multiplyExact(this.denominator / d1, value.denominator / (int) d2));
         }
-    }
 
-    public Rational multiply(int value) {
-        if (value != 0 && !this.isZero()) {
-            var d2 = ArithmeticUtils.gcd(value, this.denominator);
-            return new Rational(Math.multiplyExact(this.numerator, value / d2), this.denominator / d2);
-        } else {
+        if (this.isPrimitive() && value.isPrimitive()) {
+            // Only the gcd of the denominators and the gcd of the result with it are needed, none for integers
+            var d1 = this.denominator == 1 || value.denominator == 1
+                    ? 1
+                    : ArithmeticUtils.gcd(this.denominator, value.denominator);
+            var uvp = multiplyOrOverflow(this.numerator, value.denominator / d1);
+            var upv = multiplyOrOverflow(value.numerator, this.denominator / d1);
+            if (uvp != OVERFLOW && upv != OVERFLOW) {
+                var t = isAdd ? addOrOverflow(uvp, upv) : subtractOrOverflow(uvp, upv);
+                if (t == 0) {
+                    return ZERO;
+                } else if (t != OVERFLOW) {
+                    var d2 = d1 == 1 ? 1 : ArithmeticUtils.gcd(t, d1);
+                    var den = multiplyOrOverflow(this.denominator / d1, value.denominator / d2);
+                    if (den != OVERFLOW) {
+                        return new Rational(t / d2, den, null, null);
+                    }
+                }
+            }
+        }
+
+        var thisDenominator = this.denominator();
+        var valueDenominator = value.denominator();
+        var d1 = thisDenominator.gcd(valueDenominator);
+        var uvp = this.numerator().multiply(valueDenominator.divide(d1));
+        var upv = value.numerator().multiply(thisDenominator.divide(d1));
+        var t = isAdd ? uvp.add(upv) : uvp.subtract(upv);
+        if (t.signum() == 0) {
             return ZERO;
         }
+
+        var d2 = t.gcd(d1);
+        return create(t.divide(d2), thisDenominator.divide(d1).multiply(valueDenominator.divide(d2)));
+    }
+
+    public Rational multiply(long value) {
+        return value != 0 && !this.isZero() ? this.multiplyNonZero(new Rational(value)) : ZERO;
     }
 
     @Override
@@ -149,23 +259,40 @@ public final class Rational implements Numeric {
             throw new IllegalArgumentException("Cannot multiply different types");
         }
 
-        return !value.isZero() && !this.isZero() ? this.multiply(value.numerator, value.denominator) : ZERO;
+        return !value.isZero() && !this.isZero() ? this.multiplyNonZero(value) : ZERO;
     }
 
-    private Rational multiply(int num, int den) {
-        var d1 = ArithmeticUtils.gcd(this.numerator, den);
-        var d2 = ArithmeticUtils.gcd(num, this.denominator);
-        return new Rational(Math.multiplyExact(this.numerator / d1, num / d2), Math.multiplyExact(this.denominator / d2, den / d1));
+    // The factors are cancelled crosswise before multiplying, so that the product is reduced without another gcd
+    private Rational multiplyNonZero(Rational value) {
+        if (this.isPrimitive() && value.isPrimitive()) {
+            var d1 = value.denominator == 1 ? 1 : ArithmeticUtils.gcd(this.numerator, value.denominator);
+            var d2 = this.denominator == 1 ? 1 : ArithmeticUtils.gcd(value.numerator, this.denominator);
+            var num = multiplyOrOverflow(this.numerator / d1, value.numerator / d2);
+            var den = multiplyOrOverflow(this.denominator / d2, value.denominator / d1);
+            if (num != OVERFLOW && den != OVERFLOW) {
+                return new Rational(num, den, null, null);
+            }
+        }
+
+        var thisNumerator = this.numerator();
+        var thisDenominator = this.denominator();
+        var valueNumerator = value.numerator();
+        var valueDenominator = value.denominator();
+        var d1 = thisNumerator.gcd(valueDenominator);
+        var d2 = valueNumerator.gcd(thisDenominator);
+        return create(
+                thisNumerator.divide(d1).multiply(valueNumerator.divide(d2)),
+                thisDenominator.divide(d2).multiply(valueDenominator.divide(d1))
+        );
     }
 
-    public Rational divide(int value) {
+    public Rational divide(long value) {
         if (value == 0) {
             throw new ArithmeticException("The value to divide by must not be zero");
         } else if (this.isZero()) {
             return ZERO;
         } else {
-            var d1 = ArithmeticUtils.gcd(this.numerator, value);
-            return new Rational(this.numerator / d1, Math.multiplyExact(this.denominator, value / d1));
+            return this.multiplyNonZero(new Rational(1, value));
         }
     }
 
@@ -178,27 +305,69 @@ public final class Rational implements Numeric {
         if (value.isZero()) {
             throw new ArithmeticException("The value to divide by must not be zero");
         } else {
-            return this.isZero() ? ZERO : this.multiply(value.denominator, value.numerator);
+            return this.isZero() ? ZERO : this.multiplyNonZero(value.inverse());
         }
     }
 
     @Override
-    public Numeric inverse() {
-        return new Rational(denominator, numerator);
+    public Rational inverse() {
+        if (this.isZero()) {
+            throw new ArithmeticException("Zero has no inverse");
+        }
+
+        if (isPrimitive()) {
+            return this.numerator < 0
+                    ? new Rational(-this.denominator, -this.numerator, null, null)
+                    : new Rational(this.denominator, this.numerator, null, null);
+        }
+
+        return this.bigNumerator.signum() < 0
+                ? create(this.bigDenominator.negate(), this.bigNumerator.negate())
+                : create(this.bigDenominator, this.bigNumerator);
+    }
+
+    /**
+     * Returns the greatest common divisor of two rational numbers, the largest rational number of which both
+     * are integer multiples: the gcd of the numerators over the lcm of the denominators.
+     *
+     * @param other the other rational number
+     * @return the non-negative gcd, the absolute value of the other number if this one is zero
+     */
+    public Rational gcd(Rational other) {
+        if (this.isZero()) {
+            return other.signum() < 0 ? other.negate() : other;
+        } else if (other.isZero()) {
+            return this.signum() < 0 ? this.negate() : this;
+        }
+
+        if (this.isPrimitive() && other.isPrimitive() && this.denominator == 1 && other.denominator == 1) {
+            return new Rational(ArithmeticUtils.gcd(this.numerator, other.numerator), 1, null, null);
+        }
+
+        var thisDenominator = this.denominator();
+        var otherDenominator = other.denominator();
+        var lcm = thisDenominator.divide(thisDenominator.gcd(otherDenominator)).multiply(otherDenominator);
+        return create(this.numerator().gcd(other.numerator()), lcm);
     }
 
     public double get() {
-        return numerator * 1.0 / denominator;
+        if (isPrimitive()) {
+            return this.numerator * 1.0 / this.denominator;
+        }
+
+        return new BigDecimal(this.bigNumerator)
+                .divide(new BigDecimal(this.bigDenominator), MathContext.DECIMAL64)
+                .doubleValue();
     }
 
     public String toString() {
         String str;
         if (this.isZero()) {
             str = "0";
-        } else if (this.denominator == 1) {
-            str = Integer.toString(this.numerator);
+        } else if (isPrimitive() && this.denominator == 1) {
+            str = Long.toString(this.numerator);
         } else {
-            str = this.numerator + " / " + this.denominator;
+            str = this.numerator() + " / " + this.denominator();
         }
 
         return str;
@@ -209,9 +378,12 @@ public final class Rational implements Numeric {
         if (this == other) {
             return true;
         } else {
+            // Both forms are canonical, equal values always have the same representation
             if (other instanceof Rational rhs) {
-                if (this.signum() == rhs.signum()) {
-                    return Math.abs(this.numerator) == Math.abs(rhs.numerator) && Math.abs(this.denominator) == Math.abs(rhs.denominator);
+                if (this.isPrimitive() && rhs.isPrimitive()) {
+                    return this.numerator == rhs.numerator && this.denominator == rhs.denominator;
+                } else if (!this.isPrimitive() && !rhs.isPrimitive()) {
+                    return this.bigNumerator.equals(rhs.bigNumerator) && this.bigDenominator.equals(rhs.bigDenominator);
                 }
             }
 
@@ -221,8 +393,8 @@ public final class Rational implements Numeric {
 
     @Override
     public int hashCode() {
-        var numS = Integer.signum(this.numerator);
-        var denS = Integer.signum(this.denominator);
-        return (31 * (31 + this.numerator * numS) + this.denominator * denS) * numS * denS;
+        return isPrimitive()
+                ? 31 * Long.hashCode(this.numerator) + Long.hashCode(this.denominator)
+                : 31 * this.bigNumerator.hashCode() + this.bigDenominator.hashCode();
     }
 }
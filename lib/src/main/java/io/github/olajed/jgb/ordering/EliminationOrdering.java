@@ -3,6 +3,7 @@ package io.github.olajed.jgb.ordering;
 import io.github.olajed.jgb.number.Numeric;
 import io.github.olajed.jgb.structures.DenseMonomial;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.PackedMonomial;
 import io.github.olajed.jgb.structures.SparseMonomial;
 
 import java.util.BitSet;
@@ -82,6 +83,15 @@ public class EliminationOrdering<T extends Numeric> implements MonomialOrdering<
             }
         }
 
+        if (a instanceof PackedMonomial<T> && b instanceof PackedMonomial<T>) {
+            var aElim = new PackedMonomial<>(aEliminationExponents, a.coefficient());
+            var bElim = new PackedMonomial<>(bEliminationExponents, b.coefficient());
+            var eliminationResult = ordering.compare(aElim, bElim);
+            if (eliminationResult != 0) {
+                return eliminationResult;
+            }
+        }
+
 
         var aRetainedExponents = new int[a.fieldSize()];
         var bRetainedExponents = new int[a.fieldSize()];
@@ -98,6 +108,12 @@ public class EliminationOrdering<T extends Numeric> implements MonomialOrdering<
             return ordering.compare(aRetained, bRetained);
         }
 
+        if (a instanceof PackedMonomial<T> && b instanceof PackedMonomial<T>) {
+            var aRetained = new PackedMonomial<>(aRetainedExponents, a.coefficient());
+            var bRetained = new PackedMonomial<>(bRetainedExponents, b.coefficient());
+            return ordering.compare(aRetained, bRetained);
+        }
+
         var aRetained = new SparseMonomial<>(aRetainedExponents, a.coefficient());
         var bRetained = new SparseMonomial<>(bRetainedExponents, b.coefficient());
         return ordering.compare(aRetained, bRetained);
@@ -2,6 +2,7 @@ package io.github.olajed.jgb.ordering;
 
 import io.github.olajed.jgb.number.Numeric;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.PackedMonomial;
 
 /**
  * Implements graded reverse lexicographic (GREVLEX) ordering for monomials.
@@ -32,6 +33,11 @@ public class GrevlexOrdering<T extends Numeric> implements MonomialOrdering<T> {
             return Integer.compare(degreeDifference, 0);
         }
 
+        if (a instanceof PackedMonomial<T> aPacked && b instanceof PackedMonomial<T> bPacked) {
+            // The tie-breaker is the lexicographic comparison with the operands swapped
+            return Integer.signum(bPacked.compareLex(aPacked));
+        }
+
         for (var i = 0; i < a.fieldSize(); i++) {
             var difference = b.getExponent(i) - a.getExponent(i);
             if (difference != 0) {
@@ -2,6 +2,7 @@ package io.github.olajed.jgb.ordering;
 
 import io.github.olajed.jgb.number.Numeric;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.PackedMonomial;
 
 /**
  * Implements graded lexicographic (GRLEX) ordering for monomials.
@@ -32,6 +33,10 @@ public class GrlexOrdering<T extends Numeric> implements MonomialOrdering<T> {
             return Integer.compare(degreeDifference, 0);
         }
 
+        if (a instanceof PackedMonomial<T> aPacked && b instanceof PackedMonomial<T> bPacked) {
+            return Integer.signum(aPacked.compareLex(bPacked));
+        }
+
         for (var i = 0; i < a.fieldSize(); i++) {
             var difference = a.getExponent(i) - b.getExponent(i);
             if (difference != 0) {
@@ -2,6 +2,7 @@ package io.github.olajed.jgb.ordering;
 
 import io.github.olajed.jgb.number.Numeric;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.PackedMonomial;
 
 /**
  * Implements lexicographic (LEX) ordering for monomials.
@@ -25,6 +26,10 @@ public class LexOrdering<T extends Numeric> implements MonomialOrdering<T> {
             throw new IllegalArgumentException("Both monomials should be defined in the same ring.");
         }
 
+        if (a instanceof PackedMonomial<T> aPacked && b instanceof PackedMonomial<T> bPacked) {
+            return Integer.signum(aPacked.compareLex(bPacked));
+        }
+
         for (var i = 0; i < a.fieldSize(); i++) {
             var difference = a.getExponent(i) - b.getExponent(i);
             if (difference != 0) {
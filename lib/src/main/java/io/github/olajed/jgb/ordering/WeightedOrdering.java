@@ -38,6 +38,11 @@ public class WeightedOrdering<T extends Numeric> implements MonomialOrdering<T>
         this.tieBreaker = tieBreaker;
     }
 
+    /**
+     * Compares two monomials by their weighted degrees, computed in {@code long}, then by the tie-breaker.
+     *
+     * @throws ArithmeticException if a weighted degree overflows a {@code long}
+     */
     @Override
     public int compare(Monomial<T> a, Monomial<T> b) {
         if (a.fieldSize() != b.fieldSize()) {
@@ -48,11 +53,9 @@ public class WeightedOrdering<T extends Numeric> implements MonomialOrdering<T>
             throw new IllegalArgumentException("Ordering weights are not suited for this ring.");
         }
 
-        var aAggregate = a.accumulate(weights, (x, y) -> x * y, 0, Integer::sum);
-        var bAggregate = b.accumulate(weights, (x, y) -> x * y, 0, Integer::sum);
-        var difference = aAggregate - bAggregate;
-        if (difference != 0) {
-            return Integer.compare(difference, 0);
+        var comparison = Long.compare(a.weightedDegree(weights), b.weightedDegree(weights));
+        if (comparison != 0) {
+            return comparison;
         }
 
         return tieBreaker.compare(a, b);
@@ -1,10 +1,12 @@
 package io.github.olajed.jgb.providers;
 
+import io.github.olajed.jgb.enums.MonomialType;
 import io.github.olajed.jgb.number.GaloisFieldElement;
 import io.github.olajed.jgb.ordering.GrlexOrdering;
 import io.github.olajed.jgb.ordering.MonomialOrdering;
 import io.github.olajed.jgb.structures.DenseMonomial;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.PackedMonomial;
 import io.github.olajed.jgb.structures.Polynomial;
 import io.github.olajed.jgb.structures.SparseMonomial;
 
@@ -83,38 +85,53 @@ public final class KatsuraGenerator {
      * @throws IllegalArgumentException if {@code n} is less than 1
      */
     public static List<Polynomial<GaloisFieldElement>> get(int n, MonomialOrdering<GaloisFieldElement> ordering, boolean dense) {
+        return get(n, ordering, dense ? MonomialType.DENSE : MonomialType.SPARSE);
+    }
+
+    /**
+     * Generates the Katsura system with {@code n} variables using the default
+     * graded lexicographic ordering and specified monomial representation.
+     *
+     * @param n the number of variables; must be at least 1
+     * @param type the monomial representation to use
+     * @return a list of {@link Polynomial} instances over a Galois field
+     * @throws IllegalArgumentException if {@code n} is less than 1
+     */
+    public static List<Polynomial<GaloisFieldElement>> get(int n, MonomialType type) {
+        return get(n, new GrlexOrdering<>(), type);
+    }
+
+    /**
+     * Generates the Katsura system with {@code n} variables using the specified
+     * monomial ordering and monomial representation.
+     *
+     * @param n the number of variables; must be at least 1
+     * @param ordering the monomial ordering to use
+     * @param type the monomial representation to use
+     * @return a list of {@link Polynomial} instances over a Galois field
+     * @throws IllegalArgumentException if {@code n} is less than 1
+     */
+    public static List<Polynomial<GaloisFieldElement>> get(int n, MonomialOrdering<GaloisFieldElement> ordering, MonomialType type) {
         if (n < 1) {
             throw new IllegalArgumentException("n must be at least 1");
         }
 
         var polynomials = new ArrayList<Polynomial<GaloisFieldElement>>(n + 1);
         var firstPolynomialMonomials = new ArrayList<Monomial<GaloisFieldElement>>(n + 2);
-        if (dense) {
-            firstPolynomialMonomials.add(new DenseMonomial<>(new int[n + 1], new GaloisFieldElement(4, 5)));
-        } else {
-            firstPolynomialMonomials.add(new SparseMonomial<>(new int[n + 1], new GaloisFieldElement(4, 5)));
-        }
+        firstPolynomialMonomials.add(monomial(new int[n + 1], new GaloisFieldElement(4, 5), type));
 
         for (var i = 0; i <= n; i++) {
             var exponents = variableMonomial(n + 1, i);
             var coefficient = new GaloisFieldElement(i == 0 ? 1 : 2, 5);
 
-            if (dense) {
-                firstPolynomialMonomials.add(new DenseMonomial<>(exponents, coefficient));
-            } else {
-                firstPolynomialMonomials.add(new SparseMonomial<>(exponents, coefficient));
-            }
+            firstPolynomialMonomials.add(monomial(exponents, coefficient, type));
         }
 
         polynomials.add(new Polynomial<>(firstPolynomialMonomials, n + 1, ordering));
         for (var m = 0; m < n; m++) {
             var polynomialMonomials = new ArrayList<Monomial<GaloisFieldElement>>(n + 1);
             var xM = variableMonomial(n + 1, m);
-            if (dense) {
-                polynomialMonomials.add(new DenseMonomial<>(xM, new GaloisFieldElement(4, 5)));
-            } else {
-                polynomialMonomials.add(new SparseMonomial<>(xM, new GaloisFieldElement(4, 5)));
-            }
+            polynomialMonomials.add(monomial(xM, new GaloisFieldElement(4, 5), type));
 
             for (var l = -n; l <= n; l++) {
                 if (m - l >= n + 1) {
@@ -124,11 +141,7 @@ public final class KatsuraGenerator {
                 var temp = variableMonomial(n + 1, Math.abs(l));
                 temp[Math.abs(m - l)]++;
 
-                if (dense) {
-                    polynomialMonomials.add(new DenseMonomial<>(temp, new GaloisFieldElement(1, 5)));
-                } else {
-                    polynomialMonomials.add(new SparseMonomial<>(temp, new GaloisFieldElement(1, 5)));
-                }
+                polynomialMonomials.add(monomial(temp, new GaloisFieldElement(1, 5), type));
             }
 
             polynomials.add(new Polynomial<>(polynomialMonomials, n + 1, ordering));
@@ -139,6 +152,14 @@ public final class KatsuraGenerator {
 
     }
 
+    private static Monomial<GaloisFieldElement> monomial(int[] exponents, GaloisFieldElement coefficient, MonomialType type) {
+        return switch (type) {
+            case DENSE -> new DenseMonomial<>(exponents, coefficient);
+            case SPARSE -> new SparseMonomial<>(exponents, coefficient);
+            case PACKED -> new PackedMonomial<>(exponents, coefficient);
+        };
+    }
+
     private static int[] variableMonomial(int variableCount, int variable) {
         var exponents = new int[variableCount];
         exponents[variable] = 1;
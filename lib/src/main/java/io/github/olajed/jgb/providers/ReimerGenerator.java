@@ -1,11 +1,13 @@
 package io.github.olajed.jgb.providers;
 
 
+import io.github.olajed.jgb.enums.MonomialType;
 import io.github.olajed.jgb.number.GaloisFieldElement;
 import io.github.olajed.jgb.ordering.GrlexOrdering;
 import io.github.olajed.jgb.ordering.MonomialOrdering;
 import io.github.olajed.jgb.structures.DenseMonomial;
 import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.PackedMonomial;
 import io.github.olajed.jgb.structures.Polynomial;
 import io.github.olajed.jgb.structures.SparseMonomial;
 
@@ -77,6 +79,31 @@ public final class ReimerGenerator {
      * @throws IllegalArgumentException if {@code n} is less than 3
      */
     public static List<Polynomial<GaloisFieldElement>> get(int n, MonomialOrdering<GaloisFieldElement> ordering, boolean dense) {
+        return get(n, ordering, dense ? MonomialType.DENSE : MonomialType.SPARSE);
+    }
+
+    /**
+     * Generates the Reimer polynomial system of order {@code n} using default Grlex ordering and the specified monomial representation.
+     *
+     * @param n    the order of the Reimer system; must be at least 3
+     * @param type the monomial representation to use
+     * @return list of Reimer polynomials
+     * @throws IllegalArgumentException if {@code n} is less than 3
+     */
+    public static List<Polynomial<GaloisFieldElement>> get(int n, MonomialType type) {
+        return get(n, new GrlexOrdering<>(), type);
+    }
+
+    /**
+     * Generates the Reimer polynomial system of order {@code n} with specified monomial ordering and representation.
+     *
+     * @param n        the order of the Reimer system; must be at least 3
+     * @param ordering the monomial ordering to use
+     * @param type     the monomial representation to use
+     * @return list of Reimer polynomials
+     * @throws IllegalArgumentException if {@code n} is less than 3
+     */
+    public static List<Polynomial<GaloisFieldElement>> get(int n, MonomialOrdering<GaloisFieldElement> ordering, MonomialType type) {
         if (n < 3) {
             throw new IllegalArgumentException("n must be at least 3");
         }
@@ -89,22 +116,22 @@ public final class ReimerGenerator {
                 var exponents = new int[n];
                 exponents[i] = k;
 
-                if (dense) {
-                    monomials.add(new DenseMonomial<>(exponents, coefficient));
-                } else {
-                    monomials.add(new SparseMonomial<>(exponents, coefficient));
-                }
+                monomials.add(monomial(exponents, coefficient, type));
             }
 
-            if (dense) {
-                monomials.add(new DenseMonomial<>(new int[n], new GaloisFieldElement(-1, 5)));
-            } else {
-                monomials.add(new SparseMonomial<>(new int[n], new GaloisFieldElement(-1, 5)));
-            }
+            monomials.add(monomial(new int[n], new GaloisFieldElement(-1, 5), type));
 
             polynomials.add(new Polynomial<>(monomials, n, ordering));
         }
 
         return polynomials;
     }
+
+    private static Monomial<GaloisFieldElement> monomial(int[] exponents, GaloisFieldElement coefficient, MonomialType type) {
+        return switch (type) {
+            case DENSE -> new DenseMonomial<>(exponents, coefficient);
+            case SPARSE -> new SparseMonomial<>(exponents, coefficient);
+            case PACKED -> new PackedMonomial<>(exponents, coefficient);
+        };
+    }
 }
@@ -0,0 +1,282 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.enums.PairCriterion;
+import io.github.olajed.jgb.enums.PairSelectionStrategy;
+import io.github.olajed.jgb.functions.MonomialFunctions;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Set of critical pairs of a growing basis, pruned with Buchberger's criteria.
+ * <p>
+ * The polynomials are added one at a time and referred to by their index in the basis.
+ * Each pair stores the lcm of the leading monomials of its polynomials and its sugar, computed once
+ * when the pair is created. Adding a polynomial applies the Gebauer–Möller update: the new pairs
+ * are filtered with the chain criterion and the product criterion, the pending pairs made useless
+ * by the new polynomial are removed, and the polynomials whose leading monomial is divisible by
+ * the new one no longer get new pairs.
+ * </p>
+ * <p>
+ * The pairs are polled in the order given by the {@link PairSelectionStrategy}, ties being broken
+ * by creation order.
+ * </p>
+ *
+ * @param <T> the numeric type of the coefficients
+ * @see <a href="https://doi.org/10.1016/S0747-7171(88)80040-3">
+ * Gebauer, R., Möller, H. M., "On an installation of Buchberger's algorithm", Journal of Symbolic Computation, 1988.</a>
+ */
+public final class CriticalPairQueue<T extends Numeric> {
+    private final List<Polynomial<T>> basis;
+    private final List<Monomial<T>> leadingMonomials;
+    private final List<Integer> sugars;
+    // Polynomials whose leading monomial is not divisible by the one of a later polynomial
+    private final BitSet active;
+    private final PairSelectionStrategy selectionStrategy;
+    private final PriorityQueue<CriticalPair<T>> pairs;
+    private final ComputationContext context;
+    private long sequence;
+
+    /**
+     * A critical pair of the basis.
+     *
+     * @param first    the index of the first polynomial in the basis
+     * @param second   the index of the second polynomial in the basis
+     * @param lcm      the lcm of the leading monomials of both polynomials
+     * @param sugar    the sugar degree of the S-polynomial of the pair
+     * @param sequence the creation order of the pair
+     * @param <T>      the numeric type of the coefficients
+     */
+    public record CriticalPair<T extends Numeric>(int first, int second, Monomial<T> lcm, int sugar, long sequence) {
+    }
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param selectionStrategy the strategy giving the order in which pairs are polled
+     * @param ordering          the monomial ordering of the polynomials
+     */
+    public CriticalPairQueue(PairSelectionStrategy selectionStrategy, MonomialOrdering<T> ordering) {
+        this(selectionStrategy, ordering, null);
+    }
+
+    /**
+     * Creates an empty queue recording the pairs created and pruned by each criterion in the statistics of a
+     * computation.
+     *
+     * @param selectionStrategy the strategy giving the order in which pairs are polled
+     * @param ordering          the monomial ordering of the polynomials
+     * @param context           the context of the computation, or {@code null} to record nothing
+     */
+    public CriticalPairQueue(
+            PairSelectionStrategy selectionStrategy,
+            MonomialOrdering<T> ordering,
+            ComputationContext context
+    ) {
+        this.basis = new ArrayList<>();
+        this.leadingMonomials = new ArrayList<>();
+        this.sugars = new ArrayList<>();
+        this.active = new BitSet();
+        this.selectionStrategy = selectionStrategy;
+        this.pairs = new PriorityQueue<>(comparator(selectionStrategy, ordering));
+        this.context = context;
+    }
+
+    private static <T extends Numeric> Comparator<CriticalPair<T>> comparator(
+            PairSelectionStrategy selectionStrategy,
+            MonomialOrdering<T> ordering
+    ) {
+        Comparator<CriticalPair<T>> bySequence = Comparator.comparingLong(CriticalPair::sequence);
+        return switch (selectionStrategy) {
+            case FIRST -> bySequence;
+            case DEGREE -> Comparator.<CriticalPair<T>>comparingInt(x -> x.lcm().degree()).thenComparing(bySequence);
+            case NORMAL -> ((Comparator<CriticalPair<T>>) (x, y) -> ordering.compare(x.lcm(), y.lcm())).thenComparing(bySequence);
+            case SUGAR -> Comparator.<CriticalPair<T>>comparingInt(CriticalPair::sugar).thenComparing(bySequence);
+        };
+    }
+
+    /**
+     * Adds a polynomial to the basis, using its total degree as its sugar.
+     *
+     * @param polynomial the non-zero polynomial to add
+     * @return the index of the polynomial in the basis
+     */
+    public int add(Polynomial<T> polynomial) {
+        return add(polynomial, polynomial.degree());
+    }
+
+    /**
+     * Adds a polynomial to the basis and updates the pairs with the Gebauer–Möller criteria.
+     *
+     * @param polynomial the non-zero polynomial to add
+     * @param sugar      the sugar degree of the polynomial
+     * @return the index of the polynomial in the basis
+     */
+    public int add(Polynomial<T> polynomial, int sugar) {
+        var index = basis.size();
+        var leadingMonomial = polynomial.leadingMonomial();
+
+        // Chain criterion on the new pairs, among pairs with equal lcm the last one created is kept
+        var candidates = new ArrayList<Integer>();
+        for (var i = active.nextSetBit(0); i >= 0; i = active.nextSetBit(i + 1)) {
+            candidates.add(i);
+        }
+
+        var kept = new ArrayList<Integer>();
+        for (var position = 0; position < candidates.size(); position++) {
+            var candidate = leadingMonomials.get(candidates.get(position));
+            if (leadingMonomial.disjointWith(candidate)) {
+                kept.add(candidates.get(position));
+                continue;
+            }
+
+            var useless = false;
+            for (var other = position + 1; other < candidates.size() && !useless; other++) {
+                useless = leadingMonomial.lcmDivides(leadingMonomials.get(candidates.get(other)), candidate);
+            }
+
+            for (var other = 0; other < kept.size() && !useless; other++) {
+                useless = leadingMonomial.lcmDivides(leadingMonomials.get(kept.get(other)), candidate);
+            }
+
+            if (!useless) {
+                kept.add(candidates.get(position));
+            }
+        }
+
+        // Pending pairs whose lcm is a strict multiple of both lcms with the new leading monomial
+        var pending = pairs.size();
+        pairs.removeIf(pair -> {
+            var first = leadingMonomials.get(pair.first());
+            var second = leadingMonomials.get(pair.second());
+            return leadingMonomial.divides(pair.lcm())
+                    && !first.lcmDivides(second, leadingMonomial)
+                    && !second.lcmDivides(first, leadingMonomial);
+        });
+
+        basis.add(polynomial);
+        leadingMonomials.add(leadingMonomial);
+        sugars.add(sugar);
+
+        // Product criterion, pairs with coprime leading monomials reduce to zero
+        var created = 0;
+        for (var i : kept) {
+            if (!leadingMonomial.disjointWith(leadingMonomials.get(i))) {
+                pairs.add(createPair(i, index));
+                created++;
+            }
+        }
+
+        // The pairs with inactive polynomials are discarded by the chain criterion through the later polynomial
+        if (context != null) {
+            context.recordPairsCreated(index);
+            context.recordPairsPruned(PairCriterion.CHAIN, index - kept.size());
+            context.recordPairsPruned(PairCriterion.PRODUCT, kept.size() - created);
+            context.recordPairsPruned(PairCriterion.OBSOLETE, pending - (pairs.size() - created));
+        }
+
+        for (var i = active.nextSetBit(0); i >= 0; i = active.nextSetBit(i + 1)) {
+            if (leadingMonomial.divides(leadingMonomials.get(i))) {
+                active.clear(i);
+            }
+        }
+
+        active.set(index);
+        return index;
+    }
+
+    private CriticalPair<T> createPair(int first, int second) {
+        var firstMonomial = leadingMonomials.get(first);
+        var secondMonomial = leadingMonomials.get(second);
+        var lcm = MonomialFunctions.lcm(firstMonomial, secondMonomial);
+        var sugar = Math.max(sugars.get(first) - firstMonomial.degree(), sugars.get(second) - secondMonomial.degree())
+                + lcm.degree();
+        return new CriticalPair<>(first, second, lcm, sugar, sequence++);
+    }
+
+    /**
+     * Removes and returns the next pair according to the selection strategy.
+     *
+     * @return the next pair, or {@code null} if there is none
+     */
+    public CriticalPair<T> poll() {
+        return pairs.poll();
+    }
+
+    /**
+     * Removes and returns the next pair and the pairs following it with the same degree, the degree of the lcm
+     * with the {@link PairSelectionStrategy#DEGREE} strategy and the sugar otherwise.
+     * <p>
+     * The pairs of a batch can be reduced independently against the current basis, they are returned in the
+     * order given by the selection strategy. The sugar is the degree of the pair in the homogenized
+     * computation: under a graded ordering it usually equals the degree of the lcm, and under lex it groups
+     * more of the pairs of the {@link PairSelectionStrategy#NORMAL} strategy than the degree of the lcm, which
+     * varies from one pair to the next.
+     * </p>
+     *
+     * @return the pairs of the batch, empty if there is none
+     */
+    public List<CriticalPair<T>> pollBatch() {
+        var batch = new ArrayList<CriticalPair<T>>();
+        var first = pairs.poll();
+        if (first == null) {
+            return batch;
+        }
+
+        batch.add(first);
+        var degree = batchDegree(first);
+        while (!pairs.isEmpty() && batchDegree(pairs.peek()) == degree) {
+            batch.add(pairs.poll());
+        }
+
+        return batch;
+    }
+
+    private int batchDegree(CriticalPair<T> pair) {
+        return selectionStrategy == PairSelectionStrategy.DEGREE ? pair.lcm().degree() : pair.sugar();
+    }
+
+    /**
+     * Checks whether there are no pairs left.
+     *
+     * @return {@code true} if the queue has no pairs
+     */
+    public boolean isEmpty() {
+        return pairs.isEmpty();
+    }
+
+    /**
+     * Returns the number of pending pairs.
+     *
+     * @return the number of pairs
+     */
+    public int size() {
+        return pairs.size();
+    }
+
+    /**
+     * Returns the polynomial at the given index of the basis.
+     *
+     * @param index the index of the polynomial
+     * @return the polynomial
+     */
+    public Polynomial<T> get(int index) {
+        return basis.get(index);
+    }
+
+    /**
+     * Returns all the polynomials added so far, in insertion order.
+     *
+     * @return the basis, as an unmodifiable view
+     */
+    public List<Polynomial<T>> basis() {
+        return Collections.unmodifiableList(basis);
+    }
+}
@@ -76,6 +76,16 @@ public final class DenseMonomial<T extends Numeric> extends Monomial<T> {
         return result;
     }
 
+    @Override
+    public long weightedDegree(int[] weights) {
+        var result = 0L;
+        for (var i = 0; i < fieldSize; i++) {
+            result = Math.addExact(result, (long) weights[i] * exponents[i]);
+        }
+
+        return result;
+    }
+
     @Override
     public Monomial<T> multiply(Monomial<T> other) {
         if (!(other instanceof DenseMonomial<T> dense)) {
@@ -115,6 +125,55 @@ public final class DenseMonomial<T extends Numeric> extends Monomial<T> {
         return new DenseMonomial<>(resultingExponents, (T) coefficient.divide(dense.coefficient));
     }
 
+    @Override
+    public boolean divides(Monomial<T> other) {
+        if (!(other instanceof DenseMonomial<T> dense)) {
+            throw new IllegalArgumentException("Expected a DenseMonomial instance.");
+        }
+
+        if (degree > dense.degree) {
+            return false;
+        }
+
+        for (var i = 0; i < fieldSize; i++) {
+            if (exponents[i] > dense.exponents[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int lcmDegree(Monomial<T> other) {
+        if (!(other instanceof DenseMonomial<T> dense)) {
+            throw new IllegalArgumentException("Expected a DenseMonomial instance.");
+        }
+
+        var result = 0;
+        for (var i = 0; i < fieldSize; i++) {
+            result += Math.max(exponents[i], dense.exponents[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean lcmDivides(Monomial<T> first, Monomial<T> second) {
+        if (!(first instanceof DenseMonomial<T> firstDense) || !(second instanceof DenseMonomial<T> secondDense)) {
+            throw new IllegalArgumentException("Expected a DenseMonomial instance.");
+        }
+
+        for (var i = 0; i < fieldSize; i++) {
+            // max(a, b) <= max(a, c) only depends on b, as a is on both sides
+            if (firstDense.exponents[i] > Math.max(exponents[i], secondDense.exponents[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public Monomial<T> withCoefficient(T newCoefficient) {
         return new DenseMonomial<>(exponents, newCoefficient);
@@ -194,7 +253,7 @@ public final class DenseMonomial<T extends Numeric> extends Monomial<T> {
 
     @Override
     public boolean isZero() {
-        return coefficient.equals(coefficient.zero());
+        return coefficient.isZero();
     }
 
     @Override
@@ -0,0 +1,308 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Numeric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Index of monomials answering "which indexed monomial divides m" without scanning every entry.
+ * <p>
+ * The monomials are stored in a trie with one level per indeterminate, the children of a node being sorted
+ * by the exponent of that indeterminate. A search only descends into children whose exponent does not exceed
+ * the exponent of the searched monomial, so every entry reached is a divisor.
+ * Each node also keeps the intersection of the divisibility masks of its subtree, a bit being set in the mask
+ * of a monomial when its exponent for an indeterminate exceeds a threshold. A subtree whose intersection has
+ * a bit that is not in the mask of the searched monomial holds no divisor and is skipped.
+ * </p>
+ * <p>
+ * The searches never create monomials. When several entries divide the monomial, the earliest inserted one
+ * is returned, which is the one a linear scan over the insertion order would find.
+ * </p>
+ *
+ * @param <T> the numeric type of the coefficients of the monomials
+ * @param <V> the type of the values attached to the monomials
+ */
+public final class DivisorIndex<T extends Numeric, V> {
+    private final int fieldSize;
+    private final int maskBitsPerIndeterminate;
+    private final Node<V> root;
+    private long sequence;
+    private int size;
+
+    private record Entry<V>(V value, long mask, long sequence) {
+    }
+
+    private static final class Node<V> {
+        private int[] exponents = new int[0];
+        private Node<V>[] children = newChildren(0);
+        private List<Entry<V>> entries;
+        // Intersection of the masks of the subtree, all bits set when the subtree is empty
+        private long mask = -1L;
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newChildren(int length) {
+            return (Node<V>[]) new Node<?>[length];
+        }
+    }
+
+    /**
+     * Creates an empty index for monomials with the given number of indeterminates.
+     *
+     * @param fieldSize the number of indeterminates of the monomials
+     */
+    public DivisorIndex(int fieldSize) {
+        this.fieldSize = fieldSize;
+        this.maskBitsPerIndeterminate = maskBitsPerIndeterminate(fieldSize);
+        this.root = new Node<>();
+    }
+
+    /**
+     * Returns the number of entries in the index.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the index has no entries.
+     *
+     * @return {@code true} if the index is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds a monomial to the index. The coefficient of the monomial is ignored.
+     *
+     * @param monomial the monomial to index
+     * @param value    the value attached to the monomial
+     */
+    public void add(Monomial<T> monomial, V value) {
+        var entry = new Entry<>(value, mask(monomial), sequence++);
+        var node = root;
+        node.mask &= entry.mask();
+        for (var i = 0; i < fieldSize; i++) {
+            var exponent = monomial.getExponent(i);
+            var position = Arrays.binarySearch(node.exponents, exponent);
+            if (position < 0) {
+                position = -position - 1;
+                node.exponents = insert(node.exponents, position, exponent);
+                var children = Node.<V>newChildren(node.children.length + 1);
+                System.arraycopy(node.children, 0, children, 0, position);
+                System.arraycopy(node.children, position, children, position + 1, node.children.length - position);
+                children[position] = new Node<>();
+                node.children = children;
+            }
+
+            node = node.children[position];
+            node.mask &= entry.mask();
+        }
+
+        if (node.entries == null) {
+            node.entries = new ArrayList<>(1);
+        }
+
+        node.entries.add(entry);
+        size++;
+    }
+
+    /**
+     * Removes the earliest inserted entry with the given monomial and value.
+     *
+     * @param monomial the indexed monomial
+     * @param value    the value attached to the monomial
+     * @return {@code true} if an entry was removed
+     */
+    public boolean remove(Monomial<T> monomial, V value) {
+        var path = Node.<V>newChildren(fieldSize + 1);
+        var positions = new int[fieldSize];
+        var node = root;
+        path[0] = node;
+        for (var i = 0; i < fieldSize; i++) {
+            var position = Arrays.binarySearch(node.exponents, monomial.getExponent(i));
+            if (position < 0) {
+                return false;
+            }
+
+            positions[i] = position;
+            node = node.children[position];
+            path[i + 1] = node;
+        }
+
+        var entryIndex = -1;
+        for (var i = 0; node.entries != null && i < node.entries.size(); i++) {
+            if (Objects.equals(node.entries.get(i).value(), value)) {
+                entryIndex = i;
+                break;
+            }
+        }
+
+        if (entryIndex == -1) {
+            return false;
+        }
+
+        node.entries.remove(entryIndex);
+        size--;
+
+        // Recomputing the masks from the leaf, dropping the nodes left empty
+        node.mask = -1L;
+        for (var entry : node.entries) {
+            node.mask &= entry.mask();
+        }
+
+        for (var i = fieldSize - 1; i >= 0; i--) {
+            var parent = path[i];
+            var child = path[i + 1];
+            if (child.children.length == 0 && (child.entries == null || child.entries.isEmpty())) {
+                var position = positions[i];
+                parent.exponents = delete(parent.exponents, position);
+                var children = Node.<V>newChildren(parent.children.length - 1);
+                System.arraycopy(parent.children, 0, children, 0, position);
+                System.arraycopy(parent.children, position + 1, children, position, children.length - position);
+                parent.children = children;
+            }
+
+            parent.mask = -1L;
+            for (var remaining : parent.children) {
+                parent.mask &= remaining.mask;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the earliest inserted monomial dividing the given one.
+     *
+     * @param monomial the monomial to find a divisor of
+     * @return the value attached to the divisor, or {@code null} if no indexed monomial divides {@code monomial}
+     */
+    public V find(Monomial<T> monomial) {
+        return find(monomial, value -> true);
+    }
+
+    /**
+     * Finds the earliest inserted monomial dividing the given one whose value is accepted by the filter.
+     *
+     * @param monomial the monomial to find a divisor of
+     * @param filter   the predicate the value of the divisor must satisfy
+     * @return the value attached to the divisor, or {@code null} if there is none
+     */
+    public V find(Monomial<T> monomial, Predicate<? super V> filter) {
+        if (size == 0) {
+            return null;
+        }
+
+        var best = search(root, 0, monomial, mask(monomial), filter, null);
+        return best == null ? null : best.value();
+    }
+
+    /**
+     * Checks whether an indexed monomial divides the given one.
+     *
+     * @param monomial the monomial to check
+     * @return {@code true} if at least one indexed monomial divides {@code monomial}
+     */
+    public boolean hasDivisor(Monomial<T> monomial) {
+        return size != 0 && containsDivisor(root, 0, monomial, mask(monomial));
+    }
+
+    // Stops at the first divisor, without looking for the earliest inserted one
+    private boolean containsDivisor(Node<V> node, int level, Monomial<T> monomial, long monomialMask) {
+        if ((node.mask & ~monomialMask) != 0) {
+            return false;
+        }
+
+        // The entries of a leaf share its monomial, which divides the searched one
+        if (level == fieldSize) {
+            return !node.entries.isEmpty();
+        }
+
+        var exponent = monomial.getExponent(level);
+        var exponents = node.exponents;
+        for (var i = 0; i < exponents.length && exponents[i] <= exponent; i++) {
+            if (containsDivisor(node.children[i], level + 1, monomial, monomialMask)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Entry<V> search(
+            Node<V> node,
+            int level,
+            Monomial<T> monomial,
+            long monomialMask,
+            Predicate<? super V> filter,
+            Entry<V> best
+    ) {
+        if ((node.mask & ~monomialMask) != 0) {
+            return best;
+        }
+
+        if (level == fieldSize) {
+            for (var entry : node.entries) {
+                if ((best == null || entry.sequence() < best.sequence()) && filter.test(entry.value())) {
+                    best = entry;
+                }
+            }
+
+            return best;
+        }
+
+        var exponent = monomial.getExponent(level);
+        var exponents = node.exponents;
+        for (var i = 0; i < exponents.length && exponents[i] <= exponent; i++) {
+            best = search(node.children[i], level + 1, monomial, monomialMask, filter, best);
+        }
+
+        return best;
+    }
+
+    private long mask(Monomial<T> monomial) {
+        return mask(monomial, fieldSize, maskBitsPerIndeterminate);
+    }
+
+    static int maskBitsPerIndeterminate(int fieldSize) {
+        return fieldSize == 0 ? 0 : Math.max(1, Long.SIZE / fieldSize);
+    }
+
+    // A monomial divides another only if its mask is included in the mask of the other
+    static long mask(Monomial<?> monomial, int fieldSize, int maskBitsPerIndeterminate) {
+        var mask = 0L;
+        var bit = 0;
+        for (var i = 0; i < fieldSize && bit < Long.SIZE; i++) {
+            var exponent = monomial.getExponent(i);
+            for (var threshold = 0; threshold < maskBitsPerIndeterminate && bit < Long.SIZE; threshold++, bit++) {
+                if (exponent > threshold) {
+                    mask |= 1L << bit;
+                }
+            }
+        }
+
+        return mask;
+    }
+
+    private static int[] insert(int[] array, int position, int value) {
+        var result = new int[array.length + 1];
+        System.arraycopy(array, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(array, position, result, position + 1, array.length - position);
+        return result;
+    }
+
+    private static int[] delete(int[] array, int position) {
+        var result = new int[array.length - 1];
+        System.arraycopy(array, 0, result, 0, position);
+        System.arraycopy(array, position + 1, result, position, result.length - position);
+        return result;
+    }
+}
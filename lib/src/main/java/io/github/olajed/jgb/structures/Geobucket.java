@@ -0,0 +1,167 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mutable accumulator of monomials used to reduce polynomials.
+ * <p>
+ * The monomials are spread over buckets of geometrically growing capacities, each bucket being sorted
+ * in increasing order like the monomials of a {@link Polynomial}. Adding a polynomial merges it into
+ * the smallest bucket that fits, and a bucket that grows too large is merged into the next one,
+ * so each monomial is only merged a logarithmic number of times.
+ * The leading term is extracted by comparing the last monomial of each bucket.
+ * </p>
+ *
+ * @param <T> the numeric type of the coefficients
+ * @see <a href="https://doi.org/10.1006/jsco.1997.0176">
+ * Yan, T., "The Geobucket Data Structure for Polynomials", Journal of Symbolic Computation, 1998.</a>
+ */
+@SuppressWarnings("unchecked")
+public final class Geobucket<T extends Numeric> {
+    private static final int GROWTH_FACTOR = 4;
+
+    private final MonomialOrdering<T> ordering;
+    private final List<List<Monomial<T>>> buckets;
+
+    /**
+     * Creates an empty geobucket.
+     *
+     * @param ordering the ordering used to sort the monomials
+     */
+    public Geobucket(MonomialOrdering<T> ordering) {
+        this.ordering = ordering;
+        this.buckets = new ArrayList<>();
+    }
+
+    /**
+     * Adds monomials sorted in increasing order with distinct exponents, as in {@link Polynomial#monomials()}.
+     *
+     * @param monomials the sorted monomials to add
+     */
+    public void add(List<Monomial<T>> monomials) {
+        if (monomials.isEmpty()) {
+            return;
+        }
+
+        var index = 0;
+        var capacity = GROWTH_FACTOR;
+        while (capacity < monomials.size()) {
+            index++;
+            capacity *= GROWTH_FACTOR;
+        }
+
+        var merged = monomials;
+        while (true) {
+            while (buckets.size() <= index) {
+                buckets.add(new ArrayList<>());
+            }
+
+            merged = merge(buckets.get(index), merged);
+            if (merged.size() <= capacity) {
+                buckets.set(index, merged);
+                return;
+            }
+
+            // Too large for this bucket, carried over to the next one
+            buckets.set(index, new ArrayList<>());
+            index++;
+            capacity *= GROWTH_FACTOR;
+        }
+    }
+
+    /**
+     * Adds a polynomial to the geobucket.
+     *
+     * @param polynomial the polynomial to add
+     */
+    public void add(Polynomial<T> polynomial) {
+        add(polynomial.monomials());
+    }
+
+    /**
+     * Removes and returns the leading term of the accumulated sum.
+     * Monomials with equal exponents in different buckets are combined, and cancelled out if their sum is zero.
+     *
+     * @return the leading term, or {@code null} if the sum is zero
+     */
+    public Monomial<T> popLeadingTerm() {
+        while (true) {
+            Monomial<T> leading = null;
+            for (var bucket : buckets) {
+                if (!bucket.isEmpty() && (leading == null || ordering.compare(bucket.getLast(), leading) > 0)) {
+                    leading = bucket.getLast();
+                }
+            }
+
+            if (leading == null) {
+                return null;
+            }
+
+            T coefficient = null;
+            for (var bucket : buckets) {
+                if (!bucket.isEmpty() && ordering.compare(bucket.getLast(), leading) == 0) {
+                    var term = bucket.removeLast();
+                    coefficient = coefficient == null ? term.coefficient() : (T) coefficient.add(term.coefficient());
+                }
+            }
+
+            if (!coefficient.isZero()) {
+                return leading.withCoefficient(coefficient);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the accumulated sum has no monomials left.
+     * Monomials cancelling each other across buckets are only detected by {@link #popLeadingTerm()}.
+     *
+     * @return {@code true} if all the buckets are empty
+     */
+    public boolean isEmpty() {
+        for (var bucket : buckets) {
+            if (!bucket.isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private List<Monomial<T>> merge(List<Monomial<T>> first, List<Monomial<T>> second) {
+        if (first.isEmpty()) {
+            return new ArrayList<>(second);
+        }
+
+        var result = new ArrayList<Monomial<T>>(first.size() + second.size());
+        var ptr1 = 0;
+        var ptr2 = 0;
+        while (ptr1 < first.size() && ptr2 < second.size()) {
+            var firstMonomial = first.get(ptr1);
+            var secondMonomial = second.get(ptr2);
+            var comparisonResult = ordering.compare(firstMonomial, secondMonomial);
+            if (comparisonResult < 0) {
+                result.add(firstMonomial);
+                ptr1++;
+            } else if (comparisonResult > 0) {
+                result.add(secondMonomial);
+                ptr2++;
+            } else {
+                var sum = firstMonomial.coefficient().add(secondMonomial.coefficient());
+                if (!sum.isZero()) {
+                    result.add(firstMonomial.withCoefficient((T) sum));
+                }
+
+                ptr1++;
+                ptr2++;
+            }
+        }
+
+        result.addAll(first.subList(ptr1, first.size()));
+        result.addAll(second.subList(ptr2, second.size()));
+        return result;
+    }
+}
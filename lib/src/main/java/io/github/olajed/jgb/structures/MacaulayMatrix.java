@@ -1,24 +1,48 @@
 package io.github.olajed.jgb.structures;
 
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.functions.PolynomialFunctions;
+import io.github.olajed.jgb.number.GaloisFieldElement;
 import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.PrimeField;
+import io.github.olajed.jgb.number.Rational;
 import io.github.olajed.jgb.ordering.MonomialOrdering;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Represents a Macaulay matrix for polynomial computations in algebraic geometry.
  * <p>
  * The matrix rows represent polynomials, columns represent monomials ordered according
  * to the specified monomial ordering, and entries are the coefficients from the field.
+ * <p>
+ * Over prime fields, the coefficients are stored as raw residues and reduced with the {@link PrimeField}
+ * arithmetic, so the elimination does not create any coefficient object.
+ * <p>
+ * In {@link ArithmeticMode#FRACTION_FREE} mode over the rationals, the rows hold coprime integers. The pivot rows
+ * are not scaled, each elimination combines the row with an integer multiple of the pivot row and divides
+ * the result by its content.
+ * <p>
+ * Once the pivot row of a column is known, the elimination of that column in the other rows
+ * can be split across the threads of a {@link ForkJoinPool}.
  * @param <T> the numeric type of the monomial coefficients
  */
 @SuppressWarnings("unchecked")
 public final class MacaulayMatrix<T extends Numeric> {
+    // Below this number of rows, splitting the elimination costs more than it saves
+    private static final int PARALLEL_ROWS_THRESHOLD = 64;
+
     private final List<Monomial<T>> monomials;
     private final List<List<T>> coefficients;
+    private final int[][] residues;
+    private final PrimeField primeField;
     private final T zero;
     private final MonomialOrdering<T> ordering;
     private final int fieldSize;
+    private final boolean fractionFree;
 
     /**
      * Building the matrix
@@ -26,54 +50,218 @@ public final class MacaulayMatrix<T extends Numeric> {
      * The number of columns is the total number of monomials for all the polynomials
      * <p>
      * The monomials are sorted and their coefficients in each polynomial (if existing) are put in the matrix
-     * We use a LinkedHashSet for fast lookups and insertion order preservation
+     * The columns are the ids of the monomials in a {@link MonomialTable}, so each term is hashed once
      *
      * @param polynomials : The polynomials to build the matrix from
      */
     public MacaulayMatrix(List<Polynomial<T>> polynomials) {
-        this.ordering = polynomials.getFirst().ordering();
-        this.fieldSize = polynomials.getFirst().fieldSize();
-        this.zero = (T) polynomials.getFirst().leadingCoefficient().zero();
+        this(polynomials, ArithmeticMode.FIELD);
+    }
+
+    /**
+     * Building the matrix with the given coefficient arithmetic
+     * In fraction-free mode, each polynomial is replaced by its primitive part before filling its row
+     *
+     * @param polynomials    : The polynomials to build the matrix from
+     * @param arithmeticMode : The arithmetic used on the coefficients
+     * @throws IllegalArgumentException if the fraction-free mode is used on non-rational coefficients
+     */
+    public MacaulayMatrix(List<Polynomial<T>> polynomials, ArithmeticMode arithmeticMode) {
+        this(
+                polynomials,
+                arithmeticMode,
+                new MonomialTable<>(polynomials.getFirst().fieldSize(), polynomials.getFirst().ordering())
+        );
+    }
+
+    /**
+     * Building the matrix with the given coefficient arithmetic, the columns being looked up in a monomial table
+     * Sharing the table between the matrices of a computation avoids hashing the same monomials again
+     *
+     * @param polynomials    : The polynomials to build the matrix from
+     * @param arithmeticMode : The arithmetic used on the coefficients
+     * @param monomialTable  : The table of the monomials of the computation, using the ordering of the polynomials
+     * @throws IllegalArgumentException if the fraction-free mode is used on non-rational coefficients,
+     *                                  or if the table does not use the ordering of the polynomials
+     */
+    public MacaulayMatrix(
+            List<Polynomial<T>> polynomials,
+            ArithmeticMode arithmeticMode,
+            MonomialTable<T> monomialTable
+    ) {
+        this(layout(polynomials, arithmeticMode, monomialTable), arithmeticMode, monomialTable);
+    }
+
+    /**
+     * Building the matrix from a symbolic preprocessing, with the given coefficient arithmetic
+     * The rows are filled from the monomial ids of the preprocessing, and the columns are its sorted monomials,
+     * so the rows are never expanded into polynomials
+     * In fraction-free mode, each row is filled with the primitive part of its polynomial, which is the primitive
+     * part of the row up to the monomial of its multiplier
+     *
+     * @param preprocessing  : The rows and columns of the matrix
+     * @param arithmeticMode : The arithmetic used on the coefficients
+     * @param monomialTable  : The table the preprocessing was computed with
+     * @throws IllegalArgumentException if the fraction-free mode is used on non-rational coefficients,
+     *                                  or if the table does not use the ordering of the polynomials
+     */
+    public MacaulayMatrix(
+            SymbolicPreprocessing<T> preprocessing,
+            ArithmeticMode arithmeticMode,
+            MonomialTable<T> monomialTable
+    ) {
+        this(layout(preprocessing, arithmeticMode, monomialTable), arithmeticMode, monomialTable);
+    }
+
+    /**
+     * The rows of the matrix before filling it: the polynomial and the factor of each row, with the ids of the
+     * terms of the polynomial, and the ids of the columns in decreasing order.
+     */
+    private record Layout<T extends Numeric>(
+            List<Polynomial<T>> polynomials,
+            List<T> factors,
+            int[][] termIds,
+            int[] columnIds
+    ) {
+    }
 
-        Set<Monomial<T>> allMonomials = new LinkedHashSet<>();
+    private static <T extends Numeric> Layout<T> layout(
+            List<Polynomial<T>> polynomials,
+            ArithmeticMode arithmeticMode,
+            MonomialTable<T> monomialTable
+    ) {
+        var fractionFree = arithmeticMode == ArithmeticMode.FRACTION_FREE;
+        if (fractionFree && !PolynomialFunctions.hasRationalCoefficients(polynomials)) {
+            throw new IllegalArgumentException("Expected polynomials with Rational coefficients.");
+        }
+
+        checkOrdering(polynomials.getFirst(), monomialTable);
+        var rows = polynomials.size();
+        var rowPolynomials = new ArrayList<Polynomial<T>>(rows);
         for (var polynomial : polynomials) {
-            for (Monomial<T> monomial : polynomial.monomials()) {
-                allMonomials.add(monomial.withCoefficient((T) monomial.coefficient().one()));
+            rowPolynomials.add(fractionFree
+                    ? (Polynomial<T>) (Polynomial<?>) PolynomialFunctions.primitivePart((Polynomial<Rational>) polynomial)
+                    : polynomial);
+        }
+
+        // Each term is looked up once, the columns are the distinct ids sorted in decreasing order
+        var termIds = new int[rows][];
+        var usedIds = new BitSet();
+        for (var polynomialIndex = 0; polynomialIndex < rows; polynomialIndex++) {
+            var polynomialMonomials = rowPolynomials.get(polynomialIndex).monomials();
+            var ids = new int[polynomialMonomials.size()];
+            for (var i = 0; i < ids.length; i++) {
+                ids[i] = monomialTable.intern(polynomialMonomials.get(i));
+                usedIds.set(ids[i]);
             }
+
+            termIds[polynomialIndex] = ids;
+        }
+
+        var columnIds = usedIds.stream().toArray();
+        monomialTable.sortDescending(columnIds);
+        return new Layout<>(rowPolynomials, null, termIds, columnIds);
+    }
+
+    private static <T extends Numeric> Layout<T> layout(
+            SymbolicPreprocessing<T> preprocessing,
+            ArithmeticMode arithmeticMode,
+            MonomialTable<T> monomialTable
+    ) {
+        var rows = preprocessing.rows();
+        var fractionFree = arithmeticMode == ArithmeticMode.FRACTION_FREE;
+        if (fractionFree && !(rows.getFirst().polynomial().leadingCoefficient() instanceof Rational)) {
+            throw new IllegalArgumentException("Expected polynomials with Rational coefficients.");
+        }
+
+        checkOrdering(rows.getFirst().polynomial(), monomialTable);
+        var rowPolynomials = new ArrayList<Polynomial<T>>(rows.size());
+        var factors = new ArrayList<T>(rows.size());
+        var termIds = new int[rows.size()][];
+        for (var rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            var row = rows.get(rowIndex);
+            if (fractionFree) {
+                // The primitive part does not depend on the coefficient of the multiplier
+                var polynomial = (Polynomial<Rational>) row.polynomial();
+                rowPolynomials.add((Polynomial<T>) (Polynomial<?>) PolynomialFunctions.primitivePart(polynomial));
+                factors.add((T) row.multiplier().coefficient().one());
+            } else {
+                rowPolynomials.add(row.polynomial());
+                factors.add(row.multiplier().coefficient());
+            }
+
+            termIds[rowIndex] = preprocessing.monomials(rowIndex);
+        }
+
+        return new Layout<>(rowPolynomials, factors, termIds, preprocessing.columns());
+    }
+
+    private static <T extends Numeric> void checkOrdering(Polynomial<T> polynomial, MonomialTable<T> monomialTable) {
+        if (monomialTable.ordering().orderId() != polynomial.ordering().orderId()) {
+            throw new IllegalArgumentException("The monomial table should use the ordering of the polynomials.");
+        }
+    }
+
+    private MacaulayMatrix(Layout<T> layout, ArithmeticMode arithmeticMode, MonomialTable<T> monomialTable) {
+        this.fractionFree = arithmeticMode == ArithmeticMode.FRACTION_FREE;
+        var rowPolynomials = layout.polynomials();
+        var factors = layout.factors();
+        var termIds = layout.termIds();
+        this.ordering = rowPolynomials.getFirst().ordering();
+        this.fieldSize = rowPolynomials.getFirst().fieldSize();
+        this.zero = (T) rowPolynomials.getFirst().leadingCoefficient().zero();
+
+        var columnIds = layout.columnIds();
+        var columnIndices = new int[monomialTable.size()];
+        var sortedMonomials = new ArrayList<Monomial<T>>(columnIds.length);
+        for (var i = 0; i < columnIds.length; i++) {
+            columnIndices[columnIds[i]] = i;
+            sortedMonomials.add(monomialTable.monomial(columnIds[i]));
         }
 
-        // Sorting
-        var sortedMonomials = new ArrayList<>(allMonomials);
-        sortedMonomials.sort((o1, o2) -> ordering.compare(o2, o1));
         this.monomials = sortedMonomials;
 
-        // Initializing the coefficient matrix
-        var rows = polynomials.size();
+        var rows = rowPolynomials.size();
         var cols = monomials.size();
+        if (zero instanceof GaloisFieldElement galoisFieldZero) {
+            // Prime field, we work on the residues directly
+            this.primeField = galoisFieldZero.field();
+            this.coefficients = null;
+            this.residues = new int[rows][cols];
+            for (var polynomialIndex = 0; polynomialIndex < rows; polynomialIndex++) {
+                var row = residues[polynomialIndex];
+                var ids = termIds[polynomialIndex];
+                var polynomialMonomials = rowPolynomials.get(polynomialIndex).monomials();
+                var factor = factors == null ? 1 : ((GaloisFieldElement) factors.get(polynomialIndex)).get();
+                for (var i = 0; i < ids.length; i++) {
+                    var residue = ((GaloisFieldElement) polynomialMonomials.get(i).coefficient()).get();
+                    row[columnIndices[ids[i]]] = factor == 1 ? residue : primeField.multiply(factor, residue);
+                }
+            }
+
+            return;
+        }
+
+        // Initializing the coefficient matrix
+        this.primeField = null;
+        this.residues = null;
         this.coefficients = new ArrayList<>(rows);
-        for (var i = 0; i < rows; i++) {
+        for (var polynomialIndex = 0; polynomialIndex < rows; polynomialIndex++) {
             List<T> row = new ArrayList<>(cols);
             for (var j = 0; j < cols; j++) {
                 row.add(zero);
             }
 
-            coefficients.add(row);
-        }
-
-        // Create a map for fast monomial lookups (avoiding binary search)
-        Map<Monomial<T>, Integer> monomialIndices = new HashMap<>(monomials.size());
-        for (var i = 0; i < monomials.size(); i++) {
-            monomialIndices.put(monomials.get(i), i);
-        }
-
-        // Fill the coefficient matrix using the map
-        for (var polynomialIndex = 0; polynomialIndex < rows; polynomialIndex++) {
-            var polynomial = polynomials.get(polynomialIndex);
-            for (var monomial : polynomial.monomials()) {
-                var lookupMonomial = monomial.withCoefficient((T) monomial.coefficient().one());
-                var monomialIndex = monomialIndices.get(lookupMonomial);
-                coefficients.get(polynomialIndex).set(monomialIndex, monomial.coefficient());
+            var ids = termIds[polynomialIndex];
+            var polynomialMonomials = rowPolynomials.get(polynomialIndex).monomials();
+            var factor = factors == null ? null : factors.get(polynomialIndex);
+            var unit = factor == null || factor.equals(factor.one());
+            for (var i = 0; i < ids.length; i++) {
+                var coefficient = polynomialMonomials.get(i).coefficient();
+                row.set(columnIndices[ids[i]], unit ? coefficient : (T) factor.multiply(coefficient));
             }
+
+            coefficients.add(row);
         }
     }
 
@@ -82,6 +270,22 @@ public final class MacaulayMatrix<T extends Numeric> {
      * This implementation uses a more efficient approach with in-place operations.
      */
     public void rowEchelonReduction() {
+        rowEchelonReduction(null);
+    }
+
+    /**
+     * Performs Gaussian elimination to convert the matrix to reduced row echelon form,
+     * eliminating each pivot column from the other rows in parallel.
+     * Each row is only updated by its own task, so the result does not depend on the number of threads.
+     *
+     * @param pool the pool running the elimination, {@code null} to run it on the current thread
+     */
+    public void rowEchelonReduction(ForkJoinPool pool) {
+        if (residues != null) {
+            primeFieldRowEchelonReduction(pool);
+            return;
+        }
+
         var rows = coefficients.size();
         if (rows == 0) {
             return;
@@ -114,24 +318,96 @@ public final class MacaulayMatrix<T extends Numeric> {
                 swapRows(currentRow, pivotRow);
             }
 
-            // Scale pivot row to make leading coefficient 1
+            // Scale pivot row to make leading coefficient 1, fraction-free rows keep their integer pivot
             var pivotValue = coefficients.get(currentRow).get(col);
-            if (!pivotValue.equals(pivotValue.one())) {
+            if (!fractionFree && !pivotValue.equals(pivotValue.one())) {
                 scaleRow(currentRow, (T) pivotValue.one().divide(pivotValue));
             }
 
             // Eliminate other rows
-            for (var i = 0; i < rows; i++) {
-                if (i != currentRow && !coefficients.get(i).get(col).equals(zero)) {
-                    var factor = coefficients.get(i).get(col);
-                    subtractRows(i, currentRow, factor);
+            var pivotIndex = currentRow;
+            var pivotColumn = col;
+            forEachRow(pool, rows, i -> {
+                if (i != pivotIndex && !coefficients.get(i).get(pivotColumn).equals(zero)) {
+                    var factor = coefficients.get(i).get(pivotColumn);
+                    if (fractionFree) {
+                        combineRows(i, pivotIndex, pivotValue, factor);
+                    } else {
+                        subtractRows(i, pivotIndex, factor);
+                    }
+                }
+            });
+
+            currentRow++;
+        }
+    }
+
+    /**
+     * Gauss-Jordan elimination over the residues of a prime field.
+     * Pivot rows are zero on the left of their pivot, so the updates start at the pivot column.
+     */
+    private void primeFieldRowEchelonReduction(ForkJoinPool pool) {
+        var rows = residues.length;
+        var cols = monomials.size();
+        var currentRow = 0;
+        for (var col = 0; col < cols && currentRow < rows; col++) {
+            var pivotRow = -1;
+            for (var i = currentRow; i < rows; i++) {
+                if (residues[i][col] != 0) {
+                    pivotRow = i;
+                    break;
+                }
+            }
+
+            if (pivotRow == -1) {
+                continue;
+            }
+
+            var pivot = residues[pivotRow];
+            residues[pivotRow] = residues[currentRow];
+            residues[currentRow] = pivot;
+
+            if (pivot[col] != 1) {
+                var inverse = primeField.inverse(pivot[col]);
+                for (var j = col; j < cols; j++) {
+                    pivot[j] = primeField.multiply(pivot[j], inverse);
                 }
             }
 
+            var pivotIndex = currentRow;
+            var pivotColumn = col;
+            forEachRow(pool, rows, i -> {
+                var row = residues[i];
+                var factor = row[pivotColumn];
+                if (i == pivotIndex || factor == 0) {
+                    return;
+                }
+
+                var negatedFactor = primeField.negate(factor);
+                for (var j = pivotColumn; j < cols; j++) {
+                    if (pivot[j] != 0) {
+                        row[j] = primeField.reduce(row[j] + (long) negatedFactor * pivot[j]);
+                    }
+                }
+            });
+
             currentRow++;
         }
     }
 
+    /**
+     * Runs the action on every row index, on the pool if there are enough rows
+     */
+    private static void forEachRow(ForkJoinPool pool, int rows, IntConsumer action) {
+        if (pool == null || rows < PARALLEL_ROWS_THRESHOLD) {
+            for (var i = 0; i < rows; i++) {
+                action.accept(i);
+            }
+        } else {
+            pool.submit(() -> IntStream.range(0, rows).parallel().forEach(action)).join();
+        }
+    }
+
     /**
      * Swap two rows in the coefficient matrix
      */
@@ -164,6 +440,25 @@ public final class MacaulayMatrix<T extends Numeric> {
         }
     }
 
+    /**
+     * Replace row1 by pivot * row1 - factor * row2, then divide it by its content
+     */
+    private void combineRows(int row1, int row2, T pivot, T factor) {
+        var targetRow1 = coefficients.get(row1);
+        var targetRow2 = coefficients.get(row2);
+        var content = Rational.ZERO;
+        for (var i = 0; i < targetRow1.size(); i++) {
+            var value = (T) targetRow1.get(i).multiply(pivot).subtract(targetRow2.get(i).multiply(factor));
+            targetRow1.set(i, value);
+            content = content.gcd((Rational) value);
+        }
+
+        if (!content.isZero() && !content.isOne()) {
+            var divisor = content;
+            targetRow1.replaceAll(t -> (T) t.divide(divisor));
+        }
+    }
+
     /**
      * Converts the matrix back to a list of polynomials.
      *
@@ -171,6 +466,24 @@ public final class MacaulayMatrix<T extends Numeric> {
      *         as polynomials; rows that contain only zero coefficients are omitted.
      */
     public List<Polynomial<T>> polynomials() {
+        if (residues != null) {
+            var polynomials = new ArrayList<Polynomial<T>>(residues.length);
+            for (var row : residues) {
+                List<Monomial<T>> nonZeroMonomials = new ArrayList<>();
+                for (var i = 0; i < monomials.size(); i++) {
+                    if (row[i] != 0) {
+                        nonZeroMonomials.add(monomials.get(i).withCoefficient((T) primeField.element(row[i])));
+                    }
+                }
+
+                if (!nonZeroMonomials.isEmpty()) {
+                    polynomials.add(new Polynomial<>(nonZeroMonomials, fieldSize, ordering));
+                }
+            }
+
+            return polynomials;
+        }
+
         var polynomials = new ArrayList<Polynomial<T>>(coefficients.size());
         for (var coefficientRow : coefficients) {
             List<Monomial<T>> nonZeroMonomials = new ArrayList<>();
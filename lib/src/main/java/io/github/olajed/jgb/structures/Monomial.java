@@ -12,7 +12,7 @@ import java.util.function.IntBinaryOperator;
  *
  * @param <T> The type of the coefficient, which must extend {@link Numeric}.
  */
-public abstract sealed class Monomial<T extends Numeric> permits DenseMonomial, SparseMonomial {
+public abstract sealed class Monomial<T extends Numeric> permits DenseMonomial, SparseMonomial, PackedMonomial {
     /**
      * Returns the total degree of the monomial, defined as the sum of all exponents.
      *
@@ -72,6 +72,16 @@ public abstract sealed class Monomial<T extends Numeric> permits DenseMonomial,
                                    int initialValue,
                                    IntBinaryOperator aggregation);
 
+    /**
+     * Returns the weighted degree of the monomial, the sum of its exponents multiplied by the weights of their
+     * variables, computed in {@code long} so that large weights do not overflow.
+     *
+     * @param weights the weights of the variables
+     * @return the weighted degree
+     * @throws ArithmeticException if the weighted degree overflows a {@code long}
+     */
+    public abstract long weightedDegree(int[] weights);
+
     /**
      * Returns the product of this monomial and another.
      * Coefficients are multiplied and exponents are added componentwise.
@@ -99,6 +109,34 @@ public abstract sealed class Monomial<T extends Numeric> permits DenseMonomial,
      */
     public abstract Monomial<T> divide(Monomial<T> other);
 
+    /**
+     * Returns {@code true} if this monomial divides another, comparing the exponents only.
+     * Unlike {@link #divide(Monomial)}, no monomial is created.
+     *
+     * @param other the monomial to test
+     * @return {@code true} if each exponent of this monomial is at most the corresponding exponent of {@code other}
+     */
+    public abstract boolean divides(Monomial<T> other);
+
+    /**
+     * Returns the total degree of the least common multiple of this monomial and another,
+     * without creating the least common multiple.
+     *
+     * @param other the other monomial
+     * @return the degree of lcm(this, other)
+     */
+    public abstract int lcmDegree(Monomial<T> other);
+
+    /**
+     * Returns {@code true} if lcm(this, first) divides lcm(this, second), without creating the least common multiples.
+     * This is the test done by the Gebauer–Möller criteria on the pairs sharing this monomial.
+     *
+     * @param first  the monomial of the first least common multiple
+     * @param second the monomial of the second least common multiple
+     * @return {@code true} if lcm(this, first) divides lcm(this, second)
+     */
+    public abstract boolean lcmDivides(Monomial<T> first, Monomial<T> second);
+
     /**
      * Returns a copy of this monomial with the coefficient replaced.
      *
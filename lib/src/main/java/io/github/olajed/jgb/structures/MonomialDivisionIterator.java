@@ -46,9 +46,11 @@ public final class MonomialDivisionIterator<T extends Numeric> implements Iterat
             throw new NoSuchElementException();
         }
 
-        var result = internal instanceof DenseMonomial<T>
-                ? new DenseMonomial<>(current.clone(), internal.coefficient())
-                : new SparseMonomial<>(current.clone(), internal.coefficient());
+        Monomial<T> result = switch (internal) {
+            case DenseMonomial<T> ignored -> new DenseMonomial<>(current.clone(), internal.coefficient());
+            case SparseMonomial<T> ignored -> new SparseMonomial<>(current.clone(), internal.coefficient());
+            case PackedMonomial<T> ignored -> new PackedMonomial<>(current.clone(), internal.coefficient());
+        };
 
         findNextDivisor();
         return result;
@@ -0,0 +1,423 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+
+import java.util.Arrays;
+
+/**
+ * Table of the monomials met during a computation, each exponent vector being mapped to a dense {@code int} id.
+ * <p>
+ * The ids are given in insertion order and never change, so the sets and maps of monomials of an algorithm
+ * can be stored as bit sets and arrays indexed by id. Looking up a monomial hashes its exponents directly,
+ * without creating a monomial, and the coefficient is ignored.
+ * For each id, the table keeps the degree, the divisibility mask used by {@link DivisorIndex} and a monomial
+ * with coefficient one. The products of monomials already in the table are cached, so multiplying two ids
+ * again is a single lookup.
+ * </p>
+ * <p>
+ * The rank of a monomial is its position among the monomials of the table sorted by the ordering. The ranks are
+ * computed by {@link #updateRanks()}, which only sorts the monomials added since the previous call and merges them
+ * with the already sorted ones. Comparisons of ranked ids are then integer comparisons.
+ * </p>
+ * <p>
+ * A table belongs to a single computation and is not thread-safe.
+ * </p>
+ *
+ * @param <T> the numeric type of the coefficients of the monomials
+ */
+@SuppressWarnings("unchecked")
+public final class MonomialTable<T extends Numeric> {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long NO_KEY = -1L;
+
+    private final int fieldSize;
+    private final int maskBitsPerIndeterminate;
+    private final MonomialOrdering<T> ordering;
+    private int size;
+    // Exponent vectors of the monomials, fieldSize entries per id
+    private int[] exponents;
+    private int[] hashes;
+    private int[] degrees;
+    private long[] masks;
+    private Monomial<T>[] monomials;
+    // Open addressing from the hash of an exponent vector to id + 1, zero for an empty slot
+    private int[] slots;
+    // Open addressing from a pair of ids to the id of their product
+    private long[] productKeys;
+    private int[] productValues;
+    private int products;
+    // ranks[id] is the position of id in increasing order, valid for the first rankedSize ids
+    private int[] ranks;
+    private int[] byRank;
+    private int rankedSize;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param fieldSize the number of indeterminates of the monomials
+     * @param ordering  the ordering giving the ranks of the monomials
+     */
+    public MonomialTable(int fieldSize, MonomialOrdering<T> ordering) {
+        this.fieldSize = fieldSize;
+        this.maskBitsPerIndeterminate = DivisorIndex.maskBitsPerIndeterminate(fieldSize);
+        this.ordering = ordering;
+        this.exponents = new int[INITIAL_CAPACITY * fieldSize];
+        this.hashes = new int[INITIAL_CAPACITY];
+        this.degrees = new int[INITIAL_CAPACITY];
+        this.masks = new long[INITIAL_CAPACITY];
+        this.monomials = (Monomial<T>[]) new Monomial<?>[INITIAL_CAPACITY];
+        this.slots = new int[INITIAL_CAPACITY * 2];
+        this.productKeys = new long[INITIAL_CAPACITY * 2];
+        Arrays.fill(productKeys, NO_KEY);
+        this.productValues = new int[INITIAL_CAPACITY * 2];
+        this.ranks = new int[0];
+        this.byRank = new int[0];
+    }
+
+    /**
+     * Returns the number of monomials in the table.
+     *
+     * @return the number of monomials, the ids being {@code 0} to {@code size() - 1}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of indeterminates of the monomials.
+     *
+     * @return the number of indeterminates
+     */
+    public int fieldSize() {
+        return fieldSize;
+    }
+
+    /**
+     * Returns the ordering of the table.
+     *
+     * @return the ordering giving the ranks of the monomials
+     */
+    public MonomialOrdering<T> ordering() {
+        return ordering;
+    }
+
+    /**
+     * Returns the id of a monomial, adding it to the table if needed. The coefficient is ignored.
+     *
+     * @param monomial the monomial
+     * @return the id of its exponent vector
+     */
+    public int intern(Monomial<T> monomial) {
+        var hash = hash(monomial);
+        var mask = slots.length - 1;
+        var slot = hash & mask;
+        while (slots[slot] != 0) {
+            var id = slots[slot] - 1;
+            if (hashes[id] == hash && exponentsEqual(id, monomial)) {
+                return id;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        var one = (T) monomial.coefficient().one();
+        return add(monomial.coefficient().equals(one) ? monomial : monomial.withCoefficient(one), hash, slot);
+    }
+
+    /**
+     * Returns the id of a monomial without adding it. The coefficient is ignored.
+     *
+     * @param monomial the monomial
+     * @return the id of its exponent vector, or {@code -1} if it is not in the table
+     */
+    public int find(Monomial<T> monomial) {
+        var hash = hash(monomial);
+        var mask = slots.length - 1;
+        for (var slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            var id = slots[slot] - 1;
+            if (hashes[id] == hash && exponentsEqual(id, monomial)) {
+                return id;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the monomial of an id, with coefficient one.
+     *
+     * @param id the id of the monomial
+     * @return the monomial
+     */
+    public Monomial<T> monomial(int id) {
+        return monomials[id];
+    }
+
+    /**
+     * Returns the total degree of a monomial.
+     *
+     * @param id the id of the monomial
+     * @return its degree
+     */
+    public int degree(int id) {
+        return degrees[id];
+    }
+
+    /**
+     * Returns the divisibility mask of a monomial, a bit being set when an exponent exceeds a threshold.
+     * A monomial divides another only if its mask is included in the mask of the other.
+     *
+     * @param id the id of the monomial
+     * @return its divisibility mask
+     */
+    public long mask(int id) {
+        return masks[id];
+    }
+
+    /**
+     * Returns an exponent of a monomial.
+     *
+     * @param id                 the id of the monomial
+     * @param indeterminateIndex the index of the indeterminate
+     * @return the exponent of the indeterminate
+     */
+    public int exponent(int id, int indeterminateIndex) {
+        return exponents[id * fieldSize + indeterminateIndex];
+    }
+
+    /**
+     * Checks whether a monomial divides another.
+     *
+     * @param divisor the id of the candidate divisor
+     * @param id      the id of the monomial to divide
+     * @return {@code true} if the first monomial divides the second one
+     */
+    public boolean divides(int divisor, int id) {
+        if ((masks[divisor] & ~masks[id]) != 0 || degrees[divisor] > degrees[id]) {
+            return false;
+        }
+
+        var divisorOffset = divisor * fieldSize;
+        var offset = id * fieldSize;
+        for (var i = 0; i < fieldSize; i++) {
+            if (exponents[divisorOffset + i] > exponents[offset + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the id of the product of two monomials, adding the product to the table if needed.
+     * The products are cached, so the exponents of a given pair of ids are only added once.
+     *
+     * @param first  the id of the first monomial
+     * @param second the id of the second monomial
+     * @return the id of the product
+     */
+    public int multiply(int first, int second) {
+        var key = first <= second
+                ? ((long) first << Integer.SIZE) | second
+                : ((long) second << Integer.SIZE) | first;
+        var mask = productKeys.length - 1;
+        var slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+        while (productKeys[slot] != NO_KEY) {
+            if (productKeys[slot] == key) {
+                return productValues[slot];
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        var product = intern(monomials[first].multiply(monomials[second]));
+        productKeys[slot] = key;
+        productValues[slot] = product;
+        if (++products * 2 > productKeys.length) {
+            resizeProducts();
+        }
+
+        return product;
+    }
+
+    /**
+     * Returns the id of the quotient of two monomials, adding the quotient to the table if needed.
+     * Assumes exact division.
+     *
+     * @param dividend the id of the monomial to divide
+     * @param divisor  the id of the divisor
+     * @return the id of the quotient
+     */
+    public int divide(int dividend, int divisor) {
+        return intern(monomials[dividend].divide(monomials[divisor]));
+    }
+
+    /**
+     * Compares two monomials with the ordering of the table, using their ranks when both are ranked.
+     *
+     * @param first  the id of the first monomial
+     * @param second the id of the second monomial
+     * @return a negative number, zero or a positive number if the first monomial is smaller than, equal to or
+     * greater than the second one
+     */
+    public int compare(int first, int second) {
+        if (first < rankedSize && second < rankedSize) {
+            return Integer.compare(ranks[first], ranks[second]);
+        }
+
+        return first == second ? 0 : ordering.compare(monomials[first], monomials[second]);
+    }
+
+    /**
+     * Computes the ranks of the monomials added since the last call.
+     * The new monomials are sorted, then merged with the monomials already ranked.
+     */
+    public void updateRanks() {
+        if (rankedSize == size) {
+            return;
+        }
+
+        var added = new Integer[size - rankedSize];
+        for (var i = 0; i < added.length; i++) {
+            added[i] = rankedSize + i;
+        }
+
+        Arrays.sort(added, (x, y) -> ordering.compare(monomials[x], monomials[y]));
+        var merged = new int[size];
+        var i = 0;
+        var j = 0;
+        var k = 0;
+        while (i < rankedSize && j < added.length) {
+            merged[k++] = ordering.compare(monomials[byRank[i]], monomials[added[j]]) <= 0 ? byRank[i++] : added[j++];
+        }
+
+        while (i < rankedSize) {
+            merged[k++] = byRank[i++];
+        }
+
+        while (j < added.length) {
+            merged[k++] = added[j++];
+        }
+
+        this.byRank = merged;
+        this.ranks = new int[size];
+        for (var rank = 0; rank < size; rank++) {
+            ranks[merged[rank]] = rank;
+        }
+
+        this.rankedSize = size;
+    }
+
+    /**
+     * Sorts ids by decreasing monomial, ranking the table first if needed.
+     *
+     * @param ids the ids to sort, in place
+     */
+    public void sortDescending(int[] ids) {
+        updateRanks();
+        for (var i = 0; i < ids.length; i++) {
+            ids[i] = ranks[ids[i]];
+        }
+
+        Arrays.sort(ids);
+        for (var i = 0; i < ids.length / 2; i++) {
+            var swap = ids[i];
+            ids[i] = ids[ids.length - 1 - i];
+            ids[ids.length - 1 - i] = swap;
+        }
+
+        for (var i = 0; i < ids.length; i++) {
+            ids[i] = byRank[ids[i]];
+        }
+    }
+
+    private int add(Monomial<T> monomial, int hash, int slot) {
+        if (size == degrees.length) {
+            grow();
+            slot = emptySlot(hash);
+        }
+
+        var id = size++;
+        var offset = id * fieldSize;
+        var degree = 0;
+        for (var i = 0; i < fieldSize; i++) {
+            var exponent = monomial.getExponent(i);
+            exponents[offset + i] = exponent;
+            degree += exponent;
+        }
+
+        hashes[id] = hash;
+        degrees[id] = degree;
+        masks[id] = DivisorIndex.mask(monomial, fieldSize, maskBitsPerIndeterminate);
+        monomials[id] = monomial;
+        slots[slot] = id + 1;
+        return id;
+    }
+
+    private int hash(Monomial<T> monomial) {
+        var hash = 0;
+        for (var i = 0; i < fieldSize; i++) {
+            hash = 31 * hash + monomial.getExponent(i);
+        }
+
+        // Spreading the bits, the low ones select the slot
+        return hash ^ (hash >>> 16) ^ (hash * 0x9E3779B9);
+    }
+
+    private boolean exponentsEqual(int id, Monomial<T> monomial) {
+        var offset = id * fieldSize;
+        for (var i = 0; i < fieldSize; i++) {
+            if (exponents[offset + i] != monomial.getExponent(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int emptySlot(int hash) {
+        var mask = slots.length - 1;
+        var slot = hash & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private void grow() {
+        var capacity = degrees.length * 2;
+        exponents = Arrays.copyOf(exponents, capacity * fieldSize);
+        hashes = Arrays.copyOf(hashes, capacity);
+        degrees = Arrays.copyOf(degrees, capacity);
+        masks = Arrays.copyOf(masks, capacity);
+        monomials = Arrays.copyOf(monomials, capacity);
+
+        // Keeping the load factor of the slots at most one half
+        slots = new int[capacity * 2];
+        for (var id = 0; id < size; id++) {
+            slots[emptySlot(hashes[id])] = id + 1;
+        }
+    }
+
+    private void resizeProducts() {
+        var oldKeys = productKeys;
+        var oldValues = productValues;
+        productKeys = new long[oldKeys.length * 2];
+        Arrays.fill(productKeys, NO_KEY);
+        productValues = new int[oldValues.length * 2];
+        var mask = productKeys.length - 1;
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != NO_KEY) {
+                var slot = Long.hashCode(oldKeys[i] * 0x9E3779B97F4A7C15L) & mask;
+                while (productKeys[slot] != NO_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+
+                productKeys[slot] = oldKeys[i];
+                productValues[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Numeric;
+
+import java.util.function.BiFunction;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Represents a packed implementation of a mathematical monomial in a polynomial ring.
+ * Stores the exponents in two {@code long} words, using a fixed 8-bit field per indeterminate.
+ * <p>
+ * The highest bit of each field is kept clear as a guard bit, so exponents are limited to
+ * {@value #MAX_EXPONENT} and rings to {@value #MAX_INDETERMINATES} indeterminates.
+ * The guard bits allow divisibility, lcm, multiplication and comparisons to be done with a handful
+ * of word operations instead of a loop over the indeterminates.
+ * </p>
+ * <p>
+ * The first indeterminate is stored in the most significant field of the first word,
+ * so that comparing the words as unsigned integers gives the lexicographic order of the exponents.
+ * </p>
+ *
+ * @param <T> The type of the coefficient, which must extend {@link Numeric}.
+ */
+@SuppressWarnings("unchecked")
+public final class PackedMonomial<T extends Numeric> extends Monomial<T> {
+    /**
+     * The maximum number of indeterminates that can be stored in a packed monomial.
+     */
+    public static final int MAX_INDETERMINATES = 16;
+
+    /**
+     * The maximum exponent that can be stored for a single indeterminate.
+     */
+    public static final int MAX_EXPONENT = 127;
+
+    private static final int FIELD_WIDTH = 8;
+    private static final int FIELDS_PER_WORD = Long.SIZE / FIELD_WIDTH;
+    private static final long FIELD_MASK = 0xFFL;
+    private static final long GUARD_BITS = 0x8080808080808080L;
+    private static final long VALUE_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private final T coefficient;
+    private final long high;
+    private final long low;
+    private final int fieldSize;
+    private final int degree;
+
+    /**
+     * Constructs a packed monomial with the given exponents and coefficient.
+     *
+     * @param exponents   an array representing the exponents of each variable
+     * @param coefficient the coefficient of the monomial
+     * @throws IllegalArgumentException if there are more than {@value #MAX_INDETERMINATES} exponents,
+     *                                  or if an exponent is negative or greater than {@value #MAX_EXPONENT}
+     */
+    public PackedMonomial(int[] exponents, T coefficient) {
+        if (exponents.length > MAX_INDETERMINATES) {
+            throw new IllegalArgumentException(
+                    "Packed monomials support at most %d indeterminates, got %d."
+                            .formatted(MAX_INDETERMINATES, exponents.length)
+            );
+        }
+
+        var words = new long[2];
+        var totalDegree = 0;
+        for (var i = 0; i < exponents.length; i++) {
+            var exponent = exponents[i];
+            if (exponent < 0 || exponent > MAX_EXPONENT) {
+                throw new IllegalArgumentException(
+                        "Packed monomials support exponents between 0 and %d, got %d."
+                                .formatted(MAX_EXPONENT, exponent)
+                );
+            }
+
+            words[i / FIELDS_PER_WORD] |= (long) exponent << shift(i);
+            totalDegree += exponent;
+        }
+
+        this.coefficient = coefficient;
+        this.high = words[0];
+        this.low = words[1];
+        this.fieldSize = exponents.length;
+        this.degree = totalDegree;
+    }
+
+    private PackedMonomial(long high, long low, int fieldSize, int degree, T coefficient) {
+        this.coefficient = coefficient;
+        this.high = high;
+        this.low = low;
+        this.fieldSize = fieldSize;
+        this.degree = degree;
+    }
+
+    private static int shift(int indeterminateIndex) {
+        return Long.SIZE - FIELD_WIDTH * (indeterminateIndex % FIELDS_PER_WORD + 1);
+    }
+
+    @Override
+    public int degree() {
+        return degree;
+    }
+
+    @Override
+    public T coefficient() {
+        return coefficient;
+    }
+
+    @Override
+    public int fieldSize() {
+        return fieldSize;
+    }
+
+    @Override
+    public int getExponent(int indeterminateIndex) {
+        var word = indeterminateIndex < FIELDS_PER_WORD ? high : low;
+        return (int) ((word >>> shift(indeterminateIndex)) & FIELD_MASK);
+    }
+
+    @Override
+    public <U, V> V accumulate(U[] elements, BiFunction<Integer, U, V> combination, V initialValue, BiFunction<V, V, V> aggregation) {
+        var result = initialValue;
+        for (var i = 0; i < fieldSize; i++) {
+            result = aggregation.apply(result, combination.apply(getExponent(i), elements[i]));
+        }
+
+        return result;
+    }
+
+    @Override
+    public int accumulate(int[] elements, IntBinaryOperator combination, int initialValue, IntBinaryOperator aggregation) {
+        var result = initialValue;
+        for (var i = 0; i < fieldSize; i++) {
+            result = aggregation.applyAsInt(result, combination.applyAsInt(getExponent(i), elements[i]));
+        }
+
+        return result;
+    }
+
+    @Override
+    public long weightedDegree(int[] weights) {
+        var result = 0L;
+        for (var i = 0; i < fieldSize; i++) {
+            result = Math.addExact(result, (long) weights[i] * getExponent(i));
+        }
+
+        return result;
+    }
+
+    @Override
+    public Monomial<T> multiply(Monomial<T> other) {
+        if (!(other instanceof PackedMonomial<T> packed)) {
+            throw new IllegalArgumentException("Expected a PackedMonomial instance.");
+        }
+
+        // Fields are at most 127, so the sums never carry into the next field but may set a guard bit
+        var resultingHigh = high + packed.high;
+        var resultingLow = low + packed.low;
+        if (((resultingHigh | resultingLow) & GUARD_BITS) != 0) {
+            throw new ArithmeticException("Exponent overflow, packed monomials support exponents up to " + MAX_EXPONENT);
+        }
+
+        return new PackedMonomial<>(
+                resultingHigh,
+                resultingLow,
+                fieldSize,
+                degree + packed.degree,
+                (T) coefficient.multiply(packed.coefficient)
+        );
+    }
+
+    @Override
+    public Monomial<T> multiply(T factor) {
+        return new PackedMonomial<>(high, low, fieldSize, degree, (T) coefficient.multiply(factor));
+    }
+
+    @Override
+    public Monomial<T> divide(Monomial<T> other) {
+        if (!(other instanceof PackedMonomial<T> packed)) {
+            throw new IllegalArgumentException("Expected a PackedMonomial instance.");
+        }
+
+        if (!fieldsGreaterOrEqual(high, packed.high) || !fieldsGreaterOrEqual(low, packed.low)) {
+            // Division is not possible, return the zero monomial
+            return new PackedMonomial<>(0L, 0L, fieldSize, 0, (T) coefficient.zero());
+        }
+
+        return new PackedMonomial<>(
+                high - packed.high,
+                low - packed.low,
+                fieldSize,
+                degree - packed.degree,
+                (T) coefficient.divide(packed.coefficient)
+        );
+    }
+
+    @Override
+    public boolean divides(Monomial<T> other) {
+        if (!(other instanceof PackedMonomial<T> packed)) {
+            throw new IllegalArgumentException("Expected a PackedMonomial instance.");
+        }
+
+        return fieldsGreaterOrEqual(packed.high, high) && fieldsGreaterOrEqual(packed.low, low);
+    }
+
+    @Override
+    public int lcmDegree(Monomial<T> other) {
+        if (!(other instanceof PackedMonomial<T> packed)) {
+            throw new IllegalArgumentException("Expected a PackedMonomial instance.");
+        }
+
+        return fieldsSum(fieldsMaximum(high, packed.high)) + fieldsSum(fieldsMaximum(low, packed.low));
+    }
+
+    @Override
+    public boolean lcmDivides(Monomial<T> first, Monomial<T> second) {
+        if (!(first instanceof PackedMonomial<T> firstPacked) || !(second instanceof PackedMonomial<T> secondPacked)) {
+            throw new IllegalArgumentException("Expected a PackedMonomial instance.");
+        }
+
+        return fieldsGreaterOrEqual(fieldsMaximum(high, secondPacked.high), fieldsMaximum(high, firstPacked.high))
+                && fieldsGreaterOrEqual(fieldsMaximum(low, secondPacked.low), fieldsMaximum(low, firstPacked.low));
+    }
+
+    @Override
+    public Monomial<T> withCoefficient(T newCoefficient) {
+        return new PackedMonomial<>(high, low, fieldSize, degree, newCoefficient);
+    }
+
+    @Override
+    public Iterable<Monomial<T>> divisors() {
+        return () -> new MonomialDivisionIterator<>(this);
+    }
+
+    @Override
+    public boolean disjointWith(Monomial<T> other) {
+        if (!(other instanceof PackedMonomial<T> packed)) {
+            throw new IllegalArgumentException("Expected a PackedMonomial instance.");
+        }
+
+        if ((nonZeroFields(high) & nonZeroFields(packed.high)) != 0) {
+            return false;
+        }
+
+        if ((nonZeroFields(low) & nonZeroFields(packed.low)) != 0) {
+            return false;
+        }
+
+        return degree != 0;
+    }
+
+    @Override
+    public boolean exponentsEqual(Monomial<T> other) {
+        if (!(other instanceof PackedMonomial<T> packed)) {
+            throw new IllegalArgumentException("Expected a PackedMonomial instance.");
+        }
+
+        return high == packed.high && low == packed.low;
+    }
+
+    @Override
+    public boolean isPowerOf(Monomial<T> other) {
+        if (!(other instanceof PackedMonomial<T> packed)) {
+            throw new IllegalArgumentException("Expected a PackedMonomial instance.");
+        }
+
+        if (isZero() || packed.isZero()) {
+            return false;
+        }
+
+        if (nonZeroFields(high) != nonZeroFields(packed.high) || nonZeroFields(low) != nonZeroFields(packed.low)) {
+            return false;
+        }
+
+        if (packed.degree == 0) {
+            return degree == 0;
+        }
+
+        if (degree % packed.degree != 0) {
+            return false;
+        }
+
+        // The ratio, if any, is the ratio of the degrees
+        var ratio = degree / packed.degree;
+        for (var i = 0; i < fieldSize; i++) {
+            if (getExponent(i) != ratio * packed.getExponent(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean isZero() {
+        return coefficient.isZero();
+    }
+
+    @Override
+    public boolean isOne() {
+        return degree == 0 && coefficient.equals(coefficient.one());
+    }
+
+    /**
+     * Returns the least common multiple of this monomial and another, with a coefficient of one.
+     * The componentwise maximum of the exponents is computed on whole words.
+     *
+     * @param other the other monomial
+     * @return the least common multiple of both monomials
+     */
+    public PackedMonomial<T> lcm(PackedMonomial<T> other) {
+        var resultingHigh = fieldsMaximum(high, other.high);
+        var resultingLow = fieldsMaximum(low, other.low);
+        return new PackedMonomial<>(
+                resultingHigh,
+                resultingLow,
+                fieldSize,
+                fieldsSum(resultingHigh) + fieldsSum(resultingLow),
+                (T) coefficient.one()
+        );
+    }
+
+    /**
+     * Compares the exponents of this monomial and another using the lexicographic order.
+     *
+     * @param other the monomial to compare with
+     * @return a negative integer, zero, or a positive integer as this monomial is less than,
+     * equal to, or greater than the other one
+     */
+    public int compareLex(PackedMonomial<T> other) {
+        var result = Long.compareUnsigned(high, other.high);
+        return result != 0 ? result : Long.compareUnsigned(low, other.low);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        var other = (PackedMonomial<?>) obj;
+        return fieldSize == other.fieldSize
+                && high == other.high
+                && low == other.low
+                && coefficient.equals(other.coefficient);
+    }
+
+    @Override
+    public int hashCode() {
+        var result = coefficient.hashCode();
+        result = 31 * result + Long.hashCode(high);
+        result = 31 * result + Long.hashCode(low);
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if every field of {@code a} is greater or equal to the matching field of {@code b}.
+     * Setting the guard bits of {@code a} before subtracting prevents borrows between fields,
+     * and a guard bit survives the subtraction only if the field did not go negative.
+     */
+    private static boolean fieldsGreaterOrEqual(long a, long b) {
+        return (((a | GUARD_BITS) - b) & GUARD_BITS) == GUARD_BITS;
+    }
+
+    /**
+     * Returns the componentwise maximum of the fields of two words.
+     */
+    private static long fieldsMaximum(long a, long b) {
+        var greaterOrEqual = ((a | GUARD_BITS) - b) & GUARD_BITS;
+        var mask = greaterOrEqual - (greaterOrEqual >>> (FIELD_WIDTH - 1));
+        return (a & mask) | (b & ~mask);
+    }
+
+    /**
+     * Returns a word with the guard bit set for every non-zero field.
+     */
+    private static long nonZeroFields(long word) {
+        return (word + VALUE_BITS) & GUARD_BITS;
+    }
+
+    private static int fieldsSum(long word) {
+        var sum = 0;
+        for (var i = 0; i < FIELDS_PER_WORD; i++) {
+            sum += (int) ((word >>> (i * FIELD_WIDTH)) & FIELD_MASK);
+        }
+
+        return sum;
+    }
+}
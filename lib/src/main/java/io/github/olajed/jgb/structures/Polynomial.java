@@ -1,9 +1,11 @@
 package io.github.olajed.jgb.structures;
 
+import io.github.olajed.jgb.events.PolynomialReductionEvent;
 import io.github.olajed.jgb.number.Numeric;
 import io.github.olajed.jgb.ordering.MonomialOrdering;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -193,7 +195,7 @@ public final class Polynomial<T extends Numeric> {
                 var sumCoefficient = currentMonomial.coefficient().add(otherMonomial.coefficient());
 
                 // Add if not zero
-                if (!sumCoefficient.equals(sumCoefficient.zero())) {
+                if (!sumCoefficient.isZero()) {
                     var newMonomial = currentMonomial.withCoefficient((T) sumCoefficient);
                     resultingMonomials.add(newMonomial);
                 }
@@ -247,7 +249,7 @@ public final class Polynomial<T extends Numeric> {
                 var differenceCoefficient = currentMonomial.coefficient().subtract(otherMonomial.coefficient());
 
                 // Add if not zero
-                if (!differenceCoefficient.equals(differenceCoefficient.zero())) {
+                if (!differenceCoefficient.isZero()) {
                     var newMonomial = currentMonomial.withCoefficient((T) differenceCoefficient);
                     resultingMonomials.add(newMonomial);
                 }
@@ -272,7 +274,7 @@ public final class Polynomial<T extends Numeric> {
 
     public Polynomial<T> multiply(T factor) {
         // Handle 0 or empty polynomial
-        if (factor.equals(factor.zero()) || length == 0) {
+        if (factor.isZero() || length == 0) {
             return new Polynomial<>(new ArrayList<>(), fieldSize, ordering, 0);
         }
 
@@ -285,7 +287,7 @@ public final class Polynomial<T extends Numeric> {
         for (int i = 0; i < length; i++) {
             var monomial = monomials.get(i);
             var newCoefficient = (T) monomial.coefficient().multiply(factor);
-            if (!newCoefficient.equals(newCoefficient.zero())) {
+            if (!newCoefficient.isZero()) {
                 resultMonomials.add(monomial.withCoefficient(newCoefficient));
             }
         }
@@ -295,7 +297,7 @@ public final class Polynomial<T extends Numeric> {
 
     public Polynomial<T> multiply(Monomial<T> factor) {
         // Handle 0-coefficient for the monomial or empty polynomial
-        if (factor.coefficient().equals(factor.coefficient().zero()) || length == 0) {
+        if (factor.coefficient().isZero() || length == 0) {
             return new Polynomial<>(new ArrayList<>(), fieldSize, ordering, 0);
         }
 
@@ -318,7 +320,7 @@ public final class Polynomial<T extends Numeric> {
 
     public Polynomial<T> divide(T divisor) {
         // Check for division by zero
-        if (divisor.equals(divisor.zero())) {
+        if (divisor.isZero()) {
             throw new ArithmeticException("Cannot divide polynomial by zero");
         }
 
@@ -336,7 +338,7 @@ public final class Polynomial<T extends Numeric> {
         for (int i = 0; i < length; i++) {
             var monomial = monomials.get(i);
             var newCoefficient = (T) monomial.coefficient().divide(divisor);
-            if (!newCoefficient.equals(newCoefficient.zero())) {
+            if (!newCoefficient.isZero()) {
                 resultMonomials.add(monomial.withCoefficient(newCoefficient));
             }
         }
@@ -345,29 +347,55 @@ public final class Polynomial<T extends Numeric> {
     }
 
     public Polynomial<T> reduce(List<Polynomial<T>> polynomials) {
-        var polynomial = this;
-        var remainder = new Polynomial<>(new ArrayList<>(), fieldSize, ordering, 0);
-        while (!polynomial.monomials().isEmpty()) {
-            var leadingTerm = polynomial.leadingTerm();
-            var divided = false;
-            for (var candidatePolynomial : polynomials) {
-                var candidateLeadingTerm = candidatePolynomial.leadingTerm();
-                var divisionResult = leadingTerm.divide(candidateLeadingTerm);
-                if (!divisionResult.isZero()) {
-                    polynomial = polynomial.subtract(candidatePolynomial.multiply(divisionResult));
-                    divided = true;
-                    break;
-                }
+        var reducers = new DivisorIndex<T, Polynomial<T>>(fieldSize);
+        for (var candidatePolynomial : polynomials) {
+            reducers.add(candidatePolynomial.leadingTerm(), candidatePolynomial);
+        }
+
+        return reduce(reducers);
+    }
+
+    // Reducers indexed by their leading terms, the index is only read so it can be shared between threads
+    public Polynomial<T> reduce(DivisorIndex<T, Polynomial<T>> reducers) {
+        var event = new PolynomialReductionEvent();
+        event.begin();
+        // The terms still to be reduced are accumulated in a geobucket, only its leading term is ever extracted
+        var bucket = new Geobucket<>(ordering);
+        bucket.add(monomials);
+
+        // Terms of the remainder come out in decreasing order
+        var remainder = new ArrayList<Monomial<T>>();
+        var steps = 0L;
+        Monomial<T> leadingTerm;
+        while ((leadingTerm = bucket.popLeadingTerm()) != null) {
+            var reducer = reducers.find(leadingTerm);
+            if (reducer != null) {
+                // The leading terms cancel out, only the tail of the reducer is added
+                var divisionResult = leadingTerm.divide(reducer.leadingTerm());
+                bucket.add(reducer.negatedTailProduct(divisionResult));
+                steps++;
+            } else {
+                remainder.add(leadingTerm);
             }
+        }
+
+        Collections.reverse(remainder);
+        event.commit(length, steps, remainder.size());
+        return new Polynomial<>(remainder, fieldSize, ordering, remainder.size());
+    }
 
-            if (!divided) {
-                var leadingTermPolynomial = new Polynomial<>(leadingTerm, ordering);
-                remainder = remainder.add(leadingTermPolynomial);
-                polynomial = polynomial.tail();
+    // -factor * (this - leading term), sorted as the monomials of this polynomial
+    private List<Monomial<T>> negatedTailProduct(Monomial<T> factor) {
+        var negatedFactor = factor.withCoefficient((T) factor.coefficient().negate());
+        var result = new ArrayList<Monomial<T>>(length - 1);
+        for (var i = 0; i < length - 1; i++) {
+            var product = monomials.get(i).multiply(negatedFactor);
+            if (!product.isZero()) {
+                result.add(product);
             }
         }
 
-        return remainder;
+        return result;
     }
 
     public Polynomial<T> tail() {
@@ -105,8 +105,10 @@ public record PolynomialRing(Class<? extends Numeric> numberType, String[] indet
      * @param <T> the numeric type of the coefficient
      * @param coefficient the coefficient of the monomial
      * @param elements a map from variable names to their exponents in the monomial
-     * @param type the monomial representation type (e.g., dense or sparse)
+     * @param type the monomial representation type (e.g., dense, sparse or packed)
      * @return a new {@link Monomial} instance with the given coefficient and exponents
+     * @throws IllegalArgumentException if the coefficient type or an indeterminate does not belong to the ring,
+     *                                  or if the exponents cannot be represented with the requested type
      */
     public <T extends Numeric> Monomial<T> createMonomial(T coefficient, Map<String, Integer> elements, MonomialType type) {
         if (!numberType.isAssignableFrom(coefficient.getClass())) {
@@ -128,7 +130,11 @@ public record PolynomialRing(Class<? extends Numeric> numberType, String[] indet
             exponents[i] = elements.getOrDefault(indeterminates[i], 0);
         }
 
-        return type == MonomialType.SPARSE ? new SparseMonomial<>(exponents, coefficient) : new DenseMonomial<>(exponents, coefficient);
+        return switch (type) {
+            case SPARSE -> new SparseMonomial<>(exponents, coefficient);
+            case PACKED -> new PackedMonomial<>(exponents, coefficient);
+            case null, default -> new DenseMonomial<>(exponents, coefficient);
+        };
     }
 
     /**
@@ -147,7 +153,7 @@ public record PolynomialRing(Class<? extends Numeric> numberType, String[] indet
      *
      * @param <T> the numeric type of the polynomial coefficients
      * @param ordering the monomial ordering to use for the polynomial
-     * @param monomialType the monomial representation type (e.g., dense or sparse)
+     * @param monomialType the monomial representation type (e.g., dense, sparse or packed)
      * @return a polynomial representing the constant one
      */
     public <T extends Numeric> Polynomial<T> one(MonomialOrdering<T> ordering, MonomialType monomialType) {
@@ -159,7 +165,7 @@ public record PolynomialRing(Class<? extends Numeric> numberType, String[] indet
      *
      * @param <T> the numeric type of the polynomial coefficients
      * @param ordering the monomial ordering to use for the polynomial
-     * @param monomialType the monomial representation type (e.g., dense or sparse)
+     * @param monomialType the monomial representation type (e.g., dense, sparse or packed)
      * @param modulo the modulo value used when the numeric type is a finite field ({@link GaloisFieldElement})
      * @return a polynomial representing the constant one
      * @throws IllegalArgumentException if the numeric type is unsupported
@@ -181,6 +187,8 @@ public record PolynomialRing(Class<? extends Numeric> numberType, String[] indet
 
         if (monomialType == MonomialType.DENSE) {
             return new Polynomial<>(new DenseMonomial<>(exponents, coefficient), ordering);
+        } else if (monomialType == MonomialType.PACKED) {
+            return new Polynomial<>(new PackedMonomial<>(exponents, coefficient), ordering);
         } else {
             return new Polynomial<>(new SparseMonomial<>(exponents, coefficient), ordering);
         }
@@ -0,0 +1,458 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.PrimeField;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a sparse Macaulay matrix over a prime field, reduced with the Faugère–Lachartre elimination.
+ * <p>
+ * Each row stores the indices of its non-zero columns and the matching residues in two {@code int} arrays,
+ * columns being the monomials sorted in decreasing order.
+ * The rows are split according to their leading column into
+ * <ul>
+ *     <li>the known pivots {@code A|B}: one row per distinct leading monomial, the sparsest one</li>
+ *     <li>the remaining rows {@code C|D}, whose leading monomials are already covered by a known pivot</li>
+ * </ul>
+ * The remaining rows are reduced by the known pivots, which leaves the {@code D} block,
+ * then {@code D} is put in reduced row echelon form. Its rows are the polynomials with new leading monomials.
+ * </p>
+ * <p>
+ * The reduction of the remaining rows by the known pivots is independent for each row,
+ * so it can be run on a {@link ForkJoinPool}. The other steps are sequential, and the result
+ * does not depend on the number of threads.
+ * </p>
+ *
+ * @param <T> the numeric type of the monomial coefficients, must be {@link GaloisFieldElement}
+ * @see <a href="https://doi.org/10.1145/1837210.1837225">
+ * Faugère, J.-C., Lachartre, S., "Parallel Gaussian elimination for Gröbner bases computations in finite fields", PASCO 2010.</a>
+ */
+@SuppressWarnings("unchecked")
+public final class SparseMacaulayMatrix<T extends Numeric> {
+    private final List<Monomial<T>> monomials;
+    private final PrimeField field;
+    private final MonomialOrdering<T> ordering;
+    private final int fieldSize;
+    private final Row[] pivots;
+    private final List<Row> remainingRows;
+    private final List<Integer> newPivotColumns;
+    private boolean newPivotsReduced;
+    private boolean knownPivotsReduced;
+
+    /**
+     * Sparse row, with strictly increasing column indices and non-zero residues.
+     */
+    private record Row(int[] columns, int[] values) {
+        int leadingColumn() {
+            return columns[0];
+        }
+
+        int length() {
+            return columns.length;
+        }
+    }
+
+    /**
+     * Building the matrix
+     * The columns are all the monomials of the polynomials, sorted in decreasing order
+     * Each polynomial becomes a sparse row, and is assigned to the known pivots or to the remaining rows
+     *
+     * @param polynomials : The polynomials to build the matrix from, with coefficients in a prime field
+     * @throws IllegalArgumentException if the coefficients are not elements of a prime field
+     */
+    public SparseMacaulayMatrix(List<Polynomial<T>> polynomials) {
+        this(polynomials, isSupported(polynomials)
+                ? new MonomialTable<>(polynomials.getFirst().fieldSize(), polynomials.getFirst().ordering())
+                : null);
+    }
+
+    /**
+     * Building the matrix, the columns being looked up in a monomial table
+     * Sharing the table between the matrices of a computation avoids hashing the same monomials again
+     *
+     * @param polynomials   : The polynomials to build the matrix from, with coefficients in a prime field
+     * @param monomialTable : The table of the monomials of the computation, using the ordering of the polynomials
+     * @throws IllegalArgumentException if the coefficients are not elements of a prime field,
+     *                                  or if the table does not use the ordering of the polynomials
+     */
+    public SparseMacaulayMatrix(List<Polynomial<T>> polynomials, MonomialTable<T> monomialTable) {
+        if (!isSupported(polynomials)) {
+            throw new IllegalArgumentException("Expected polynomials with GaloisFieldElement coefficients.");
+        }
+
+        this.ordering = polynomials.getFirst().ordering();
+        if (monomialTable.ordering().orderId() != ordering.orderId()) {
+            throw new IllegalArgumentException("The monomial table should use the ordering of the polynomials.");
+        }
+
+        this.fieldSize = polynomials.getFirst().fieldSize();
+        this.field = ((GaloisFieldElement) polynomials.getFirst().leadingCoefficient()).field();
+
+        // Each term is looked up once, the columns are the distinct ids sorted in decreasing order
+        var termIds = new int[polynomials.size()][];
+        var usedIds = new BitSet();
+        for (var polynomialIndex = 0; polynomialIndex < polynomials.size(); polynomialIndex++) {
+            var polynomialMonomials = polynomials.get(polynomialIndex).monomials();
+            var ids = new int[polynomialMonomials.size()];
+            for (var i = 0; i < ids.length; i++) {
+                ids[i] = monomialTable.intern(polynomialMonomials.get(i));
+                usedIds.set(ids[i]);
+            }
+
+            termIds[polynomialIndex] = ids;
+        }
+
+        var columnIds = usedIds.stream().toArray();
+        monomialTable.sortDescending(columnIds);
+        var columnIndices = new int[monomialTable.size()];
+        this.monomials = columnMonomials(columnIds, columnIndices, monomialTable);
+        this.pivots = new Row[monomials.size()];
+        this.remainingRows = new ArrayList<>();
+        this.newPivotColumns = new ArrayList<>();
+        for (var polynomialIndex = 0; polynomialIndex < polynomials.size(); polynomialIndex++) {
+            var polynomial = polynomials.get(polynomialIndex);
+            if (polynomial.length() == 0) {
+                continue;
+            }
+
+            // Polynomials are sorted in increasing order, columns in decreasing order
+            var length = polynomial.length();
+            var ids = termIds[polynomialIndex];
+            var columns = new int[length];
+            var values = new int[length];
+            for (var i = 0; i < length; i++) {
+                columns[i] = columnIndices[ids[length - 1 - i]];
+                values[i] = ((GaloisFieldElement) polynomial.monomials().get(length - 1 - i).coefficient()).get();
+            }
+
+            addRow(normalize(new Row(columns, values)));
+        }
+    }
+
+    /**
+     * Building the matrix from a symbolic preprocessing
+     * The rows are filled from the monomial ids of the preprocessing, and the columns are its sorted monomials,
+     * so the rows are never expanded into polynomials
+     *
+     * @param preprocessing : The rows and columns of the matrix, with coefficients in a prime field
+     * @param monomialTable : The table the preprocessing was computed with
+     * @throws IllegalArgumentException if the coefficients are not elements of a prime field,
+     *                                  or if the table does not use the ordering of the polynomials
+     */
+    public SparseMacaulayMatrix(SymbolicPreprocessing<T> preprocessing, MonomialTable<T> monomialTable) {
+        if (!isSupported(preprocessing)) {
+            throw new IllegalArgumentException("Expected polynomials with GaloisFieldElement coefficients.");
+        }
+
+        var rows = preprocessing.rows();
+        var firstPolynomial = rows.getFirst().polynomial();
+        this.ordering = firstPolynomial.ordering();
+        if (monomialTable.ordering().orderId() != ordering.orderId()) {
+            throw new IllegalArgumentException("The monomial table should use the ordering of the polynomials.");
+        }
+
+        this.fieldSize = firstPolynomial.fieldSize();
+        this.field = ((GaloisFieldElement) firstPolynomial.leadingCoefficient()).field();
+        var columnIndices = new int[monomialTable.size()];
+        this.monomials = columnMonomials(preprocessing.columns(), columnIndices, monomialTable);
+        this.pivots = new Row[monomials.size()];
+        this.remainingRows = new ArrayList<>();
+        this.newPivotColumns = new ArrayList<>();
+        for (var rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            var row = rows.get(rowIndex);
+            var terms = row.polynomial().monomials();
+            var factor = ((GaloisFieldElement) row.multiplier().coefficient()).get();
+            // Ids and terms are sorted in increasing order, columns in decreasing order
+            var ids = preprocessing.monomials(rowIndex);
+            var length = ids.length;
+            var columns = new int[length];
+            var values = new int[length];
+            for (var i = 0; i < length; i++) {
+                columns[i] = columnIndices[ids[length - 1 - i]];
+                values[i] = field.multiply(factor, ((GaloisFieldElement) terms.get(length - 1 - i).coefficient()).get());
+            }
+
+            addRow(normalize(new Row(columns, values)));
+        }
+    }
+
+    // The monomials of the columns, the index of each column being stored at the id of its monomial
+    private static <T extends Numeric> List<Monomial<T>> columnMonomials(
+            int[] columnIds,
+            int[] columnIndices,
+            MonomialTable<T> monomialTable
+    ) {
+        var sortedMonomials = new ArrayList<Monomial<T>>(columnIds.length);
+        for (var i = 0; i < columnIds.length; i++) {
+            columnIndices[columnIds[i]] = i;
+            sortedMonomials.add(monomialTable.monomial(columnIds[i]));
+        }
+
+        return sortedMonomials;
+    }
+
+    private void addRow(Row row) {
+        var leadingColumn = row.leadingColumn();
+        var currentPivot = pivots[leadingColumn];
+        if (currentPivot == null) {
+            pivots[leadingColumn] = row;
+        } else if (row.length() < currentPivot.length()) {
+            // The sparsest row is kept as the pivot, fewer operations when reducing with it
+            pivots[leadingColumn] = row;
+            remainingRows.add(currentPivot);
+        } else {
+            remainingRows.add(row);
+        }
+    }
+
+    /**
+     * Checks if the polynomials can be stored in a sparse Macaulay matrix.
+     *
+     * @param polynomials the polynomials to check
+     * @param <T>         the numeric type of the coefficients
+     * @return {@code true} if there is at least one polynomial and the coefficients are prime field elements
+     */
+    public static <T extends Numeric> boolean isSupported(List<Polynomial<T>> polynomials) {
+        return !polynomials.isEmpty()
+                && polynomials.getFirst().length() != 0
+                && polynomials.getFirst().leadingCoefficient() instanceof GaloisFieldElement;
+    }
+
+    /**
+     * Checks if the rows of a symbolic preprocessing can be stored in a sparse Macaulay matrix.
+     *
+     * @param preprocessing the preprocessing to check
+     * @param <T>           the numeric type of the coefficients
+     * @return {@code true} if there is at least one row and the coefficients are prime field elements
+     */
+    public static <T extends Numeric> boolean isSupported(SymbolicPreprocessing<T> preprocessing) {
+        var rows = preprocessing.rows();
+        return !rows.isEmpty()
+                && rows.getFirst().polynomial().length() != 0
+                && rows.getFirst().polynomial().leadingCoefficient() instanceof GaloisFieldElement;
+    }
+
+    /**
+     * Performs the elimination to the reduced row echelon form of the whole matrix.
+     * The remaining rows are reduced first, then the known pivots are reduced by all the pivots on their right.
+     */
+    public void rowEchelonReduction() {
+        rowEchelonReduction(null);
+    }
+
+    /**
+     * Performs the elimination to the reduced row echelon form of the whole matrix,
+     * reducing the remaining rows by the known pivots in parallel.
+     *
+     * @param pool the pool running the reduction of the remaining rows, {@code null} to run it on the current thread
+     */
+    public void rowEchelonReduction(ForkJoinPool pool) {
+        reduceNewPivots(pool);
+        if (knownPivotsReduced) {
+            return;
+        }
+
+        // Right to left, so that the pivots used to reduce a row are already fully reduced
+        var accumulator = new int[monomials.size()];
+        for (var col = pivots.length - 1; col >= 0; col--) {
+            var pivot = pivots[col];
+            if (pivot != null && pivot.length() > 1) {
+                pivots[col] = reduceRow(pivot, col + 1, accumulator);
+            }
+        }
+
+        knownPivotsReduced = true;
+    }
+
+    /**
+     * Reduces the remaining rows and returns the polynomials whose leading monomial is not
+     * the leading monomial of one of the rows of the matrix, i.e. the rows of the {@code D} block.
+     * The known pivots are not reduced, this is all an F4 reduction step needs.
+     *
+     * @return the fully reduced polynomials with new leading monomials
+     */
+    public List<Polynomial<T>> newPolynomials() {
+        return newPolynomials(null);
+    }
+
+    /**
+     * Reduces the remaining rows, in parallel, and returns the polynomials whose leading monomial is not
+     * the leading monomial of one of the rows of the matrix.
+     *
+     * @param pool the pool running the reduction of the remaining rows, {@code null} to run it on the current thread
+     * @return the fully reduced polynomials with new leading monomials
+     */
+    public List<Polynomial<T>> newPolynomials(ForkJoinPool pool) {
+        reduceNewPivots(pool);
+        var polynomials = new ArrayList<Polynomial<T>>(newPivotColumns.size());
+        for (var col : newPivotColumns) {
+            polynomials.add(toPolynomial(pivots[col]));
+        }
+
+        return polynomials;
+    }
+
+    /**
+     * Converts the matrix back to a list of polynomials.
+     *
+     * @return a list of {@link Polynomial} objects representing the non-zero rows of the matrix,
+     * sorted by decreasing leading monomial
+     */
+    public List<Polynomial<T>> polynomials() {
+        var polynomials = new ArrayList<Polynomial<T>>();
+        for (var pivot : pivots) {
+            if (pivot != null) {
+                polynomials.add(toPolynomial(pivot));
+            }
+        }
+
+        if (!newPivotsReduced) {
+            for (var row : remainingRows) {
+                polynomials.add(toPolynomial(row));
+            }
+        }
+
+        return polynomials;
+    }
+
+    private void reduceNewPivots(ForkJoinPool pool) {
+        if (newPivotsReduced) {
+            return;
+        }
+
+        var accumulator = new int[monomials.size()];
+
+        // C|D: eliminate the columns of the known pivots, the known pivots are read-only here
+        var reducedRows = new Row[remainingRows.size()];
+        if (pool == null || reducedRows.length < 2) {
+            for (var i = 0; i < reducedRows.length; i++) {
+                var row = remainingRows.get(i);
+                reducedRows[i] = reduceRow(row, row.leadingColumn(), accumulator);
+            }
+        } else {
+            var accumulators = ThreadLocal.withInitial(() -> new int[monomials.size()]);
+            pool.submit(() -> IntStream.range(0, reducedRows.length).parallel().forEach(i -> {
+                var row = remainingRows.get(i);
+                reducedRows[i] = reduceRow(row, row.leadingColumn(), accumulators.get());
+            })).join();
+        }
+
+        // D: echelon form, each row is reduced by the new pivots found so far
+        // Rows are processed in their original order, so the pivots do not depend on the scheduling
+        var newColumns = new ArrayList<Integer>();
+        for (var row : reducedRows) {
+            if (row == null) {
+                continue;
+            }
+
+            var reduced = reduceRow(row, row.leadingColumn(), accumulator);
+            if (reduced != null) {
+                reduced = normalize(reduced);
+                pivots[reduced.leadingColumn()] = reduced;
+                newColumns.add(reduced.leadingColumn());
+            }
+        }
+
+        // D: back reduction, from the rightmost pivot, the rows have no entries in the known pivot columns
+        newColumns.sort(Comparator.reverseOrder());
+        for (var col : newColumns) {
+            var pivot = pivots[col];
+            if (pivot.length() > 1) {
+                pivots[col] = reduceRow(pivot, col + 1, accumulator);
+            }
+        }
+
+        newColumns.sort(Comparator.naturalOrder());
+        newPivotColumns.addAll(newColumns);
+        remainingRows.clear();
+        newPivotsReduced = true;
+    }
+
+    /**
+     * Reduces a row by the pivots of the matrix, eliminating every pivot column from {@code startColumn} onward.
+     * The row is expanded in a dense accumulator, reduced from left to right, then compressed back.
+     *
+     * @return the reduced row, or {@code null} if the row reduces to zero
+     */
+    private Row reduceRow(Row row, int startColumn, int[] accumulator) {
+        var columns = row.columns();
+        var values = row.values();
+        for (var i = 0; i < columns.length; i++) {
+            accumulator[columns[i]] = values[i];
+        }
+
+        var firstColumn = row.leadingColumn();
+        var nonZeroCount = 0;
+        for (var col = firstColumn; col < accumulator.length; col++) {
+            var value = accumulator[col];
+            if (value == 0) {
+                continue;
+            }
+
+            var pivot = col >= startColumn ? pivots[col] : null;
+            if (pivot == null) {
+                nonZeroCount++;
+                continue;
+            }
+
+            // Pivots are monic, so the factor is the entry itself
+            var factor = field.negate(value);
+            var pivotColumns = pivot.columns();
+            var pivotValues = pivot.values();
+            accumulator[col] = 0;
+            for (var k = 1; k < pivotColumns.length; k++) {
+                var target = pivotColumns[k];
+                accumulator[target] = field.reduce(accumulator[target] + (long) factor * pivotValues[k]);
+            }
+        }
+
+        if (nonZeroCount == 0) {
+            return null;
+        }
+
+        var resultColumns = new int[nonZeroCount];
+        var resultValues = new int[nonZeroCount];
+        var index = 0;
+        for (var col = firstColumn; col < accumulator.length && index < nonZeroCount; col++) {
+            if (accumulator[col] != 0) {
+                resultColumns[index] = col;
+                resultValues[index] = accumulator[col];
+                accumulator[col] = 0;
+                index++;
+            }
+        }
+
+        return new Row(resultColumns, resultValues);
+    }
+
+    private Row normalize(Row row) {
+        var values = row.values();
+        if (values[0] == 1) {
+            return row;
+        }
+
+        var inverse = field.inverse(values[0]);
+        var normalized = new int[values.length];
+        for (var i = 0; i < values.length; i++) {
+            normalized[i] = field.multiply(values[i], inverse);
+        }
+
+        return new Row(row.columns(), normalized);
+    }
+
+    private Polynomial<T> toPolynomial(Row row) {
+        var columns = row.columns();
+        var values = row.values();
+        var rowMonomials = new ArrayList<Monomial<T>>(columns.length);
+        for (var i = columns.length - 1; i >= 0; i--) {
+            rowMonomials.add(monomials.get(columns[i]).withCoefficient((T) field.element(values[i])));
+        }
+
+        return new Polynomial<>(rowMonomials, fieldSize, ordering);
+    }
+}
@@ -128,6 +128,18 @@ public final class SparseMonomial<T extends Numeric> extends Monomial<T> {
         return result;
     }
 
+    @Override
+    public long weightedDegree(int[] weights) {
+        var result = 0L;
+        var ptr = 0;
+        for (var i = bitset.nextSetBit(0); i >= 0; i = bitset.nextSetBit(i + 1)) {
+            result = Math.addExact(result, (long) weights[i] * exponents[ptr]);
+            ptr++;
+        }
+
+        return result;
+    }
+
     @Override
     public Monomial<T> multiply(Monomial<T> other) {
         if (!(other instanceof SparseMonomial<T> sparse)) {
@@ -192,6 +204,98 @@ public final class SparseMonomial<T extends Numeric> extends Monomial<T> {
         return new SparseMonomial<>(resultingExponents, (T) coefficient.divide(sparse.coefficient));
     }
 
+    @Override
+    public boolean divides(Monomial<T> other) {
+        if (!(other instanceof SparseMonomial<T> sparse)) {
+            throw new IllegalArgumentException("Expected a SparseMonomial instance.");
+        }
+
+        if (degree > sparse.degree) {
+            return false;
+        }
+
+        var ptr1 = 0;
+        var ptr2 = 0;
+        for (var i = 0; i < fieldSize; i++) {
+            var otherExponent = 0;
+            if (sparse.bitset.get(i)) {
+                otherExponent = sparse.exponents[ptr2];
+                ptr2++;
+            }
+
+            if (bitset.get(i)) {
+                if (exponents[ptr1] > otherExponent) {
+                    return false;
+                }
+
+                ptr1++;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int lcmDegree(Monomial<T> other) {
+        if (!(other instanceof SparseMonomial<T> sparse)) {
+            throw new IllegalArgumentException("Expected a SparseMonomial instance.");
+        }
+
+        var ptr1 = 0;
+        var ptr2 = 0;
+        var result = 0;
+        for (var i = 0; i < fieldSize; i++) {
+            var currentExponent = 0;
+            if (bitset.get(i)) {
+                currentExponent = exponents[ptr1];
+                ptr1++;
+            }
+
+            if (sparse.bitset.get(i)) {
+                currentExponent = Math.max(currentExponent, sparse.exponents[ptr2]);
+                ptr2++;
+            }
+
+            result += currentExponent;
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean lcmDivides(Monomial<T> first, Monomial<T> second) {
+        if (!(first instanceof SparseMonomial<T> firstSparse) || !(second instanceof SparseMonomial<T> secondSparse)) {
+            throw new IllegalArgumentException("Expected a SparseMonomial instance.");
+        }
+
+        var ptr = 0;
+        var firstPtr = 0;
+        var secondPtr = 0;
+        for (var i = 0; i < fieldSize; i++) {
+            var exponent = 0;
+            if (bitset.get(i)) {
+                exponent = exponents[ptr];
+                ptr++;
+            }
+
+            if (secondSparse.bitset.get(i)) {
+                exponent = Math.max(exponent, secondSparse.exponents[secondPtr]);
+                secondPtr++;
+            }
+
+            // max(a, b) <= max(a, c) only depends on b, as a is on both sides
+            if (firstSparse.bitset.get(i)) {
+                if (firstSparse.exponents[firstPtr] > exponent) {
+                    return false;
+                }
+
+                firstPtr++;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public Monomial<T> withCoefficient(T newCoefficient) {
         return new SparseMonomial<>(exponents, newCoefficient, bitset, fieldSize, degree);
@@ -284,7 +388,7 @@ public final class SparseMonomial<T extends Numeric> extends Monomial<T> {
 
     @Override
     public boolean isZero() {
-        return coefficient.equals(coefficient.zero());
+        return coefficient.isZero();
     }
 
     @Override
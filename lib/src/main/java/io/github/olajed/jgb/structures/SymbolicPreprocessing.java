@@ -0,0 +1,200 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Numeric;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.UnaryOperator;
+
+/**
+ * Symbolic preprocessing of the F4 family: selects the rows of the Macaulay matrix of a reduction step.
+ * <p>
+ * Starting from the halves of the selected S-polynomials, every monomial appearing in a row is a column.
+ * Each column that is not the leading monomial of an S-polynomial half and is divisible by the leading monomial
+ * of a basis element gets a reducer row, the basis element multiplied by the quotient, whose monomials become
+ * columns in turn.
+ * </p>
+ * <p>
+ * The pending columns are kept in a max-priority queue under the monomial ordering, and the reducers are found
+ * with a {@link DivisorIndex} on the leading monomials of the basis. The monomials are ids of a
+ * {@link MonomialTable}, the monomials of a row being the products of the id of its multiplier and the ids of
+ * the terms of its polynomial, so the rows are not expanded during the preprocessing. The matrices are built from
+ * these ids and from the sorted columns, without expanding the rows either.
+ * </p>
+ *
+ * @param <T> the numeric type of the coefficients
+ */
+public final class SymbolicPreprocessing<T extends Numeric> {
+    private final List<Row<T>> rows;
+    // The ids of the monomials of each row, in increasing order
+    private final List<int[]> rowMonomials;
+    private final int[] columns;
+
+    /**
+     * A row of the Macaulay matrix, a polynomial of the basis multiplied by a term.
+     *
+     * @param multiplier the term, its coefficient included
+     * @param polynomial the polynomial of the basis
+     * @param <T>        the numeric type of the coefficients
+     */
+    public record Row<T extends Numeric>(Monomial<T> multiplier, Polynomial<T> polynomial) {
+        /**
+         * Returns the polynomial of the row.
+         *
+         * @return the product of the multiplier and the polynomial
+         */
+        public Polynomial<T> expand() {
+            return polynomial.multiply(multiplier);
+        }
+    }
+
+    private SymbolicPreprocessing(List<Row<T>> rows, List<int[]> rowMonomials, int[] columns) {
+        this.rows = rows;
+        this.rowMonomials = rowMonomials;
+        this.columns = columns;
+    }
+
+    /**
+     * Runs the symbolic preprocessing.
+     *
+     * @param sPolynomialHalves the halves of the selected S-polynomials, whose leading monomials are not reduced
+     * @param basis             the current basis, providing the reducers
+     * @param monomialTable     the table of the monomials of the computation
+     * @param <T>               the numeric type of the coefficients
+     * @return the rows and the columns of the Macaulay matrix
+     */
+    public static <T extends Numeric> SymbolicPreprocessing<T> compute(
+            List<Row<T>> sPolynomialHalves,
+            List<Polynomial<T>> basis,
+            MonomialTable<T> monomialTable
+    ) {
+        return compute(sPolynomialHalves, basis, monomialTable, UnaryOperator.identity());
+    }
+
+    /**
+     * Runs the symbolic preprocessing, each reducer row being replaced by the result of a simplification.
+     * The simplified row must have the same leading monomial.
+     *
+     * @param sPolynomialHalves the halves of the selected S-polynomials, whose leading monomials are not reduced
+     * @param basis             the current basis, providing the reducers
+     * @param monomialTable     the table of the monomials of the computation
+     * @param simplification    the simplification of the reducer rows
+     * @param <T>               the numeric type of the coefficients
+     * @return the rows and the columns of the Macaulay matrix
+     */
+    public static <T extends Numeric> SymbolicPreprocessing<T> compute(
+            List<Row<T>> sPolynomialHalves,
+            List<Polynomial<T>> basis,
+            MonomialTable<T> monomialTable,
+            UnaryOperator<Row<T>> simplification
+    ) {
+        var rows = new ArrayList<Row<T>>(sPolynomialHalves.size());
+        var rowMonomials = new ArrayList<int[]>(sPolynomialHalves.size());
+        var columns = new BitSet();
+        var done = new BitSet();
+        // Largest monomial first
+        var pending = new PriorityQueue<Integer>((x, y) -> monomialTable.compare(y, x));
+        for (var row : sPolynomialHalves) {
+            var ids = rowMonomials(row, monomialTable);
+            rows.add(row);
+            rowMonomials.add(ids);
+            done.set(ids[ids.length - 1]);
+            for (var id : ids) {
+                columns.set(id);
+            }
+        }
+
+        for (var id = columns.nextSetBit(0); id >= 0; id = columns.nextSetBit(id + 1)) {
+            if (!done.get(id)) {
+                pending.add(id);
+            }
+        }
+
+        var reducers = new DivisorIndex<T, Polynomial<T>>(monomialTable.fieldSize());
+        for (var polynomial : basis) {
+            reducers.add(polynomial.leadingMonomial(), polynomial);
+        }
+
+        while (!pending.isEmpty()) {
+            int id = pending.poll();
+            var monomial = monomialTable.monomial(id);
+            var reducer = reducers.find(monomial);
+            if (reducer == null) {
+                continue;
+            }
+
+            var row = simplification.apply(new Row<>(monomial.divide(reducer.leadingMonomial()), reducer));
+            var ids = rowMonomials(row, monomialTable);
+            rows.add(row);
+            rowMonomials.add(ids);
+            for (var rowMonomial : ids) {
+                if (!columns.get(rowMonomial)) {
+                    columns.set(rowMonomial);
+                    pending.add(rowMonomial);
+                }
+            }
+        }
+
+        var sortedColumns = columns.stream().toArray();
+        monomialTable.sortDescending(sortedColumns);
+        return new SymbolicPreprocessing<>(rows, rowMonomials, sortedColumns);
+    }
+
+    // The ids of the monomials of a row, in increasing order
+    private static <T extends Numeric> int[] rowMonomials(Row<T> row, MonomialTable<T> monomialTable) {
+        var terms = row.polynomial().monomials();
+        var multiplier = monomialTable.intern(row.multiplier());
+        var ids = new int[terms.size()];
+        for (var i = 0; i < ids.length; i++) {
+            ids[i] = monomialTable.multiply(multiplier, monomialTable.intern(terms.get(i)));
+        }
+
+        return ids;
+    }
+
+    /**
+     * Returns the rows of the matrix: the S-polynomial halves first, then the reducers in decreasing order of
+     * leading monomial.
+     *
+     * @return the rows
+     */
+    public List<Row<T>> rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the ids of the monomials of a row, the products of the id of its multiplier and the ids of the
+     * terms of its polynomial.
+     *
+     * @param row the index of the row in {@link #rows()}
+     * @return the ids, in increasing order, matching the terms of the polynomial of the row
+     */
+    public int[] monomials(int row) {
+        return rowMonomials.get(row);
+    }
+
+    /**
+     * Returns the number of non-zero entries of the matrix.
+     *
+     * @return the total number of terms of the rows
+     */
+    public long entries() {
+        var entries = 0L;
+        for (var ids : rowMonomials) {
+            entries += ids.length;
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns the columns of the matrix.
+     *
+     * @return the ids of the monomials of the rows, in decreasing order
+     */
+    public int[] columns() {
+        return columns;
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.olajed.jgb.utils;
 
+import java.math.BigInteger;
+
 /**
  * Utility class providing common arithmetic operations.
  * <p>
@@ -135,4 +137,61 @@ public final class ArithmeticUtils {
 
         return true;
     }
+
+    /**
+     * Combines a residue modulo {@code modulus} with a residue modulo a prime using the Chinese remainder theorem.
+     *
+     * <p>The moduli must be coprime. The result is the unique value in [0, modulus * prime) congruent to
+     * {@code value} modulo {@code modulus} and to {@code residue} modulo {@code prime}.</p>
+     *
+     * @param value   the residue modulo {@code modulus}, in [0, modulus)
+     * @param modulus the current modulus
+     * @param residue the residue modulo {@code prime}
+     * @param prime   the prime to combine with
+     * @return the combined residue modulo {@code modulus * prime}
+     */
+    public static BigInteger chineseRemainder(BigInteger value, BigInteger modulus, long residue, long prime) {
+        var bigPrime = BigInteger.valueOf(prime);
+        var inverse = modulus.mod(bigPrime).modInverse(bigPrime).longValue();
+        var difference = Math.floorMod(residue - value.mod(bigPrime).longValue(), prime);
+        // Both factors are below the prime, the product fits in 64 bits for primes below 2^31
+        var factor = Math.floorMod(difference * inverse, prime);
+        return value.add(modulus.multiply(BigInteger.valueOf(factor)));
+    }
+
+    /**
+     * Finds the fraction n / d congruent to {@code value} modulo {@code modulus}
+     * with |n| and d at most sqrt(modulus / 2), using the extended Euclidean algorithm.
+     *
+     * <p>When such a fraction exists it is unique, which is what allows the coefficients of a
+     * computation over the rationals to be recovered from enough modular images.</p>
+     *
+     * @param value   the residue to reconstruct
+     * @param modulus the modulus
+     * @return the numerator and the positive denominator of the fraction, or {@code null} if there is none
+     */
+    public static Pair<BigInteger, BigInteger> rationalReconstruction(BigInteger value, BigInteger modulus) {
+        var bound = modulus.shiftRight(1).sqrt();
+        var previousRemainder = modulus;
+        var remainder = value.mod(modulus);
+        var previousCoefficient = BigInteger.ZERO;
+        var coefficient = BigInteger.ONE;
+        while (remainder.compareTo(bound) > 0) {
+            var quotient = previousRemainder.divide(remainder);
+            var nextRemainder = previousRemainder.subtract(quotient.multiply(remainder));
+            previousRemainder = remainder;
+            remainder = nextRemainder;
+            var nextCoefficient = previousCoefficient.subtract(quotient.multiply(coefficient));
+            previousCoefficient = coefficient;
+            coefficient = nextCoefficient;
+        }
+
+        if (coefficient.abs().compareTo(bound) > 0 || !remainder.gcd(coefficient).equals(BigInteger.ONE)) {
+            return null;
+        }
+
+        return coefficient.signum() < 0
+                ? new Pair<>(remainder.negate(), coefficient.negate())
+                : new Pair<>(remainder, coefficient);
+    }
 }
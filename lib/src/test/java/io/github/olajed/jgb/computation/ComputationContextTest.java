@@ -0,0 +1,108 @@
+package io.github.olajed.jgb.computation;
+
+import io.github.olajed.jgb.enums.ComputationLimit;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.GrlexOrdering;
+import io.github.olajed.jgb.structures.DenseMonomial;
+import io.github.olajed.jgb.structures.Monomial;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputationContextTest {
+    private Polynomial<Rational> polynomial(int terms) {
+        var monomials = new ArrayList<Monomial<Rational>>();
+        for (var i = 0; i < terms; i++) {
+            monomials.add(new DenseMonomial<>(new int[]{i, 0}, new Rational(1)));
+        }
+
+        return new Polynomial<>(monomials, 2, new GrlexOrdering<>());
+    }
+
+    @Test
+    void testUnboundedNeverStops() {
+        var context = ComputationContext.unbounded();
+        context.checkpoint();
+        context.checkBasis(List.of(polynomial(3), polynomial(2)));
+        context.checkMatrix(1000, 1000, 10_000);
+
+        var progress = context.progress();
+        assertEquals(3, progress.checkpoints());
+        assertEquals(2, progress.basisSize());
+        assertEquals(5, progress.basisTerms());
+        assertEquals(1000, progress.matrixRows());
+    }
+
+    @Test
+    void testCancellation() {
+        var token = new CancellationToken();
+        var context = ComputationContext.unbounded().withCancellationToken(token);
+        context.checkpoint();
+
+        token.cancel();
+        var exception = assertThrows(ComputationLimitExceededException.class, context::checkpoint);
+        assertEquals(ComputationLimit.CANCELLED, exception.limit());
+    }
+
+    @Test
+    void testDeadline() {
+        var context = ComputationContext.unbounded().withDeadline(Instant.now().minusSeconds(1));
+        var exception = assertThrows(ComputationLimitExceededException.class, context::checkpoint);
+        assertEquals(ComputationLimit.DEADLINE, exception.limit());
+
+        ComputationContext.unbounded().withTimeout(Duration.ofHours(1)).checkpoint();
+        assertThrows(IllegalArgumentException.class, () -> ComputationContext.unbounded().withTimeout(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void testBasisSize() {
+        var context = ComputationContext.unbounded().withMaxBasisSize(2);
+        context.checkBasis(List.of(polynomial(1), polynomial(1)));
+
+        var exception = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> context.checkBasis(List.of(polynomial(1), polynomial(1), polynomial(1)))
+        );
+        assertEquals(ComputationLimit.BASIS_SIZE, exception.limit());
+        assertEquals(3, exception.progress().basisSize());
+        assertEquals(3, exception.progress().peakBasisSize());
+    }
+
+    @Test
+    void testMatrixDimensions() {
+        var rowsContext = ComputationContext.unbounded().withMaxMatrixRows(10);
+        rowsContext.checkMatrix(10, 100, 50);
+        var rowsException = assertThrows(ComputationLimitExceededException.class, () -> rowsContext.checkMatrix(11, 5, 5));
+        assertEquals(ComputationLimit.MATRIX_ROWS, rowsException.limit());
+        assertEquals(11, rowsException.progress().matrixRows());
+        assertEquals(100, rowsException.progress().matrixColumns());
+
+        var columnsContext = ComputationContext.unbounded().withMaxMatrixColumns(10);
+        var columnsException = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> columnsContext.checkMatrix(List.of(polynomial(2)), 11)
+        );
+        assertEquals(ComputationLimit.MATRIX_COLUMNS, columnsException.limit());
+        assertEquals(2, columnsException.progress().matrixEntries());
+    }
+
+    @Test
+    void testHeap() {
+        var budget = 10 * ComputationContext.ESTIMATED_BYTES_PER_TERM;
+        var context = ComputationContext.unbounded().withMaxHeapBytes(budget);
+        context.checkBasis(List.of(polynomial(4)));
+        context.checkMatrix(2, 6, 6);
+
+        // The terms of the basis and of the matrix are counted together
+        var exception = assertThrows(ComputationLimitExceededException.class, () -> context.checkMatrix(2, 7, 7));
+        assertEquals(ComputationLimit.HEAP, exception.limit());
+        assertEquals(11 * ComputationContext.ESTIMATED_BYTES_PER_TERM, exception.progress().estimatedHeapBytes());
+        assertThrows(IllegalArgumentException.class, () -> ComputationContext.unbounded().withMaxHeapBytes(0));
+    }
+}
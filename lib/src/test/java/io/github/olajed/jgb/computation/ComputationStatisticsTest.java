@@ -0,0 +1,188 @@
+package io.github.olajed.jgb.computation;
+
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.enums.ComputationPhase;
+import io.github.olajed.jgb.enums.PairCriterion;
+import io.github.olajed.jgb.enums.PairSelectionStrategy;
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.functions.algorithms.BuchbergerAlgorithm;
+import io.github.olajed.jgb.functions.algorithms.F4Algorithm;
+import io.github.olajed.jgb.functions.algorithms.F5Algorithm;
+import io.github.olajed.jgb.functions.algorithms.GrobnerWalkAlgorithm;
+import io.github.olajed.jgb.functions.algorithms.SparseFGLMAlgorithm;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputationStatisticsTest {
+    @Test
+    void testNestedPhases() {
+        var context = ComputationContext.unbounded();
+        context.startPhase(ComputationPhase.REDUCTION);
+        context.startPhase(ComputationPhase.PAIR_UPDATE);
+        var end = context.endPhase(ComputationPhase.PAIR_UPDATE);
+        var resumed = context.startPhase(ComputationPhase.SELECTION);
+        assertTrue(resumed >= end);
+        assertThrows(IllegalStateException.class, () -> context.endPhase(ComputationPhase.REDUCTION));
+        context.endPhase(ComputationPhase.SELECTION);
+        context.endPhase(ComputationPhase.REDUCTION);
+        assertThrows(IllegalStateException.class, () -> context.endPhase(ComputationPhase.REDUCTION));
+
+        var statistics = context.statistics();
+        assertFalse(statistics.phaseTime(ComputationPhase.REDUCTION).isNegative());
+        assertTrue(statistics.phaseTime(ComputationPhase.ELIMINATION).isZero());
+    }
+
+    @Test
+    void testBuchbergerPairs() {
+        var context = ComputationContext.unbounded();
+        var basis = BuchbergerAlgorithm.compute(
+                KatsuraGenerator.get(3),
+                PairSelectionStrategy.NORMAL,
+                null,
+                ArithmeticMode.FIELD,
+                context
+        );
+
+        // Each pair is either discarded by a criterion or reduced
+        var statistics = context.statistics();
+        var pruned = 0L;
+        for (var criterion : PairCriterion.values()) {
+            pruned += statistics.pairsPruned(criterion);
+        }
+
+        assertEquals((long) basis.size() * (basis.size() - 1) / 2, statistics.pairsCreated());
+        assertEquals(statistics.pairsCreated(), pruned + statistics.pairsReduced());
+        assertTrue(statistics.reductionsToZero() <= statistics.pairsReduced());
+        assertEquals(basis.size(), statistics.peakBasisSize());
+        assertTrue(statistics.matrices().isEmpty());
+    }
+
+    private static long prunedPairs(ComputationStatistics statistics) {
+        var pruned = 0L;
+        for (var criterion : PairCriterion.values()) {
+            pruned += statistics.pairsPruned(criterion);
+        }
+
+        return pruned;
+    }
+
+    // Counts the calls to onCompleted
+    private static ComputationContext countingContext(List<ComputationStatistics> completed) {
+        return ComputationContext.unbounded().withListener(new ComputationListener() {
+            @Override
+            public void onCompleted(ComputationStatistics statistics) {
+                completed.add(statistics);
+            }
+        });
+    }
+
+    @Test
+    void testF5Pairs() {
+        var context = ComputationContext.unbounded();
+        var basis = F5Algorithm.compute(KatsuraGenerator.get(4), context);
+
+        // Each regular pair is either discarded by a signature criterion or reduced
+        var statistics = context.statistics();
+        assertEquals(statistics.pairsCreated(), prunedPairs(statistics) + statistics.pairsReduced());
+        assertTrue(statistics.pairsPruned(PairCriterion.REWRITTEN) > 0);
+        assertEquals(0, statistics.pairsPruned(PairCriterion.CHAIN));
+        assertTrue(statistics.reductionsToZero() <= statistics.pairsReduced());
+        assertEquals(basis.size(), statistics.peakBasisSize());
+    }
+
+    @Test
+    void testIsGrobnerBasisPairs() {
+        var basis = BuchbergerAlgorithm.compute(KatsuraGenerator.get(3));
+        var context = ComputationContext.unbounded();
+        assertTrue(GrobnerBasisAlgorithms.isGrobnerBasis(basis, null, context));
+
+        // Every pair left by the criteria reduces to zero
+        var statistics = context.statistics();
+        assertEquals((long) basis.size() * (basis.size() - 1) / 2, statistics.pairsCreated());
+        assertEquals(statistics.pairsCreated(), prunedPairs(statistics) + statistics.pairsReduced());
+        assertEquals(statistics.pairsReduced(), statistics.reductionsToZero());
+    }
+
+    @Test
+    void testConversionListeners() {
+        var basis = GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                F4Algorithm.compute(KatsuraGenerator.get(4, new GrevlexOrdering<>()))
+        );
+
+        // The walk runs Buchberger's algorithm at each step, and only completes once
+        var completed = new ArrayList<ComputationStatistics>();
+        var fieldSize = basis.getFirst().fieldSize();
+        var identity = new int[fieldSize][fieldSize];
+        for (var i = 0; i < identity.length; i++) {
+            identity[i][i] = 1;
+        }
+
+        GrobnerWalkAlgorithm.compute(basis, identity, new LexOrdering<>(), countingContext(completed));
+        assertEquals(1, completed.size());
+        assertTrue(completed.getFirst().pairsCreated() > 0);
+        assertFalse(completed.getFirst().phaseTime(ComputationPhase.REDUCTION).isZero());
+
+        completed.clear();
+        SparseFGLMAlgorithm.compute(basis, countingContext(completed));
+        assertEquals(1, completed.size());
+        assertFalse(completed.getFirst().phaseTime(ComputationPhase.NORMAL_FORM).isZero());
+        assertFalse(completed.getFirst().phaseTime(ComputationPhase.ELIMINATION).isZero());
+
+        completed.clear();
+        var reducingContext = countingContext(completed);
+        GrobnerBasisAlgorithms.reduceGrobnerBasis(basis, null, ArithmeticMode.FIELD, reducingContext);
+        assertEquals(1, completed.size());
+        assertFalse(completed.getFirst().phaseTime(ComputationPhase.INTER_REDUCTION).isZero());
+    }
+
+    @Test
+    void testF4Listener() {
+        var matrices = new ArrayList<MatrixStatistics>();
+        var completed = new ArrayList<ComputationStatistics>();
+        var context = ComputationContext.unbounded().withListener(new ComputationListener() {
+            @Override
+            public void onMatrix(MatrixStatistics matrix) {
+                matrices.add(matrix);
+            }
+
+            @Override
+            public void onCompleted(ComputationStatistics statistics) {
+                completed.add(statistics);
+            }
+        });
+        F4Algorithm.compute(KatsuraGenerator.get(3), null, ArithmeticMode.FIELD, context);
+
+        assertEquals(1, completed.size());
+        assertSame(context.statistics(), completed.getFirst());
+        assertFalse(matrices.isEmpty());
+        assertEquals(matrices, context.statistics().matrices());
+        for (var matrix : matrices) {
+            assertTrue(matrix.pivots() <= Math.min(matrix.rows(), matrix.columns()));
+            assertTrue(matrix.newPolynomials() <= matrix.pivots());
+            assertTrue(matrix.density() > 0 && matrix.density() <= 1);
+        }
+    }
+
+    @Test
+    void testAllocationsOnlyWithListener() {
+        var context = ComputationContext.unbounded();
+        F4Algorithm.compute(KatsuraGenerator.get(3), null, ArithmeticMode.FIELD, context);
+        for (var phase : ComputationPhase.values()) {
+            assertEquals(0, context.statistics().phaseAllocatedBytes(phase));
+        }
+
+        var listened = ComputationContext.unbounded().withListener(new ComputationListener() {
+        });
+        F4Algorithm.compute(KatsuraGenerator.get(3), null, ArithmeticMode.FIELD, listened);
+        for (var phase : ComputationPhase.values()) {
+            assertTrue(listened.statistics().phaseAllocatedBytes(phase) >= 0);
+        }
+    }
+}
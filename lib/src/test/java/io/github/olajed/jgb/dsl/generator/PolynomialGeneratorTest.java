@@ -1,6 +1,7 @@
 package io.github.olajed.jgb.dsl.generator;
 
 import io.github.olajed.jgb.dsl.ast.FieldConfigurationNode;
+import io.github.olajed.jgb.dsl.ast.MonomialConfigurationNode;
 import io.github.olajed.jgb.dsl.ast.PolynomialNode;
 import io.github.olajed.jgb.dsl.ast.VariablesConfigurationNode;
 import io.github.olajed.jgb.enums.MonomialType;
@@ -10,6 +11,7 @@ import io.github.olajed.jgb.number.NumericException;
 import io.github.olajed.jgb.number.Rational;
 import io.github.olajed.jgb.number.Real;
 import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.structures.PackedMonomial;
 import io.github.olajed.jgb.structures.PolynomialRing;
 import io.github.olajed.jgb.utils.Pair;
 import org.junit.jupiter.api.Test;
@@ -87,6 +89,23 @@ public class PolynomialGeneratorTest {
         assertEquals(expected, polys.getFirst());
     }
 
+    @Test
+    void testGenerate_packedMonomials() {
+        var ast = Arrays.asList(
+                new FieldConfigurationNode(NumericType.Rational),
+                new VariablesConfigurationNode(List.of("x", "y")),
+                new MonomialConfigurationNode(MonomialType.PACKED),
+                new PolynomialNode(List.of(
+                        new Pair<>(new Rational(1), Map.of("x", 2)),
+                        new Pair<>(new Rational(2), Map.of("y", 3))
+                ))
+        );
+
+        var polys = generator.generate(ast);
+        assertEquals(1, polys.size());
+        assertTrue(polys.getFirst().monomials().stream().allMatch(m -> m instanceof PackedMonomial));
+    }
+
     @Test
     void testGenerate_galoisFieldReduction() {
         var ast = Arrays.asList(
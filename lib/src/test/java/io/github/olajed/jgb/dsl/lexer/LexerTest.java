@@ -4,6 +4,7 @@ import io.github.olajed.jgb.dsl.tokens.Token;
 import io.github.olajed.jgb.dsl.tokens.TokenType;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +27,13 @@ class LexerTest {
         assertEquals(TokenType.EOF, tokens.get(1).type());
     }
 
+    @Test
+    void testLargeIntegerValue() {
+        List<Token> tokens = lexer.scan("12345678901234567890");
+        assertEquals(TokenType.NUMBER, tokens.getFirst().type());
+        assertEquals(new BigInteger("12345678901234567890"), tokens.getFirst().value());
+    }
+
     @Test
     void testDecimalValue() {
         List<Token> tokens = lexer.scan("3.14");
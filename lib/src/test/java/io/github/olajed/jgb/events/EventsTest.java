@@ -0,0 +1,58 @@
+package io.github.olajed.jgb.events;
+
+import io.github.olajed.jgb.functions.algorithms.F4Algorithm;
+import io.github.olajed.jgb.functions.algorithms.M4GBAlgorithm;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventsTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testDisabledByDefault() {
+        assertFalse(EventType.getEventType(MacaulayMatrixEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(PolynomialReductionEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(MultiplyFullReduceEvent.class).isEnabled());
+    }
+
+    @Test
+    void testRecording() throws IOException {
+        var file = directory.resolve("jgb.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(SymbolicPreprocessingEvent.class).withoutThreshold();
+            recording.enable(MacaulayMatrixEvent.class).withoutThreshold();
+            recording.enable(UpdateReduceEvent.class).withoutThreshold();
+            recording.start();
+            F4Algorithm.compute(KatsuraGenerator.get(3));
+            M4GBAlgorithm.compute(KatsuraGenerator.get(3));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var names = new HashSet<String>();
+        for (var event : RecordingFile.readAllEvents(file)) {
+            names.add(event.getEventType().getName());
+            if (event.getEventType().getName().equals("io.github.olajed.jgb.MacaulayMatrix")) {
+                assertEquals("F4", event.getString("algorithm"));
+                assertTrue(event.getInt("pivots") <= event.getInt("rows"));
+                assertTrue(event.getLong("nonZeroEntries") > 0);
+            }
+        }
+
+        assertTrue(names.contains("io.github.olajed.jgb.SymbolicPreprocessing"));
+        assertTrue(names.contains("io.github.olajed.jgb.MacaulayMatrix"));
+        assertTrue(names.contains("io.github.olajed.jgb.UpdateReduce"));
+        assertFalse(names.contains("io.github.olajed.jgb.PairReduction"));
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.olajed.jgb.functions;
+
+import io.github.olajed.jgb.computation.CancellationToken;
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.enums.ComputationLimit;
+import io.github.olajed.jgb.functions.algorithms.BuchbergerAlgorithm;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import io.github.olajed.jgb.structures.PolynomialRing;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrobnerBasisAlgorithmsTest {
+    private static final String[] INDETERMINATES = {"x", "y", "z"};
+
+    private static List<Polynomial<Rational>> rationalSystem(String... system) {
+        var ring = new PolynomialRing(Rational.class, INDETERMINATES);
+        var polynomials = new ArrayList<Polynomial<Rational>>();
+        for (var polynomial : system) {
+            polynomials.add(ring.parse(polynomial));
+        }
+
+        return polynomials;
+    }
+
+    @Test
+    void testIsGrobnerBasis() {
+        var polynomials = rationalSystem("x^2 - y", "x*y - 1");
+        assertFalse(GrobnerBasisAlgorithms.isGrobnerBasis(polynomials));
+
+        var basis = GrobnerBasisAlgorithms.reduceGrobnerBasis(BuchbergerAlgorithm.compute(polynomials));
+        assertTrue(GrobnerBasisAlgorithms.isGrobnerBasis(basis));
+        assertTrue(GrobnerBasisAlgorithms.isGrobnerBasis(BuchbergerAlgorithm.compute(KatsuraGenerator.get(3))));
+        assertFalse(GrobnerBasisAlgorithms.isGrobnerBasis(KatsuraGenerator.get(3)));
+
+        try (var pool = new ForkJoinPool(4)) {
+            assertFalse(GrobnerBasisAlgorithms.isGrobnerBasis(polynomials, pool));
+            assertTrue(GrobnerBasisAlgorithms.isGrobnerBasis(basis, pool));
+        }
+    }
+
+    @Test
+    void testIsGrobnerBasisWithPrunedPairs() {
+        // The leading monomials are pairwise coprime, every pair is discarded by the product criterion
+        assertTrue(GrobnerBasisAlgorithms.isGrobnerBasis(rationalSystem("x^2 + 1", "y^2 + 1", "z - 3")));
+
+        // The pair of the first two is discarded, the pairs with x*y - 1 do not reduce to zero
+        var polynomials = rationalSystem("x^2 + 1", "y^2 + 1", "x*y - 1");
+        assertFalse(GrobnerBasisAlgorithms.isGrobnerBasis(polynomials));
+        try (var pool = new ForkJoinPool(4)) {
+            assertFalse(GrobnerBasisAlgorithms.isGrobnerBasis(polynomials, pool));
+        }
+
+        // The pair of x^2 and y^2 is discarded by the chain criterion through x*y, the others reduce to zero
+        assertTrue(GrobnerBasisAlgorithms.isGrobnerBasis(rationalSystem("x^2", "x*y", "y^2")));
+    }
+
+    @Test
+    void testReduceWithPool() {
+        var basis = BuchbergerAlgorithm.compute(KatsuraGenerator.get(3));
+        var rationalBasis = BuchbergerAlgorithm.compute(rationalSystem("x^2 - y", "x*y - 1", "y*z - x"));
+        var expected = GrobnerBasisAlgorithms.reduceGrobnerBasis(basis);
+        var expectedRational = GrobnerBasisAlgorithms.reduceGrobnerBasis(rationalBasis);
+        assertEquals(expected, GrobnerBasisAlgorithms.reduceGrobnerBasis(basis, null));
+        assertEquals(expectedRational, GrobnerBasisAlgorithms.reduceGrobnerBasis(rationalBasis, null, ArithmeticMode.FRACTION_FREE));
+
+        try (var pool = new ForkJoinPool(4)) {
+            assertEquals(expected, GrobnerBasisAlgorithms.reduceGrobnerBasis(basis, pool));
+            assertEquals(expected, GrobnerBasisAlgorithms.reduceGrobnerBasis(basis, pool, ArithmeticMode.FIELD));
+            assertEquals(expectedRational, GrobnerBasisAlgorithms.reduceGrobnerBasis(rationalBasis, pool));
+            assertEquals(expectedRational, GrobnerBasisAlgorithms.reduceGrobnerBasis(rationalBasis, pool, ArithmeticMode.FRACTION_FREE));
+        }
+    }
+
+    @Test
+    void testLimits() {
+        var basis = BuchbergerAlgorithm.compute(KatsuraGenerator.get(3));
+        var reduced = GrobnerBasisAlgorithms.reduceGrobnerBasis(basis);
+        var basisSize = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                        basis,
+                        null,
+                        ArithmeticMode.FIELD,
+                        ComputationContext.unbounded().withMaxBasisSize(reduced.size() - 1)
+                )
+        );
+        assertEquals(ComputationLimit.BASIS_SIZE, basisSize.limit());
+
+        var token = new CancellationToken();
+        token.cancel();
+        var cancelled = ComputationContext.unbounded().withCancellationToken(token);
+        try (var pool = new ForkJoinPool(4)) {
+            for (var reductionPool : new ForkJoinPool[]{null, pool}) {
+                var reduction = assertThrows(
+                        ComputationLimitExceededException.class,
+                        () -> GrobnerBasisAlgorithms.reduceGrobnerBasis(basis, reductionPool, ArithmeticMode.FIELD, cancelled)
+                );
+                assertEquals(ComputationLimit.CANCELLED, reduction.limit());
+
+                var check = assertThrows(
+                        ComputationLimitExceededException.class,
+                        () -> GrobnerBasisAlgorithms.isGrobnerBasis(basis, reductionPool, cancelled)
+                );
+                assertEquals(ComputationLimit.CANCELLED, check.limit());
+            }
+
+            assertTrue(GrobnerBasisAlgorithms.isGrobnerBasis(basis, pool, ComputationContext.unbounded()));
+        }
+    }
+
+    @Test
+    void testFractionFreeRejectsGaloisField() {
+        var basis = BuchbergerAlgorithm.compute(KatsuraGenerator.get(3));
+        assertThrows(IllegalArgumentException.class,
+                () -> GrobnerBasisAlgorithms.reduceGrobnerBasis(basis, null, ArithmeticMode.FRACTION_FREE));
+    }
+}
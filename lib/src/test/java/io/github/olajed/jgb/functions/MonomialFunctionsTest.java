@@ -1,5 +1,6 @@
 package io.github.olajed.jgb.functions;
 
+import io.github.olajed.jgb.number.GaloisFieldElement;
 import io.github.olajed.jgb.number.Rational;
 import io.github.olajed.jgb.structures.DenseMonomial;
 import io.github.olajed.jgb.structures.Monomial;
@@ -46,6 +47,19 @@ class MonomialFunctionsTest {
         }
     }
 
+    @Test
+    void shouldCreateVariableWithTypeOfModel() {
+        int[] exponents = {2, 0, 3, 1};
+        SparseMonomial<Rational> model = new SparseMonomial<>(exponents, testCoefficient);
+        Monomial<Rational> result = MonomialFunctions.variable(model, 2);
+        assertInstanceOf(SparseMonomial.class, result);
+        assertEquals(4, result.fieldSize());
+        assertEquals(ONE, result.coefficient());
+        for (int i = 0; i < result.fieldSize(); i++) {
+            assertEquals(i == 2 ? 1 : 0, result.getExponent(i), "Exponent at position " + i);
+        }
+    }
+
     @Test
     void shouldHandleEmptyFieldSize() {
         int[] exponents = {};
@@ -347,4 +361,17 @@ class MonomialFunctionsTest {
         assertInstanceOf(DenseMonomial.class, denseOne);
         assertInstanceOf(DenseMonomial.class, lcmResult);
     }
+
+    @Test
+    void shouldConvertCoefficientAndKeepRepresentation() {
+        int[] exponents = {3, 0, 1};
+        SparseMonomial<Rational> model = new SparseMonomial<>(exponents, testCoefficient);
+        var coefficient = new GaloisFieldElement(2, 7);
+        Monomial<GaloisFieldElement> result = MonomialFunctions.convert(model, coefficient);
+        assertInstanceOf(SparseMonomial.class, result);
+        assertEquals(coefficient, result.coefficient());
+        for (int i = 0; i < exponents.length; i++) {
+            assertEquals(exponents[i], result.getExponent(i));
+        }
+    }
 }
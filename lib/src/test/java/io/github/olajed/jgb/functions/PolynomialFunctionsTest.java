@@ -5,11 +5,14 @@ import io.github.olajed.jgb.number.Rational;
 import io.github.olajed.jgb.number.Real;
 import io.github.olajed.jgb.ordering.GrevlexOrdering;
 import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.structures.DivisorIndex;
+import io.github.olajed.jgb.structures.Polynomial;
 import io.github.olajed.jgb.structures.PolynomialRing;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 public class PolynomialFunctionsTest {
@@ -129,4 +132,95 @@ public class PolynomialFunctionsTest {
 
         Assertions.assertEquals(PolynomialFunctions.sPolynomial(p1, p2), p3);
     }
+
+    @Test
+    public void testPrimitivePart() {
+        var field = new PolynomialRing(Rational.class, new String[]{"x", "y"});
+        var p1 = field.createPolynomial(
+                Arrays.asList(
+                        field.createMonomial(new Rational(-2, 3), Map.of("x", 2), MonomialType.DENSE),
+                        field.createMonomial(new Rational(4, 9), Map.of("y", 1), MonomialType.DENSE)
+                ),
+                new LexOrdering<>()
+        );
+
+        var p2 = field.createPolynomial(
+                Arrays.asList(
+                        field.createMonomial(new Rational(3), Map.of("x", 2), MonomialType.DENSE),
+                        field.createMonomial(new Rational(-2), Map.of("y", 1), MonomialType.DENSE)
+                ),
+                new LexOrdering<>()
+        );
+
+        Assertions.assertEquals(p2, PolynomialFunctions.primitivePart(p1));
+    }
+
+    @Test
+    public void testFractionFreeSPolynomial() {
+        var field = new PolynomialRing(Rational.class, new String[]{"x", "y"});
+        var p1 = field.createPolynomial(
+                Arrays.asList(
+                        field.createMonomial(new Rational(2), Map.of("x", 2), MonomialType.DENSE),
+                        field.createMonomial(new Rational(1), Map.of("y", 1), MonomialType.DENSE)
+                ),
+                new LexOrdering<>()
+        );
+
+        var p2 = field.createPolynomial(
+                Arrays.asList(
+                        field.createMonomial(new Rational(3), Map.of("x", 1, "y", 1), MonomialType.DENSE),
+                        field.createMonomial(new Rational(-1), Map.of(), MonomialType.DENSE)
+                ),
+                new LexOrdering<>()
+        );
+
+        var p3 = field.createPolynomial(
+                Arrays.asList(
+                        field.createMonomial(new Rational(2), Map.of("x", 1), MonomialType.DENSE),
+                        field.createMonomial(new Rational(3), Map.of("y", 2), MonomialType.DENSE)
+                ),
+                new LexOrdering<>()
+        );
+
+        Assertions.assertEquals(p3, PolynomialFunctions.fractionFreeSPolynomial(p1, p2));
+    }
+
+    @Test
+    public void testPseudoReduce() {
+        var field = new PolynomialRing(Rational.class, new String[]{"x", "y"});
+        var p1 = field.createPolynomial(
+                Arrays.asList(
+                        field.createMonomial(new Rational(1), Map.of("x", 2), MonomialType.DENSE),
+                        field.createMonomial(new Rational(1), Map.of("y", 1), MonomialType.DENSE)
+                ),
+                new LexOrdering<>()
+        );
+
+        var p2 = field.createPolynomial(
+                Arrays.asList(
+                        field.createMonomial(new Rational(2), Map.of("x", 1), MonomialType.DENSE),
+                        field.createMonomial(new Rational(-1), Map.of(), MonomialType.DENSE)
+                ),
+                new LexOrdering<>()
+        );
+
+        var p3 = field.createPolynomial(
+                Arrays.asList(
+                        field.createMonomial(new Rational(4), Map.of("y", 1), MonomialType.DENSE),
+                        field.createMonomial(new Rational(1), Map.of(), MonomialType.DENSE)
+                ),
+                new LexOrdering<>()
+        );
+
+        Assertions.assertEquals(p3, PolynomialFunctions.pseudoReduce(p1, List.of(p2)));
+        // Same remainder as the division over the rationals, up to a constant factor
+        var remainder = p1.reduce(List.of(p2));
+        Assertions.assertEquals(remainder.divide(remainder.leadingCoefficient()), p3.divide(new Rational(4)));
+
+        // The same divisors, indexed once by their leading monomials
+        var reducers = new DivisorIndex<Rational, Polynomial<Rational>>(p2.fieldSize());
+        reducers.add(p2.leadingMonomial(), p2);
+        Assertions.assertEquals(p3, PolynomialFunctions.pseudoReduce(p1, reducers));
+        Assertions.assertEquals(p2, PolynomialFunctions.pseudoReduce(p2, new DivisorIndex<>(p2.fieldSize())));
+    }
 }
@@ -0,0 +1,90 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+import io.github.olajed.jgb.structures.Polynomial;
+import io.github.olajed.jgb.structures.PolynomialRing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Systems and assertions shared by the tests of the algorithms
+final class AlgorithmTestUtils {
+    static final String[] INDETERMINATES = {"x", "y", "z"};
+    static final String[] SYSTEM = {"-4*x*y*z + 4*y^2*z + 3", "5*y^2*z - 9*x*y^2 - 8", "y + x*z - 6*x"};
+    // The indeterminates of Katsura-3 and Cyclic-4
+    static final String[] FOUR_INDETERMINATES = {"a", "b", "c", "d"};
+    static final String[] KATSURA = {
+            "a + 2*b + 2*c + 2*d - 1",
+            "a^2 + 2*b^2 + 2*c^2 + 2*d^2 - a",
+            "2*a*b + 2*b*c + 2*c*d - b",
+            "2*a*c + b^2 + 2*b*d - c"
+    };
+    static final String[] CYCLIC = {"a + b + c + d", "a*b + b*c + c*d + d*a", "a*b*c + b*c*d + c*d*a + d*a*b", "a*b*c*d - 1"};
+
+    private AlgorithmTestUtils() {
+    }
+
+    static List<Polynomial<Rational>> rationalSystem(String[] indeterminates, String... system) {
+        var ring = new PolynomialRing(Rational.class, indeterminates);
+        var polynomials = new ArrayList<Polynomial<Rational>>();
+        for (var polynomial : system) {
+            polynomials.add(ring.parse(polynomial));
+        }
+
+        return polynomials;
+    }
+
+    static List<Polynomial<GaloisFieldElement>> galoisFieldSystem(String[] indeterminates, String... system) {
+        return galoisFieldSystem(32003, indeterminates, system);
+    }
+
+    static List<Polynomial<GaloisFieldElement>> galoisFieldSystem(int modulo, String[] indeterminates, String... system) {
+        var ring = new PolynomialRing(GaloisFieldElement.class, indeterminates);
+        var polynomials = new ArrayList<Polynomial<GaloisFieldElement>>();
+        for (var polynomial : system) {
+            polynomials.add(ring.parse(polynomial, modulo));
+        }
+
+        return polynomials;
+    }
+
+    static <T extends Numeric> List<Polynomial<T>> changeOrdering(
+            List<Polynomial<T>> polynomials,
+            MonomialOrdering<T> ordering
+    ) {
+        return polynomials.stream().map(x -> x.changeOrdering(ordering)).toList();
+    }
+
+    // The reduced basis computed by Buchberger's algorithm, the reference of the other algorithms
+    static <T extends Numeric> List<Polynomial<T>> reducedBasis(List<Polynomial<T>> polynomials) {
+        return GrobnerBasisAlgorithms.reduceGrobnerBasis(BuchbergerAlgorithm.compute(polynomials));
+    }
+
+    static <T extends Numeric> List<Polynomial<T>> reducedBasis(
+            List<Polynomial<T>> polynomials,
+            MonomialOrdering<T> ordering
+    ) {
+        return reducedBasis(changeOrdering(polynomials, ordering));
+    }
+
+    static <T extends Numeric> void assertSameBasis(List<Polynomial<T>> expected, List<Polynomial<T>> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertTrue(actual.containsAll(expected));
+    }
+
+    // The algorithm gives a basis whose reduced basis is the one of Buchberger's algorithm
+    static <T extends Numeric> void assertBuchbergerBasis(
+            List<Polynomial<T>> polynomials,
+            Function<List<Polynomial<T>>, List<Polynomial<T>>> algorithm
+    ) {
+        var actual = GrobnerBasisAlgorithms.reduceGrobnerBasis(algorithm.apply(polynomials));
+        assertSameBasis(reducedBasis(polynomials), actual);
+    }
+}
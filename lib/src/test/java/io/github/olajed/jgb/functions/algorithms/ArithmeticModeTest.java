@@ -0,0 +1,64 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.enums.PairSelectionStrategy;
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArithmeticModeTest {
+    // The reduced basis has coefficients with numerators and denominators of about twelve digits
+    private static final String[] GROWING = {"3*x^2*y + 5*y*z^2 - 7*x + 1", "11*x*y^2 - 13*z^2 + 2*y", "17*y^2*z - 19*x*z + 23*z - 29"};
+
+    private static void assertFractionFreeBasis(List<Polynomial<Rational>> polynomials) {
+        var field = BuchbergerAlgorithm.compute(polynomials, PairSelectionStrategy.NORMAL, null, ArithmeticMode.FIELD);
+        var expected = GrobnerBasisAlgorithms.reduceGrobnerBasis(field);
+
+        assertSameBasis(expected, GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                BuchbergerAlgorithm.compute(polynomials, PairSelectionStrategy.NORMAL, null, ArithmeticMode.FRACTION_FREE)
+        ));
+        assertSameBasis(expected, GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                F4Algorithm.compute(polynomials, null, ArithmeticMode.FIELD)
+        ));
+        assertSameBasis(expected, GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                F4Algorithm.compute(polynomials, null, ArithmeticMode.FRACTION_FREE)
+        ));
+        assertSameBasis(expected, GrobnerBasisAlgorithms.reduceGrobnerBasis(field, null, ArithmeticMode.FRACTION_FREE));
+    }
+
+    @Test
+    void testFractionFreeBasis() {
+        assertFractionFreeBasis(rationalSystem(INDETERMINATES, SYSTEM));
+        assertFractionFreeBasis(rationalSystem(FOUR_INDETERMINATES, KATSURA));
+    }
+
+    @Test
+    void testCoefficientGrowth() {
+        var polynomials = rationalSystem(INDETERMINATES, GROWING);
+        assertFractionFreeBasis(polynomials);
+
+        var basis = F4Algorithm.compute(polynomials, null, ArithmeticMode.FRACTION_FREE);
+        for (var polynomial : basis) {
+            assertEquals(Rational.ONE, polynomial.leadingCoefficient());
+        }
+    }
+
+    @Test
+    void testGaloisFieldRejected() {
+        var polynomials = KatsuraGenerator.get(3);
+        assertThrows(IllegalArgumentException.class, () -> F4Algorithm.compute(polynomials, null, ArithmeticMode.FRACTION_FREE));
+        assertThrows(IllegalArgumentException.class, () -> BuchbergerAlgorithm.compute(
+                polynomials,
+                PairSelectionStrategy.NORMAL,
+                null,
+                ArithmeticMode.FRACTION_FREE
+        ));
+    }
+}
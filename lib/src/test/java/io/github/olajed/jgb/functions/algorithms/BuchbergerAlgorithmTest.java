@@ -0,0 +1,77 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.enums.PairSelectionStrategy;
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.providers.ReimerGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuchbergerAlgorithmTest {
+    private static <T extends Numeric> void assertParallelBasis(
+            List<Polynomial<T>> polynomials,
+            PairSelectionStrategy strategy,
+            ArithmeticMode arithmeticMode
+    ) {
+        var expected = GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                BuchbergerAlgorithm.compute(polynomials, strategy, null, arithmeticMode)
+        );
+        for (var parallelism : new int[]{1, 4}) {
+            try (var pool = new ForkJoinPool(parallelism)) {
+                var actual = GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                        BuchbergerAlgorithm.compute(polynomials, strategy, pool, arithmeticMode)
+                );
+                assertSameBasis(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void testParallelBasis() {
+        for (var strategy : PairSelectionStrategy.values()) {
+            assertParallelBasis(KatsuraGenerator.get(4), strategy, ArithmeticMode.FIELD);
+            assertParallelBasis(ReimerGenerator.get(3), strategy, ArithmeticMode.FIELD);
+            assertParallelBasis(rationalSystem(FOUR_INDETERMINATES, CYCLIC), strategy, ArithmeticMode.FIELD);
+        }
+    }
+
+    @Test
+    void testParallelLexBasis() {
+        assertParallelBasis(KatsuraGenerator.get(3, new LexOrdering<>()), PairSelectionStrategy.NORMAL, ArithmeticMode.FIELD);
+        assertParallelBasis(KatsuraGenerator.get(3, new LexOrdering<>()), PairSelectionStrategy.SUGAR, ArithmeticMode.FIELD);
+    }
+
+    @Test
+    void testParallelFractionFreeBasis() {
+        var polynomials = rationalSystem(FOUR_INDETERMINATES, CYCLIC);
+        assertParallelBasis(polynomials, PairSelectionStrategy.NORMAL, ArithmeticMode.FRACTION_FREE);
+        assertParallelBasis(polynomials, PairSelectionStrategy.SUGAR, ArithmeticMode.FRACTION_FREE);
+
+        var expected = reducedBasis(polynomials);
+        try (var pool = new ForkJoinPool(4)) {
+            var actual = BuchbergerAlgorithm.compute(polynomials, PairSelectionStrategy.SUGAR, pool, ArithmeticMode.FRACTION_FREE);
+            for (var polynomial : actual) {
+                assertEquals(Rational.ONE, polynomial.leadingCoefficient());
+            }
+
+            assertSameBasis(expected, GrobnerBasisAlgorithms.reduceGrobnerBasis(actual));
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        try (var pool = new ForkJoinPool(2)) {
+            assertTrue(BuchbergerAlgorithm.compute(List.<Polynomial<Rational>>of(), PairSelectionStrategy.NORMAL, pool).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.providers.ReimerGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class F4AlgorithmTest {
+    // The basis, not only the reduced basis, is the same whatever the parallelism
+    private static <T extends Numeric> void assertParallelBasis(List<Polynomial<T>> polynomials, ArithmeticMode arithmeticMode) {
+        var expected = F4Algorithm.compute(polynomials, null, arithmeticMode);
+        try (var sequential = new ForkJoinPool(1); var parallel = new ForkJoinPool(4)) {
+            assertEquals(expected, F4Algorithm.compute(polynomials, sequential, arithmeticMode));
+            assertEquals(expected, F4Algorithm.compute(polynomials, parallel, arithmeticMode));
+        }
+    }
+
+    @Test
+    void testParallelGaloisField() {
+        assertParallelBasis(KatsuraGenerator.get(4), ArithmeticMode.FIELD);
+        assertParallelBasis(KatsuraGenerator.get(5), ArithmeticMode.FIELD);
+        assertParallelBasis(ReimerGenerator.get(3), ArithmeticMode.FIELD);
+    }
+
+    @Test
+    void testParallelRational() {
+        var polynomials = rationalSystem(FOUR_INDETERMINATES, CYCLIC);
+        assertParallelBasis(polynomials, ArithmeticMode.FIELD);
+        assertParallelBasis(polynomials, ArithmeticMode.FRACTION_FREE);
+
+        // Katsura-3 has matrices of more than 64 rows, whose pivot columns are eliminated in parallel
+        var katsura = rationalSystem(FOUR_INDETERMINATES, KATSURA);
+        assertParallelBasis(katsura, ArithmeticMode.FIELD);
+        assertParallelBasis(katsura, ArithmeticMode.FRACTION_FREE);
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.computation.CancellationToken;
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ComputationLimit;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.providers.ReimerGenerator;
+import io.github.olajed.jgb.structures.PolynomialRing;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class F5AlgorithmTest {
+    @Test
+    void testReducedBasis() {
+        assertBuchbergerBasis(rationalSystem(INDETERMINATES, SYSTEM), F5Algorithm::compute);
+        assertBuchbergerBasis(galoisFieldSystem(INDETERMINATES, SYSTEM), F5Algorithm::compute);
+        assertBuchbergerBasis(KatsuraGenerator.get(3), F5Algorithm::compute);
+        assertBuchbergerBasis(KatsuraGenerator.get(3, new GrevlexOrdering<>()), F5Algorithm::compute);
+        assertBuchbergerBasis(ReimerGenerator.get(3), F5Algorithm::compute);
+    }
+
+    @Test
+    void testLex() {
+        var ordering = new LexOrdering<Rational>();
+        assertBuchbergerBasis(changeOrdering(rationalSystem(INDETERMINATES, SYSTEM), ordering), F5Algorithm::compute);
+    }
+
+    @Test
+    void testRewrittenSyzygies() {
+        // Cyclic-4 has a syzygy that is not a combination of the principal ones, one pair reduces to zero
+        // and the pairs of the same signatures must then be discarded
+        assertBuchbergerBasis(rationalSystem(FOUR_INDETERMINATES, CYCLIC), F5Algorithm::compute);
+        assertBuchbergerBasis(galoisFieldSystem(FOUR_INDETERMINATES, CYCLIC), F5Algorithm::compute);
+
+        // Katsura-4 discards most of its pairs by the rewritten criterion
+        assertBuchbergerBasis(KatsuraGenerator.get(4), F5Algorithm::compute);
+    }
+
+    @Test
+    void testRedundantGenerator() {
+        // The last generator is x * y * f1 + z * f2, it reduces to zero against the earlier ones
+        var ring = new PolynomialRing(Rational.class, INDETERMINATES);
+        var polynomials = List.of(
+                ring.<Rational>parse("x^2 - y"),
+                ring.<Rational>parse("x*y - z"),
+                ring.<Rational>parse("x^3*y - x*y^2 + x*y*z - z^2")
+        );
+        assertBuchbergerBasis(polynomials, F5Algorithm::compute);
+        assertBuchbergerBasis(polynomials.subList(0, 2), F5Algorithm::compute);
+    }
+
+    @Test
+    void testZeroPolynomials() {
+        var ring = new PolynomialRing(Rational.class, INDETERMINATES);
+        var zero = ring.<Rational>parse("0");
+        assertTrue(F5Algorithm.compute(List.of(zero)).isEmpty());
+        var polynomials = List.of(zero, ring.<Rational>parse("x^2 - y"), ring.<Rational>parse("x*y - 1"));
+        assertBuchbergerBasis(polynomials, F5Algorithm::compute);
+    }
+
+    @Test
+    void testLimits() {
+        var polynomials = KatsuraGenerator.get(3);
+        assertEquals(F5Algorithm.compute(polynomials), F5Algorithm.compute(polynomials, ComputationContext.unbounded()));
+
+        var basisSize = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> F5Algorithm.compute(polynomials, ComputationContext.unbounded().withMaxBasisSize(2))
+        );
+        assertEquals(ComputationLimit.BASIS_SIZE, basisSize.limit());
+
+        var token = new CancellationToken();
+        token.cancel();
+        var cancelled = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> F5Algorithm.compute(polynomials, ComputationContext.unbounded().withCancellationToken(token))
+        );
+        assertEquals(ComputationLimit.CANCELLED, cancelled.limit());
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.EliminationOrdering;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.ordering.GrlexOrdering;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+import io.github.olajed.jgb.ordering.WeightedOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FGLMAlgorithmTest {
+    private static <T extends Numeric> void assertFGLMBasis(List<Polynomial<T>> polynomials, MonomialOrdering<T> target) {
+        var basis = reducedBasis(polynomials, new GrevlexOrdering<>());
+        assertSameBasis(reducedBasis(polynomials, target), FGLMAlgorithm.compute(basis, target));
+    }
+
+    private static List<Polynomial<Rational>> zeroDimensionalSystem() {
+        return rationalSystem(
+                INDETERMINATES,
+                "980 * z^2 - 18 * y - 201 * z + 13",
+                "35 * y * z - 4 * y + 2 * z - 1",
+                "10 * y^2 - y - 12 * z + 1",
+                "5 * x^2 - 4 * y + 2 * z - 1"
+        );
+    }
+
+    @Test
+    void testLex() {
+        assertFGLMBasis(zeroDimensionalSystem(), new LexOrdering<>());
+        assertFGLMBasis(galoisFieldSystem(INDETERMINATES, SYSTEM), new LexOrdering<>());
+        assertFGLMBasis(KatsuraGenerator.get(3), new LexOrdering<>());
+        assertFGLMBasis(KatsuraGenerator.get(4), new LexOrdering<>());
+    }
+
+    @Test
+    void testLexSmallPrimeField() {
+        // Dependencies over a small field, where many normal forms share coefficients
+        assertFGLMBasis(galoisFieldSystem(7, INDETERMINATES, SYSTEM), new LexOrdering<>());
+        assertFGLMBasis(galoisFieldSystem(101, INDETERMINATES, SYSTEM), new LexOrdering<>());
+    }
+
+    @Test
+    void testEliminationOrdering() {
+        // Eliminates x, then y and z are compared with grlex
+        var eliminated = new BitSet();
+        eliminated.set(0);
+        var retained = new BitSet();
+        retained.set(1, 3);
+        assertFGLMBasis(zeroDimensionalSystem(), new EliminationOrdering<>(eliminated, retained, new GrlexOrdering<>()));
+        assertFGLMBasis(galoisFieldSystem(INDETERMINATES, SYSTEM), new EliminationOrdering<>(eliminated, retained, new GrevlexOrdering<>()));
+
+        // Eliminates the two first indeterminates of Katsura-3
+        var katsuraEliminated = new BitSet();
+        katsuraEliminated.set(0, 2);
+        var katsuraRetained = new BitSet();
+        katsuraRetained.set(2, 4);
+        assertFGLMBasis(
+                KatsuraGenerator.get(3),
+                new EliminationOrdering<>(katsuraEliminated, katsuraRetained, new GrevlexOrdering<>())
+        );
+    }
+
+    @Test
+    void testWeightedOrdering() {
+        assertFGLMBasis(zeroDimensionalSystem(), new WeightedOrdering<>(new int[]{3, 2, 1}));
+        assertFGLMBasis(galoisFieldSystem(INDETERMINATES, SYSTEM), new WeightedOrdering<>(new int[]{1, 5, 2}, new GrevlexOrdering<>()));
+        assertFGLMBasis(KatsuraGenerator.get(3), new WeightedOrdering<>(new int[]{1, 2, 3, 4}, new GrevlexOrdering<>()));
+    }
+
+    @Test
+    void testPositiveDimensionalRejected() {
+        var polynomials = rationalSystem(INDETERMINATES, "x*y - z^2 + 1", "x^2*z + y^3 - 2*x");
+        var basis = reducedBasis(polynomials, new GrevlexOrdering<>());
+        assertFalse(FGLMAlgorithm.isZeroDimensional(basis));
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> FGLMAlgorithm.compute(basis));
+        assertEquals("FGLM requires the basis of a zero-dimensional ideal.", exception.getMessage());
+    }
+
+    @Test
+    void testDefaultTarget() {
+        var polynomials = zeroDimensionalSystem();
+        var basis = reducedBasis(polynomials, new GrevlexOrdering<>());
+        assertSameBasis(reducedBasis(polynomials, new LexOrdering<>()), FGLMAlgorithm.compute(basis));
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.computation.CancellationToken;
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ComputationLimit;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.number.Numeric;
+import io.github.olajed.jgb.ordering.EliminationOrdering;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.ordering.WeightedOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrobnerWalkAlgorithmTest {
+    private static <T extends Numeric> void assertTargets(List<Polynomial<T>> polynomials) {
+        var basis = reducedBasis(polynomials, new GrevlexOrdering<>());
+        var fieldSize = polynomials.getFirst().fieldSize();
+
+        assertSameBasis(reducedBasis(polynomials, new LexOrdering<>()), GrobnerWalkAlgorithm.compute(basis));
+
+        // Eliminates the first indeterminate
+        var eliminated = new BitSet();
+        eliminated.set(0);
+        var retained = new BitSet();
+        retained.set(1, fieldSize);
+        var elimination = new EliminationOrdering<T>(eliminated, retained, new GrevlexOrdering<>());
+        var indicator = new int[fieldSize];
+        indicator[0] = 1;
+        assertSameBasis(reducedBasis(polynomials, elimination), GrobnerWalkAlgorithm.compute(basis, indicator, elimination));
+
+        var weights = new int[fieldSize];
+        for (var i = 0; i < fieldSize; i++) {
+            weights[i] = fieldSize - i;
+        }
+
+        var weighted = new WeightedOrdering<T>(weights, new GrevlexOrdering<>());
+        assertSameBasis(reducedBasis(polynomials, weighted), GrobnerWalkAlgorithm.compute(basis, weights, weighted));
+    }
+
+    @Test
+    void testZeroDimensional() {
+        assertTargets(rationalSystem(INDETERMINATES, "x^2 - y", "x^3 - z", "y*z - x + 1"));
+        assertTargets(KatsuraGenerator.get(3));
+    }
+
+    @Test
+    void testPositiveDimensional() {
+        var polynomials = rationalSystem(INDETERMINATES, "x*y - z^2 + 1", "x^2*z + y^3 - 2*x");
+        assertFalse(FGLMAlgorithm.isZeroDimensional(reducedBasis(polynomials, new GrevlexOrdering<>())));
+        assertTargets(polynomials);
+
+        assertTargets(galoisFieldSystem(
+                FOUR_INDETERMINATES,
+                "3*a*b + 5*c^2 - d + 7",
+                "a^2 - 11*b*d + c + 2",
+                "b^2*c - a*d^2 + 13"
+        ));
+    }
+
+    @Test
+    void testRejectsNonGradedSource() {
+        var ordering = new LexOrdering<GaloisFieldElement>();
+        var basis = reducedBasis(KatsuraGenerator.get(3, ordering));
+        assertThrows(IllegalArgumentException.class, () -> GrobnerWalkAlgorithm.compute(basis));
+    }
+
+    @Test
+    void testLimits() {
+        var polynomials = KatsuraGenerator.get(3);
+        var basis = reducedBasis(polynomials, new GrevlexOrdering<>());
+        var identity = new int[][]{{1, 0, 0, 0}, {0, 1, 0, 0}, {0, 0, 1, 0}, {0, 0, 0, 1}};
+        var lex = new LexOrdering<GaloisFieldElement>();
+        assertSameBasis(reducedBasis(polynomials, lex), GrobnerWalkAlgorithm.compute(basis, identity, lex, ComputationContext.unbounded()));
+
+        // The bases met along the walk grow beyond the size of the grevlex basis
+        var basisSize = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> GrobnerWalkAlgorithm.compute(basis, identity, lex, ComputationContext.unbounded().withMaxBasisSize(basis.size()))
+        );
+        assertEquals(ComputationLimit.BASIS_SIZE, basisSize.limit());
+
+        var token = new CancellationToken();
+        token.cancel();
+        var cancelled = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> GrobnerWalkAlgorithm.compute(basis, identity, lex, ComputationContext.unbounded().withCancellationToken(token))
+        );
+        assertEquals(ComputationLimit.CANCELLED, cancelled.limit());
+    }
+}
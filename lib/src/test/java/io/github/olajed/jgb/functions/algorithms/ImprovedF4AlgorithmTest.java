@@ -0,0 +1,54 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import io.github.olajed.jgb.providers.ReimerGenerator;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImprovedF4AlgorithmTest {
+    @Test
+    void testReducedBasis() {
+        assertBuchbergerBasis(rationalSystem(INDETERMINATES, SYSTEM), ImprovedF4Algorithm::compute);
+        assertBuchbergerBasis(galoisFieldSystem(INDETERMINATES, SYSTEM), ImprovedF4Algorithm::compute);
+        assertBuchbergerBasis(rationalSystem(FOUR_INDETERMINATES, KATSURA), ImprovedF4Algorithm::compute);
+        assertBuchbergerBasis(KatsuraGenerator.get(3), ImprovedF4Algorithm::compute);
+        assertBuchbergerBasis(KatsuraGenerator.get(3, new GrevlexOrdering<>()), ImprovedF4Algorithm::compute);
+        assertBuchbergerBasis(ReimerGenerator.get(3), ImprovedF4Algorithm::compute);
+    }
+
+    @Test
+    void testKatsura4() {
+        assertBuchbergerBasis(KatsuraGenerator.get(4), ImprovedF4Algorithm::compute);
+    }
+
+    @Test
+    void testSimplifiedRows() {
+        // Simplify replaces rows of the later matrices of Cyclic-4 by the reduced rows of the earlier ones
+        assertBuchbergerBasis(rationalSystem(FOUR_INDETERMINATES, CYCLIC), ImprovedF4Algorithm::compute);
+        assertBuchbergerBasis(galoisFieldSystem(FOUR_INDETERMINATES, CYCLIC), ImprovedF4Algorithm::compute);
+    }
+
+    @Test
+    void testPool() {
+        var polynomials = rationalSystem(FOUR_INDETERMINATES, CYCLIC);
+        var expected = GrobnerBasisAlgorithms.reduceGrobnerBasis(ImprovedF4Algorithm.compute(polynomials));
+        try (var pool = new ForkJoinPool(4)) {
+            var actual = GrobnerBasisAlgorithms.reduceGrobnerBasis(ImprovedF4Algorithm.compute(polynomials, pool));
+            assertSameBasis(expected, actual);
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        assertTrue(ImprovedF4Algorithm.compute(List.<Polynomial<Rational>>of()).isEmpty());
+    }
+}
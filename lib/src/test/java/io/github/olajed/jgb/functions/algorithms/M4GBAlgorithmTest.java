@@ -0,0 +1,53 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.GrlexOrdering;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import org.junit.jupiter.api.Test;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class M4GBAlgorithmTest {
+    @Test
+    void testGrevlex() {
+        assertBuchbergerBasis(galoisFieldSystem(INDETERMINATES, SYSTEM), M4GBAlgorithm::compute);
+        assertBuchbergerBasis(rationalSystem(INDETERMINATES, SYSTEM), M4GBAlgorithm::compute);
+        assertBuchbergerBasis(KatsuraGenerator.get(4), M4GBAlgorithm::compute);
+    }
+
+    @Test
+    void testGrlex() {
+        var ordering = new GrlexOrdering<GaloisFieldElement>();
+        assertBuchbergerBasis(changeOrdering(galoisFieldSystem(INDETERMINATES, SYSTEM), ordering), M4GBAlgorithm::compute);
+    }
+
+    @Test
+    void testLexRejected() {
+        var galoisFieldOrdering = new LexOrdering<GaloisFieldElement>();
+        var galoisFieldSystem = changeOrdering(galoisFieldSystem(INDETERMINATES, SYSTEM), galoisFieldOrdering);
+        assertThrows(IllegalArgumentException.class, () -> M4GBAlgorithm.compute(galoisFieldSystem));
+
+        var rationalOrdering = new LexOrdering<Rational>();
+        var rationalSystem = changeOrdering(rationalSystem(INDETERMINATES, SYSTEM), rationalOrdering);
+        assertThrows(IllegalArgumentException.class, () -> M4GBAlgorithm.compute(rationalSystem));
+    }
+
+    @Test
+    void testLexThroughWalk() {
+        var galoisFieldOrdering = new LexOrdering<GaloisFieldElement>();
+        var galoisFieldSystem = galoisFieldSystem(INDETERMINATES, SYSTEM);
+        var galoisFieldExpected = reducedBasis(galoisFieldSystem, galoisFieldOrdering);
+        var galoisFieldBasis = GrobnerBasisAlgorithms.reduceGrobnerBasis(M4GBAlgorithm.compute(galoisFieldSystem));
+        assertSameBasis(galoisFieldExpected, GrobnerWalkAlgorithm.compute(galoisFieldBasis));
+
+        var rationalOrdering = new LexOrdering<Rational>();
+        var rationalSystem = rationalSystem(INDETERMINATES, SYSTEM);
+        var rationalExpected = reducedBasis(rationalSystem, rationalOrdering);
+        var rationalBasis = GrobnerBasisAlgorithms.reduceGrobnerBasis(M4GBAlgorithm.compute(rationalSystem));
+        assertSameBasis(rationalExpected, GrobnerWalkAlgorithm.compute(rationalBasis));
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ComputationLimit;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.structures.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiModularAlgorithmTest {
+    private static List<Polynomial<Rational>> katsura3() {
+        return rationalSystem(
+                new String[]{"a", "b", "c"},
+                "a + 2*b + 2*c - 1",
+                "a^2 + 2*b^2 + 2*c^2 - a",
+                "2*a*b + 2*b*c - b"
+        );
+    }
+
+    @Test
+    void testKatsura() {
+        var polynomials = katsura3();
+        assertSameBasis(reducedBasis(polynomials), MultiModularAlgorithm.compute(polynomials));
+        assertSameBasis(reducedBasis(polynomials), MultiModularAlgorithm.compute(polynomials, M4GBAlgorithm::compute, null));
+    }
+
+    @Test
+    void testSystem() {
+        var polynomials = rationalSystem(INDETERMINATES, SYSTEM);
+        assertSameBasis(reducedBasis(polynomials), MultiModularAlgorithm.compute(polynomials));
+    }
+
+    @Test
+    void testLex() {
+        var ordering = new LexOrdering<Rational>();
+        var polynomials = changeOrdering(katsura3(), ordering);
+        var basis = MultiModularAlgorithm.compute(polynomials, F4Algorithm::compute, ForkJoinPool.commonPool());
+        assertSameBasis(reducedBasis(polynomials), basis);
+    }
+
+    @Test
+    void testMaxPrimes() {
+        var polynomials = rationalSystem(INDETERMINATES, SYSTEM);
+        var context = ComputationContext.unbounded().withMaxPrimes(1);
+        var exception = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> MultiModularAlgorithm.compute(polynomials, F4Algorithm::compute, null, context)
+        );
+        assertEquals(ComputationLimit.PRIMES, exception.limit());
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.olajed.jgb.functions.algorithms;
+
+import io.github.olajed.jgb.computation.CancellationToken;
+import io.github.olajed.jgb.computation.ComputationContext;
+import io.github.olajed.jgb.computation.ComputationLimitExceededException;
+import io.github.olajed.jgb.enums.ComputationLimit;
+import io.github.olajed.jgb.functions.GrobnerBasisAlgorithms;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.providers.KatsuraGenerator;
+import org.junit.jupiter.api.Test;
+
+import static io.github.olajed.jgb.functions.algorithms.AlgorithmTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseFGLMAlgorithmTest {
+    @Test
+    void testShapePosition() {
+        var polynomials = KatsuraGenerator.get(4, new GrevlexOrdering<>());
+        var basis = GrobnerBasisAlgorithms.reduceGrobnerBasis(F4Algorithm.compute(polynomials));
+        var expected = FGLMAlgorithm.compute(basis);
+
+        // One univariate polynomial and one linear polynomial in each other indeterminate
+        var inShapePosition = SparseFGLMAlgorithm.computeInShapePosition(basis);
+        assertNotNull(inShapePosition);
+        assertEquals(polynomials.getFirst().fieldSize(), inShapePosition.size());
+        assertSameBasis(expected, inShapePosition);
+        assertSameBasis(expected, SparseFGLMAlgorithm.compute(basis));
+    }
+
+    @Test
+    void testFallback() {
+        // The lex basis {y^2 - 3, x^2 - 2} is not in shape position, the minimal polynomial of y has degree 2 < 4
+        var polynomials = galoisFieldSystem(new String[]{"x", "y"}, "x^2 - 2", "y^2 - 3");
+        var basis = reducedBasis(polynomials);
+        var expected = FGLMAlgorithm.compute(basis);
+
+        assertNull(SparseFGLMAlgorithm.computeInShapePosition(basis));
+        assertSameBasis(expected, SparseFGLMAlgorithm.compute(basis));
+
+        // The lex basis of Katsura-3 modulo 32003 has two polynomials in the two smallest indeterminates
+        var katsuraBasis = GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                F4Algorithm.compute(KatsuraGenerator.get(3, new GrevlexOrdering<>()))
+        );
+        assertNull(SparseFGLMAlgorithm.computeInShapePosition(katsuraBasis));
+        assertSameBasis(FGLMAlgorithm.compute(katsuraBasis), SparseFGLMAlgorithm.compute(katsuraBasis));
+    }
+
+    @Test
+    void testLimits() {
+        var basis = GrobnerBasisAlgorithms.reduceGrobnerBasis(
+                F4Algorithm.compute(KatsuraGenerator.get(4, new GrevlexOrdering<>()))
+        );
+        assertSameBasis(FGLMAlgorithm.compute(basis), SparseFGLMAlgorithm.compute(basis, ComputationContext.unbounded()));
+
+        // The multiplication matrix has a row per standard monomial, 16 for Katsura-4
+        var matrixRows = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> SparseFGLMAlgorithm.compute(basis, ComputationContext.unbounded().withMaxMatrixRows(8))
+        );
+        assertEquals(ComputationLimit.MATRIX_ROWS, matrixRows.limit());
+
+        var token = new CancellationToken();
+        token.cancel();
+        var cancelled = assertThrows(
+                ComputationLimitExceededException.class,
+                () -> SparseFGLMAlgorithm.compute(basis, ComputationContext.unbounded().withCancellationToken(token))
+        );
+        assertEquals(ComputationLimit.CANCELLED, cancelled.limit());
+    }
+}
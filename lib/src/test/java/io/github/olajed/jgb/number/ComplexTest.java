@@ -339,6 +339,14 @@ class ComplexTest {
         assertNotEquals(c5, c6); // Different sign zeros should not be equal
     }
 
+    @Test
+    void testIsZero_signed_zeros() {
+        assertTrue(Complex.zero.isZero());
+        assertTrue(new Complex(-0.0, 0.0).isZero());
+        assertTrue(new Complex(0.0, -0.0).isZero());
+        assertFalse(new Complex(0.0, 1e-300).isZero());
+    }
+
     @Test
     void testHashCode_consistency() {
         var c = new Complex(2.0, 3.0);
@@ -3,6 +3,8 @@ package io.github.olajed.jgb.number;
 import io.github.olajed.jgb.enums.NumericType;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class NumericUtilsTest {
@@ -132,6 +134,14 @@ class NumericUtilsTest {
         assertEquals(new GaloisFieldElement(5, 7), result);
     }
 
+    @Test
+    void tryAssign_bigRationalIntegerToGaloisFieldElement() {
+        var rational = Rational.of(BigInteger.TEN.pow(20).add(BigInteger.valueOf(3)), BigInteger.ONE);
+        var result = (GaloisFieldElement) NumericUtils.tryAssign(rational, NumericType.GaloisField, 7);
+        // 10^20 = 2 mod 7
+        assertEquals(new GaloisFieldElement(5, 7), result);
+    }
+
     @Test
     void tryAssign_rationalFractionToGaloisFieldElement_shouldThrow() {
         var rational = new Rational(3, 4);
@@ -234,6 +244,13 @@ class NumericUtilsTest {
         assertEquals(new Real(largInteger), NumericUtils.tryAssign(rational, NumericType.Real, 0));
     }
 
+    @Test
+    void tryAssign_realBeyondIntToRational() {
+        var real = new Real(1e18);
+        var result = (Rational) NumericUtils.tryAssign(real, NumericType.Rational, 0);
+        assertEquals(new Rational(1_000_000_000_000_000_000L), result);
+    }
+
     @Test
     void tryAssign_fractionalValues() {
         var rationalFraction = new Rational(3, 4);
@@ -0,0 +1,78 @@
+package io.github.olajed.jgb.number;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimeFieldTest {
+    @Test
+    void of_cachesFields() {
+        assertSame(PrimeField.of(7), PrimeField.of(7));
+        assertNotSame(PrimeField.of(7), PrimeField.of(11));
+    }
+
+    @Test
+    void of_nonPrimeModulus_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> PrimeField.of(4));
+        assertThrows(IllegalArgumentException.class, () -> PrimeField.of(1));
+    }
+
+    @Test
+    void oneAndZero_areCached() {
+        var field = PrimeField.of(7);
+        assertSame(field.zero(), field.zero());
+        assertSame(field.one(), new GaloisFieldElement(3, 7).one());
+        assertSame(field.zero(), new GaloisFieldElement(3, 7).zero());
+    }
+
+    @Test
+    void element_smallFieldsAreFlyweights() {
+        var a = new GaloisFieldElement(3, 7);
+        var b = new GaloisFieldElement(4, 7);
+        assertSame(a.add(b), a.field().zero());
+        assertSame(a.multiply(b), a.multiply(b));
+    }
+
+    @Test
+    void reduce_matchesRemainder() {
+        var random = new Random(42);
+        for (var modulus : new int[]{2, 3, 65521, 65537, 1_000_000_007, 2_147_483_647}) {
+            var field = PrimeField.of(modulus);
+            for (var i = 0; i < 10_000; i++) {
+                var value = random.nextLong() >>> 2;
+                assertEquals(value % modulus, field.reduce(value));
+            }
+        }
+    }
+
+    @Test
+    void multiply_largeModulusDoesNotOverflow() {
+        var field = PrimeField.of(2_147_483_647);
+        var a = 2_147_483_646;
+        assertEquals(1, field.multiply(a, a));
+        assertEquals(1, ((GaloisFieldElement) new GaloisFieldElement(a, 2_147_483_647)
+                .multiply(new GaloisFieldElement(a, 2_147_483_647))).get());
+    }
+
+    @Test
+    void inverse() {
+        var field = PrimeField.of(65521);
+        for (var a = 1; a < 1000; a++) {
+            assertEquals(1, field.multiply(a, field.inverse(a)));
+        }
+
+        assertThrows(ArithmeticException.class, () -> field.inverse(0));
+    }
+
+    @Test
+    void addSubtractNegate() {
+        var field = PrimeField.of(7);
+        assertEquals(2, field.add(5, 4));
+        assertEquals(5, field.subtract(2, 4));
+        assertEquals(0, field.negate(0));
+        assertEquals(3, field.negate(4));
+        assertEquals(4, field.residue(-3));
+    }
+}
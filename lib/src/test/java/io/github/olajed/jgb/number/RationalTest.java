@@ -2,6 +2,8 @@ package io.github.olajed.jgb.number;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class RationalTest {
@@ -516,4 +518,77 @@ class RationalTest {
         var result = (Rational) r1.add(r2).subtract(r3);
         assertEquals(new Rational(2, 3), result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void of_bigIntegers() {
+        assertEquals(new Rational(-2, 3), Rational.of(BigInteger.valueOf(4), BigInteger.valueOf(-6)));
+        assertEquals(Rational.ZERO, Rational.of(BigInteger.ZERO, BigInteger.valueOf(7)));
+    }
+
+    @Test
+    void numeratorDenominator_signOnNumerator() {
+        var r = new Rational(3, -4);
+        assertEquals(BigInteger.valueOf(-3), r.numerator());
+        assertEquals(BigInteger.valueOf(4), r.denominator());
+
+        var s = new Rational(-6, -8);
+        assertEquals(BigInteger.valueOf(3), s.numerator());
+        assertEquals(BigInteger.valueOf(4), s.denominator());
+    }
+
+    @Test
+    void arithmetic_beyondLongRange() {
+        var big = new Rational(Long.MAX_VALUE, 3);
+        var square = (Rational) big.multiply(big);
+        var expectedNumerator = BigInteger.valueOf(Long.MAX_VALUE).pow(2);
+        assertEquals(expectedNumerator, square.numerator());
+        assertEquals(BigInteger.valueOf(9), square.denominator());
+
+        // Dividing back lands in the primitive range again
+        var back = (Rational) square.divide(big);
+        assertEquals(big, back);
+        assertEquals(big.hashCode(), back.hashCode());
+    }
+
+    @Test
+    void add_overflowFallsBackToBigInteger() {
+        var r = new Rational(Long.MAX_VALUE);
+        var sum = r.add(1);
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), sum.numerator());
+        assertEquals(r, sum.subtract(1));
+        assertEquals(Rational.ZERO, sum.subtract(sum));
+    }
+
+    @Test
+    void longMinValue() {
+        var r = new Rational(Long.MIN_VALUE, 2);
+        assertEquals(new Rational(Long.MIN_VALUE / 2), r);
+
+        var negated = new Rational(Long.MIN_VALUE).negate();
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE).negate(), negated.numerator());
+        assertEquals(Rational.ONE, negated.add(Long.MIN_VALUE + 1));
+    }
+
+    @Test
+    void bigValues_equalityAndString() {
+        var numerator = BigInteger.TEN.pow(30);
+        var r1 = Rational.of(numerator, BigInteger.valueOf(7));
+        var r2 = Rational.of(numerator.multiply(BigInteger.TWO), BigInteger.valueOf(14));
+        assertEquals(r1, r2);
+        assertEquals(r1.hashCode(), r2.hashCode());
+        assertEquals(numerator + " / 7", r1.toString());
+        assertEquals(1e30 / 7, r1.get(), 1e15);
+        var inverse = r1.negate().inverse();
+        assertEquals(BigInteger.valueOf(-7), inverse.numerator());
+        assertEquals(numerator, inverse.denominator());
+    }
+
+    @Test
+    void gcd() {
+        assertEquals(new Rational(2, 9), new Rational(2, 3).gcd(new Rational(-4, 9)));
+        assertEquals(new Rational(2), new Rational(-6).gcd(new Rational(4)));
+        assertEquals(new Rational(3, 2), Rational.ZERO.gcd(new Rational(-3, 2)));
+        var big = Rational.of(BigInteger.TEN.pow(30), BigInteger.ONE);
+        assertEquals(Rational.of(BigInteger.TEN.pow(20), BigInteger.ONE), big.gcd(Rational.of(BigInteger.TEN.pow(20), BigInteger.ONE)));
+    }
+}
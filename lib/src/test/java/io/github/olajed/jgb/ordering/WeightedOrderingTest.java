@@ -74,6 +74,25 @@ public class WeightedOrderingTest {
         assertThrows(IllegalArgumentException.class, () -> ordering.compare(m1, m2));
     }
 
+    @Test
+    void testLargeWeights() {
+        // 2 * (2^31 - 1) does not fit in an int, the weighted degrees are compared in long
+        WeightedOrdering<Real> ordering = new WeightedOrdering<>(new int[]{Integer.MAX_VALUE, 1});
+        Monomial<Real> m1 = new DenseMonomial<>(new int[]{2, 0}, new Real(1.0));
+        Monomial<Real> m2 = new DenseMonomial<>(new int[]{0, 1}, new Real(1.0));
+        assertTrue(ordering.compare(m1, m2) > 0);
+        assertTrue(ordering.compare(m2, m1) < 0);
+    }
+
+    @Test
+    void testWeightedDegreeOverflowThrows() {
+        int max = Integer.MAX_VALUE;
+        WeightedOrdering<Real> ordering = new WeightedOrdering<>(new int[]{max, max, max});
+        Monomial<Real> m1 = new DenseMonomial<>(new int[]{max, max, max}, new Real(1.0));
+        Monomial<Real> m2 = new DenseMonomial<>(new int[]{0, 0, 1}, new Real(1.0));
+        assertThrows(ArithmeticException.class, () -> ordering.compare(m1, m2));
+    }
+
     @Test
     void testOrderId() {
         WeightedOrdering<Real> ordering = new WeightedOrdering<>(new int[]{1, 1});
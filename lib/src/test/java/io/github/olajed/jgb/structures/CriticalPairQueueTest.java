@@ -0,0 +1,121 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.enums.PairSelectionStrategy;
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.GrlexOrdering;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CriticalPairQueueTest {
+    private final MonomialOrdering<Rational> ordering = new GrlexOrdering<>();
+
+    private Polynomial<Rational> polynomial(int[][] exponents, int[] coefficients) {
+        var monomials = new ArrayList<Monomial<Rational>>();
+        for (var i = 0; i < exponents.length; i++) {
+            monomials.add(new DenseMonomial<>(exponents[i], new Rational(coefficients[i])));
+        }
+
+        return new Polynomial<>(monomials, 3, ordering);
+    }
+
+    @Test
+    void testProductCriterion() {
+        var queue = new CriticalPairQueue<>(PairSelectionStrategy.FIRST, ordering);
+        queue.add(polynomial(new int[][]{{2, 0, 0}, {0, 0, 1}}, new int[]{1, 1}));
+        queue.add(polynomial(new int[][]{{0, 3, 0}, {0, 0, 1}}, new int[]{1, 1}));
+
+        // x^2 and y^3 are coprime
+        assertTrue(queue.isEmpty());
+        assertEquals(2, queue.basis().size());
+    }
+
+    @Test
+    void testChainCriterion() {
+        var queue = new CriticalPairQueue<>(PairSelectionStrategy.FIRST, ordering);
+        queue.add(polynomial(new int[][]{{1, 1, 0}, {0, 0, 1}}, new int[]{1, 1}));
+        queue.add(polynomial(new int[][]{{1, 0, 1}, {0, 0, 0}}, new int[]{1, 1}));
+        assertEquals(1, queue.size());
+
+        // lcm(xy, xz) = xyz is a strict multiple of lcm(xy, x) and lcm(xz, x)
+        var index = queue.add(polynomial(new int[][]{{1, 0, 0}, {0, 0, 0}}, new int[]{1, 2}));
+        assertEquals(2, index);
+        assertEquals(2, queue.size());
+
+        var first = queue.poll();
+        var second = queue.poll();
+        assertEquals(2, first.second());
+        assertEquals(2, second.second());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testSelectionOrder() {
+        var queue = new CriticalPairQueue<>(PairSelectionStrategy.DEGREE, ordering);
+        queue.add(polynomial(new int[][]{{3, 1, 0}, {0, 0, 0}}, new int[]{1, 1}));
+        queue.add(polynomial(new int[][]{{0, 1, 1}, {0, 0, 0}}, new int[]{1, 1}));
+        queue.add(polynomial(new int[][]{{1, 0, 1}, {0, 0, 0}}, new int[]{1, 1}));
+
+        var previousDegree = -1;
+        while (!queue.isEmpty()) {
+            var pair = queue.poll();
+            assertTrue(pair.lcm().degree() >= previousDegree);
+            assertEquals(pair.lcm().degree(), queue.get(pair.first()).leadingMonomial().lcmDegree(queue.get(pair.second()).leadingMonomial()));
+            previousDegree = pair.lcm().degree();
+        }
+    }
+
+    @Test
+    void testPollBatch() {
+        var queue = new CriticalPairQueue<>(PairSelectionStrategy.DEGREE, ordering);
+        queue.add(polynomial(new int[][]{{2, 0, 0}, {0, 0, 1}}, new int[]{1, 1}));
+        queue.add(polynomial(new int[][]{{1, 1, 0}, {0, 0, 1}}, new int[]{1, 2}));
+        queue.add(polynomial(new int[][]{{0, 2, 0}, {0, 0, 1}}, new int[]{1, 3}));
+        queue.add(polynomial(new int[][]{{1, 0, 3}, {0, 0, 0}}, new int[]{1, 1}));
+
+        // lcm(x^2, xy) and lcm(xy, y^2) have degree 3, the pairs of x^2 and xy with xz^3 have degree 5
+        var batch = queue.pollBatch();
+        assertEquals(2, batch.size());
+        assertTrue(batch.stream().allMatch(pair -> pair.lcm().degree() == 3));
+        batch = queue.pollBatch();
+        assertEquals(2, batch.size());
+        assertTrue(batch.stream().allMatch(pair -> pair.lcm().degree() == 5));
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.pollBatch().isEmpty());
+    }
+
+    @Test
+    void testPollBatchBySugar() {
+        var lex = new LexOrdering<Rational>();
+        var queue = new CriticalPairQueue<>(PairSelectionStrategy.NORMAL, lex);
+        queue.add(polynomial(new int[][]{{2, 0, 0}, {0, 0, 1}}, new int[]{1, 1}).changeOrdering(lex));
+        queue.add(polynomial(new int[][]{{1, 1, 0}, {0, 0, 1}}, new int[]{1, 2}).changeOrdering(lex));
+        queue.add(polynomial(new int[][]{{0, 2, 0}, {0, 0, 1}}, new int[]{1, 3}).changeOrdering(lex), 4);
+        queue.add(polynomial(new int[][]{{1, 0, 3}, {0, 0, 0}}, new int[]{1, 1}).changeOrdering(lex));
+
+        // xyz^3, xy^2 and x^2z^3 come first under lex, their lcms have degrees 5, 3 and 5 but the same sugar
+        var batch = queue.pollBatch();
+        assertEquals(3, batch.size());
+        assertTrue(batch.stream().allMatch(pair -> pair.sugar() == 5));
+        assertEquals(3, batch.get(1).lcm().degree());
+        batch = queue.pollBatch();
+        assertEquals(1, batch.size());
+        assertEquals(3, batch.getFirst().sugar());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testSugar() {
+        var queue = new CriticalPairQueue<>(PairSelectionStrategy.SUGAR, ordering);
+        queue.add(polynomial(new int[][]{{1, 1, 0}, {0, 0, 0}}, new int[]{1, 1}));
+        queue.add(polynomial(new int[][]{{0, 1, 0}, {0, 0, 0}}, new int[]{1, 1}), 4);
+
+        var pair = queue.poll();
+        // max(2 - 2, 4 - 1) + deg(xy)
+        assertEquals(5, pair.sugar());
+    }
+}
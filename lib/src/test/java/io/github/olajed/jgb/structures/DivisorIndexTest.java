@@ -0,0 +1,113 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Rational;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DivisorIndexTest {
+    private Monomial<Rational> monomial(int... exponents) {
+        return new DenseMonomial<>(exponents, Rational.ONE);
+    }
+
+    @Test
+    void testFindDivisor() {
+        var index = new DivisorIndex<Rational, String>(3);
+        index.add(monomial(2, 0, 1), "a");
+        index.add(monomial(0, 1, 0), "b");
+
+        assertEquals("a", index.find(monomial(3, 0, 1)));
+        assertEquals("b", index.find(monomial(1, 2, 0)));
+        assertNull(index.find(monomial(1, 0, 5)));
+        assertTrue(index.hasDivisor(monomial(2, 1, 1)));
+        assertFalse(index.hasDivisor(monomial(0, 0, 3)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testFindReturnsEarliestInserted() {
+        var index = new DivisorIndex<Rational, String>(2);
+        index.add(monomial(1, 1), "first");
+        index.add(monomial(1, 0), "second");
+        index.add(monomial(0, 0), "third");
+
+        assertEquals("first", index.find(monomial(2, 2)));
+        assertEquals("second", index.find(monomial(2, 0)));
+        assertEquals("third", index.find(monomial(0, 3)));
+    }
+
+    @Test
+    void testFindWithFilter() {
+        var index = new DivisorIndex<Rational, Integer>(2);
+        index.add(monomial(1, 0), 0);
+        index.add(monomial(1, 0), 1);
+
+        assertEquals(Integer.valueOf(1), index.find(monomial(1, 0), value -> value != 0));
+        assertNull(index.find(monomial(1, 0), value -> value > 1));
+    }
+
+    @Test
+    void testRemove() {
+        var index = new DivisorIndex<Rational, String>(2);
+        index.add(monomial(1, 0), "a");
+        index.add(monomial(0, 1), "b");
+
+        assertTrue(index.remove(monomial(1, 0), "a"));
+        assertFalse(index.remove(monomial(1, 0), "a"));
+        assertFalse(index.remove(monomial(3, 3), "b"));
+        assertNull(index.find(monomial(2, 0)));
+        assertEquals("b", index.find(monomial(2, 1)));
+        assertEquals(1, index.size());
+
+        assertTrue(index.remove(monomial(0, 1), "b"));
+        assertTrue(index.isEmpty());
+        assertFalse(index.hasDivisor(monomial(5, 5)));
+    }
+
+    @Test
+    void testHasDivisorAfterRemove() {
+        var index = new DivisorIndex<Rational, String>(2);
+        index.add(monomial(1, 1), "a");
+        index.add(monomial(1, 1), "b");
+        index.add(monomial(0, 2), "c");
+
+        assertTrue(index.remove(monomial(1, 1), "a"));
+        assertTrue(index.hasDivisor(monomial(2, 1)));
+        assertTrue(index.remove(monomial(1, 1), "b"));
+        assertFalse(index.hasDivisor(monomial(2, 1)));
+        assertTrue(index.hasDivisor(monomial(2, 2)));
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        var index = new DivisorIndex<Rational, Integer>(4);
+        var indexed = new ArrayList<Monomial<Rational>>();
+        for (var i = 0; i < 50; i++) {
+            var candidate = monomial(i % 3, (i * 7) % 4, (i * 5) % 3, (i * 11) % 5);
+            indexed.add(candidate);
+            index.add(candidate, i);
+        }
+
+        for (var a = 0; a < 4; a++) {
+            for (var b = 0; b < 4; b++) {
+                for (var c = 0; c < 3; c++) {
+                    for (var d = 0; d < 5; d++) {
+                        var searched = monomial(a, b, c, d);
+                        Integer expected = null;
+                        for (var i = 0; i < indexed.size(); i++) {
+                            if (indexed.get(i).divides(searched)) {
+                                expected = i;
+                                break;
+                            }
+                        }
+
+                        assertEquals(expected, index.find(searched));
+                        assertEquals(expected != null, index.hasDivisor(searched));
+                    }
+                }
+            }
+        }
+    }
+}
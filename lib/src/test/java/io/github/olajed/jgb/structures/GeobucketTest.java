@@ -0,0 +1,78 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.GrlexOrdering;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeobucketTest {
+    private final MonomialOrdering<Rational> ordering = new GrlexOrdering<>();
+
+    private Polynomial<Rational> polynomial(int[][] exponents, int[] coefficients) {
+        var monomials = new ArrayList<Monomial<Rational>>();
+        for (var i = 0; i < exponents.length; i++) {
+            monomials.add(new DenseMonomial<>(exponents[i], new Rational(coefficients[i])));
+        }
+
+        return new Polynomial<>(monomials, 2, ordering);
+    }
+
+    @Test
+    void testPopLeadingTermInDecreasingOrder() {
+        var bucket = new Geobucket<>(ordering);
+        bucket.add(polynomial(new int[][]{{2, 0}, {0, 1}}, new int[]{1, 2}));
+        bucket.add(polynomial(new int[][]{{1, 1}, {0, 0}}, new int[]{3, 4}));
+
+        var terms = new ArrayList<Monomial<Rational>>();
+        Monomial<Rational> term;
+        while ((term = bucket.popLeadingTerm()) != null) {
+            terms.add(term);
+        }
+
+        assertEquals(4, terms.size());
+        for (var i = 1; i < terms.size(); i++) {
+            assertTrue(ordering.compare(terms.get(i - 1), terms.get(i)) > 0);
+        }
+
+        assertTrue(bucket.isEmpty());
+    }
+
+    @Test
+    void testCombinesEqualMonomials() {
+        var bucket = new Geobucket<>(ordering);
+        bucket.add(polynomial(new int[][]{{2, 0}, {0, 1}}, new int[]{1, 2}));
+        bucket.add(polynomial(new int[][]{{2, 0}, {0, 1}}, new int[]{-1, 3}));
+
+        var term = bucket.popLeadingTerm();
+        assertTrue(term.exponentsEqual(new DenseMonomial<>(new int[]{0, 1}, Rational.ONE)));
+        assertEquals(new Rational(5), term.coefficient());
+        assertNull(bucket.popLeadingTerm());
+    }
+
+    @Test
+    void testManyAdditions() {
+        var bucket = new Geobucket<>(ordering);
+        var expected = new Polynomial<>(2, ordering);
+        for (var i = 0; i < 100; i++) {
+            var polynomial = polynomial(
+                    new int[][]{{i % 7, i % 5}, {i % 3, 0}, {0, 0}},
+                    new int[]{i + 1, -i, 1}
+            );
+            bucket.add(polynomial);
+            expected = expected.add(polynomial);
+        }
+
+        List<Monomial<Rational>> terms = new ArrayList<>();
+        Monomial<Rational> term;
+        while ((term = bucket.popLeadingTerm()) != null) {
+            terms.add(term);
+        }
+
+        assertEquals(expected, new Polynomial<>(terms, 2, ordering));
+    }
+}
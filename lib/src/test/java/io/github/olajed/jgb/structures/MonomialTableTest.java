@@ -0,0 +1,117 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.GrlexOrdering;
+import io.github.olajed.jgb.ordering.LexOrdering;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonomialTableTest {
+    private Monomial<Rational> monomial(int... exponents) {
+        return new DenseMonomial<>(exponents, Rational.ONE);
+    }
+
+    @Test
+    void testInternIgnoresCoefficient() {
+        var table = new MonomialTable<>(2, new LexOrdering<Rational>());
+        var id = table.intern(monomial(1, 2));
+
+        assertEquals(id, table.intern(new DenseMonomial<>(new int[]{1, 2}, new Rational(5))));
+        assertEquals(id, table.intern(new SparseMonomial<>(new int[]{1, 2}, Rational.ONE)));
+        assertEquals(1, table.size());
+        assertEquals(Rational.ONE, table.monomial(id).coefficient());
+        assertEquals(3, table.degree(id));
+        assertEquals(2, table.exponent(id, 1));
+    }
+
+    @Test
+    void testFind() {
+        var table = new MonomialTable<>(2, new LexOrdering<Rational>());
+        var id = table.intern(monomial(0, 1));
+
+        assertEquals(id, table.find(monomial(0, 1)));
+        assertEquals(-1, table.find(monomial(1, 0)));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void testIdsSurviveGrowth() {
+        var table = new MonomialTable<>(3, new GrlexOrdering<Rational>());
+        var monomials = new ArrayList<Monomial<Rational>>();
+        for (var i = 0; i < 20; i++) {
+            for (var j = 0; j < 20; j++) {
+                monomials.add(monomial(i, j, i + j));
+            }
+        }
+
+        for (var i = 0; i < monomials.size(); i++) {
+            assertEquals(i, table.intern(monomials.get(i)));
+        }
+
+        for (var i = 0; i < monomials.size(); i++) {
+            assertEquals(i, table.find(monomials.get(i)));
+            assertTrue(table.monomial(i).exponentsEqual(monomials.get(i)));
+        }
+    }
+
+    @Test
+    void testMultiplyAndDivide() {
+        var table = new MonomialTable<>(3, new LexOrdering<Rational>());
+        var x = table.intern(monomial(1, 0, 0));
+        var yz = table.intern(monomial(0, 1, 2));
+
+        var product = table.multiply(x, yz);
+        assertTrue(table.monomial(product).exponentsEqual(monomial(1, 1, 2)));
+        assertEquals(product, table.multiply(yz, x));
+        assertEquals(3, table.size());
+        assertEquals(yz, table.divide(product, x));
+    }
+
+    @Test
+    void testDivides() {
+        var table = new MonomialTable<>(3, new LexOrdering<Rational>());
+        var a = table.intern(monomial(1, 0, 2));
+        var b = table.intern(monomial(2, 1, 2));
+        var c = table.intern(monomial(0, 3, 0));
+
+        assertTrue(table.divides(a, b));
+        assertFalse(table.divides(b, a));
+        assertFalse(table.divides(c, b));
+        assertTrue(table.divides(a, a));
+    }
+
+    @Test
+    void testRanksFollowOrdering() {
+        var ordering = new GrlexOrdering<Rational>();
+        var table = new MonomialTable<>(2, ordering);
+        var first = new int[]{
+                table.intern(monomial(2, 0)),
+                table.intern(monomial(0, 1)),
+                table.intern(monomial(1, 1))
+        };
+        table.sortDescending(first);
+        assertArrayEquals(new int[]{0, 2, 1}, first);
+
+        // Monomials added after a ranking are merged with the ranked ones
+        var all = new int[]{
+                0, 1, 2,
+                table.intern(monomial(0, 0)),
+                table.intern(monomial(3, 0)),
+                table.intern(monomial(0, 2))
+        };
+        table.sortDescending(all);
+        var expected = Arrays.stream(all)
+                .boxed()
+                .sorted((x, y) -> ordering.compare(table.monomial(y), table.monomial(x)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertArrayEquals(expected, all);
+        for (var i = 0; i + 1 < all.length; i++) {
+            assertTrue(table.compare(all[i], all[i + 1]) > 0);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Real;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedMonomialTest {
+    @Test
+    void testDegree() {
+        Monomial<Real> m = new PackedMonomial<>(new int[]{2, 1}, new Real(3.0));
+        assertEquals(3, m.degree());
+    }
+
+    @Test
+    void testCoefficient() {
+        Monomial<Real> m = new PackedMonomial<>(new int[]{1, 0}, new Real(5.0));
+        assertEquals(new Real(5.0), m.coefficient());
+    }
+
+    @Test
+    void testFieldSize() {
+        Monomial<Real> m = new PackedMonomial<>(new int[]{3, 4, 5}, new Real(2.0));
+        assertEquals(3, m.fieldSize());
+    }
+
+    @Test
+    void testGetExponent() {
+        Monomial<Real> m = new PackedMonomial<>(new int[]{2, 0, 1}, new Real(7.0));
+        assertEquals(2, m.getExponent(0));
+        assertEquals(0, m.getExponent(1));
+        assertEquals(1, m.getExponent(2));
+    }
+
+    @Test
+    void testMultiplyMonomial() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{1, 0}, new Real(2.0));
+        Monomial<Real> b = new PackedMonomial<>(new int[]{0, 2}, new Real(3.0));
+        Monomial<Real> result = a.multiply(b);
+
+        assertEquals(new Real(6.0), result.coefficient());
+
+        int[] expected = {1, 2};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], result.getExponent(i));
+        }
+    }
+
+    @Test
+    void testMultiplyScalar() {
+        Monomial<Real> m = new PackedMonomial<>(new int[]{1, 1}, new Real(2.0));
+        Monomial<Real> result = m.multiply(new Real(5.0));
+
+        assertEquals(new Real(10.0), result.coefficient());
+
+        int[] expected = {1, 1};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], result.getExponent(i));
+        }
+    }
+
+    @Test
+    void testDivide() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{3, 2}, new Real(6.0));
+        Monomial<Real> b = new PackedMonomial<>(new int[]{1, 1}, new Real(2.0));
+        Monomial<Real> result = a.divide(b);
+
+        assertEquals(new Real(3.0), result.coefficient());
+
+        int[] expected = {2, 1};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], result.getExponent(i));
+        }
+    }
+
+    @Test
+    void testExponentsEqual() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{1, 1}, new Real(2.0));
+        Monomial<Real> b = new PackedMonomial<>(new int[]{1, 1}, new Real(5.0));
+        assertTrue(a.exponentsEqual(b));
+    }
+
+    @Test
+    void testDisjointWith() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{1, 0}, new Real(2.0));
+        Monomial<Real> b = new PackedMonomial<>(new int[]{0, 2}, new Real(3.0));
+        assertTrue(a.disjointWith(b));
+    }
+
+    @Test
+    void testDivides() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{1, 0, 2}, new Real(2.0));
+        Monomial<Real> b = new PackedMonomial<>(new int[]{3, 1, 2}, new Real(5.0));
+        Monomial<Real> c = new PackedMonomial<>(new int[]{0, 4, 1}, new Real(1.0));
+        assertTrue(a.divides(b));
+        assertTrue(a.divides(a));
+        assertFalse(b.divides(a));
+        assertFalse(a.divides(c));
+    }
+
+    @Test
+    void testLcmDegree() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{2, 0, 1}, new Real(2.0));
+        Monomial<Real> b = new PackedMonomial<>(new int[]{1, 3, 0}, new Real(3.0));
+        assertEquals(6, a.lcmDegree(b));
+        assertEquals(3, a.lcmDegree(a));
+    }
+
+    @Test
+    void testLcmDivides() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{2, 0, 1}, new Real(2.0));
+        Monomial<Real> b = new PackedMonomial<>(new int[]{1, 1, 0}, new Real(3.0));
+        Monomial<Real> c = new PackedMonomial<>(new int[]{0, 2, 1}, new Real(4.0));
+        // lcm(a, b) = x^2 y z, lcm(a, c) = x^2 y^2 z
+        assertTrue(a.lcmDivides(b, c));
+        assertFalse(a.lcmDivides(c, b));
+        assertTrue(a.lcmDivides(a, b));
+    }
+
+    @Test
+    void testIsOneAndZero() {
+        Monomial<Real> zero = new PackedMonomial<>(new int[]{0, 0}, Real.ZERO);
+        Monomial<Real> one  = new PackedMonomial<>(new int[]{0, 0}, Real.ONE);
+        assertTrue(zero.isZero());
+        assertTrue(one.isOne());
+    }
+
+    @Test
+    void testAccumulateWithIntegers() {
+        Monomial<Real> m = new PackedMonomial<>(new int[]{2, 3}, new Real(1.0));
+        int result = m.accumulate(new int[]{10, 20},
+                (exp, val) -> exp * val,
+                0,
+                Integer::sum
+        );
+
+        assertEquals(80, result);
+    }
+
+    @Test
+    void testDivisors() {
+        Monomial<Real> m = new PackedMonomial<>(new int[]{2, 1}, new Real(1.0));
+
+        List<Monomial<Real>> divisors = new ArrayList<>();
+        for (Monomial<Real> d : m.divisors()) {
+            divisors.add(d);
+        }
+
+        assertTrue(divisors.stream().anyMatch(d -> d.exponentsEqual(
+                new PackedMonomial<>(new int[]{1, 1}, Real.ONE)
+        )));
+    }
+
+    @Test
+    void testDivideNotDivisible() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{3, 0}, new Real(6.0));
+        Monomial<Real> b = new PackedMonomial<>(new int[]{1, 1}, new Real(2.0));
+        assertTrue(a.divide(b).isZero());
+    }
+
+    @Test
+    void testExponentsAcrossWords() {
+        var exponents = new int[12];
+        exponents[0] = 5;
+        exponents[7] = 127;
+        exponents[8] = 1;
+        exponents[11] = 3;
+        Monomial<Real> m = new PackedMonomial<>(exponents, Real.ONE);
+
+        assertEquals(136, m.degree());
+        for (int i = 0; i < exponents.length; i++) {
+            assertEquals(exponents[i], m.getExponent(i));
+        }
+    }
+
+    @Test
+    void testLcm() {
+        var a = new PackedMonomial<>(new int[]{3, 0, 2, 0, 0, 0, 0, 0, 4}, new Real(2.0));
+        var b = new PackedMonomial<>(new int[]{1, 5, 2, 0, 0, 0, 0, 0, 7}, new Real(3.0));
+        var lcm = a.lcm(b);
+
+        assertTrue(lcm.exponentsEqual(new PackedMonomial<>(new int[]{3, 5, 2, 0, 0, 0, 0, 0, 7}, Real.ONE)));
+        assertEquals(17, lcm.degree());
+        assertEquals(Real.ONE, lcm.coefficient());
+    }
+
+    @Test
+    void testCompareLex() {
+        var a = new PackedMonomial<>(new int[]{1, 0, 0}, Real.ONE);
+        var b = new PackedMonomial<>(new int[]{0, 9, 9}, Real.ONE);
+        var c = new PackedMonomial<>(new int[]{0, 9, 9}, new Real(4.0));
+
+        assertTrue(a.compareLex(b) > 0);
+        assertTrue(b.compareLex(a) < 0);
+        assertEquals(0, b.compareLex(c));
+    }
+
+    @Test
+    void testIsPowerOf() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{2, 0, 4}, Real.ONE);
+        Monomial<Real> b = new PackedMonomial<>(new int[]{1, 0, 2}, Real.ONE);
+        Monomial<Real> c = new PackedMonomial<>(new int[]{1, 1, 2}, Real.ONE);
+
+        assertTrue(a.isPowerOf(b));
+        assertFalse(a.isPowerOf(c));
+    }
+
+    @Test
+    void testWeightedDegree() {
+        Monomial<Real> m = new PackedMonomial<>(new int[]{2, 0, 1}, new Real(1.0));
+        assertEquals(27, m.weightedDegree(new int[]{10, 20, 7}));
+        assertEquals(2L * Integer.MAX_VALUE + 7, m.weightedDegree(new int[]{Integer.MAX_VALUE, 5, 7}));
+    }
+
+    @Test
+    void testMultiplyOverflow() {
+        Monomial<Real> a = new PackedMonomial<>(new int[]{100, 0}, Real.ONE);
+        Monomial<Real> b = new PackedMonomial<>(new int[]{28, 0}, Real.ONE);
+        assertThrows(ArithmeticException.class, () -> a.multiply(b));
+    }
+
+    @Test
+    void testInvalidConstruction() {
+        assertThrows(IllegalArgumentException.class, () -> new PackedMonomial<>(new int[17], Real.ONE));
+        assertThrows(IllegalArgumentException.class, () -> new PackedMonomial<>(new int[]{128}, Real.ONE));
+        assertThrows(IllegalArgumentException.class, () -> new PackedMonomial<>(new int[]{-1}, Real.ONE));
+    }
+}
@@ -10,6 +10,7 @@ import io.github.olajed.jgb.ordering.MonomialOrdering;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -142,4 +143,21 @@ class PolynomialRingTest {
         );
         assertEquals(parsed, f);
     }
+
+    @Test
+    void testParseLargeRationalCoefficients() {
+        Polynomial<Rational> parsed = rationalRing.parse("123456789012345678901234567890/7*a^2 + 3/4");
+        var expected = rationalRing.createPolynomial(
+                Arrays.asList(
+                        rationalRing.createMonomial(
+                                Rational.of(new BigInteger("123456789012345678901234567890"), BigInteger.valueOf(7)),
+                                Map.of("a", 2),
+                                MonomialType.DENSE
+                        ),
+                        rationalRing.createMonomial(new Rational(3, 4), Map.of("a", 0), MonomialType.DENSE)
+                ),
+                new GrevlexOrdering<>()
+        );
+        assertEquals(expected, parsed);
+    }
 }
@@ -0,0 +1,120 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.enums.ArithmeticMode;
+import io.github.olajed.jgb.number.GaloisFieldElement;
+import io.github.olajed.jgb.number.Real;
+import io.github.olajed.jgb.ordering.GrevlexOrdering;
+import io.github.olajed.jgb.ordering.MonomialOrdering;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseMacaulayMatrixTest {
+    private final MonomialOrdering<GaloisFieldElement> ordering = new GrevlexOrdering<>();
+
+    private Polynomial<GaloisFieldElement> polynomial(int[][] exponents, int[] coefficients) {
+        var monomials = new ArrayList<Monomial<GaloisFieldElement>>();
+        for (var i = 0; i < exponents.length; i++) {
+            monomials.add(new DenseMonomial<>(exponents[i], new GaloisFieldElement(coefficients[i], 7)));
+        }
+
+        return new Polynomial<>(monomials, 2, ordering);
+    }
+
+    private List<String> asStrings(List<Polynomial<GaloisFieldElement>> polynomials) {
+        var result = new ArrayList<String>();
+        for (var polynomial : polynomials) {
+            var builder = new StringBuilder();
+            for (var monomial : polynomial.monomials()) {
+                builder.append(monomial.coefficient()).append('*')
+                        .append(monomial.getExponent(0)).append(',')
+                        .append(monomial.getExponent(1)).append(' ');
+            }
+
+            result.add(builder.toString());
+        }
+
+        return result;
+    }
+
+    @Test
+    void testMatchesDenseReduction() {
+        var random = new Random(7);
+        for (var attempt = 0; attempt < 50; attempt++) {
+            var polynomials = new ArrayList<Polynomial<GaloisFieldElement>>();
+            for (var i = 0; i < 6; i++) {
+                var exponents = new int[4][];
+                var coefficients = new int[4];
+                for (var j = 0; j < 4; j++) {
+                    exponents[j] = new int[]{random.nextInt(3), random.nextInt(3)};
+                    coefficients[j] = 1 + random.nextInt(6);
+                }
+
+                var polynomial = polynomial(exponents, coefficients);
+                if (!polynomial.isZero()) {
+                    polynomials.add(polynomial);
+                }
+            }
+
+            var dense = new MacaulayMatrix<>(polynomials);
+            dense.rowEchelonReduction();
+            var sparse = new SparseMacaulayMatrix<>(polynomials);
+            sparse.rowEchelonReduction();
+
+            assertEquals(asStrings(dense.polynomials()), asStrings(sparse.polynomials()));
+        }
+    }
+
+    @Test
+    void testNewPolynomials() {
+        // x^2 + y, x^2 + 2y + 1, y + 3: the only new leading monomial after reduction is 1
+        var polynomials = List.of(
+                polynomial(new int[][]{{2, 0}, {0, 1}}, new int[]{1, 1}),
+                polynomial(new int[][]{{2, 0}, {0, 1}, {0, 0}}, new int[]{1, 2, 1}),
+                polynomial(new int[][]{{0, 1}, {0, 0}}, new int[]{1, 3})
+        );
+
+        var newPolynomials = new SparseMacaulayMatrix<>(polynomials).newPolynomials();
+        assertEquals(1, newPolynomials.size());
+        assertTrue(newPolynomials.getFirst().isOne());
+    }
+
+    @Test
+    void testFromPreprocessing() {
+        // x^2 + 3y + 1 and x*y + 2, the halves have multipliers with coefficients other than one
+        var f = polynomial(new int[][]{{0, 0}, {0, 1}, {2, 0}}, new int[]{1, 3, 1});
+        var g = polynomial(new int[][]{{0, 0}, {1, 1}}, new int[]{2, 1});
+        var halves = List.of(
+                new SymbolicPreprocessing.Row<>(new DenseMonomial<>(new int[]{0, 1}, new GaloisFieldElement(3, 7)), f),
+                new SymbolicPreprocessing.Row<>(new DenseMonomial<>(new int[]{1, 0}, new GaloisFieldElement(5, 7)), g)
+        );
+        var table = new MonomialTable<>(2, ordering);
+        var preprocessing = SymbolicPreprocessing.compute(halves, List.of(f, g), table);
+        var expanded = preprocessing.rows().stream().map(SymbolicPreprocessing.Row::expand).toList();
+        assertTrue(SparseMacaulayMatrix.isSupported(preprocessing));
+
+        var sparse = new SparseMacaulayMatrix<>(preprocessing, table);
+        sparse.rowEchelonReduction();
+        var expected = new SparseMacaulayMatrix<>(expanded, table);
+        expected.rowEchelonReduction();
+        assertEquals(asStrings(expected.polynomials()), asStrings(sparse.polynomials()));
+
+        var dense = new MacaulayMatrix<>(preprocessing, ArithmeticMode.FIELD, table);
+        dense.rowEchelonReduction();
+        assertEquals(asStrings(expected.polynomials()), asStrings(dense.polynomials()));
+    }
+
+    @Test
+    void testUnsupportedField() {
+        List<Polynomial<Real>> polynomials = List.of(
+                new Polynomial<>(new DenseMonomial<>(new int[]{1}, Real.ONE), new GrevlexOrdering<>())
+        );
+
+        assertFalse(SparseMacaulayMatrix.isSupported(polynomials));
+        assertThrows(IllegalArgumentException.class, () -> new SparseMacaulayMatrix<>(polynomials));
+    }
+}
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SparseMonomialTest {
@@ -91,6 +92,36 @@ class SparseMonomialTest {
         assertTrue(a.disjointWith(b));
     }
 
+    @Test
+    void testDivides() {
+        Monomial<Real> a = new SparseMonomial<>(new int[]{1, 0, 2}, new Real(2.0));
+        Monomial<Real> b = new SparseMonomial<>(new int[]{3, 1, 2}, new Real(5.0));
+        Monomial<Real> c = new SparseMonomial<>(new int[]{0, 4, 1}, new Real(1.0));
+        assertTrue(a.divides(b));
+        assertTrue(a.divides(a));
+        assertFalse(b.divides(a));
+        assertFalse(a.divides(c));
+    }
+
+    @Test
+    void testLcmDegree() {
+        Monomial<Real> a = new SparseMonomial<>(new int[]{2, 0, 1}, new Real(2.0));
+        Monomial<Real> b = new SparseMonomial<>(new int[]{1, 3, 0}, new Real(3.0));
+        assertEquals(6, a.lcmDegree(b));
+        assertEquals(3, a.lcmDegree(a));
+    }
+
+    @Test
+    void testLcmDivides() {
+        Monomial<Real> a = new SparseMonomial<>(new int[]{2, 0, 1}, new Real(2.0));
+        Monomial<Real> b = new SparseMonomial<>(new int[]{1, 1, 0}, new Real(3.0));
+        Monomial<Real> c = new SparseMonomial<>(new int[]{0, 2, 1}, new Real(4.0));
+        // lcm(a, b) = x^2 y z, lcm(a, c) = x^2 y^2 z
+        assertTrue(a.lcmDivides(b, c));
+        assertFalse(a.lcmDivides(c, b));
+        assertTrue(a.lcmDivides(a, b));
+    }
+
     @Test
     void testIsOneAndZero() {
         Monomial<Real> zero = new SparseMonomial<>(new int[]{0, 0}, Real.ZERO);
@@ -111,6 +142,13 @@ class SparseMonomialTest {
         assertEquals(80, result);
     }
 
+    @Test
+    void testWeightedDegree() {
+        Monomial<Real> m = new SparseMonomial<>(new int[]{2, 0, 1}, new Real(1.0));
+        assertEquals(27, m.weightedDegree(new int[]{10, 20, 7}));
+        assertEquals(2L * Integer.MAX_VALUE + 7, m.weightedDegree(new int[]{Integer.MAX_VALUE, 5, 7}));
+    }
+
     @Test
     void testDivisors() {
         Monomial<Real> m = new SparseMonomial<>(new int[]{2, 1}, new Real(1.0));
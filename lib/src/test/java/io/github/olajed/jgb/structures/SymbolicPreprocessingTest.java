@@ -0,0 +1,81 @@
+package io.github.olajed.jgb.structures;
+
+import io.github.olajed.jgb.number.Rational;
+import io.github.olajed.jgb.ordering.GrlexOrdering;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolicPreprocessingTest {
+    private final GrlexOrdering<Rational> ordering = new GrlexOrdering<>();
+
+    private Monomial<Rational> monomial(int... exponents) {
+        return new DenseMonomial<>(exponents, Rational.ONE);
+    }
+
+    private Polynomial<Rational> polynomial(List<Monomial<Rational>> monomials) {
+        return new Polynomial<>(monomials, 2, ordering);
+    }
+
+    @Test
+    void testReducersForEveryDivisibleColumn() {
+        var table = new MonomialTable<>(2, ordering);
+        // x^2 + y and x*y + 1
+        var f = polynomial(List.of(monomial(2, 0), monomial(0, 1)));
+        var g = polynomial(List.of(monomial(1, 1), monomial(0, 0)));
+        // y * f = x^2*y + y^2, its leading monomial is not reduced
+        var half = new SymbolicPreprocessing.Row<>(monomial(0, 1), f);
+
+        var preprocessing = SymbolicPreprocessing.compute(List.of(half), List.of(f, g), table);
+        var rows = preprocessing.rows();
+        assertEquals(1, rows.size());
+        assertEquals(half, rows.getFirst());
+
+        // x * g = x^2*y + x has the same leading monomial, which is not reduced either
+        var other = new SymbolicPreprocessing.Row<>(monomial(1, 0), g);
+        preprocessing = SymbolicPreprocessing.compute(List.of(half, other), List.of(f, g), table);
+        rows = preprocessing.rows();
+        // Neither x nor y^2 is divisible by x^2 or x*y
+        assertEquals(2, rows.size());
+
+        var columns = preprocessing.columns();
+        assertEquals(3, columns.length);
+        for (var i = 0; i + 1 < columns.length; i++) {
+            assertTrue(table.compare(columns[i], columns[i + 1]) > 0);
+        }
+    }
+
+    @Test
+    void testReducersAreChained() {
+        var table = new MonomialTable<>(2, ordering);
+        // x^2 - y and y^2 - 1
+        var f = polynomial(List.of(monomial(2, 0), monomial(0, 1).withCoefficient(new Rational(-1))));
+        var g = polynomial(List.of(monomial(0, 2), monomial(0, 0).withCoefficient(new Rational(-1))));
+        // x^3*y^2 + x^2*y^2 has the column x^2*y^2, reduced by y^2 * f, which brings y^3, reduced by y * g
+        var h = polynomial(List.of(monomial(3, 2), monomial(2, 2)));
+        var half = new SymbolicPreprocessing.Row<>(monomial(0, 0), h);
+
+        var preprocessing = SymbolicPreprocessing.compute(List.of(half), List.of(f, g), table);
+        var rows = preprocessing.rows();
+        assertEquals(3, rows.size());
+        var leadingMonomials = rows.stream().map(row -> row.expand().leadingMonomial()).toList();
+        assertTrue(leadingMonomials.contains(monomial(2, 2)));
+        assertTrue(leadingMonomials.contains(monomial(0, 3)));
+        for (var i = 0; i < rows.size(); i++) {
+            // The ids of a row are the monomials of its expansion, in increasing order
+            var terms = rows.get(i).expand().monomials();
+            var ids = preprocessing.monomials(i);
+            assertEquals(terms.size(), ids.length);
+            for (var j = 0; j < ids.length; j++) {
+                var id = ids[j];
+                assertEquals(table.find(terms.get(j)), id);
+                assertTrue(Arrays.stream(preprocessing.columns()).anyMatch(c -> c == id));
+            }
+        }
+
+        assertEquals(rows.stream().mapToLong(row -> row.polynomial().length()).sum(), preprocessing.entries());
+    }
+}
@@ -2,6 +2,8 @@ package io.github.olajed.jgb.utils;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ArithmeticUtilsTest {
@@ -326,4 +328,50 @@ class ArithmeticUtilsTest {
         assertEquals(1L, ArithmeticUtils.gcd(Long.MAX_VALUE, Long.MAX_VALUE - 1L));
         assertEquals(Long.MAX_VALUE, ArithmeticUtils.gcd(Long.MAX_VALUE, Long.MAX_VALUE));
     }
-}
\ No newline at end of file
+
+    @Test
+    void chineseRemainder_combinesResidues() {
+        var value = ArithmeticUtils.chineseRemainder(BigInteger.valueOf(2), BigInteger.valueOf(3), 3, 5);
+        assertEquals(BigInteger.valueOf(8), value);
+
+        value = ArithmeticUtils.chineseRemainder(value, BigInteger.valueOf(15), 1, 7);
+        assertEquals(BigInteger.valueOf(8), value);
+    }
+
+    @Test
+    void chineseRemainder_largePrimes() {
+        var first = 2147483647L;
+        var second = 2147483629L;
+        var expected = new BigInteger("1234567890123456789");
+        var value = ArithmeticUtils.chineseRemainder(
+                BigInteger.ZERO, BigInteger.ONE, expected.mod(BigInteger.valueOf(first)).longValue(), first);
+        value = ArithmeticUtils.chineseRemainder(
+                value, BigInteger.valueOf(first), expected.mod(BigInteger.valueOf(second)).longValue(), second);
+        assertEquals(expected, value);
+    }
+
+    @Test
+    void rationalReconstruction_recoversFraction() {
+        var modulus = BigInteger.valueOf(1000003);
+        // -3/7 modulo 1000003
+        var value = BigInteger.valueOf(-3).multiply(BigInteger.valueOf(7).modInverse(modulus)).mod(modulus);
+        var fraction = ArithmeticUtils.rationalReconstruction(value, modulus);
+        assertEquals(new Pair<>(BigInteger.valueOf(-3), BigInteger.valueOf(7)), fraction);
+    }
+
+    @Test
+    void rationalReconstruction_integers() {
+        var modulus = BigInteger.valueOf(101);
+        assertEquals(new Pair<>(BigInteger.ZERO, BigInteger.ONE), ArithmeticUtils.rationalReconstruction(BigInteger.ZERO, modulus));
+        assertEquals(new Pair<>(BigInteger.valueOf(5), BigInteger.ONE), ArithmeticUtils.rationalReconstruction(BigInteger.valueOf(5), modulus));
+        assertEquals(new Pair<>(BigInteger.valueOf(-1), BigInteger.ONE), ArithmeticUtils.rationalReconstruction(BigInteger.valueOf(100), modulus));
+    }
+
+    @Test
+    void rationalReconstruction_modulusTooSmall() {
+        var modulus = BigInteger.valueOf(101);
+        // 9/10 is out of bounds for sqrt(101 / 2), and no fraction within the bounds is congruent to it
+        var value = BigInteger.valueOf(9).multiply(BigInteger.valueOf(10).modInverse(modulus)).mod(modulus);
+        assertNull(ArithmeticUtils.rationalReconstruction(value, modulus));
+    }
+}